@@ -5,6 +5,7 @@
 
 package org.postgresql.benchmark.encoding;
 
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 import org.postgresql.core.Encoding;
@@ -49,6 +50,9 @@ public class UTF8Decoding {
   @Param({"1", "5", "10", "50", "100"})
   public int length;
 
+  @Param({"mixed", "ascii"})
+  public String text;
+
   private byte[] source;
   private CharsetDecoder decoder;
   private Encoding encoding;
@@ -58,7 +62,7 @@ public class UTF8Decoding {
   public void setup() {
     StringBuilder sb = new StringBuilder();
     for (int i = 0; i < length; i++) {
-      sb.append("Hello мир,");
+      sb.append("ascii".equals(text) ? "Hello world," : "Hello мир,");
     }
     source = sb.toString().getBytes(UTF_8);
     decoder = UTF_8.newDecoder();
@@ -79,6 +83,31 @@ public class UTF8Decoding {
     return encoding.decode(source, 0, source.length);
   }
 
+  @Benchmark
+  public String encodingDecodeCanonicalized() throws IOException {
+    return encoding.decodeCanonicalized(source, 0, source.length);
+  }
+
+  /**
+   * Checks eight bytes per iteration for the sign bit and copies ASCII values as Latin-1, the path
+   * that {@code String(byte[], Charset)} already takes internally since Java 9.
+   */
+  @Benchmark
+  public String string_latin1IfAscii() {
+    byte[] source = this.source;
+    int i = 0;
+    int end = source.length;
+    int negative = 0;
+    for (; i + 8 <= end; i += 8) {
+      negative |= source[i] | source[i + 1] | source[i + 2] | source[i + 3]
+          | source[i + 4] | source[i + 5] | source[i + 6] | source[i + 7];
+    }
+    for (; i < end; i++) {
+      negative |= source[i];
+    }
+    return new String(source, 0, end, negative < 0 ? UTF_8 : ISO_8859_1);
+  }
+
   @Benchmark
   public String string_string() throws UnsupportedEncodingException {
     return new String(source, 0, source.length, "UTF-8");
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.benchmark.statement;
+
+import org.postgresql.PGProperty;
+import org.postgresql.test.TestUtil;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark to test performance of the {@code ResultSet} getters of numeric columns, in text and
+ * binary format.
+ */
+@Fork(value = 5, jvmArgsPrepend = "-Xmx128m")
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Threads(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProcessNumeric {
+
+  private Connection connection;
+  private PreparedStatement ps;
+  private ResultSet rs;
+
+  @Param({"10", "10000"})
+  public int rowsize;
+
+  @Param({"numeric(18,4)", "numeric(38,10)", "numeric(12,0)"})
+  public String type;
+
+  @Param({"true", "false"})
+  public boolean binary;
+
+  @Setup(Level.Trial)
+  public void setUp() throws SQLException {
+    Properties props = new Properties();
+    if (binary) {
+      // Server-prepared from the first execution, so that the results are binary
+      PGProperty.PREPARE_THRESHOLD.set(props, -1);
+    } else {
+      PGProperty.BINARY_TRANSFER.set(props, false);
+    }
+    connection = TestUtil.openDB(props);
+    ps = connection.prepareStatement(
+        "select ((random() - 0.5) * 1e10)::" + type + " from generate_series(1, ?)",
+        ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+    ps.setInt(1, rowsize);
+    rs = ps.executeQuery();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    rs.close();
+    ps.close();
+    connection.close();
+  }
+
+  @Benchmark
+  public void getBigDecimal(Blackhole b) throws SQLException {
+    rs.beforeFirst();
+    while (rs.next()) {
+      b.consume(rs.getBigDecimal(1));
+    }
+  }
+
+  @Benchmark
+  public void getDouble(Blackhole b) throws SQLException {
+    rs.beforeFirst();
+    while (rs.next()) {
+      b.consume(rs.getDouble(1));
+    }
+  }
+
+  @Benchmark
+  public void getLong(Blackhole b) throws SQLException {
+    rs.beforeFirst();
+    while (rs.next()) {
+      b.consume(rs.getLong(1));
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    Options opt = new OptionsBuilder()
+        .include(ProcessNumeric.class.getSimpleName())
+        .detectJvmArgs()
+        .build();
+
+    new Runner(opt).run();
+  }
+}
@@ -33,6 +33,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Properties;
 import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
 
@@ -89,6 +90,22 @@ public class ProcessResultSet {
   @Param({"false"})
   public boolean reuseStatement;
 
+  // Receives the rows into buffers shared by several rows instead of one byte[] per column
+  @Param({"false", "true"})
+  public boolean sharedRowBuffers;
+
+  // Returns the repeated values of a column as the same String instance
+  @Param({"false"})
+  public boolean deduplicateStrings;
+
+  // Decodes each column of the current row once, see also readCount
+  @Param({"false"})
+  public boolean memoizeRowValues;
+
+  // Number of times each column is read, as mapping frameworks often read a column several times
+  @Param({"1"})
+  public int readCount;
+
   private Connection connection;
 
   private PreparedStatement ps;
@@ -110,7 +127,18 @@ public class ProcessResultSet {
           "TimeZone.getDefault().getDisplayName() = " + TimeZone.getDefault().getDisplayName());
     }
 
-    connection = TestUtil.openDB();
+    Properties props = new Properties();
+    if (sharedRowBuffers) {
+      // PGProperty.SHARED_ROW_BUFFERS is not used for easier use with previous pgjdbc versions
+      props.put("sharedRowBuffers", "true");
+    }
+    if (deduplicateStrings) {
+      props.put("deduplicateStrings", "true");
+    }
+    if (memoizeRowValues) {
+      props.put("memoizeRowValues", "true");
+    }
+    connection = TestUtil.openDB(props);
     StringBuilder sb = new StringBuilder();
     sb.append("SELECT ");
     columnNames = new String[ncols];
@@ -163,10 +191,12 @@ public class ProcessResultSet {
     ResultSet rs = ps.executeQuery();
     while (rs.next()) {
       for (int i = 1; i <= ncols; i++) {
-        if (columnIndexType == ColumnIndexType.INDEX) {
-          getByIndex(b, rs, i);
-        } else {
-          getByName(b, rs, columnNames[i - 1]);
+        for (int j = 0; j < readCount; j++) {
+          if (columnIndexType == ColumnIndexType.INDEX) {
+            getByIndex(b, rs, i);
+          } else {
+            getByName(b, rs, columnNames[i - 1]);
+          }
         }
       }
     }
@@ -22,6 +22,10 @@ import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.TimeZone;
@@ -39,13 +43,20 @@ public class TimestampToDate {
   @Param({"GMT+02:00", "Europe/Moscow"})
   String tz;
   TimeZone timeZone;
+  ZoneId zoneId;
+  ZoneRules zoneRules;
 
   Timestamp ts = new Timestamp(System.currentTimeMillis());
   Calendar cachedCalendar = new GregorianCalendar();
+  long rangeStart = Long.MAX_VALUE;
+  long rangeEnd = Long.MIN_VALUE;
+  long rangeOffset;
 
   @Setup
   public void init() {
     timeZone = TimeZone.getTimeZone(tz);
+    zoneId = timeZone.toZoneId();
+    zoneRules = zoneId.getRules();
   }
 
   @Benchmark
@@ -94,6 +105,36 @@ public class TimestampToDate {
     return cal.getTimeInMillis();
   }
 
+  @Benchmark
+  public long javaTime() {
+    long millis = ts.getTime() + 10;
+    ts.setTime(millis);
+    return Instant.ofEpochMilli(millis).atZone(zoneId).toLocalDate().toEpochDay();
+  }
+
+  @Benchmark
+  public long cachedOffset() {
+    long millis = ts.getTime() + 10;
+    ts.setTime(millis);
+    return Math.floorDiv(millis + offsetMillis(millis), ONEDAY);
+  }
+
+  /**
+   * Returns the offset of the zone at the given instant, looking up the zone rules only when the
+   * instant leaves the range between the transitions that surround the previous lookup.
+   */
+  private long offsetMillis(long millis) {
+    if (millis < rangeStart || millis >= rangeEnd) {
+      Instant instant = Instant.ofEpochMilli(millis);
+      ZoneOffsetTransition previous = zoneRules.previousTransition(instant);
+      ZoneOffsetTransition next = zoneRules.nextTransition(instant);
+      rangeStart = previous == null ? Long.MIN_VALUE : previous.toEpochSecond() * 1000;
+      rangeEnd = next == null ? Long.MAX_VALUE : next.toEpochSecond() * 1000;
+      rangeOffset = zoneRules.getOffset(instant).getTotalSeconds() * 1000L;
+    }
+    return rangeOffset;
+  }
+
   public static void main(String[] args) throws RunnerException {
     Options opt = new OptionsBuilder()
         .include(TimestampToDate.class.getSimpleName())
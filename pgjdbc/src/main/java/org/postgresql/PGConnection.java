@@ -11,6 +11,8 @@ import org.postgresql.jdbc.AutoSave;
 import org.postgresql.jdbc.PreferQueryMode;
 import org.postgresql.largeobject.LargeObjectManager;
 import org.postgresql.replication.PGReplicationConnection;
+import org.postgresql.util.CacheStatistics;
+import org.postgresql.util.ConnectionTimings;
 import org.postgresql.util.GT;
 import org.postgresql.util.PGobject;
 import org.postgresql.util.PSQLException;
@@ -84,6 +86,17 @@ public interface PGConnection {
    */
   CopyManager getCopyAPI() throws SQLException;
 
+  /**
+   * Starts a pipeline for this connection. Statements queued in the pipeline are sent without
+   * waiting for the results of the previous ones, and the results are read at explicit sync
+   * points.
+   *
+   * @return a new pipeline for the current connection
+   * @throws SQLException if the connection is closed
+   * @see PGPipeline
+   */
+  PGPipeline beginPipeline() throws SQLException;
+
   /**
    * This returns the LargeObject API for the current connection.
    *
@@ -380,4 +393,54 @@ public interface PGConnection {
    * @return state of adaptive fetch (turned on or off)
    */
   boolean getAdaptiveFetch();
+
+  /**
+   * Returns the counters of the cache of prepared statements of this connection, see
+   * {@link PGProperty#PREPARED_STATEMENT_CACHE_QUERIES}. A hit is a statement that reuses the
+   * parsed query, and possibly the server-prepared statement, of a previous statement.
+   *
+   * @return the counters of the statement cache
+   * @see PGProperty#PREPARED_STATEMENT_CACHE_POLICY
+   */
+  CacheStatistics getPreparedStatementCacheStatistics();
+
+  /**
+   * Returns the counters of the cache of the column metadata used by
+   * {@link java.sql.ResultSetMetaData}, see {@link PGProperty#DATABASE_METADATA_CACHE_FIELDS}. If
+   * the cache is shared with the other connections to the same database, see
+   * {@link PGProperty#DATABASE_METADATA_CACHE_SHARED}, the counters are those of all these
+   * connections.
+   *
+   * @return the counters of the field metadata cache
+   */
+  CacheStatistics getFieldMetadataCacheStatistics();
+
+  /**
+   * Discards the column metadata used by {@link java.sql.ResultSetMetaData}, such as the base
+   * column names and the nullability. This should be called after a table was altered or
+   * replaced, for instance by DDL, so that the metadata is read again from the server. If the cache
+   * is shared with the other connections to the same database, see
+   * {@link PGProperty#DATABASE_METADATA_CACHE_SHARED}, the metadata is discarded for all these
+   * connections.
+   */
+  void invalidateFieldMetadataCache();
+
+  /**
+   * Discards the types shared by the connections to the same server and database, see
+   * {@link PGProperty#SHARED_TYPE_CATALOG}. This should be called after a type was dropped or
+   * replaced, for instance by DDL, so that the connections read the type again from the server.
+   * Each of these connections also discards the names of the types it resolved, on its next
+   * lookup. Does nothing if the types of this connection are not shared.
+   */
+  void invalidateSharedTypeCatalog();
+
+  /**
+   * Returns the time spent in each phase of the establishment of this connection, such as the
+   * resolution of the host name, the TCP connection, the SSL handshake or the authentication. Only
+   * the phases of the attempt to the host that was finally connected are included. See also
+   * {@link PGProperty#CONNECTION_TIMING_LISTENER}.
+   *
+   * @return the time spent in each phase of the establishment of this connection
+   */
+  ConnectionTimings getConnectionTimings();
 }
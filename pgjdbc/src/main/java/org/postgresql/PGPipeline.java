@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Executes prepared statements in pipeline mode: the statements are sent to the backend as they
+ * are queued, without waiting for the results of the previous ones, and the results are read when
+ * the pipeline is synchronized. Many small independent statements then cost a single network round
+ * trip instead of one round trip each.
+ *
+ * <pre>
+ * try (PGPipeline pipeline = con.unwrap(PGConnection.class).beginPipeline()) {
+ *   insert.setInt(1, 42);
+ *   CompletableFuture&lt;Long&gt; inserted = pipeline.executeUpdate(insert);
+ *   CompletableFuture&lt;ResultSet&gt; rows = pipeline.executeQuery(select);
+ *   pipeline.sync();
+ *   ...
+ * }
+ * </pre>
+ *
+ * <p>The current parameter values of a statement are captured when it is queued, so the same
+ * statement can be queued several times with different parameters. The returned futures complete
+ * at the next sync point, which is either an explicit {@link #sync()}, {@link #close()}, or any
+ * other use of the connection.</p>
+ *
+ * <p>Like in libpq pipeline mode, the statements between two sync points run in a single implicit
+ * transaction when the connection is in auto-commit mode. If one of them fails, the backend skips
+ * the rest of them up to the sync point and their futures complete exceptionally.</p>
+ *
+ * <p>Pipelining requires the extended query protocol, so it is not available with
+ * {@code preferQueryMode=simple}, and each statement must contain a single SQL command.</p>
+ *
+ * @see PGConnection#beginPipeline()
+ */
+public interface PGPipeline extends AutoCloseable {
+  /**
+   * Queues a statement that returns a result set.
+   *
+   * @param statement statement created by the connection of this pipeline
+   * @return future that completes with the result set of the statement at the next sync point
+   * @throws SQLException if the statement cannot be queued
+   */
+  CompletableFuture<ResultSet> executeQuery(PreparedStatement statement) throws SQLException;
+
+  /**
+   * Queues a statement that does not return a result set.
+   *
+   * @param statement statement created by the connection of this pipeline
+   * @return future that completes with the update count of the statement at the next sync point
+   * @throws SQLException if the statement cannot be queued
+   */
+  CompletableFuture<Long> executeUpdate(PreparedStatement statement) throws SQLException;
+
+  /**
+   * Sends a sync point and completes the futures of all the statements queued so far.
+   *
+   * @throws SQLException if the results cannot be received
+   */
+  void sync() throws SQLException;
+
+  /**
+   * Synchronizes the pipeline and ends it. Further statements cannot be queued.
+   *
+   * @throws SQLException if the results cannot be received
+   */
+  @Override
+  void close() throws SQLException;
+}
@@ -159,6 +159,19 @@ public enum PGProperty {
       false,
       new String[] {"disable", "prefer", "require"}),
 
+  /**
+   * Honours the fetch size in auto-commit mode: the rows are read in chunks from the unnamed
+   * portal, which lives in the implicit transaction of the extended query protocol until the last
+   * row is read. If the connection is used by another statement before that, the remaining rows
+   * are read into the result set first.
+   */
+  CHUNKED_RESULTS(
+      "chunkedResults",
+      "false",
+      "Use the fetch size in auto-commit mode by reading the rows in chunks from the unnamed portal",
+      false,
+      new String[]{"true", "false"}),
+
   /**
    * Determine whether SAVEPOINTS used in AUTOSAVE will be released per query or not
    */
@@ -169,6 +182,42 @@ public enum PGProperty {
       false,
       new String[]{"true", "false"}),
 
+  /**
+   * Stores the fixed-width columns of the results transferred in binary ({@code int2},
+   * {@code int4}, {@code int8}, {@code float4}, {@code float8}, {@code oid}, {@code date},
+   * {@code time} and {@code timestamp}) in primitive arrays, decoded once as the rows are
+   * received, instead of one array per value. The numeric getters of the result set then read
+   * the arrays directly.
+   */
+  COLUMNAR_RESULTS(
+      "columnarResults",
+      "false",
+      "Store the fixed-width binary columns of the results in primitive arrays",
+      false,
+      new String[]{"true", "false"}),
+
+  /**
+   * Sends batches and pipelined statements from a background thread while the results are being
+   * read. The driver then never needs to force intermediate Sync round trips to avoid filling the
+   * socket buffers, whatever the size of the results, at the cost of holding the messages in
+   * memory until they are sent. Not supported with GSS encryption.
+   */
+  CONCURRENT_BATCH_WRITES(
+      "concurrentBatchWrites",
+      "false",
+      "Send batches from a background thread while the results are read, so that large batches do not need intermediate round trips",
+      false,
+      new String[]{"true", "false"}),
+
+  /**
+   * Name of a class implementing {@link org.postgresql.plugin.ConnectionTimingListener}, which
+   * receives the time spent in each phase of the establishment of the connections.
+   */
+  CONNECTION_TIMING_LISTENER(
+      "connectionTimingListener",
+      null,
+      "Name of a class which implements ConnectionTimingListener"),
+
   /**
    * The timeout value used for socket connect operations. If connecting to the server takes longer
    * than this value, the connection is broken.
@@ -205,6 +254,50 @@ public enum PGProperty {
       "5",
       "Specifies the maximum size (in megabytes) of fields to be cached per connection. A value of {@code 0} disables the cache."),
 
+  /**
+   * Specifies the number of seconds the results of {@link java.sql.DatabaseMetaData#getTables},
+   * {@code getColumns}, {@code getPrimaryKeys} and {@code getIndexInfo} are kept by the connection,
+   * so that the tools that read the schema many times at startup do not query the catalog again
+   * for the same arguments. The results may not reflect the changes of the schema made during that
+   * time. They are discarded when the settings of the session, such as the role or the
+   * {@code search_path}, are changed by {@code SET} or {@code RESET}, or undone by the end of a
+   * transaction. A value of {@code 0} disables the cache.
+   */
+  DATABASE_METADATA_CACHE_SECONDS(
+      "databaseMetadataCacheSeconds",
+      "0",
+      "Specifies the number of seconds the results of getTables, getColumns, getPrimaryKeys and getIndexInfo are cached. A value of {@code 0} disables the cache."),
+
+  /**
+   * Shares the cache of fields with the other connections of the JVM to the same host, port,
+   * database and server version, so that the metadata of a column, such as its name and
+   * nullability, is queried once instead of once per connection. The least recently used fields
+   * are discarded first. The shared cache is created by the first connection to the database,
+   * with the limits of that connection, see {@link #DATABASE_METADATA_CACHE_FIELDS} and
+   * {@link #DATABASE_METADATA_CACHE_FIELDS_MIB}: the limits of the next connections are ignored,
+   * even if they differ. After DDL that alters or replaces a table, the fields can be discarded
+   * with {@link PGConnection#invalidateFieldMetadataCache()}.
+   */
+  DATABASE_METADATA_CACHE_SHARED(
+      "databaseMetadataCacheShared",
+      "false",
+      "Share the cache of fields with the other connections to the same server and database",
+      false,
+      new String[]{"true", "false"}),
+
+  /**
+   * Returns the repeated values of a column of a result set as the same {@code String} instance,
+   * which saves memory when many rows are kept and the column has few distinct values, such as
+   * status codes. Each column keeps up to 256 distinct values of up to 64 bytes, and stops being
+   * deduplicated when it shows more.
+   */
+  DEDUPLICATE_STRINGS(
+      "deduplicateStrings",
+      "false",
+      "Return the repeated values of the low-cardinality columns of a result set as the same String instance",
+      false,
+      new String[]{"true", "false"}),
+
   /**
    * Default parameter for {@link java.sql.Statement#getFetchSize()}. A value of {@code 0} means
    * that need fetch all rows at once
@@ -214,6 +307,20 @@ public enum PGProperty {
       "0",
       "Positive number of rows that should be fetched from the database when more rows are needed for ResultSet by each fetch iteration"),
 
+  /**
+   * Creates the sockets from NIO channels and reads them into a direct buffer kept for the
+   * lifetime of the connection, instead of the temporary native buffer the socket stream uses for
+   * each read. This only applies to plain TCP connections: it is ignored when a
+   * {@link #SOCKET_FACTORY} or a SOCKS proxy is configured, and once SSL or GSS encryption is
+   * negotiated. The reads with a timeout still use the socket stream.
+   */
+  DIRECT_RECEIVE_BUFFER(
+      "directReceiveBuffer",
+      "false",
+      "Read plain TCP connections through an NIO channel into a direct buffer instead of the socket stream",
+      false,
+      new String[]{"true", "false"}),
+
   /**
    * Enable optimization that disables column name sanitiser.
    */
@@ -421,6 +528,19 @@ public enum PGProperty {
       "8192",
       "Maximum amount of bytes buffered before sending to the backend"),
 
+  /**
+   * Keeps the values decoded from the current row of a result set, so that a column read several
+   * times by the same getter, such as {@code getString} or {@code getObject}, is decoded once. Only
+   * the immutable values are kept, such as {@code String}, {@code BigDecimal}, the boxed primitives
+   * and the {@code java.time} classes.
+   */
+  MEMOIZE_ROW_VALUES(
+      "memoizeRowValues",
+      "false",
+      "Decode each column of the current row once when it is read several times by the same getter",
+      false,
+      new String[]{"true", "false"}),
+
   /**
    * Specify 'options' connection initialization parameter.
    * The value of this parameter may contain spaces and other special characters or their URL representation.
@@ -430,6 +550,18 @@ public enum PGProperty {
       null,
       "Specify 'options' connection initialization parameter."),
 
+  /**
+   * When several hosts are given, connect to all of them at the same time and keep the first
+   * connection that satisfies {@link #TARGET_SERVER_TYPE}, instead of trying the hosts one after
+   * the other. The other connections are closed once established.
+   */
+  PARALLEL_HOST_CONNECT(
+      "parallelHostConnect",
+      "false",
+      "Connect to all the hosts at the same time and keep the first suitable connection",
+      false,
+      new String[]{"true", "false"}),
+
   /**
    * Password to use when authenticating.
    */
@@ -480,6 +612,34 @@ public enum PGProperty {
           + "extendedCacheEverything means use extended protocol and try cache every statement (including Statement.execute(String sql)) in a query cache.", false,
       new String[]{"extended", "extendedForPrepared", "extendedCacheEverything", "simple"}),
 
+  /**
+   * Reads the types of the database, except the row types of the tables, in one query when the
+   * connection is opened, instead of one query per type on first use. This avoids the round trips
+   * of the first queries that use custom types, arrays or result set metadata, at the cost of a
+   * larger query at connect time. Not done on replication connections.
+   */
+  PRELOAD_TYPE_CATALOG(
+      "preloadTypeCatalog",
+      "false",
+      "Read the types of the database in one query when the connection is opened",
+      false,
+      new String[]{"true", "false"}),
+
+  /**
+   * Specifies how the cache of prepared statements chooses the statements it discards when it is
+   * full. With {@code lru} (the default), the least recently used statement is discarded. With
+   * {@code tinylfu}, the connection keeps an estimate of how often each query is executed, including
+   * the queries that are no longer cached, and a new statement is only cached if its query is
+   * executed more often than the least recently used statement. This keeps the frequently executed
+   * statements prepared when many queries are executed only once.
+   */
+  PREPARED_STATEMENT_CACHE_POLICY(
+      "preparedStatementCachePolicy",
+      "lru",
+      "Specifies how the prepared statement cache chooses the statements to discard: lru or tinylfu",
+      false,
+      new String[]{"lru", "tinylfu"}),
+
   /**
    * Specifies the maximum number of entries in cache of prepared statements. A value of {@code 0}
    * disables the cache.
@@ -593,6 +753,19 @@ public enum PGProperty {
       "false",
       "Enable optimization to rewrite and collapse compatible INSERT statements that are batched."),
 
+  /**
+   * Specifies the maximum number of SCRAM keys kept in memory by the driver, so that the next
+   * connections of the same user with the same password skip the derivation of the keys from the
+   * password, which is costly by design. The keys are those of the salt and iteration count sent by
+   * the server, and are shared by the connections of the JVM. The cached keys give access to the
+   * server as the password does. The limit of the cache is that of the first connection that uses
+   * it. A value of {@code 0}, which is the default, disables the cache.
+   */
+  SCRAM_KEY_CACHE_SIZE(
+      "scramKeyCacheSize",
+      "0",
+      "Specifies the maximum number of SCRAM keys derived from the passwords that are kept in memory to skip their derivation on the next connections. A value of {@code 0} disables the cache."),
+
   /**
    * Socket write buffer size (SO_SNDBUF). A value of {@code -1}, which is the default, means system
    * default.
@@ -612,6 +785,33 @@ public enum PGProperty {
       null,
       "Service name to be searched in pg_service.conf resource"),
 
+  /**
+   * Receives the rows of the results into buffers shared by several rows, instead of one array per
+   * non-null column value. This saves most of the allocations when reading large results, and the
+   * common getters decode the values directly from the shared buffers. A shared buffer is kept in
+   * memory as long as any of its rows is referenced.
+   */
+  SHARED_ROW_BUFFERS(
+      "sharedRowBuffers",
+      "false",
+      "Receive result rows into buffers shared by several rows instead of one array per column value",
+      false,
+      new String[]{"true", "false"}),
+
+  /**
+   * Shares the types read from the {@code pg_type} catalog with the other connections of the JVM
+   * to the same host, port, database and server version, so that a type is queried once instead
+   * of once per connection. The names of the types are still resolved by each connection, as they
+   * depend on its {@code search_path}. After a type was dropped or replaced, the shared types can
+   * be discarded with {@link PGConnection#invalidateSharedTypeCatalog()}.
+   */
+  SHARED_TYPE_CATALOG(
+      "sharedTypeCatalog",
+      "false",
+      "Share the types read from pg_type with the other connections to the same server and database",
+      false,
+      new String[]{"true", "false"}),
+
   /**
    * Socket factory used to create socket. A null value, which is the default, means system default.
    */
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Receives the rows of a query one at a time, as they arrive from the backend.
+ *
+ * <pre>
+ * long count = stmt.unwrap(PGStatement.class).executeStreaming("SELECT id, name FROM big_table",
+ *     row -&gt; process(row.getLong(1), row.getString(2)));
+ * </pre>
+ *
+ * @see PGStatement#executeStreaming(String, PGRowConsumer)
+ */
+@FunctionalInterface
+public interface PGRowConsumer {
+  /**
+   * Processes a row. The given result set is positioned on the row and only its getters and
+   * metadata can be used. It is only valid during this call: the driver reuses it, and the memory
+   * that holds the row, for the next rows.
+   *
+   * <p>If this method throws an exception, the remaining rows are discarded and the exception is
+   * thrown by the {@code executeStreaming} method once the statement has completed.</p>
+   *
+   * @param row the current row
+   * @throws SQLException if the row cannot be processed
+   */
+  void accept(ResultSet row) throws SQLException;
+}
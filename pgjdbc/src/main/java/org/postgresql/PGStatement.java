@@ -5,7 +5,9 @@
 
 package org.postgresql;
 
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This interface defines the public PostgreSQL extensions to java.sql.Statement. All Statements
@@ -94,4 +96,85 @@ public interface PGStatement {
    * @return state of adaptive fetch (turned on or off)
    */
   boolean getAdaptiveFetch();
+
+  /**
+   * <p>Executes the given SQL statement asynchronously. The statement is sent to the backend right
+   * away and the returned future completes once a background reader thread has received its
+   * results, so the calling thread does not wait for the round trip. Statements executed
+   * asynchronously on the same connection, from any thread, are pipelined: they share the socket
+   * and are answered together when they are in flight at the same time. Unlike the statements of
+   * a {@link PGPipeline}, each of them is followed by its own sync point, so in auto-commit mode
+   * it runs in its own implicit transaction and the failure of another statement does not roll it
+   * back.</p>
+   *
+   * <p>The future is completed by the reader thread, so dependent stages that block or run long
+   * should use the {@code *Async} methods of {@link CompletableFuture}. Asynchronous execution has
+   * the same restrictions as {@link PGPipeline}: it requires the extended query protocol and the
+   * SQL must contain a single statement. The query timeout does not apply.</p>
+   *
+   * @param sql SQL statement that returns a result set
+   * @return future that completes with the result set of the statement
+   * @throws SQLException if the statement cannot be sent
+   * @see PGPipeline
+   */
+  CompletableFuture<ResultSet> executeQueryAsync(String sql) throws SQLException;
+
+  /**
+   * Executes the given SQL statement asynchronously, see {@link #executeQueryAsync(String)}.
+   *
+   * @param sql SQL statement that does not return a result set
+   * @return future that completes with the update count of the statement
+   * @throws SQLException if the statement cannot be sent
+   */
+  CompletableFuture<Long> executeUpdateAsync(String sql) throws SQLException;
+
+  /**
+   * Executes this prepared statement asynchronously with its current parameters, see
+   * {@link #executeQueryAsync(String)}. The parameters can be changed as soon as this method
+   * returns.
+   *
+   * @return future that completes with the result set of the statement
+   * @throws SQLException if the statement cannot be sent or this is not a prepared statement
+   */
+  CompletableFuture<ResultSet> executeQueryAsync() throws SQLException;
+
+  /**
+   * Executes this prepared statement asynchronously with its current parameters, see
+   * {@link #executeQueryAsync(String)}. The parameters can be changed as soon as this method
+   * returns.
+   *
+   * @return future that completes with the update count of the statement
+   * @throws SQLException if the statement cannot be sent or this is not a prepared statement
+   */
+  CompletableFuture<Long> executeUpdateAsync() throws SQLException;
+
+  /**
+   * <p>Executes the given SQL statement and passes each row of its results to the consumer as soon
+   * as it is received, instead of building a result set. Each row is read into memory that is
+   * reused for the next one, so arbitrarily large results are processed in constant memory,
+   * without a server-side cursor and whatever the auto-commit mode.</p>
+   *
+   * <p>The consumer runs on the calling thread while the connection is busy reading the results:
+   * it must not use the connection. The fetch size is ignored, while the maximum number of rows
+   * and the query timeout apply. If the SQL contains several statements, the rows of all of them
+   * are passed to the consumer.</p>
+   *
+   * @param sql SQL statement that returns rows
+   * @param consumer receives the rows
+   * @return the number of rows passed to the consumer
+   * @throws SQLException if the statement fails or the consumer throws an exception
+   */
+  long executeStreaming(String sql, PGRowConsumer consumer) throws SQLException;
+
+  /**
+   * Executes this prepared statement with its current parameters and passes each row of its
+   * results to the consumer as soon as it is received, see
+   * {@link #executeStreaming(String, PGRowConsumer)}.
+   *
+   * @param consumer receives the rows
+   * @return the number of rows passed to the consumer
+   * @throws SQLException if the statement fails, the consumer throws an exception, or this is not
+   *     a prepared statement
+   */
+  long executeStreaming(PGRowConsumer consumer) throws SQLException;
 }
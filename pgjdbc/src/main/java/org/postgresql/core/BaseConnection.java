@@ -181,6 +181,24 @@ public interface BaseConnection extends PGConnection, Connection {
    */
   boolean isColumnSanitiserDisabled();
 
+  /**
+   * Return whether the repeated values of a column of a result set are returned as the same
+   * {@code String} instance.
+   *
+   * @return true if the strings of the result sets are deduplicated
+   * @see org.postgresql.PGProperty#DEDUPLICATE_STRINGS
+   */
+  boolean getDeduplicateStrings();
+
+  /**
+   * Return whether the values decoded from the current row of a result set are kept until the
+   * result set moves to another row.
+   *
+   * @return true if the decoded values of the current row are kept
+   * @see org.postgresql.PGProperty#MEMOIZE_ROW_VALUES
+   */
+  boolean getMemoizeRowValues();
+
   /**
    * Schedule a TimerTask for later execution. The task will be scheduled with the shared Timer for
    * this connection.
@@ -224,6 +242,16 @@ public interface BaseConnection extends PGConnection, Connection {
    */
   boolean hintReadOnly();
 
+  /**
+   * Returns the commands that set the session settings that the driver manages, such as the
+   * read-only session characteristics of {@link PGProperty#READ_ONLY_MODE} {@code always} or the
+   * settings made while opening the connection, so that they can be applied again after
+   * {@code RESET ALL}.
+   *
+   * @return the commands separated by semicolons, or null if the driver did not change a setting
+   */
+  @Nullable String getSessionSettingsSql();
+
   /**
    * Retrieve the factory to instantiate XML processing factories.
    *
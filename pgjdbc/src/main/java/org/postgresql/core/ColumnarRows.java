@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import static org.postgresql.util.internal.Nullness.castNonNull;
+
+import org.postgresql.util.ByteConverter;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Stores the fixed-width binary columns of a result in primitive arrays.
+ *
+ * <p>The rows are decoded once, as they are received: the values of the {@code int2},
+ * {@code int4}, {@code oid}, {@code float4}, {@code date}, {@code int8}, {@code float8},
+ * {@code time}, {@code timestamp} and {@code timestamptz} columns transferred in binary are
+ * copied into one {@code int[]} or {@code long[]} per column, with a bitmap of the non-null
+ * values, and the tuples no longer hold one array per value of these columns. Floating point
+ * values are stored as their raw bits.</p>
+ *
+ * <p>The tuples returned by {@link #add(Tuple)} read these values from the arrays, see
+ * {@link Tuple#getInt4(int)} and {@link Tuple#getInt8(int)}. The other accessors encode the
+ * value back to its binary representation on each call.</p>
+ */
+public final class ColumnarRows {
+  private static final int INITIAL_CAPACITY = 64;
+
+  /**
+   * Size in bytes of the values of each column, or 0 for the columns kept in the tuples.
+   */
+  private final int[] widths;
+
+  /**
+   * Values of the columns of 2 or 4 bytes.
+   */
+  private final int[] @Nullable [] ints;
+
+  /**
+   * Values of the columns of 8 bytes.
+   */
+  private final long[] @Nullable [] longs;
+
+  /**
+   * For each columnar column, one bit per row, set when the value is not null.
+   */
+  private final long[] @Nullable [] present;
+
+  private int capacity;
+  private int size;
+
+  private ColumnarRows(int[] widths) {
+    this.widths = widths;
+    this.ints = new int[widths.length][];
+    this.longs = new long[widths.length][];
+    this.present = new long[widths.length][];
+    this.capacity = INITIAL_CAPACITY;
+    for (int i = 0; i < widths.length; i++) {
+      if (widths[i] == 8) {
+        longs[i] = new long[capacity];
+      } else if (widths[i] != 0) {
+        ints[i] = new int[capacity];
+      }
+      if (widths[i] != 0) {
+        present[i] = new long[capacity >>> 6];
+      }
+    }
+  }
+
+  /**
+   * Creates the storage for the rows of a result.
+   *
+   * @param fields the description of the columns
+   * @return the storage, or null if no column is transferred as a fixed-width binary value
+   */
+  public static @Nullable ColumnarRows create(Field[] fields) {
+    int[] widths = new int[fields.length];
+    boolean columnar = false;
+    for (int i = 0; i < fields.length; i++) {
+      if (fields[i].getFormat() == Field.BINARY_FORMAT) {
+        widths[i] = getBinaryWidth(fields[i].getOID());
+        columnar |= widths[i] != 0;
+      }
+    }
+    return columnar ? new ColumnarRows(widths) : null;
+  }
+
+  private static int getBinaryWidth(int oid) {
+    switch (oid) {
+      case Oid.INT2:
+        return 2;
+      case Oid.INT4:
+      case Oid.OID:
+      case Oid.FLOAT4:
+      case Oid.DATE:
+        return 4;
+      case Oid.INT8:
+      case Oid.FLOAT8:
+      case Oid.TIME:
+      case Oid.TIMESTAMP:
+      case Oid.TIMESTAMPTZ:
+        return 8;
+      default:
+        return 0;
+    }
+  }
+
+  /**
+   * Decodes the columnar values of a received row.
+   *
+   * @param tuple the row as received, its columnar values are released
+   * @return the tuple to keep in the result
+   */
+  public Tuple add(Tuple tuple) {
+    int[] widths = this.widths;
+    if (tuple.fieldCount() != widths.length) {
+      return tuple;
+    }
+    int row = size;
+    if (row == capacity) {
+      grow();
+    }
+    for (int i = 0; i < widths.length; i++) {
+      int width = widths[i];
+      if (width == 0 || tuple.isNull(i)) {
+        continue;
+      }
+      byte[] buffer = tuple.getBuffer(i);
+      int offset = tuple.getOffset(i);
+      if (width == 2) {
+        castNonNull(ints[i])[row] = ByteConverter.int2(buffer, offset);
+      } else if (width == 4) {
+        castNonNull(ints[i])[row] = ByteConverter.int4(buffer, offset);
+      } else {
+        castNonNull(longs[i])[row] = ByteConverter.int8(buffer, offset);
+      }
+      castNonNull(present[i])[row >>> 6] |= 1L << row;
+      tuple.data[i] = null;
+    }
+    size = row + 1;
+    return new ColumnarTuple(tuple, this, row);
+  }
+
+  private void grow() {
+    capacity *= 2;
+    for (int i = 0; i < widths.length; i++) {
+      int[] intValues = ints[i];
+      if (intValues != null) {
+        ints[i] = Arrays.copyOf(intValues, capacity);
+      }
+      long[] longValues = longs[i];
+      if (longValues != null) {
+        longs[i] = Arrays.copyOf(longValues, capacity);
+      }
+      long[] bits = present[i];
+      if (bits != null) {
+        present[i] = Arrays.copyOf(bits, capacity >>> 6);
+      }
+    }
+  }
+
+  /**
+   * @param column 0-based column index
+   * @return the size in bytes of the values of the column, or 0 if it is not stored in arrays
+   */
+  int getWidth(@NonNegative int column) {
+    return widths[column];
+  }
+
+  boolean isNull(@NonNegative int column, @NonNegative int row) {
+    return (castNonNull(present[column])[row >>> 6] & (1L << row)) == 0;
+  }
+
+  int getInt(@NonNegative int column, @NonNegative int row) {
+    return castNonNull(ints[column])[row];
+  }
+
+  long getLong(@NonNegative int column, @NonNegative int row) {
+    return castNonNull(longs[column])[row];
+  }
+
+  /**
+   * Encodes a non-null value back to its binary representation.
+   */
+  byte[] encode(@NonNegative int column, @NonNegative int row) {
+    int width = widths[column];
+    byte[] value = new byte[width];
+    if (width == 2) {
+      ByteConverter.int2(value, 0, getInt(column, row));
+    } else if (width == 4) {
+      ByteConverter.int4(value, 0, getInt(column, row));
+    } else {
+      ByteConverter.int8(value, 0, getLong(column, row));
+    }
+    return value;
+  }
+}
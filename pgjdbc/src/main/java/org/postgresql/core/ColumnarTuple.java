@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import org.checkerframework.checker.index.qual.NonNegative;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Row whose fixed-width binary values are stored in the arrays of a {@link ColumnarRows}.
+ */
+final class ColumnarTuple extends Tuple {
+  private final ColumnarRows rows;
+  private final int row;
+
+  ColumnarTuple(Tuple source, ColumnarRows rows, @NonNegative int row) {
+    super(source);
+    this.rows = rows;
+    this.row = row;
+  }
+
+  @Override
+  public boolean isNull(@NonNegative int index) {
+    if (rows.getWidth(index) != 0) {
+      return rows.isNull(index, row);
+    }
+    return super.isNull(index);
+  }
+
+  @Override
+  public byte[] getBuffer(@NonNegative int index) {
+    if (rows.getWidth(index) != 0) {
+      return rows.encode(index, row);
+    }
+    return super.getBuffer(index);
+  }
+
+  @Override
+  public @NonNegative int getOffset(@NonNegative int index) {
+    if (rows.getWidth(index) != 0) {
+      return 0;
+    }
+    return super.getOffset(index);
+  }
+
+  @Override
+  public @NonNegative int getLength(@NonNegative int index) {
+    int width = rows.getWidth(index);
+    if (width != 0) {
+      return width;
+    }
+    return super.getLength(index);
+  }
+
+  @Override
+  public byte @Nullable [] get(@NonNegative int index) {
+    if (rows.getWidth(index) != 0) {
+      return rows.isNull(index, row) ? null : rows.encode(index, row);
+    }
+    return super.get(index);
+  }
+
+  @Override
+  public short getInt2(@NonNegative int index) {
+    if (rows.getWidth(index) == 2) {
+      return (short) rows.getInt(index, row);
+    }
+    return super.getInt2(index);
+  }
+
+  @Override
+  public int getInt4(@NonNegative int index) {
+    if (rows.getWidth(index) == 4) {
+      return rows.getInt(index, row);
+    }
+    return super.getInt4(index);
+  }
+
+  @Override
+  public long getInt8(@NonNegative int index) {
+    if (rows.getWidth(index) == 8) {
+      return rows.getLong(index, row);
+    }
+    return super.getInt8(index);
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Output stream that can hand the writes over to a background thread, so the thread that sends
+ * the messages can start reading the responses before all of them are written.
+ *
+ * <p>When the driver writes a large batch and the backend answers faster than the driver reads,
+ * both sides can block on a full socket buffer (see the comments of
+ * {@code QueryExecutorImpl.MAX_BUFFERED_RECV_BYTES}). Between {@link #start()} and
+ * {@link #finish()}, the writes are queued in memory and a background thread sends them, so the
+ * caller never blocks on the socket and can read the responses in parallel.</p>
+ *
+ * <p>The queue is not bounded: the whole batch may be held in memory until the backend reads
+ * it. Outside of {@link #start()} and {@link #finish()}, the writes go directly to the wrapped
+ * stream.</p>
+ */
+class ConcurrentWriteOutputStream extends OutputStream implements Runnable {
+  private static final Logger LOGGER = Logger.getLogger(ConcurrentWriteOutputStream.class.getName());
+
+  private final OutputStream out;
+  private final Closeable connection;
+
+  /**
+   * Only accessed by the thread that uses the stream.
+   */
+  private boolean concurrent;
+
+  // The fields below are guarded by "this"
+  private final ArrayDeque<byte[]> queue = new ArrayDeque<>();
+  private boolean writerRunning;
+  private @Nullable IOException failure;
+
+  /**
+   * Creates a new stream.
+   *
+   * @param out the stream that writes to the socket
+   * @param connection closed when a background write fails, so the reads do not wait forever for
+   *     responses to messages that were not sent
+   */
+  ConcurrentWriteOutputStream(OutputStream out, Closeable connection) {
+    this.out = out;
+    this.connection = connection;
+  }
+
+  /**
+   * Starts queueing the writes for the background thread.
+   */
+  void start() {
+    concurrent = true;
+  }
+
+  /**
+   * Waits until the background thread has written everything and stops queueing the writes.
+   *
+   * @throws IOException if a background write failed
+   */
+  void finish() throws IOException {
+    concurrent = false;
+    synchronized (this) {
+      try {
+        while (writerRunning) {
+          wait();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for the background writes");
+      }
+      checkFailure();
+    }
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    write(new byte[]{(byte) b}, 0, 1);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    if (!concurrent) {
+      out.write(b, off, len);
+      return;
+    }
+    // The caller reuses its buffer, so the data must be copied
+    byte[] chunk = Arrays.copyOfRange(b, off, off + len);
+    synchronized (this) {
+      checkFailure();
+      queue.add(chunk);
+      if (!writerRunning) {
+        writerRunning = true;
+        Pool.EXECUTOR.execute(this);
+      }
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    if (!concurrent) {
+      out.flush();
+    }
+    // The background thread flushes when its queue is empty
+  }
+
+  @Override
+  public void close() throws IOException {
+    out.close();
+  }
+
+  @Override
+  public void run() {
+    try {
+      while (true) {
+        byte[] chunk;
+        synchronized (this) {
+          chunk = queue.poll();
+        }
+        if (chunk == null) {
+          out.flush();
+          synchronized (this) {
+            if (queue.isEmpty()) {
+              writerRunning = false;
+              notifyAll();
+              return;
+            }
+          }
+          continue;
+        }
+        out.write(chunk);
+      }
+    } catch (IOException | RuntimeException e) {
+      LOGGER.log(Level.FINE, "Background write to the backend failed", e);
+      synchronized (this) {
+        failure = e instanceof IOException ? (IOException) e : new IOException(e);
+        queue.clear();
+        writerRunning = false;
+        notifyAll();
+      }
+      try {
+        connection.close();
+      } catch (IOException ignore) {
+        // The connection is broken anyway
+      }
+    }
+  }
+
+  private void checkFailure() throws IOException {
+    IOException failure = this.failure;
+    if (failure != null) {
+      this.failure = null;
+      throw new IOException("Background write to the backend failed", failure);
+    }
+  }
+
+  /**
+   * Lazily creates the threads, so that connections that do not use concurrent writes do not pay
+   * for them.
+   */
+  private static class Pool {
+    static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+      Thread thread = new Thread(runnable, "PostgreSQL-JDBC-BatchWriter");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import static org.postgresql.util.internal.Nullness.castNonNull;
+
+import org.postgresql.util.ConnectionTimings;
+import org.postgresql.util.ConnectionTimings.Phase;
+import org.postgresql.util.HostSpec;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Measures the phases of the establishment of a connection to one host, and emits a JDK Flight
+ * Recorder event for each phase when a recording is running. A timer is used by the thread that
+ * opens the connection only.
+ *
+ * <p>The driver still runs on Java 8, so the events are defined at runtime with
+ * {@code jdk.jfr.EventFactory} through reflection, and are not emitted when it is not
+ * available.</p>
+ */
+public final class ConnectionTimer {
+  private static final Logger LOGGER = Logger.getLogger(ConnectionTimer.class.getName());
+
+  private static final Phase[] PHASES = Phase.values();
+
+  private final HostSpec hostSpec;
+  private final long start = System.nanoTime();
+  private long end = start;
+  private final long[] phaseStart = new long[PHASES.length];
+  private final long[] phaseNanos = new long[PHASES.length];
+  private final boolean[] happened = new boolean[PHASES.length];
+  private final @Nullable Object[] events = new Object[PHASES.length];
+
+  public ConnectionTimer(HostSpec hostSpec) {
+    this.hostSpec = hostSpec;
+  }
+
+  /**
+   * Starts a phase. The phases can be nested, but a phase cannot be nested in itself.
+   *
+   * @param phase the phase that starts
+   */
+  public void begin(Phase phase) {
+    int i = phase.ordinal();
+    phaseStart[i] = System.nanoTime();
+    events[i] = Jfr.begin(phase, hostSpec);
+  }
+
+  /**
+   * Ends a phase started by {@link #begin(Phase)}, whether it succeeded or not.
+   *
+   * @param phase the phase that ends
+   */
+  public void end(Phase phase) {
+    int i = phase.ordinal();
+    end = System.nanoTime();
+    phaseNanos[i] += end - phaseStart[i];
+    happened[i] = true;
+    Object event = events[i];
+    if (event != null) {
+      events[i] = null;
+      Jfr.commit(event);
+    }
+  }
+
+  /**
+   * @return the time spent in each phase so far
+   */
+  public ConnectionTimings getTimings() {
+    Map<Phase, Long> nanos = new EnumMap<>(Phase.class);
+    for (Phase phase : PHASES) {
+      if (happened[phase.ordinal()]) {
+        nanos.put(phase, phaseNanos[phase.ordinal()]);
+      }
+    }
+    return new ConnectionTimings(hostSpec, nanos, end - start);
+  }
+
+  /**
+   * The {@code org.postgresql.ConnectionPhase} event, defined at runtime.
+   */
+  private static final class Jfr {
+    private static final @Nullable Object FACTORY;
+    private static final @Nullable Method NEW_EVENT;
+    private static final @Nullable Method IS_ENABLED;
+    private static final @Nullable Method BEGIN;
+    private static final @Nullable Method END;
+    private static final @Nullable Method SHOULD_COMMIT;
+    private static final @Nullable Method SET;
+    private static final @Nullable Method COMMIT;
+
+    static {
+      Object factory = null;
+      Method newEvent = null;
+      Method isEnabled = null;
+      Method begin = null;
+      Method end = null;
+      Method shouldCommit = null;
+      Method set = null;
+      Method commit = null;
+      try {
+        Class<?> annotationElement = Class.forName("jdk.jfr.AnnotationElement");
+        Constructor<?> newAnnotation = annotationElement.getConstructor(Class.class, Object.class);
+        Class<?> label = Class.forName("jdk.jfr.Label");
+        List<Object> annotations = Arrays.asList(
+            newAnnotation.newInstance(Class.forName("jdk.jfr.Name"),
+                "org.postgresql.ConnectionPhase"),
+            newAnnotation.newInstance(label, "PostgreSQL Connection Phase"),
+            newAnnotation.newInstance(Class.forName("jdk.jfr.Description"),
+                "A phase of the establishment of a connection by the PostgreSQL JDBC driver"),
+            newAnnotation.newInstance(Class.forName("jdk.jfr.Category"),
+                new String[]{"PostgreSQL JDBC"}));
+        Class<?> valueDescriptor = Class.forName("jdk.jfr.ValueDescriptor");
+        Constructor<?> newField = valueDescriptor.getConstructor(Class.class, String.class,
+            List.class);
+        List<Object> fields = new ArrayList<>();
+        fields.add(newField.newInstance(String.class, "phase",
+            Collections.singletonList(newAnnotation.newInstance(label, "Phase"))));
+        fields.add(newField.newInstance(String.class, "host",
+            Collections.singletonList(newAnnotation.newInstance(label, "Host"))));
+        fields.add(newField.newInstance(int.class, "port",
+            Collections.singletonList(newAnnotation.newInstance(label, "Port"))));
+        Class<?> eventFactory = Class.forName("jdk.jfr.EventFactory");
+        factory = eventFactory.getMethod("create", List.class, List.class)
+            .invoke(null, annotations, fields);
+        newEvent = eventFactory.getMethod("newEvent");
+        Class<?> event = Class.forName("jdk.jfr.Event");
+        isEnabled = event.getMethod("isEnabled");
+        begin = event.getMethod("begin");
+        end = event.getMethod("end");
+        shouldCommit = event.getMethod("shouldCommit");
+        set = event.getMethod("set", int.class, Object.class);
+        commit = event.getMethod("commit");
+      } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+        LOGGER.log(Level.FINE, "JDK Flight Recorder events are not available", e);
+        factory = null;
+      }
+      FACTORY = factory;
+      NEW_EVENT = newEvent;
+      IS_ENABLED = isEnabled;
+      BEGIN = begin;
+      END = end;
+      SHOULD_COMMIT = shouldCommit;
+      SET = set;
+      COMMIT = commit;
+    }
+
+    /**
+     * Creates and starts an event, unless the event is not recorded.
+     */
+    static @Nullable Object begin(Phase phase, HostSpec hostSpec) {
+      Object factory = FACTORY;
+      if (factory == null) {
+        return null;
+      }
+      try {
+        Object event = castNonNull(NEW_EVENT).invoke(factory);
+        if (!(Boolean) castNonNull(IS_ENABLED).invoke(event)) {
+          return null;
+        }
+        castNonNull(SET).invoke(event, 0, phase.name());
+        castNonNull(SET).invoke(event, 1, hostSpec.getHost());
+        castNonNull(SET).invoke(event, 2, hostSpec.getPort());
+        castNonNull(BEGIN).invoke(event);
+        return event;
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        LOGGER.log(Level.FINEST, "Could not create a JDK Flight Recorder event", e);
+        return null;
+      }
+    }
+
+    static void commit(Object event) {
+      try {
+        castNonNull(END).invoke(event);
+        if ((Boolean) castNonNull(SHOULD_COMMIT).invoke(event)) {
+          castNonNull(COMMIT).invoke(event);
+        }
+      } catch (ReflectiveOperationException | RuntimeException e) {
+        LOGGER.log(Level.FINEST, "Could not commit a JDK Flight Recorder event", e);
+      }
+    }
+  }
+}
@@ -5,8 +5,11 @@
 
 package org.postgresql.core;
 
+import org.postgresql.util.internal.PgBufferedOutputStream;
+
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 /**
  * A stream that refuses to write more than a maximum number of bytes.
@@ -41,6 +44,37 @@ public class FixedLengthOutputStream extends OutputStream {
     written += len;
   }
 
+  /**
+   * Writes the remaining bytes of the given buffers, without changing their position.
+   *
+   * @param buffers the data to write
+   * @throws IOException if the buffers hold too many bytes or the target stream fails
+   * @see PgBufferedOutputStream#write(ByteBuffer...)
+   */
+  public void write(ByteBuffer... buffers) throws IOException {
+    long len = 0;
+    for (ByteBuffer buffer : buffers) {
+      len += buffer.remaining();
+    }
+    if (remaining() < len) {
+      throw new IOException("Attempt to write more than the specified " + size + " bytes");
+    }
+    if (target instanceof PgBufferedOutputStream) {
+      ((PgBufferedOutputStream) target).write(buffers);
+    } else {
+      for (ByteBuffer buffer : buffers) {
+        ByteBuffer source = buffer.duplicate();
+        byte[] chunk = new byte[Math.min(source.remaining(), 8192)];
+        while (source.hasRemaining()) {
+          int length = Math.min(source.remaining(), chunk.length);
+          source.get(chunk, 0, length);
+          target.write(chunk, 0, length);
+        }
+      }
+    }
+    written += (int) len;
+  }
+
   public int remaining() {
     return size - written;
   }
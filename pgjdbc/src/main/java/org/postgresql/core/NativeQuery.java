@@ -23,6 +23,12 @@ public class NativeQuery {
   public final SqlCommand command;
   public final boolean multiStatement;
 
+  /**
+   * The session state that the query may change according to its text, computed by
+   * {@link SessionStateTracker} when the query first completes, or -1.
+   */
+  int sessionEffects = -1;
+
   static {
     for (int i = 1; i < BIND_NAMES.length; i++) {
       BIND_NAMES[i] = "$" + i;
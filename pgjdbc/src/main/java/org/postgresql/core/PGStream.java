@@ -7,7 +7,9 @@ package org.postgresql.core;
 
 import org.postgresql.gss.GSSInputStream;
 import org.postgresql.gss.GSSOutputStream;
+import org.postgresql.util.ByteConverter;
 import org.postgresql.util.ByteStreamWriter;
+import org.postgresql.util.ConnectionTimings.Phase;
 import org.postgresql.util.GT;
 import org.postgresql.util.HostSpec;
 import org.postgresql.util.PGPropertyMaxResultBufferParser;
@@ -34,6 +36,7 @@ import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketException;
 import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
 import java.sql.SQLException;
 
 import javax.net.SocketFactory;
@@ -75,6 +78,66 @@ public class PGStream implements Closeable, Flushable {
 
   }
 
+  private @Nullable ConcurrentWriteOutputStream concurrentWriter;
+
+  /**
+   * Allows the writes to the backend to be sent by a background thread between
+   * {@link #startConcurrentWrite()} and {@link #finishConcurrentWrite()}. This is not supported
+   * with GSS encryption, as the same security context would be used by two threads, nor with the
+   * sockets of channels: before Java 13, their streams hold the blocking lock of the channel
+   * during the reads with a timeout, so the writes would wait for the reads.
+   *
+   * @return true if concurrent writes are enabled
+   * @throws IOException if an I/O error occurs
+   */
+  public boolean enableConcurrentWrite() throws IOException {
+    if (gssEncrypted || connection.getChannel() != null) {
+      return false;
+    }
+    if (concurrentWriter == null) {
+      flush();
+      ConcurrentWriteOutputStream concurrentWriter =
+          new ConcurrentWriteOutputStream(connection.getOutputStream(), connection);
+      int sendBufferSize =
+          Math.min(maxSendBufferSize, Math.max(8192, connection.getSendBufferSize()));
+      pgOutput = new PgBufferedOutputStream(concurrentWriter, sendBufferSize);
+      this.concurrentWriter = concurrentWriter;
+      if (encodingWriter != null) {
+        createEncodingWriter();
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Makes the following writes to the backend asynchronous, so the caller can read the responses
+   * while the messages are being sent. This avoids the deadlock that happens when both the driver
+   * and the backend block on a full socket buffer.
+   *
+   * @return false if concurrent writes are not enabled, see {@link #enableConcurrentWrite()}
+   */
+  public boolean startConcurrentWrite() {
+    ConcurrentWriteOutputStream concurrentWriter = this.concurrentWriter;
+    if (concurrentWriter == null) {
+      return false;
+    }
+    concurrentWriter.start();
+    return true;
+  }
+
+  /**
+   * Waits until the messages written since {@link #startConcurrentWrite()} are sent, and makes
+   * the following writes synchronous again.
+   *
+   * @throws IOException if the messages could not be sent
+   */
+  public void finishConcurrentWrite() throws IOException {
+    ConcurrentWriteOutputStream concurrentWriter = this.concurrentWriter;
+    if (concurrentWriter != null) {
+      concurrentWriter.finish();
+    }
+  }
+
   private long nextStreamAvailableCheckTime;
   // This is a workaround for SSL sockets: sslInputStream.available() might return 0
   // so we perform "1ms reads" once in a while
@@ -88,6 +151,20 @@ public class PGStream implements Closeable, Flushable {
 
   private int maxRowSizeBytes = -1;
 
+  /**
+   * Size of the buffers shared by the received rows, see {@link #setSharedRowBuffers(boolean)}.
+   */
+  private static final int ROW_BUFFER_SIZE = 65536;
+
+  private boolean sharedRowBuffers;
+  private byte @Nullable [] rowBuffer;
+  private int rowBufferPosition;
+
+  /**
+   * Buffer reused by the rows received with {@link #receiveTransientTupleV3()}.
+   */
+  private byte @Nullable [] transientRowBuffer;
+
   /**
    * Constructor: Connect to the PostgreSQL back end and return a stream connection.
    *
@@ -112,14 +189,29 @@ public class PGStream implements Closeable, Flushable {
    * @param maxSendBufferSize maximum amount of bytes buffered before sending to the backend
    * @throws IOException if an IOException occurs below it.
    */
-  @SuppressWarnings({"method.invocation", "initialization.fields.uninitialized"})
   public PGStream(SocketFactory socketFactory, HostSpec hostSpec, int timeout,
       int maxSendBufferSize) throws IOException {
+    this(socketFactory, hostSpec, timeout, maxSendBufferSize, null);
+  }
+
+  /**
+   * Constructor: Connect to the PostgreSQL back end and return a stream connection.
+   *
+   * @param socketFactory socket factory to use when creating sockets
+   * @param hostSpec the host and port to connect to
+   * @param timeout timeout in milliseconds, or 0 if no timeout set
+   * @param maxSendBufferSize maximum amount of bytes buffered before sending to the backend
+   * @param timer the timer of the resolution of the host and of the connection, if any
+   * @throws IOException if an IOException occurs below it.
+   */
+  @SuppressWarnings({"method.invocation", "initialization.fields.uninitialized"})
+  public PGStream(SocketFactory socketFactory, HostSpec hostSpec, int timeout,
+      int maxSendBufferSize, @Nullable ConnectionTimer timer) throws IOException {
     this.socketFactory = socketFactory;
     this.hostSpec = hostSpec;
     this.maxSendBufferSize = maxSendBufferSize;
 
-    Socket socket = createSocket(timeout);
+    Socket socket = createSocket(timeout, timer);
     changeSocket(socket);
     setEncoding(Encoding.getJVMEncoding("UTF-8"));
   }
@@ -156,7 +248,7 @@ public class PGStream implements Closeable, Flushable {
     this.hostSpec = pgStream.hostSpec;
     this.maxSendBufferSize = pgStream.maxSendBufferSize;
 
-    Socket socket = createSocket(timeout);
+    Socket socket = createSocket(timeout, null);
     changeSocket(socket);
     setEncoding(Encoding.getJVMEncoding("UTF-8"));
     // set the buffer sizes and timeout
@@ -243,7 +335,7 @@ public class PGStream implements Closeable, Flushable {
     this.minStreamAvailableCheckDelay = delay;
   }
 
-  private Socket createSocket(int timeout) throws IOException {
+  private Socket createSocket(int timeout, @Nullable ConnectionTimer timer) throws IOException {
     Socket socket = null;
     try {
       socket = socketFactory.createSocket();
@@ -255,10 +347,28 @@ public class PGStream implements Closeable, Flushable {
         // When using a SOCKS proxy, the host might not be resolvable locally,
         // thus we defer resolution until the traffic reaches the proxy. If there
         // is no proxy, we must resolve the host to an IP to connect the socket.
-        InetSocketAddress address = hostSpec.shouldResolve()
-            ? new InetSocketAddress(hostSpec.getHost(), hostSpec.getPort())
-            : InetSocketAddress.createUnresolved(hostSpec.getHost(), hostSpec.getPort());
-        socket.connect(address, timeout);
+        InetSocketAddress address;
+        if (hostSpec.shouldResolve()) {
+          if (timer != null) {
+            timer.begin(Phase.DNS);
+          }
+          address = new InetSocketAddress(hostSpec.getHost(), hostSpec.getPort());
+          if (timer != null) {
+            timer.end(Phase.DNS);
+          }
+        } else {
+          address = InetSocketAddress.createUnresolved(hostSpec.getHost(), hostSpec.getPort());
+        }
+        if (timer != null) {
+          timer.begin(Phase.TCP_CONNECT);
+        }
+        try {
+          socket.connect(address, timeout);
+        } finally {
+          if (timer != null) {
+            timer.end(Phase.TCP_CONNECT);
+          }
+        }
       }
       return socket;
     } catch ( Exception ex ) {
@@ -292,9 +402,12 @@ public class PGStream implements Closeable, Flushable {
     // really need to.
     connection.setTcpNoDelay(true);
 
-    pgInput = new VisibleBufferedInputStream(connection.getInputStream(), 8192);
+    // The sockets of ChannelSocketFactory, unless wrapped for SSL
+    pgInput = new VisibleBufferedInputStream(connection.getInputStream(), connection.getChannel(),
+        8192);
     int sendBufferSize = Math.min(maxSendBufferSize, Math.max(8192, socket.getSendBufferSize()));
-    pgOutput = new PgBufferedOutputStream(connection.getOutputStream(), sendBufferSize);
+    pgOutput = new PgBufferedOutputStream(connection.getOutputStream(), connection.getChannel(),
+        sendBufferSize);
 
     if (encoding != null) {
       setEncoding(encoding);
@@ -321,7 +434,10 @@ public class PGStream implements Closeable, Flushable {
     }
 
     this.encoding = encoding;
+    createEncodingWriter();
+  }
 
+  private void createEncodingWriter() throws IOException {
     // Intercept flush() downcalls from the writer; our caller
     // will call PGStream.flush() as needed.
     OutputStream interceptor = new FilterOutputStream(pgOutput) {
@@ -443,6 +559,11 @@ public class PGStream implements Closeable, Flushable {
         public OutputStream getOutputStream() {
           return fixedLengthStream;
         }
+
+        @Override
+        public void write(ByteBuffer... buffers) throws IOException {
+          fixedLengthStream.write(buffers);
+        }
       });
     } catch (IOException ioe) {
       throw ioe;
@@ -609,6 +730,10 @@ public class PGStream implements Closeable, Flushable {
     int dataToReadSize = messageSize - 4 - 2 - 4 * nf;
     setMaxRowSizeBytes(dataToReadSize);
 
+    if (sharedRowBuffers) {
+      return receiveSharedTuple(nf, messageSize - 4 - 2, dataToReadSize);
+    }
+
     byte[][] answer = new byte[nf][];
 
     increaseByteCounter(dataToReadSize);
@@ -633,6 +758,89 @@ public class PGStream implements Closeable, Flushable {
     return new Tuple(answer);
   }
 
+  /**
+   * Reads the fields of a DataRow message into {@link #rowBuffer}, so that the rows do not need one
+   * array per field.
+   */
+  private Tuple receiveSharedTuple(int nf, int size, int dataToReadSize)
+      throws IOException, SQLException {
+    byte[] buffer = rowBuffer;
+    int offset = rowBufferPosition;
+    if (buffer == null || buffer.length - offset < size) {
+      try {
+        if (size > ROW_BUFFER_SIZE / 4) {
+          // Large rows get their own buffer, so they do not waste the end of a shared one
+          buffer = new byte[size];
+        } else {
+          buffer = new byte[ROW_BUFFER_SIZE];
+          rowBuffer = buffer;
+        }
+      } catch (OutOfMemoryError oome) {
+        skip(size);
+        throw oome;
+      }
+      offset = 0;
+    }
+    if (buffer == rowBuffer) {
+      rowBufferPosition = offset + size;
+    }
+
+    increaseByteCounter(dataToReadSize);
+    receive(buffer, offset, size);
+    return new Tuple(buffer, sliceFields(buffer, offset, nf));
+  }
+
+  /**
+   * Reads a DataRow message into a buffer that is reused for the next row read by this method,
+   * so the returned tuple is only valid until then. The row is not accounted in
+   * {@code maxResultBuffer}, since it is not kept.
+   *
+   * @return tuple read from the backend stream
+   * @throws IOException if a data I/O error occurs
+   * @throws OutOfMemoryError if the row does not fit in memory, the row is then skipped
+   */
+  public Tuple receiveTransientTupleV3() throws IOException, OutOfMemoryError {
+    int messageSize = receiveInteger4(); // MESSAGE SIZE
+    int nf = receiveInteger2();
+    int size = messageSize - 4 - 2;
+    setMaxRowSizeBytes(size - 4 * nf);
+
+    byte[] buffer = transientRowBuffer;
+    if (buffer == null || buffer.length < size) {
+      try {
+        buffer = new byte[Math.max(size, 8192)];
+      } catch (OutOfMemoryError oome) {
+        skip(size);
+        throw oome;
+      }
+      if (buffer.length <= ROW_BUFFER_SIZE) {
+        // Larger buffers are not kept, so that a single large row does not pin its memory
+        transientRowBuffer = buffer;
+      }
+    }
+    receive(buffer, 0, size);
+    return new Tuple(buffer, sliceFields(buffer, 0, nf));
+  }
+
+  /**
+   * Computes the offsets of the fields of a DataRow message stored in a buffer.
+   */
+  private static int[] sliceFields(byte[] buffer, int offset, int nf) {
+    int[] offsets = new int[nf];
+    int position = offset;
+    for (int i = 0; i < nf; i++) {
+      int length = ByteConverter.int4(buffer, position);
+      position += 4;
+      if (length == -1) {
+        offsets[i] = -1;
+      } else {
+        offsets[i] = position;
+        position += length;
+      }
+    }
+    return offsets;
+  }
+
   /**
    * Reads in a given number of bytes from the backend.
    *
@@ -748,6 +956,19 @@ public class PGStream implements Closeable, Flushable {
     return connection.getSoTimeout();
   }
 
+  /**
+   * Receives the rows into buffers shared by several rows instead of one array per field. This
+   * saves most of the allocations when reading large results. A shared buffer is retained as long
+   * as any of its rows is referenced.
+   *
+   * @param sharedRowBuffers true to receive the rows into shared buffers
+   * @see Tuple#getBuffer(int)
+   */
+  public void setSharedRowBuffers(boolean sharedRowBuffers) {
+    this.sharedRowBuffers = sharedRowBuffers;
+    this.rowBuffer = null;
+  }
+
   /**
    * Method to set MaxResultBuffer inside PGStream.
    *
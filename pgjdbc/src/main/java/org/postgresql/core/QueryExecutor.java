@@ -13,6 +13,8 @@ import org.postgresql.jdbc.AutoSave;
 import org.postgresql.jdbc.BatchResultHandler;
 import org.postgresql.jdbc.EscapeSyntaxCallMode;
 import org.postgresql.jdbc.PreferQueryMode;
+import org.postgresql.util.CacheStatistics;
+import org.postgresql.util.ConnectionTimings;
 import org.postgresql.util.HostSpec;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -130,6 +132,23 @@ public interface QueryExecutor extends TypeTransferModeRegistry {
    */
   int QUERY_READ_ONLY_HINT = 2048;
 
+  /**
+   * Flag for query execution that allows {@link #QUERY_FORWARD_CURSOR} in auto-commit mode: the
+   * rows are then fetched in chunks from the unnamed portal, which lives in the implicit
+   * transaction of the extended query protocol until the last row is read or the connection is
+   * used by another statement. Only honoured when the {@code chunkedResults} connection property
+   * is enabled, otherwise both flags are ignored.
+   */
+  int QUERY_CHUNKED_RESULTS = 4096;
+
+  /**
+   * Flag for {@link #executePipelined} that ends the pipelined query with a Sync, so that it runs
+   * in its own implicit transaction: its failure does not skip the queries pipelined after it, and
+   * the failure of another query does not roll it back. The results are still read when the
+   * pipeline is synchronized.
+   */
+  int QUERY_PIPELINE_SYNC = 8192;
+
   /**
    * Execute a Query, passing results to a provided ResultHandler.
    *
@@ -210,6 +229,39 @@ public interface QueryExecutor extends TypeTransferModeRegistry {
       BatchResultHandler handler, int maxRows,
       int fetchSize, int flags, boolean adaptiveFetch) throws SQLException;
 
+  /**
+   * Sends a single query to the backend without waiting for its results, so several queries can
+   * share one network round trip. The results are delivered to the handler when the pipeline is
+   * synchronized by {@link #syncPipeline()}, or implicitly before any other operation on this
+   * executor.
+   *
+   * <p>The handler receives exactly one of {@link ResultHandler#handleResultRows},
+   * {@link ResultHandler#handleCommandStatus} or {@link ResultHandler#handleError} followed by
+   * {@link ResultHandler#handleCompletion()}. If a query fails, the backend skips the rest of the
+   * pipelined queries up to the next sync point and their handlers receive an error. A sync point
+   * follows the queries executed with {@link #QUERY_PIPELINE_SYNC}.</p>
+   *
+   * @param query the query to execute; must not contain multiple statements
+   * @param parameters the parameters for the query. Must be non-<code>null</code> if the query
+   *        takes parameters. Must be a parameter object returned by
+   *        {@link org.postgresql.core.Query#createParameterList()}.
+   * @param handler a ResultHandler responsible for handling results generated by this query
+   * @param maxRows the maximum number of rows to retrieve
+   * @param flags a combination of QUERY_* flags indicating how to handle the query.
+   * @throws SQLException if the query cannot be pipelined or sending it fails
+   */
+  void executePipelined(Query query, @Nullable ParameterList parameters, ResultHandler handler,
+      int maxRows, int flags) throws SQLException;
+
+  /**
+   * Sends a Sync for the queries queued with
+   * {@link #executePipelined(Query, ParameterList, ResultHandler, int, int)} and processes their
+   * results. This is a no-op if there are no pending pipelined queries.
+   *
+   * @throws SQLException if the results cannot be received
+   */
+  void syncPipeline() throws SQLException;
+
   /**
    * Fetch additional rows from a cursor.
    *
@@ -554,6 +606,12 @@ public interface QueryExecutor extends TypeTransferModeRegistry {
 
   PreferQueryMode getPreferQueryMode();
 
+  /**
+   * @return the counters of the cache of the queries borrowed with {@link #borrowQuery(String)}
+   *     and the similar methods
+   */
+  CacheStatistics getStatementCacheStatistics();
+
   void setPreferQueryMode(PreferQueryMode mode);
 
   AutoSave getAutoSave();
@@ -571,6 +629,24 @@ public interface QueryExecutor extends TypeTransferModeRegistry {
    */
   void setFlushCacheOnDeallocate(boolean flushCacheOnDeallocate);
 
+  /**
+   * @return the tracker of the session state changed by the queries of this connection
+   */
+  SessionStateTracker getSessionStateTracker();
+
+  /**
+   * @return the time spent in each phase of the establishment of this connection
+   */
+  ConnectionTimings getConnectionTimings();
+
+  /**
+   * Records the time spent in each phase of the establishment of this connection, once it is
+   * established.
+   *
+   * @param connectionTimings the time spent in each phase
+   */
+  void setConnectionTimings(ConnectionTimings connectionTimings);
+
   /**
    * @return the ReplicationProtocol instance for this connection.
    */
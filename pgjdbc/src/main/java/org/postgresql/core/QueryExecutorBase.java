@@ -13,6 +13,9 @@ import org.postgresql.jdbc.AutoSave;
 import org.postgresql.jdbc.EscapeSyntaxCallMode;
 import org.postgresql.jdbc.PreferQueryMode;
 import org.postgresql.jdbc.ResourceLock;
+import org.postgresql.util.CacheStatistics;
+import org.postgresql.util.ConnectionTimings;
+import org.postgresql.util.GT;
 import org.postgresql.util.HostSpec;
 import org.postgresql.util.LruCache;
 import org.postgresql.util.PSQLException;
@@ -71,6 +74,8 @@ public abstract class QueryExecutorBase implements QueryExecutor {
   // For getParameterStatuses(), GUC_REPORT tracking
   private final TreeMap<String,String> parameterStatuses
       = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+  protected final SessionStateTracker sessionStateTracker = new SessionStateTracker();
+  private ConnectionTimings connectionTimings;
 
   protected final ResourceLock lock = new ResourceLock();
   protected final Condition lockCondition = lock.newCondition();
@@ -91,6 +96,8 @@ public abstract class QueryExecutorBase implements QueryExecutor {
     this.preferQueryMode = PreferQueryMode.of(preferMode);
     this.autoSave = AutoSave.of(PGProperty.AUTOSAVE.getOrDefault(info));
     this.logServerErrorDetail = PGProperty.LOG_SERVER_ERROR_DETAIL.getBoolean(info);
+    this.connectionTimings =
+        new ConnectionTimings(pgStream.getHostSpec(), Collections.emptyMap(), 0);
     // assignment, argument
     this.cachedQueryCreateAction = new CachedQueryCreateAction(this);
     statementCache = new LruCache<>(
@@ -103,7 +110,8 @@ public abstract class QueryExecutorBase implements QueryExecutor {
           public void evict(CachedQuery cachedQuery) throws SQLException {
             cachedQuery.query.close();
           }
-        });
+        },
+        isFrequencyCachePolicy(PGProperty.PREPARED_STATEMENT_CACHE_POLICY.getOrDefault(info)));
     // method.invocation
     this.closeAction = createCloseAction();
   }
@@ -402,6 +410,38 @@ public abstract class QueryExecutorBase implements QueryExecutor {
     return preferQueryMode;
   }
 
+  @Override
+  public CacheStatistics getStatementCacheStatistics() {
+    return statementCache.getStatistics();
+  }
+
+  @Override
+  public SessionStateTracker getSessionStateTracker() {
+    return sessionStateTracker;
+  }
+
+  @Override
+  public ConnectionTimings getConnectionTimings() {
+    return connectionTimings;
+  }
+
+  @Override
+  public void setConnectionTimings(ConnectionTimings connectionTimings) {
+    this.connectionTimings = connectionTimings;
+  }
+
+  private static boolean isFrequencyCachePolicy(@Nullable String policy) throws PSQLException {
+    if (policy == null || "lru".equals(policy)) {
+      return false;
+    }
+    if ("tinylfu".equals(policy)) {
+      return true;
+    }
+    throw new PSQLException(
+        GT.tr("Unsupported value for preparedStatementCachePolicy parameter: {0}", policy),
+        PSQLState.INVALID_PARAMETER_VALUE);
+  }
+
   @Override
   public void setPreferQueryMode(PreferQueryMode mode) {
     preferQueryMode = mode;
@@ -505,5 +545,6 @@ public abstract class QueryExecutorBase implements QueryExecutor {
     }
 
     parameterStatuses.put(parameterName, parameterStatus);
+    sessionStateTracker.onParameterStatus();
   }
 }
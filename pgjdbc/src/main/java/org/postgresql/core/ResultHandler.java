@@ -41,6 +41,30 @@ public interface ResultHandler {
   void handleResultRows(Query fromQuery, Field[] fields, List<Tuple> tuples,
       @Nullable ResultCursor cursor);
 
+  /**
+   * Tells whether the result rows are passed to {@link #handleRow(Query, Field[], Tuple)} as they
+   * are received instead of being collected for
+   * {@link #handleResultRows(Query, Field[], List, ResultCursor)}.
+   *
+   * @return true to receive the rows one at a time
+   */
+  default boolean isStreamingRows() {
+    return false;
+  }
+
+  /**
+   * Called for each result row as it is received, when {@link #isStreamingRows()} returns true.
+   * {@link #handleResultRows(Query, Field[], List, ResultCursor)} is still called at the end of
+   * each result, with no rows.
+   *
+   * @param fromQuery the underlying query that generated this row
+   * @param fields column metadata for the row
+   * @param tuple the row; it is only valid during this call, as its memory is reused for the next
+   *        row
+   */
+  default void handleRow(Query fromQuery, Field[] fields, Tuple tuple) {
+  }
+
   /**
    * Called when a query that did not return a resultset completes.
    *
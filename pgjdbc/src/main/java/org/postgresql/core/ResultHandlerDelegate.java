@@ -32,6 +32,18 @@ public class ResultHandlerDelegate implements ResultHandler {
     }
   }
 
+  @Override
+  public boolean isStreamingRows() {
+    return delegate != null && delegate.isStreamingRows();
+  }
+
+  @Override
+  public void handleRow(Query fromQuery, Field[] fields, Tuple tuple) {
+    if (delegate != null) {
+      delegate.handleRow(fromQuery, fields, tuple);
+    }
+  }
+
   @Override
   public void handleCommandStatus(String status, long updateCount, long insertOID) {
     if (delegate != null) {
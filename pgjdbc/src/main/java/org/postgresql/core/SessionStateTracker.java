@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Tracks the session state that the queries of a connection changed, from the messages received
+ * from the backend, so that a pool can restore the session with only the commands it needs instead
+ * of {@code DISCARD ALL}, which also drops the server-prepared statements of the driver.
+ *
+ * <p>The state is inferred from the command tags and the {@code ParameterStatus} messages, and from
+ * the text of the queries for the state changed by functions, such as the temporary tables created
+ * by {@code CREATE TABLE AS} or the session-level advisory locks. The text of each query is
+ * scanned once. The state changed by the functions called from other functions cannot be seen.</p>
+ */
+public final class SessionStateTracker {
+  /**
+   * A setting was changed, by {@code SET}, {@code RESET} or a function reported by a
+   * {@code ParameterStatus} message.
+   */
+  public static final int SETTINGS = 1;
+
+  /**
+   * The {@code search_path} setting was changed.
+   */
+  public static final int SEARCH_PATH = 2;
+
+  /**
+   * Temporary tables, views or sequences may have been created.
+   */
+  public static final int TEMPORARY_OBJECTS = 4;
+
+  /**
+   * The session listens to a notification channel.
+   */
+  public static final int LISTEN = 8;
+
+  /**
+   * Session-level advisory locks may have been acquired.
+   */
+  public static final int ADVISORY_LOCKS = 16;
+
+  /**
+   * A statement was prepared with the SQL {@code PREPARE} command.
+   */
+  public static final int PREPARED_STATEMENTS = 32;
+
+  /**
+   * A cursor was declared with the SQL {@code DECLARE} command.
+   */
+  public static final int CURSORS = 64;
+
+  /**
+   * Only the start of the queries is scanned, to avoid a big overhead for long queries.
+   */
+  private static final int MAX_SCANNED_LENGTH = 1024;
+
+  private volatile int changes;
+
+  /**
+   * Incremented when the settings may have changed, read by the thread of the connection.
+   */
+  private int settingsGeneration;
+
+  /**
+   * Whether a setting was changed since the end of the last transaction, in which case the end of
+   * the transaction may undo it.
+   */
+  private boolean settingsInTransaction;
+
+  /**
+   * The settings made with {@code SET} by the driver while opening the connection.
+   */
+  private @Nullable String initialSettings;
+
+  /**
+   * Records the state changed by a command.
+   *
+   * @param status the command tag received in {@code CommandComplete}
+   * @param query the query that completed
+   */
+  public void onCommandStatus(String status, NativeQuery query) {
+    int changes = 0;
+    if (status.startsWith("SET") || status.startsWith("RESET")) {
+      changes = SETTINGS;
+      if (query.nativeSql.lastIndexOf("search_path", MAX_SCANNED_LENGTH) != -1) {
+        changes |= SEARCH_PATH;
+      }
+      settingsGeneration++;
+      settingsInTransaction = true;
+    } else if (status.startsWith("COMMIT") || status.startsWith("ROLLBACK")) {
+      // SET LOCAL, and the SET of a transaction that is rolled back, are undone
+      if (settingsInTransaction) {
+        settingsInTransaction = false;
+        settingsGeneration++;
+      }
+    } else if (status.startsWith("SELECT") || status.startsWith("CREATE")) {
+      // SELECT is also the tag of CREATE TABLE AS and SELECT INTO
+      changes = getQueryEffects(query);
+      if (status.charAt(0) == 'C') {
+        changes &= TEMPORARY_OBJECTS;
+      }
+    } else if (status.startsWith("LISTEN")) {
+      changes = LISTEN;
+    } else if (status.startsWith("PREPARE")) {
+      changes = PREPARED_STATEMENTS;
+    } else if (status.startsWith("DECLARE CURSOR")) {
+      changes = CURSORS;
+    } else if (status.startsWith("DISCARD ALL")) {
+      this.changes = 0;
+      settingsGeneration++;
+      return;
+    }
+    if (changes != 0 && (this.changes & changes) != changes) {
+      this.changes |= changes;
+    }
+  }
+
+  /**
+   * Records that a reported setting changed.
+   */
+  public void onParameterStatus() {
+    if ((changes & SETTINGS) == 0) {
+      changes |= SETTINGS;
+    }
+    settingsGeneration++;
+  }
+
+  /**
+   * Returns a number that changes when the settings of the session, such as the role or the
+   * {@code search_path}, may have changed, so that the results that depend on them can be
+   * discarded. Unlike {@link #getChanges()}, it is not reset by {@link #clear()}. The settings
+   * changed by functions, such as {@code set_config}, are not seen.
+   *
+   * @return the generation of the settings
+   */
+  public int getSettingsGeneration() {
+    return settingsGeneration;
+  }
+
+  /**
+   * Returns the commands with which the driver changed the settings while opening the connection,
+   * such as {@code extra_float_digits} for the servers older than 12. {@code RESET ALL} undoes
+   * them, unlike the settings sent in the startup packet.
+   *
+   * @return the commands separated by semicolons, or null if the driver did not change a setting
+   */
+  public @Nullable String getInitialSettings() {
+    return initialSettings;
+  }
+
+  /**
+   * Records the commands with which the driver changed the settings while opening the connection.
+   *
+   * @param initialSettings the commands separated by semicolons, or null
+   */
+  public void setInitialSettings(@Nullable String initialSettings) {
+    this.initialSettings = initialSettings;
+  }
+
+  /**
+   * Returns the session state that may have changed since the last call to {@link #clear()}.
+   *
+   * @return a combination of the constants of this class
+   */
+  public int getChanges() {
+    return changes;
+  }
+
+  /**
+   * Forgets the changes, once the session is restored.
+   */
+  public void clear() {
+    changes = 0;
+  }
+
+  /**
+   * Returns the commands that restore the session, given the state that changed.
+   *
+   * @param changes a combination of the constants of this class
+   * @param inTransaction whether a transaction is open, and must be rolled back
+   * @return the commands separated by semicolons, or null if the session is already restored
+   */
+  public static @Nullable String getResetSql(int changes, boolean inTransaction) {
+    return getResetSql(changes, inTransaction, null);
+  }
+
+  /**
+   * Returns the commands that restore the session, given the state that changed.
+   *
+   * @param changes a combination of the constants of this class
+   * @param inTransaction whether a transaction is open, and must be rolled back
+   * @param driverSettings the commands that set again the settings made by the driver once the
+   *     settings are reset, or null, see {@link BaseConnection#getSessionSettingsSql()}
+   * @return the commands separated by semicolons, or null if the session is already restored
+   */
+  public static @Nullable String getResetSql(int changes, boolean inTransaction,
+      @Nullable String driverSettings) {
+    StringBuilder sql = new StringBuilder();
+    if (inTransaction) {
+      sql.append("ROLLBACK;");
+    }
+    if ((changes & CURSORS) != 0) {
+      // The cursors declared WITH HOLD outlive the transaction
+      sql.append("CLOSE ALL;");
+    }
+    if ((changes & SETTINGS) != 0) {
+      if ((changes & SEARCH_PATH) != 0) {
+        // Lets the query executor invalidate the statements prepared with the other search_path
+        sql.append("RESET search_path;");
+      }
+      sql.append("SET SESSION AUTHORIZATION DEFAULT;RESET ALL;");
+      if (driverSettings != null) {
+        sql.append(driverSettings).append(';');
+      }
+    }
+    if ((changes & TEMPORARY_OBJECTS) != 0) {
+      sql.append("DISCARD TEMP;");
+    }
+    if ((changes & LISTEN) != 0) {
+      sql.append("UNLISTEN *;");
+    }
+    if ((changes & ADVISORY_LOCKS) != 0) {
+      sql.append("SELECT pg_advisory_unlock_all();");
+    }
+    if ((changes & PREPARED_STATEMENTS) != 0) {
+      sql.append("DEALLOCATE ALL;");
+    }
+    return sql.length() == 0 ? null : sql.toString();
+  }
+
+  private static int getQueryEffects(NativeQuery query) {
+    int effects = query.sessionEffects;
+    if (effects < 0) {
+      String sql = query.nativeSql;
+      effects = 0;
+      if (containsKeyword(sql, "temp") || containsKeyword(sql, "temporary")) {
+        effects |= TEMPORARY_OBJECTS;
+      }
+      // Matches pg_advisory_lock and pg_try_advisory_lock, but not the transaction-level locks
+      if (containsIgnoreCase(sql, "advisory_lock")) {
+        effects |= ADVISORY_LOCKS;
+      }
+      query.sessionEffects = effects;
+    }
+    return effects;
+  }
+
+  private static boolean containsKeyword(String sql, String word) {
+    int end = Math.min(sql.length(), MAX_SCANNED_LENGTH) - word.length();
+    for (int i = 0; i <= end; i++) {
+      if (sql.regionMatches(true, i, word, 0, word.length())
+          && (i == 0 || !Parser.isIdentifierContChar(sql.charAt(i - 1)))
+          && (i == end || !Parser.isIdentifierContChar(sql.charAt(i + word.length())))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean containsIgnoreCase(String sql, String word) {
+    int end = Math.min(sql.length(), MAX_SCANNED_LENGTH) - word.length();
+    for (int i = 0; i <= end; i++) {
+      if (sql.regionMatches(true, i, word, 0, word.length())) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
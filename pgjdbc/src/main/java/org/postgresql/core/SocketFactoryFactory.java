@@ -33,6 +33,11 @@ public class SocketFactoryFactory {
     // Socket factory
     String socketFactoryClassName = PGProperty.SOCKET_FACTORY.getOrDefault(info);
     if (socketFactoryClassName == null) {
+      // Channels do not support SOCKS proxies
+      if (PGProperty.DIRECT_RECEIVE_BUFFER.getBoolean(info)
+          && System.getProperty("socksProxyHost") == null) {
+        return new ChannelSocketFactory();
+      }
       return SocketFactory.getDefault();
     }
     try {
@@ -5,17 +5,41 @@
 
 package org.postgresql.core;
 
+import org.postgresql.util.ByteConverter;
+
 import org.checkerframework.checker.index.qual.NonNegative;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.dataflow.qual.Pure;
 
+import java.util.Arrays;
+
 /**
  * Class representing a row in a {@link java.sql.ResultSet}.
+ *
+ * <p>The values are either stored in one array per field, or as slices of a buffer shared by
+ * several rows (see {@link PGStream#setSharedRowBuffers(boolean)}). In the latter case,
+ * {@link #get(int)} copies the slice of the field on first access, and
+ * {@link #getBuffer(int)}, {@link #getOffset(int)} and {@link #getLength(int)} give access to the
+ * value without copying it.</p>
+ *
+ * <p>The fixed-width binary values of the rows stored by {@link ColumnarRows} are read from
+ * primitive arrays, see {@link #getInt4(int)} and {@link #getInt8(int)}.</p>
  */
 public class Tuple {
   private final boolean forUpdate;
   final byte[] @Nullable [] data;
 
+  /**
+   * Buffer that holds the field values of a row received into a shared buffer, or null.
+   */
+  private final byte @Nullable [] buffer;
+
+  /**
+   * Offsets of the field values in {@link #buffer}, or -1 for null values. The length of each value
+   * is stored in the four bytes before it, as in the DataRow message.
+   */
+  private final int @Nullable [] offsets;
+
   /**
    * Construct an empty tuple. Used in updatable result sets.
    * @param length the number of fields in the tuple.
@@ -32,9 +56,35 @@ public class Tuple {
     this(data, false);
   }
 
+  /**
+   * Construct a tuple whose field values are slices of a shared buffer.
+   * @param buffer the buffer that contains the field values
+   * @param offsets the offsets of the field values in the buffer, -1 for null values. Each value
+   *     is preceded by its length in the buffer, as a four bytes integer.
+   */
+  public Tuple(byte[] buffer, int[] offsets) {
+    this.data = new byte[offsets.length][];
+    this.forUpdate = false;
+    this.buffer = buffer;
+    this.offsets = offsets;
+  }
+
+  /**
+   * Construct a tuple that shares the storage of another one.
+   * @param source the tuple whose values are shared
+   */
+  Tuple(Tuple source) {
+    this.data = source.data;
+    this.forUpdate = source.forUpdate;
+    this.buffer = source.buffer;
+    this.offsets = source.offsets;
+  }
+
   private Tuple(byte[] @Nullable [] data, boolean forUpdate) {
     this.data = data;
     this.forUpdate = forUpdate;
+    this.buffer = null;
+    this.offsets = null;
   }
 
   /**
@@ -51,22 +101,123 @@ public class Tuple {
    */
   public @NonNegative int length() {
     int length = 0;
-    for (byte[] field : data) {
-      if (field != null) {
-        length += field.length;
+    for (int i = 0; i < data.length; i++) {
+      if (!isNull(i)) {
+        length += getLength(i);
       }
     }
     return length;
   }
 
+  /**
+   * Tells whether the given field is null.
+   * @param index 0-based field position in the tuple
+   * @return true if the value of the field is null
+   */
+  @Pure
+  public boolean isNull(@NonNegative int index) {
+    int[] offsets = this.offsets;
+    if (offsets != null) {
+      return offsets[index] < 0;
+    }
+    return data[index] == null;
+  }
+
+  /**
+   * Get the array that holds the data of the given non-null field. The array may contain the data
+   * of other fields too, see {@link #getOffset(int)} and {@link #getLength(int)}.
+   * @param index 0-based field position in the tuple
+   * @return the array that holds the data of the field
+   */
+  @Pure
+  public byte[] getBuffer(@NonNegative int index) {
+    byte[] buffer = this.buffer;
+    if (buffer != null) {
+      return buffer;
+    }
+    return castNonNullField(data[index]);
+  }
+
+  /**
+   * Get the position of the data of the given non-null field in {@link #getBuffer(int)}.
+   * @param index 0-based field position in the tuple
+   * @return offset of the field data
+   */
+  @Pure
+  public @NonNegative int getOffset(@NonNegative int index) {
+    int[] offsets = this.offsets;
+    if (offsets != null) {
+      return offsets[index];
+    }
+    return 0;
+  }
+
+  /**
+   * Get the length in bytes of the data of the given non-null field.
+   * @param index 0-based field position in the tuple
+   * @return length of the field data
+   */
+  @Pure
+  public @NonNegative int getLength(@NonNegative int index) {
+    byte[] buffer = this.buffer;
+    int[] offsets = this.offsets;
+    if (buffer != null && offsets != null) {
+      return ByteConverter.int4(buffer, offsets[index] - 4);
+    }
+    return castNonNullField(data[index]).length;
+  }
+
+  private static byte[] castNonNullField(byte @Nullable [] field) {
+    if (field == null) {
+      throw new IllegalStateException("The field value is null");
+    }
+    return field;
+  }
+
+  /**
+   * Decode the given non-null field as a binary {@code int2}.
+   * @param index 0-based field position in the tuple
+   * @return the value of the field
+   */
+  public short getInt2(@NonNegative int index) {
+    return ByteConverter.int2(getBuffer(index), getOffset(index));
+  }
+
+  /**
+   * Decode the given non-null field as a binary four bytes value, such as {@code int4} or the
+   * bits of a {@code float4}.
+   * @param index 0-based field position in the tuple
+   * @return the value of the field
+   */
+  public int getInt4(@NonNegative int index) {
+    return ByteConverter.int4(getBuffer(index), getOffset(index));
+  }
+
+  /**
+   * Decode the given non-null field as a binary eight bytes value, such as {@code int8} or the
+   * bits of a {@code float8}.
+   * @param index 0-based field position in the tuple
+   * @return the value of the field
+   */
+  public long getInt8(@NonNegative int index) {
+    return ByteConverter.int8(getBuffer(index), getOffset(index));
+  }
+
   /**
    * Get the data for the given field
    * @param index 0-based field position in the tuple
    * @return byte array of the data
    */
-  @Pure
   public byte @Nullable [] get(@NonNegative int index) {
-    return data[index];
+    byte[] value = data[index];
+    byte[] buffer = this.buffer;
+    int[] offsets = this.offsets;
+    if (value == null && buffer != null && offsets != null && offsets[index] >= 0) {
+      int offset = offsets[index];
+      value = Arrays.copyOfRange(buffer, offset, offset + getLength(index));
+      data[index] = value;
+    }
+    return value;
   }
 
   /**
@@ -87,7 +238,9 @@ public class Tuple {
 
   private Tuple copy(boolean forUpdate) {
     byte[][] dataCopy = new byte[data.length][];
-    System.arraycopy(data, 0, dataCopy, 0, data.length);
+    for (int i = 0; i < data.length; i++) {
+      dataCopy[i] = get(i);
+    }
     return new Tuple(dataCopy, forUpdate);
   }
 
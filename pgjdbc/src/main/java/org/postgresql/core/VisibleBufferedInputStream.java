@@ -7,10 +7,14 @@ package org.postgresql.core;
 
 import org.postgresql.util.ByteConverter;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 
 /**
  * A faster version of BufferedInputStream. Does no synchronisation and allows direct access to the
@@ -32,11 +36,26 @@ public class VisibleBufferedInputStream extends InputStream {
    */
   private static final int STRING_SCAN_SPAN = 1024;
 
+  /**
+   * Size of the direct buffer the channel is read into.
+   */
+  private static final int DIRECT_BUFFER_SIZE = 65536;
+
   /**
    * The wrapped input stream.
    */
   private final InputStream wrapped;
 
+  /**
+   * The channel of the wrapped stream, used for the blocking reads without timeout.
+   */
+  private final @Nullable ReadableByteChannel channel;
+
+  /**
+   * Off-heap buffer the channel is read into, allocated on first use.
+   */
+  private @Nullable ByteBuffer directBuffer;
+
   /**
    * The buffer.
    */
@@ -64,7 +83,24 @@ public class VisibleBufferedInputStream extends InputStream {
    * @param bufferSize The initial size of the buffer.
    */
   public VisibleBufferedInputStream(InputStream in, int bufferSize) {
+    this(in, null, bufferSize);
+  }
+
+  /**
+   * Creates a new buffer around the given stream, that reads its channel through a direct
+   * {@link ByteBuffer} when no timeout is requested. The socket reads then land in the same
+   * off-heap buffer for the lifetime of the stream, instead of the temporary native buffer of
+   * each read, and skipped bytes are not copied to the heap at all. The stream is still used for
+   * the reads with a timeout, as blocking channels ignore it.
+   *
+   * @param in The stream to buffer.
+   * @param channel The channel of the stream, in blocking mode, or null.
+   * @param bufferSize The initial size of the buffer.
+   */
+  public VisibleBufferedInputStream(InputStream in, @Nullable ReadableByteChannel channel,
+      int bufferSize) {
     wrapped = in;
+    this.channel = channel;
     buffer = new byte[bufferSize < MINIMUM_READ ? MINIMUM_READ : bufferSize];
   }
 
@@ -189,7 +225,7 @@ public class VisibleBufferedInputStream extends InputStream {
     }
     int read = 0;
     try {
-      read = wrapped.read(buffer, endIndex, canFit);
+      read = block ? readWrapped(buffer, endIndex, canFit) : wrapped.read(buffer, endIndex, canFit);
       if (!block && read == 0) {
         return false;
       }
@@ -208,6 +244,56 @@ public class VisibleBufferedInputStream extends InputStream {
     return true;
   }
 
+  /**
+   * Reads from the wrapped stream, or from its channel if no timeout is requested.
+   */
+  private int readWrapped(byte[] to, int off, int len) throws IOException {
+    ReadableByteChannel channel = this.channel;
+    if (channel == null || timeoutRequested) {
+      return wrapped.read(to, off, len);
+    }
+    ByteBuffer direct = getDirectBuffer();
+    direct.clear();
+    if (len < direct.capacity()) {
+      direct.limit(len);
+    }
+    int read = channel.read(direct);
+    if (read > 0) {
+      direct.flip();
+      direct.get(to, off, read);
+    }
+    return read;
+  }
+
+  private ByteBuffer getDirectBuffer() {
+    ByteBuffer direct = directBuffer;
+    if (direct == null) {
+      direct = ByteBuffer.allocateDirect(DIRECT_BUFFER_SIZE);
+      directBuffer = direct;
+    }
+    return direct;
+  }
+
+  /**
+   * Skips bytes of the wrapped channel by reading them into the direct buffer.
+   */
+  private long skipChannel(ReadableByteChannel channel, long n) throws IOException {
+    ByteBuffer direct = getDirectBuffer();
+    long skipped = 0;
+    while (skipped < n) {
+      direct.clear();
+      if (n - skipped < direct.capacity()) {
+        direct.limit((int) (n - skipped));
+      }
+      int read = channel.read(direct);
+      if (read < 0) {
+        break;
+      }
+      skipped += read;
+    }
+    return skipped;
+  }
+
   /**
    * Doubles the size of the buffer.
    */
@@ -277,7 +363,7 @@ public class VisibleBufferedInputStream extends InputStream {
     do {
       int r;
       try {
-        r = wrapped.read(to, off, len);
+        r = readWrapped(to, off, len);
       } catch (SocketTimeoutException e) {
         if (read == 0 && timeoutRequested) {
           throw e;
@@ -310,6 +396,10 @@ public class VisibleBufferedInputStream extends InputStream {
     n -= avail;
     index = 0;
     endIndex = 0;
+    ReadableByteChannel channel = this.channel;
+    if (channel != null && !timeoutRequested) {
+      return avail + skipChannel(channel, n);
+    }
     return avail + wrapped.skip(n);
   }
 
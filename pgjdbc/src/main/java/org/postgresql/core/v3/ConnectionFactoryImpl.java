@@ -10,6 +10,7 @@ import static org.postgresql.util.internal.Nullness.castNonNull;
 
 import org.postgresql.PGProperty;
 import org.postgresql.core.ConnectionFactory;
+import org.postgresql.core.ConnectionTimer;
 import org.postgresql.core.PGStream;
 import org.postgresql.core.PgMessageType;
 import org.postgresql.core.ProtocolVersion;
@@ -31,11 +32,15 @@ import org.postgresql.jdbc.GSSEncMode;
 import org.postgresql.jdbc.SslMode;
 import org.postgresql.jdbc.SslNegotiation;
 import org.postgresql.plugin.AuthenticationRequestType;
+import org.postgresql.plugin.ConnectionTimingListener;
 import org.postgresql.ssl.MakeSSL;
 import org.postgresql.sspi.ISSPIClient;
+import org.postgresql.util.ConnectionTimings;
+import org.postgresql.util.ConnectionTimings.Phase;
 import org.postgresql.util.GT;
 import org.postgresql.util.HostSpec;
 import org.postgresql.util.MD5Digest;
+import org.postgresql.util.ObjectFactory;
 import org.postgresql.util.PSQLException;
 import org.postgresql.util.PSQLState;
 import org.postgresql.util.ServerErrorMessage;
@@ -50,11 +55,23 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 import java.util.logging.Logger;
@@ -128,7 +145,7 @@ public class ConnectionFactoryImpl extends ConnectionFactory {
   }
 
   private PGStream tryConnect(Properties info, SocketFactory socketFactory, HostSpec hostSpec,
-      SslMode sslMode, GSSEncMode gssEncMode)
+      SslMode sslMode, GSSEncMode gssEncMode, ConnectionTimer timer)
       throws SQLException, IOException {
     int connectTimeout = PGProperty.CONNECT_TIMEOUT.getInt(info) * 1000;
     String user = PGProperty.USER.getOrDefault(info);
@@ -143,7 +160,8 @@ public class ConnectionFactoryImpl extends ConnectionFactory {
     }
 
     int maxSendBufferSize = PGProperty.MAX_SEND_BUFFER_SIZE.getInt(info);
-    PGStream newStream = new PGStream(socketFactory, hostSpec, connectTimeout, maxSendBufferSize);
+    PGStream newStream =
+        new PGStream(socketFactory, hostSpec, connectTimeout, maxSendBufferSize, timer);
     try {
       // Set the socket timeout if the "socketTimeout" property has been set.
       int socketTimeout = PGProperty.SOCKET_TIMEOUT.getInt(info);
@@ -153,6 +171,7 @@ public class ConnectionFactoryImpl extends ConnectionFactory {
 
       String maxResultBuffer = PGProperty.MAX_RESULT_BUFFER.getOrDefault(info);
       newStream.setMaxResultBuffer(maxResultBuffer);
+      newStream.setSharedRowBuffers(PGProperty.SHARED_ROW_BUFFERS.getBoolean(info));
 
       // Enable TCP keep-alive probe if required.
       boolean requireTCPKeepAlive = PGProperty.TCP_KEEP_ALIVE.getBoolean(info);
@@ -198,13 +217,14 @@ public class ConnectionFactoryImpl extends ConnectionFactory {
 
       if (sslNegotiation != SslNegotiation.DIRECT) {
         newStream =
-            enableGSSEncrypted(newStream, gssEncMode, hostSpec.getHost(), info, connectTimeout);
+            enableGSSEncrypted(newStream, gssEncMode, hostSpec.getHost(), info, connectTimeout,
+                timer);
       }
       // if we have a security context then gss negotiation succeeded. Do not attempt SSL
       // negotiation
       if (!newStream.isGssEncrypted()) {
         // Construct and send an SSL startup packet if requested.
-        newStream = enableSSL(newStream, sslMode, info, connectTimeout);
+        newStream = enableSSL(newStream, sslMode, info, connectTimeout, timer);
       }
 
       // Make sure to set network timeout again, in case the stream changed due to GSS or SSL
@@ -228,10 +248,15 @@ public class ConnectionFactoryImpl extends ConnectionFactory {
         }
       }
 
-      sendStartupPacket(newStream, ProtocolVersion.fromMajorMinor(protocolMajor,protocolMinor), paramList);
+      timer.begin(Phase.AUTHENTICATION);
+      try {
+        sendStartupPacket(newStream, ProtocolVersion.fromMajorMinor(protocolMajor,protocolMinor), paramList);
 
-      // Do authentication (until AuthenticationOk).
-      doAuthentication(newStream, hostSpec.getHost(), user, info);
+        // Do authentication (until AuthenticationOk).
+        doAuthentication(newStream, hostSpec.getHost(), user, info, timer);
+      } finally {
+        timer.end(Phase.AUTHENTICATION);
+      }
 
       return newStream;
     } catch (Exception e) {
@@ -240,6 +265,68 @@ public class ConnectionFactoryImpl extends ConnectionFactory {
     }
   }
 
+  /**
+   * Connects to the given host, retrying without SSL or with SSL when {@code sslmode} is
+   * {@code prefer} or {@code allow} and the server rejected the first attempt.
+   */
+  private PGStream tryConnectWithFallback(Properties info, SocketFactory socketFactory,
+      HostSpec hostSpec, SslMode sslMode, GSSEncMode gssEncMode, ConnectionTimer timer)
+      throws SQLException, IOException {
+    PGStream newStream = null;
+    try {
+      newStream = tryConnect(info, socketFactory, hostSpec, sslMode, gssEncMode, timer);
+    } catch (SQLException e) {
+      if (sslMode == SslMode.PREFER
+          && PSQLState.INVALID_AUTHORIZATION_SPECIFICATION.getState().equals(e.getSQLState())) {
+        // Try non-SSL connection to cover case like "non-ssl only db"
+        // Note: PREFER allows loss of encryption, so no significant harm is made
+        Throwable ex = null;
+        try {
+          newStream =
+              tryConnect(info, socketFactory, hostSpec, SslMode.DISABLE, gssEncMode, timer);
+          LOGGER.log(Level.FINE, "Downgraded to non-encrypted connection for host {0}",
+              hostSpec);
+        } catch (SQLException | IOException ee) {
+          ex = ee;
+        }
+
+        if (ex != null) {
+          log(Level.FINE, "sslMode==PREFER, however non-SSL connection failed as well", ex);
+          // non-SSL failed as well, so re-throw original exception
+          // Add non-SSL exception as suppressed
+          e.addSuppressed(ex);
+          throw e;
+        }
+      } else if (sslMode == SslMode.ALLOW
+          && PSQLState.INVALID_AUTHORIZATION_SPECIFICATION.getState().equals(e.getSQLState())) {
+        // Try using SSL
+        Throwable ex = null;
+        try {
+          newStream =
+              tryConnect(info, socketFactory, hostSpec, SslMode.REQUIRE, gssEncMode, timer);
+          LOGGER.log(Level.FINE, "Upgraded to encrypted connection for host {0}",
+              hostSpec);
+        } catch (SQLException ee) {
+          ex = ee;
+        } catch (IOException ee) {
+          ex = ee; // Can't use multi-catch in Java 6 :(
+        }
+        if (ex != null) {
+          log(Level.FINE, "sslMode==ALLOW, however SSL connection failed as well", ex);
+          // non-SSL failed as well, so re-throw original exception
+          // Add SSL exception as suppressed
+          e.addSuppressed(ex);
+          throw e;
+        }
+
+      } else {
+        throw e;
+      }
+    }
+    // CheckerFramework can't infer newStream is non-nullable
+    return castNonNull(newStream);
+  }
+
   @Override
   public QueryExecutor openConnectionImpl(HostSpec[] hostSpecs, Properties info) throws SQLException {
     SslMode sslMode = SslMode.of(info);
@@ -256,10 +343,20 @@ public class ConnectionFactoryImpl extends ConnectionFactory {
     }
 
     SocketFactory socketFactory = SocketFactoryFactory.getSocketFactory(info);
+    ConnectionTimingListener timingListener = createTimingListener(info);
 
     HostChooser hostChooser =
         HostChooserFactory.createHostChooser(hostSpecs, targetServerType, info);
     Iterator<CandidateHost> hostIter = hostChooser.iterator();
+    if (PGProperty.PARALLEL_HOST_CONNECT.getBoolean(info)) {
+      List<CandidateHost> candidates = new ArrayList<>();
+      hostIter.forEachRemaining(candidates::add);
+      if (candidates.stream().map(candidate -> candidate.hostSpec).distinct().count() > 1) {
+        return openConnectionInParallel(candidates, info, socketFactory, sslMode, gssEncMode,
+            targetServerType, timingListener);
+      }
+      hostIter = candidates.iterator();
+    }
     Map<HostSpec, HostStatus> knownStates = new HashMap<>();
     while (hostIter.hasNext()) {
       CandidateHost candidateHost = hostIter.next();
@@ -284,69 +381,21 @@ public class ConnectionFactoryImpl extends ConnectionFactory {
       //
 
       PGStream newStream = null;
+      ConnectionTimer timer = new ConnectionTimer(hostSpec);
       try {
-        try {
-          newStream = tryConnect(info, socketFactory, hostSpec, sslMode, gssEncMode);
-        } catch (SQLException e) {
-          if (sslMode == SslMode.PREFER
-              && PSQLState.INVALID_AUTHORIZATION_SPECIFICATION.getState().equals(e.getSQLState())) {
-            // Try non-SSL connection to cover case like "non-ssl only db"
-            // Note: PREFER allows loss of encryption, so no significant harm is made
-            Throwable ex = null;
-            try {
-              newStream =
-                  tryConnect(info, socketFactory, hostSpec, SslMode.DISABLE, gssEncMode);
-              LOGGER.log(Level.FINE, "Downgraded to non-encrypted connection for host {0}",
-                  hostSpec);
-            } catch (SQLException | IOException ee) {
-              ex = ee;
-            }
-
-            if (ex != null) {
-              log(Level.FINE, "sslMode==PREFER, however non-SSL connection failed as well", ex);
-              // non-SSL failed as well, so re-throw original exception
-              // Add non-SSL exception as suppressed
-              e.addSuppressed(ex);
-              throw e;
-            }
-          } else if (sslMode == SslMode.ALLOW
-              && PSQLState.INVALID_AUTHORIZATION_SPECIFICATION.getState().equals(e.getSQLState())) {
-            // Try using SSL
-            Throwable ex = null;
-            try {
-              newStream =
-                  tryConnect(info, socketFactory, hostSpec, SslMode.REQUIRE, gssEncMode);
-              LOGGER.log(Level.FINE, "Upgraded to encrypted connection for host {0}",
-                  hostSpec);
-            } catch (SQLException ee) {
-              ex = ee;
-            } catch (IOException ee) {
-              ex = ee; // Can't use multi-catch in Java 6 :(
-            }
-            if (ex != null) {
-              log(Level.FINE, "sslMode==ALLOW, however SSL connection failed as well", ex);
-              // non-SSL failed as well, so re-throw original exception
-              // Add SSL exception as suppressed
-              e.addSuppressed(ex);
-              throw e;
-            }
-
-          } else {
-            throw e;
-          }
-        }
+        newStream =
+            tryConnectWithFallback(info, socketFactory, hostSpec, sslMode, gssEncMode, timer);
 
         int cancelSignalTimeout = PGProperty.CANCEL_SIGNAL_TIMEOUT.getInt(info) * 1000;
 
-        // CheckerFramework can't infer newStream is non-nullable
-        castNonNull(newStream);
         // Do final startup.
-        QueryExecutor queryExecutor = new QueryExecutorImpl(newStream, cancelSignalTimeout, info);
+        QueryExecutor queryExecutor =
+            startQueryExecutor(newStream, cancelSignalTimeout, info, timer);
 
         // Check Primary or Secondary
         HostStatus hostStatus = HostStatus.ConnectOK;
         if (candidateHost.targetServerType != HostRequirement.any) {
-          hostStatus = isPrimary(queryExecutor) ? HostStatus.Primary : HostStatus.Secondary;
+          hostStatus = isPrimary(queryExecutor, timer) ? HostStatus.Primary : HostStatus.Secondary;
         }
         GlobalHostStatusTracker.reportHostStatus(hostSpec, hostStatus);
         knownStates.put(hostSpec, hostStatus);
@@ -355,11 +404,13 @@ public class ConnectionFactoryImpl extends ConnectionFactory {
           continue;
         }
 
-        runInitialQueries(queryExecutor, info);
+        runInitialQueries(queryExecutor, info, timer);
 
         // And we're done.
+        reportTimings(timingListener, queryExecutor, timer);
         return queryExecutor;
       } catch (ConnectException cex) {
+        reportFailure(timingListener, timer, cex);
         // Added by Peter Mount <peter@retep.org.uk>
         // ConnectException is thrown when the connection cannot be made.
         // we trap this an return a more meaningful message for the end user
@@ -375,6 +426,7 @@ public class ConnectionFactoryImpl extends ConnectionFactory {
             hostSpec), PSQLState.CONNECTION_UNABLE_TO_CONNECT, cex);
       } catch (IOException ioe) {
         closeStream(newStream);
+        reportFailure(timingListener, timer, ioe);
         GlobalHostStatusTracker.reportHostStatus(hostSpec, HostStatus.ConnectFail);
         knownStates.put(hostSpec, HostStatus.ConnectFail);
         if (hostIter.hasNext()) {
@@ -386,6 +438,7 @@ public class ConnectionFactoryImpl extends ConnectionFactory {
             PSQLState.CONNECTION_UNABLE_TO_CONNECT, ioe);
       } catch (SQLException se) {
         closeStream(newStream);
+        reportFailure(timingListener, timer, se);
         GlobalHostStatusTracker.reportHostStatus(hostSpec, HostStatus.ConnectFail);
         knownStates.put(hostSpec, HostStatus.ConnectFail);
         if (hostIter.hasNext()) {
@@ -401,6 +454,253 @@ public class ConnectionFactoryImpl extends ConnectionFactory {
         PSQLState.CONNECTION_UNABLE_TO_CONNECT);
   }
 
+  /**
+   * Connects to all the candidate hosts at the same time, and keeps the first connection that
+   * satisfies the requirement of the candidates. When the candidates have different requirements,
+   * such as the primary hosts then any host for {@code preferPrimary}, a connection satisfying an
+   * earlier requirement is preferred, and the other connections are closed once established. If
+   * the initial queries fail on the chosen connection, the next suitable connection is used.
+   */
+  private QueryExecutor openConnectionInParallel(List<CandidateHost> candidates, Properties info,
+      SocketFactory socketFactory, SslMode sslMode, GSSEncMode gssEncMode,
+      HostRequirement targetServerType, @Nullable ConnectionTimingListener timingListener)
+      throws SQLException {
+    BlockingQueue<HostSpec> completed = new LinkedBlockingQueue<>();
+    Map<HostSpec, CompletableFuture<HostConnection>> attempts = new LinkedHashMap<>();
+    for (CandidateHost candidate : candidates) {
+      HostSpec hostSpec = candidate.hostSpec;
+      if (attempts.containsKey(hostSpec)) {
+        continue;
+      }
+      boolean checkStatus = candidates.stream().anyMatch(other -> other.hostSpec.equals(hostSpec)
+          && other.targetServerType != HostRequirement.any);
+      CompletableFuture<HostConnection> attempt = CompletableFuture.supplyAsync(() -> {
+        try {
+          return connectToHost(info, socketFactory, hostSpec, sslMode, gssEncMode, checkStatus,
+              timingListener);
+        } catch (SQLException | IOException e) {
+          throw new CompletionException(e);
+        }
+      }, ParallelConnect.EXECUTOR);
+      attempt.whenComplete((connection, e) -> completed.add(hostSpec));
+      attempts.put(hostSpec, attempt);
+    }
+
+    HostConnection chosen = null;
+    SQLException initFailure = null;
+    try {
+      Set<HostSpec> done = new HashSet<>();
+      for (int i = 0; i < candidates.size() && chosen == null; ) {
+        // The consecutive candidates with the same requirement are raced
+        HostRequirement requirement = candidates.get(i).targetServerType;
+        Set<HostSpec> pending = new LinkedHashSet<>();
+        for (; i < candidates.size() && candidates.get(i).targetServerType == requirement; i++) {
+          pending.add(candidates.get(i).hostSpec);
+        }
+        while (chosen == null && !pending.isEmpty()) {
+          for (Iterator<HostSpec> it = pending.iterator(); it.hasNext(); ) {
+            HostSpec hostSpec = it.next();
+            if (done.contains(hostSpec)) {
+              it.remove();
+              CompletableFuture<HostConnection> attempt = castNonNull(attempts.get(hostSpec));
+              if (attempt.isCompletedExceptionally()) {
+                continue;
+              }
+              HostConnection connection = attempt.join();
+              if (!requirement.allowConnectingTo(connection.status)) {
+                continue;
+              }
+              try {
+                runInitialQueries(connection.queryExecutor, info, connection.timer);
+              } catch (SQLException e) {
+                // As when connecting to the hosts one after the other, the next suitable host is
+                // used. The connection is closed with the other ones below
+                reportFailure(timingListener, connection.timer, e);
+                GlobalHostStatusTracker.reportHostStatus(hostSpec, HostStatus.ConnectFail);
+                log(Level.FINE, "SQLException occurred while connecting to {0}", e, hostSpec);
+                if (initFailure != null) {
+                  e.addSuppressed(initFailure);
+                }
+                initFailure = e;
+                continue;
+              }
+              chosen = connection;
+              break;
+            }
+          }
+          if (chosen == null && !pending.isEmpty()) {
+            done.add(completed.take());
+          }
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PSQLException(GT.tr("Interrupted while establishing a connection."),
+          PSQLState.CONNECTION_UNABLE_TO_CONNECT, e);
+    } finally {
+      HostConnection winner = chosen;
+      for (CompletableFuture<HostConnection> attempt : attempts.values()) {
+        attempt.thenAccept(connection -> {
+          if (connection != winner) {
+            connection.queryExecutor.close();
+          }
+        });
+      }
+    }
+
+    if (chosen != null) {
+      reportTimings(timingListener, chosen.queryExecutor, chosen.timer);
+      return chosen.queryExecutor;
+    }
+    if (initFailure != null) {
+      throw initFailure;
+    }
+
+    // Report the failure of the last host, as when connecting to the hosts one after the other
+    Throwable failure = null;
+    HostSpec failedHost = null;
+    for (Map.Entry<HostSpec, CompletableFuture<HostConnection>> entry : attempts.entrySet()) {
+      CompletableFuture<HostConnection> attempt = entry.getValue();
+      if (!attempt.isCompletedExceptionally()) {
+        // At least one host answered, but none of them satisfied the requirement
+        failure = null;
+        break;
+      }
+      try {
+        attempt.join();
+      } catch (CompletionException e) {
+        Throwable cause = e.getCause() != null ? e.getCause() : e;
+        if (failure != null) {
+          cause.addSuppressed(failure);
+        }
+        failure = cause;
+        failedHost = entry.getKey();
+      }
+    }
+    if (failure instanceof SQLException) {
+      throw (SQLException) failure;
+    } else if (failure instanceof ConnectException) {
+      throw new PSQLException(GT.tr(
+          "Connection to {0} refused. Check that the hostname and port are correct and that the postmaster is accepting TCP/IP connections.",
+          failedHost), PSQLState.CONNECTION_UNABLE_TO_CONNECT, failure);
+    } else if (failure != null) {
+      throw new PSQLException(GT.tr("The connection attempt failed."),
+          PSQLState.CONNECTION_UNABLE_TO_CONNECT, failure);
+    }
+    throw new PSQLException(GT
+        .tr("Could not find a server with specified targetServerType: {0}", targetServerType),
+        PSQLState.CONNECTION_UNABLE_TO_CONNECT);
+  }
+
+  /**
+   * Connects to one of the hosts raced by {@link #openConnectionInParallel}, and reports its
+   * status.
+   */
+  private HostConnection connectToHost(Properties info, SocketFactory socketFactory,
+      HostSpec hostSpec, SslMode sslMode, GSSEncMode gssEncMode, boolean checkStatus,
+      @Nullable ConnectionTimingListener timingListener) throws SQLException, IOException {
+    LOGGER.log(Level.FINE, "Trying to establish a protocol version 3 connection to {0}", hostSpec);
+    PGStream newStream = null;
+    ConnectionTimer timer = new ConnectionTimer(hostSpec);
+    try {
+      newStream =
+          tryConnectWithFallback(info, socketFactory, hostSpec, sslMode, gssEncMode, timer);
+      int cancelSignalTimeout = PGProperty.CANCEL_SIGNAL_TIMEOUT.getInt(info) * 1000;
+      QueryExecutor queryExecutor = startQueryExecutor(newStream, cancelSignalTimeout, info, timer);
+      HostStatus hostStatus = HostStatus.ConnectOK;
+      if (checkStatus) {
+        hostStatus = isPrimary(queryExecutor, timer) ? HostStatus.Primary : HostStatus.Secondary;
+      }
+      GlobalHostStatusTracker.reportHostStatus(hostSpec, hostStatus);
+      return new HostConnection(queryExecutor, hostStatus, timer);
+    } catch (SQLException | IOException e) {
+      closeStream(newStream);
+      reportFailure(timingListener, timer, e);
+      GlobalHostStatusTracker.reportHostStatus(hostSpec, HostStatus.ConnectFail);
+      log(Level.FINE, "Failed to connect to {0}", e, hostSpec);
+      throw e;
+    }
+  }
+
+  private static class HostConnection {
+    final QueryExecutor queryExecutor;
+    final HostStatus status;
+    final ConnectionTimer timer;
+
+    HostConnection(QueryExecutor queryExecutor, HostStatus status, ConnectionTimer timer) {
+      this.queryExecutor = queryExecutor;
+      this.status = status;
+      this.timer = timer;
+    }
+  }
+
+  private static @Nullable ConnectionTimingListener createTimingListener(Properties info)
+      throws PSQLException {
+    String className = PGProperty.CONNECTION_TIMING_LISTENER.getOrDefault(info);
+    if (className == null || className.isEmpty()) {
+      return null;
+    }
+    try {
+      return ObjectFactory.instantiate(ConnectionTimingListener.class, className, info, false,
+          null);
+    } catch (Exception e) {
+      throw new PSQLException(
+          GT.tr("Unable to load the ConnectionTimingListener {0}", className),
+          PSQLState.INVALID_PARAMETER_VALUE, e);
+    }
+  }
+
+  /**
+   * Reads the parameters of the session sent by the server once the authentication is done.
+   */
+  private static QueryExecutor startQueryExecutor(PGStream pgStream, int cancelSignalTimeout,
+      Properties info, ConnectionTimer timer) throws SQLException, IOException {
+    timer.begin(Phase.STARTUP);
+    try {
+      return new QueryExecutorImpl(pgStream, cancelSignalTimeout, info);
+    } finally {
+      timer.end(Phase.STARTUP);
+    }
+  }
+
+  private static void reportTimings(@Nullable ConnectionTimingListener timingListener,
+      QueryExecutor queryExecutor, ConnectionTimer timer) {
+    ConnectionTimings timings = timer.getTimings();
+    queryExecutor.setConnectionTimings(timings);
+    if (timingListener != null) {
+      try {
+        timingListener.connectionEstablished(timings);
+      } catch (RuntimeException e) {
+        LOGGER.log(Level.WARNING, "The ConnectionTimingListener failed", e);
+      }
+    }
+  }
+
+  private static void reportFailure(@Nullable ConnectionTimingListener timingListener,
+      ConnectionTimer timer, Throwable failure) {
+    if (timingListener != null) {
+      try {
+        timingListener.connectionFailed(timer.getTimings(), failure);
+      } catch (RuntimeException e) {
+        LOGGER.log(Level.WARNING, "The ConnectionTimingListener failed", e);
+      }
+    }
+  }
+
+  /**
+   * Lazily creates the threads that connect to several hosts in parallel, so that applications
+   * that do not use {@code parallelHostConnect} do not pay for them. When all the threads are busy,
+   * the caller connects by itself.
+   */
+  private static class ParallelConnect {
+    static final ExecutorService EXECUTOR = new ThreadPoolExecutor(0, 64, 30, TimeUnit.SECONDS,
+        new SynchronousQueue<>(), runnable -> {
+          Thread thread = new Thread(runnable, "PostgreSQL-JDBC-ParallelConnect");
+          thread.setDaemon(true);
+          return thread;
+        }, new ThreadPoolExecutor.CallerRunsPolicy());
+  }
+
   private static List<StartupParam> getParametersForStartup(String user, String database, Properties info) {
     List<StartupParam> paramList = new ArrayList<>();
     paramList.add(new StartupParam("user", user));
@@ -483,7 +783,7 @@ public class ConnectionFactoryImpl extends ConnectionFactory {
   }
 
   private static PGStream enableGSSEncrypted(PGStream pgStream, GSSEncMode gssEncMode, String host, Properties info,
-      int connectTimeout)
+      int connectTimeout, ConnectionTimer timer)
       throws IOException, PSQLException {
 
     if ( gssEncMode == GSSEncMode.DISABLE ) {
@@ -495,6 +795,17 @@ public class ConnectionFactoryImpl extends ConnectionFactory {
       return pgStream;
     }
 
+    timer.begin(Phase.GSS_ENCRYPTION);
+    try {
+      return negotiateGSSEncryption(pgStream, gssEncMode, host, info, connectTimeout);
+    } finally {
+      timer.end(Phase.GSS_ENCRYPTION);
+    }
+  }
+
+  private static PGStream negotiateGSSEncryption(PGStream pgStream, GSSEncMode gssEncMode,
+      String host, Properties info, int connectTimeout) throws IOException, PSQLException {
+
     /*
      at this point gssEncMode is either PREFER or REQUIRE
      libpq looks to see if there is a ticket in the cache before asking
@@ -589,7 +900,7 @@ public class ConnectionFactoryImpl extends ConnectionFactory {
   }
 
   private static PGStream enableSSL(PGStream pgStream, SslMode sslMode, Properties info,
-      int connectTimeout)
+      int connectTimeout, ConnectionTimer timer)
       throws IOException, PSQLException {
     if (sslMode == SslMode.DISABLE) {
       return pgStream;
@@ -598,6 +909,17 @@ public class ConnectionFactoryImpl extends ConnectionFactory {
       // Allow ==> start with plaintext, use encryption if required by server
       return pgStream;
     }
+
+    timer.begin(Phase.SSL_HANDSHAKE);
+    try {
+      return negotiateSSL(pgStream, sslMode, info, connectTimeout);
+    } finally {
+      timer.end(Phase.SSL_HANDSHAKE);
+    }
+  }
+
+  private static PGStream negotiateSSL(PGStream pgStream, SslMode sslMode, Properties info,
+      int connectTimeout) throws IOException, PSQLException {
     SslNegotiation sslNegotiation = SslNegotiation.of(Nullness.castNonNull(PGProperty.SSL_NEGOTIATION.getOrDefault(info)));
 
     LOGGER.log(Level.FINEST, () -> String.format(" FE=> SSLRequest %s", sslNegotiation.value()));
@@ -725,7 +1047,8 @@ public class ConnectionFactoryImpl extends ConnectionFactory {
     }
   }
 
-  private static void doAuthentication(PGStream pgStream, String host, String user, Properties info) throws IOException, SQLException {
+  private static void doAuthentication(PGStream pgStream, String host, String user, Properties info,
+      ConnectionTimer timer) throws IOException, SQLException {
     // Now get the response from the backend, either an error message
     // or an authentication request
 
@@ -946,7 +1269,8 @@ public class ConnectionFactoryImpl extends ConnectionFactory {
                             "The server requested SCRAM-based authentication, but the password is an empty string."),
                         PSQLState.CONNECTION_REJECTED);
                   }
-                  return new ScramAuthenticator(password, pgStream, channelBinding);
+                  return new ScramAuthenticator(password, pgStream, channelBinding, timer, user,
+                      ScramKeyCache.getInstance(PGProperty.SCRAM_KEY_CACHE_SIZE.getInt(info)));
                 });
                 scramAuthenticator.handleAuthenticationSASL();
                 break;
@@ -991,6 +1315,16 @@ public class ConnectionFactoryImpl extends ConnectionFactory {
     }
   }
 
+  private static void runInitialQueries(QueryExecutor queryExecutor, Properties info,
+      ConnectionTimer timer) throws SQLException {
+    timer.begin(Phase.INITIAL_QUERIES);
+    try {
+      runInitialQueries(queryExecutor, info);
+    } finally {
+      timer.end(Phase.INITIAL_QUERIES);
+    }
+  }
+
   private static void runInitialQueries(QueryExecutor queryExecutor, Properties info)
       throws SQLException {
 
@@ -1036,6 +1370,7 @@ public class ConnectionFactoryImpl extends ConnectionFactory {
     }
 
     SetupQueryRunner.run(queryExecutor, sb.toString(), false);
+    queryExecutor.getSessionStateTracker().setInitialSettings(sb.toString());
   }
 
   /**
@@ -1068,12 +1403,19 @@ public class ConnectionFactoryImpl extends ConnectionFactory {
    * @see <a href="https://www.postgresql.org/message-id/flat/CAF3%2BxM%2B8-ztOkaV9gHiJ3wfgENTq97QcjXQt%2BrbFQ6F7oNzt9A%40mail.gmail.com">in_hot_standby patch thread v14</a>
    *
    */
-  private static boolean isPrimary(QueryExecutor queryExecutor) throws SQLException, IOException {
+  private static boolean isPrimary(QueryExecutor queryExecutor, ConnectionTimer timer)
+      throws SQLException, IOException {
     String inHotStandby = queryExecutor.getParameterStatus(IN_HOT_STANDBY);
     if ("on".equalsIgnoreCase(inHotStandby)) {
       return false;
     }
-    Tuple results = SetupQueryRunner.run(queryExecutor, "show transaction_read_only", true);
+    Tuple results;
+    timer.begin(Phase.INITIAL_QUERIES);
+    try {
+      results = SetupQueryRunner.run(queryExecutor, "show transaction_read_only", true);
+    } finally {
+      timer.end(Phase.INITIAL_QUERIES);
+    }
     Tuple nonNullResults = castNonNull(results);
     String queriedTransactionReadonly = queryExecutor.getEncoding().decode(castNonNull(nonNullResults.get(0)));
     return "off".equalsIgnoreCase(queriedTransactionReadonly);
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core.v3;
+
+import org.postgresql.core.Field;
+import org.postgresql.core.Query;
+import org.postgresql.core.ResultCursor;
+import org.postgresql.core.ResultHandler;
+import org.postgresql.core.ResultHandlerBase;
+import org.postgresql.core.Tuple;
+import org.postgresql.util.GT;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Routes the results of pipelined queries to the handler of each query.
+ *
+ * <p>The backend answers pipelined queries strictly in order, and every query ends with either a
+ * result set or a command status, so the handlers are consumed as a queue. An error does not end
+ * the current query by itself: client-side errors (e.g. decoding failures) might be followed by the
+ * regular completion of the query, and a backend error makes the backend skip everything up to
+ * the next Sync. The remaining handlers are failed in {@link #handleCompletion()}.</p>
+ *
+ * @see QueryExecutorImpl#executePipelined
+ */
+class PipelineResultHandler extends ResultHandlerBase {
+  private final ArrayDeque<ResultHandler> pending = new ArrayDeque<>();
+  private final List<ResultHandler> answered = new ArrayList<>();
+  private @Nullable SQLException failure;
+
+  void add(ResultHandler handler) {
+    pending.add(handler);
+  }
+
+  boolean isEmpty() {
+    return pending.isEmpty() && answered.isEmpty();
+  }
+
+  @Override
+  public void handleResultRows(Query fromQuery, Field[] fields, List<Tuple> tuples,
+      @Nullable ResultCursor cursor) {
+    ResultHandler handler = pending.pollFirst();
+    if (handler == null) {
+      super.handleError(new PSQLException(
+          GT.tr("Received a result for a query that was not pipelined."),
+          PSQLState.PROTOCOL_VIOLATION));
+      return;
+    }
+    handler.handleResultRows(fromQuery, fields, tuples, cursor);
+    answered.add(handler);
+  }
+
+  @Override
+  public void handleCommandStatus(String status, long updateCount, long insertOID) {
+    ResultHandler handler = pending.pollFirst();
+    if (handler == null) {
+      super.handleError(new PSQLException(
+          GT.tr("Unexpected command status: {0}.", status),
+          PSQLState.PROTOCOL_VIOLATION));
+      return;
+    }
+    handler.handleCommandStatus(status, updateCount, insertOID);
+    answered.add(handler);
+  }
+
+  @Override
+  public void handleWarning(SQLWarning warning) {
+    ResultHandler handler = pending.peekFirst();
+    if (handler == null) {
+      super.handleWarning(warning);
+      return;
+    }
+    handler.handleWarning(warning);
+  }
+
+  @Override
+  public void handleError(SQLException error) {
+    if (failure == null) {
+      failure = error;
+    }
+    ResultHandler handler = pending.peekFirst();
+    if (handler == null) {
+      super.handleError(error);
+      return;
+    }
+    handler.handleError(error);
+  }
+
+  /**
+   * Fails the handlers that did not receive results and completes every handler in the pipeline
+   * order. Exceptions thrown by the handlers are rethrown once all of them are completed.
+   *
+   * @throws SQLException if a handler or the pipeline itself failed
+   */
+  @Override
+  public void handleCompletion() throws SQLException {
+    for (ResultHandler handler : pending) {
+      if (handler.getException() == null) {
+        handler.handleError(new PSQLException(
+            GT.tr("The statement was not executed because a previous statement in the pipeline failed."),
+            PSQLState.IN_FAILED_SQL_TRANSACTION, failure));
+      }
+    }
+    answered.addAll(pending);
+    pending.clear();
+    for (ResultHandler handler : answered) {
+      try {
+        handler.handleCompletion();
+      } catch (SQLException e) {
+        super.handleError(e);
+      }
+    }
+    answered.clear();
+    super.handleCompletion();
+  }
+}
@@ -7,11 +7,14 @@
 package org.postgresql.core.v3;
 
 import org.postgresql.core.ResultCursor;
+import org.postgresql.core.Tuple;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.lang.ref.PhantomReference;
 import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.List;
 
 /**
  * V3 ResultCursor implementation in terms of backend Portals. This holds the state of a single
@@ -28,6 +31,7 @@ class Portal implements ResultCursor {
 
   @Override
   public void close() {
+    closed = true;
     PhantomReference<?> cleanupRef = this.cleanupRef;
     if (cleanupRef != null) {
       cleanupRef.clear();
@@ -40,6 +44,36 @@ class Portal implements ResultCursor {
     return portalName;
   }
 
+  /**
+   * Tells whether this is the unnamed portal of a query whose rows are fetched in chunks, see
+   * {@link org.postgresql.core.QueryExecutor#QUERY_CHUNKED_RESULTS}.
+   */
+  boolean isUnnamed() {
+    return portalName.isEmpty();
+  }
+
+  boolean isClosed() {
+    return closed;
+  }
+
+  /**
+   * Keeps the rows of a chunked portal that were read ahead because the connection was needed by
+   * another statement, so the next fetch returns them.
+   */
+  void setRemainingRows(@Nullable List<Tuple> remainingRows,
+      @Nullable SQLException remainingError) {
+    this.remainingRows = remainingRows;
+    this.remainingError = remainingError;
+  }
+
+  @Nullable List<Tuple> getRemainingRows() {
+    return remainingRows;
+  }
+
+  @Nullable SQLException getRemainingError() {
+    return remainingError;
+  }
+
   byte[] getEncodedPortalName() {
     return encodedName;
   }
@@ -67,4 +101,7 @@ class Portal implements ResultCursor {
   private final String portalName;
   private final byte[] encodedName;
   private @Nullable PhantomReference<?> cleanupRef;
+  private boolean closed;
+  private @Nullable List<Tuple> remainingRows;
+  private @Nullable SQLException remainingError;
 }
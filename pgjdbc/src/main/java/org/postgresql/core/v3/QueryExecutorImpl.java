@@ -12,6 +12,7 @@ import org.postgresql.PGProperty;
 import org.postgresql.copy.CopyIn;
 import org.postgresql.copy.CopyOperation;
 import org.postgresql.copy.CopyOut;
+import org.postgresql.core.ColumnarRows;
 import org.postgresql.core.CommandCompleteParser;
 import org.postgresql.core.Encoding;
 import org.postgresql.core.EncodingPredictor;
@@ -173,9 +174,14 @@ public class QueryExecutorImpl extends QueryExecutorBase {
 
     this.allowEncodingChanges = PGProperty.ALLOW_ENCODING_CHANGES.getBoolean(info);
     this.cleanupSavePoints = PGProperty.CLEANUP_SAVEPOINTS.getBoolean(info);
+    this.columnarResults = PGProperty.COLUMNAR_RESULTS.getBoolean(info);
+    this.chunkedResults = PGProperty.CHUNKED_RESULTS.getBoolean(info);
     // assignment, argument
     this.replicationProtocol = new V3ReplicationProtocol(this, pgStream);
     readStartupMessages();
+    if (PGProperty.CONCURRENT_BATCH_WRITES.getBoolean(info) && !pgStream.enableConcurrentWrite()) {
+      LOGGER.log(Level.FINE, "Concurrent batch writes are not supported with GSS encryption");
+    }
   }
 
   @Override
@@ -336,6 +342,7 @@ public class QueryExecutorImpl extends QueryExecutorBase {
       int maxRows, int fetchSize, int flags, boolean adaptiveFetch) throws SQLException {
     try (ResourceLock ignore = lock.obtain()) {
       waitOnLock();
+      syncPendingPipeline();
       if (LOGGER.isLoggable(Level.FINEST)) {
         LOGGER.log(Level.FINEST, "  simple execute, handler={0}, maxRows={1}, fetchSize={2}, flags={3}",
             new Object[]{handler, maxRows, fetchSize, flags});
@@ -361,9 +368,17 @@ public class QueryExecutorImpl extends QueryExecutorBase {
         try {
           handler = sendQueryPreamble(handler, flags);
           autosave = sendAutomaticSavepoint(query, flags);
+          if ((flags & QueryExecutor.QUERY_CHUNKED_RESULTS) != 0
+              && !canFetchInChunks(query, fetchSize, flags, autosave)) {
+            // Without a transaction, a portal would not survive the Sync
+            flags &= ~(QueryExecutor.QUERY_CHUNKED_RESULTS | QueryExecutor.QUERY_FORWARD_CURSOR);
+          }
           sendQuery(query, (V3ParameterList) parameters, maxRows, fetchSize, flags,
               handler, null, adaptiveFetch);
-          if ((flags & QueryExecutor.QUERY_EXECUTE_AS_SIMPLE) != 0) {
+          if ((flags & QueryExecutor.QUERY_CHUNKED_RESULTS) != 0) {
+            // The Sync is sent by processResults once the last row is read, see chunkedPortal
+            sendFlush();
+          } else if ((flags & QueryExecutor.QUERY_EXECUTE_AS_SIMPLE) != 0) {
             // Sync message is not required for 'Q' execution as 'Q' ends with ReadyForQuery message
             // on its own
           } else {
@@ -387,7 +402,7 @@ public class QueryExecutorImpl extends QueryExecutorBase {
           // transaction in progress?
           //
           sendSync();
-          processResults(handler, flags, adaptiveFetch);
+          processResults(handler, flags & ~QueryExecutor.QUERY_CHUNKED_RESULTS, adaptiveFetch);
           estimatedReceiveBufferBytes = 0;
           handler
               .handleError(new PSQLException(GT.tr("Unable to bind parameter values for statement."),
@@ -411,6 +426,17 @@ public class QueryExecutorImpl extends QueryExecutorBase {
     }
   }
 
+  /**
+   * Tells whether the rows of a query can be fetched in chunks from the unnamed portal, see
+   * {@link QueryExecutor#QUERY_CHUNKED_RESULTS}.
+   */
+  private boolean canFetchInChunks(Query query, int fetchSize, int flags, boolean autosave) {
+    return chunkedResults && !autosave && fetchSize > 0 && query.getSubqueries() == null
+        && (flags & QueryExecutor.QUERY_FORWARD_CURSOR) != 0
+        && (flags & (QueryExecutor.QUERY_EXECUTE_AS_SIMPLE | QueryExecutor.QUERY_DESCRIBE_ONLY
+            | QueryExecutor.QUERY_NO_RESULTS | QueryExecutor.QUERY_NO_METADATA)) == 0;
+  }
+
   private boolean sendAutomaticSavepoint(Query query, int flags) throws IOException {
     if (((flags & QueryExecutor.QUERY_SUPPRESS_BEGIN) == 0
         || getTransactionState() == TransactionState.OPEN)
@@ -510,6 +536,10 @@ public class QueryExecutorImpl extends QueryExecutorBase {
   //
   // See github issue #194 and #195 .
   //
+  // The concurrentBatchWrites connection property avoids the problem altogether: batches and
+  // pipelined queries are then sent by a background thread while this thread reads the results,
+  // see PGStream#startConcurrentWrite.
+  //
   // Assume 64k server->client buffering, which is extremely conservative. A typical
   // system will have 200kb or more of buffers for its receive buffers, and the sending
   // system will typically have the same on the send side, giving us 400kb or to work
@@ -532,6 +562,7 @@ public class QueryExecutorImpl extends QueryExecutorBase {
       throws SQLException {
     try (ResourceLock ignore = lock.obtain()) {
       waitOnLock();
+      syncPendingPipeline();
       if (LOGGER.isLoggable(Level.FINEST)) {
         LOGGER.log(Level.FINEST, "  batch execute {0} queries, handler={1}, maxRows={2}, fetchSize={3}, flags={4}",
             new Object[]{queries.length, batchHandler, maxRows, fetchSize, flags});
@@ -552,33 +583,38 @@ public class QueryExecutorImpl extends QueryExecutorBase {
       boolean autosave = false;
       ResultHandler handler = batchHandler;
       try {
-        handler = sendQueryPreamble(batchHandler, flags);
-        autosave = sendAutomaticSavepoint(queries[0], flags);
-        estimatedReceiveBufferBytes = 0;
+        concurrentWrite = pgStream.startConcurrentWrite();
+        try {
+          handler = sendQueryPreamble(batchHandler, flags);
+          autosave = sendAutomaticSavepoint(queries[0], flags);
+          estimatedReceiveBufferBytes = 0;
 
-        for (int i = 0; i < queries.length; i++) {
-          Query query = queries[i];
-          V3ParameterList parameters = (V3ParameterList) parameterLists[i];
-          if (parameters == null) {
-            parameters = SimpleQuery.NO_PARAMETERS;
-          }
+          for (int i = 0; i < queries.length; i++) {
+            Query query = queries[i];
+            V3ParameterList parameters = (V3ParameterList) parameterLists[i];
+            if (parameters == null) {
+              parameters = SimpleQuery.NO_PARAMETERS;
+            }
 
-          sendQuery(query, parameters, maxRows, fetchSize, flags, handler, batchHandler, adaptiveFetch);
+            sendQuery(query, parameters, maxRows, fetchSize, flags, handler, batchHandler, adaptiveFetch);
 
-          if (handler.getException() != null) {
-            break;
+            if (handler.getException() != null) {
+              break;
+            }
           }
-        }
 
-        if (handler.getException() == null) {
-          if ((flags & QueryExecutor.QUERY_EXECUTE_AS_SIMPLE) != 0) {
-            // Sync message is not required for 'Q' execution as 'Q' ends with ReadyForQuery message
-            // on its own
-          } else {
-            sendSync();
+          if (handler.getException() == null) {
+            if ((flags & QueryExecutor.QUERY_EXECUTE_AS_SIMPLE) != 0) {
+              // Sync message is not required for 'Q' execution as 'Q' ends with ReadyForQuery message
+              // on its own
+            } else {
+              sendSync();
+            }
+            processResults(handler, flags, adaptiveFetch);
+            estimatedReceiveBufferBytes = 0;
           }
-          processResults(handler, flags, adaptiveFetch);
-          estimatedReceiveBufferBytes = 0;
+        } finally {
+          finishConcurrentWrite();
         }
       } catch (IOException e) {
         abort();
@@ -598,6 +634,266 @@ public class QueryExecutorImpl extends QueryExecutorBase {
     }
   }
 
+  @Override
+  public void executePipelined(Query query, @Nullable ParameterList parameters,
+      ResultHandler handler, int maxRows, int flags) throws SQLException {
+    try (ResourceLock ignore = lock.obtain()) {
+      waitOnLock();
+      if (LOGGER.isLoggable(Level.FINEST)) {
+        LOGGER.log(Level.FINEST, "  pipelined execute, handler={0}, maxRows={1}, flags={2}",
+            new Object[]{handler, maxRows, flags});
+      }
+      syncChunkedPortal();
+
+      if (parameters == null) {
+        parameters = SimpleQuery.NO_PARAMETERS;
+      }
+
+      flags = updateQueryMode(flags);
+      // Pipelined results are not processed until the sync point, so cursors are of no use
+      flags &= ~(QueryExecutor.QUERY_FORWARD_CURSOR | QueryExecutor.QUERY_CHUNKED_RESULTS);
+
+      if ((flags & (QueryExecutor.QUERY_EXECUTE_AS_SIMPLE | QueryExecutor.QUERY_DESCRIBE_ONLY)) != 0
+          || query.getSubqueries() != null) {
+        throw new PSQLException(
+            GT.tr("Only single statements executed with the extended query protocol can be pipelined."),
+            PSQLState.NOT_IMPLEMENTED);
+      }
+
+      ((V3ParameterList) parameters).convertFunctionOutParameters();
+      ((V3ParameterList) parameters).checkAllParametersSet();
+
+      SimpleQuery simpleQuery = (SimpleQuery) query;
+      try {
+        PipelineResultHandler pipeline = this.pipeline;
+        boolean pending = pipeline != null || !syncedPipelines.isEmpty();
+        if (pending && !concurrentWrite
+            && (!estimateResponseSize(simpleQuery)
+                || estimatedReceiveBufferBytes >= MAX_BUFFERED_RECV_BYTES)) {
+          // Same deadlock avoidance as for batches, see MAX_BUFFERED_RECV_BYTES
+          LOGGER.log(Level.FINEST, "Forcing pipeline Sync, receive buffer full or batching disallowed");
+          processPipeline();
+          pipeline = null;
+          pending = false;
+        }
+        if (pipeline == null) {
+          pipeline = new PipelineResultHandler();
+          if (!pending) {
+            concurrentWrite = pgStream.startConcurrentWrite();
+            estimatedReceiveBufferBytes = 0;
+            estimateResponseSize(simpleQuery);
+          }
+          // The transaction state is only known once the results are read, so the BEGIN sent
+          // by a previous segment must not be sent again
+          ResultHandler pipelineHandler = sendQueryPreamble(pipeline,
+              pipelineBegin ? flags | QueryExecutor.QUERY_SUPPRESS_BEGIN : flags);
+          pipelineBegin |= pipelineHandler != pipeline;
+          this.pipelineHandler = pipelineHandler;
+          this.pipeline = pipeline;
+        }
+
+        try {
+          sendOneQuery(simpleQuery, (SimpleParameterList) parameters, maxRows, 0, flags);
+          pipeline.add(handler);
+          if ((flags & QueryExecutor.QUERY_PIPELINE_SYNC) != 0) {
+            sendSync();
+            syncedPipelines.add(new PipelineSegment(pipeline, castNonNull(pipelineHandler)));
+            this.pipeline = null;
+            this.pipelineHandler = null;
+          }
+        } catch (PGBindException se) {
+          // See execute(): the Execute message is not sent, so settle the pipeline and report
+          // the failure to this query only
+          processPipeline();
+          handler.handleError(
+              new PSQLException(GT.tr("Unable to bind parameter values for statement."),
+                  PSQLState.INVALID_PARAMETER_VALUE, se.getIOException()));
+          handler.handleCompletion();
+        }
+      } catch (IOException e) {
+        abort();
+        PSQLException error =
+            new PSQLException(GT.tr("An I/O error occurred while sending to the backend."),
+                PSQLState.CONNECTION_FAILURE, e);
+        PipelineResultHandler pipeline = this.pipeline;
+        if (pipeline != null) {
+          syncedPipelines.add(new PipelineSegment(pipeline, castNonNull(pipelineHandler)));
+          this.pipeline = null;
+          this.pipelineHandler = null;
+        }
+        try {
+          failPipelines(new ArrayList<>(), error);
+        } finally {
+          handler.handleError(error);
+          handler.handleCompletion();
+        }
+      }
+    }
+  }
+
+  @Override
+  public void syncPipeline() throws SQLException {
+    try (ResourceLock ignore = lock.obtain()) {
+      waitOnLock();
+      syncPendingPipeline();
+    }
+  }
+
+  /**
+   * Processes the results of pipelined queries, if any. Every method that talks to the backend
+   * must call this first so pipelined results are consumed in order. This also ends the chunked
+   * fetch in progress, if any, see {@link #syncChunkedPortal()}.
+   */
+  private void syncPendingPipeline() throws SQLException {
+    syncChunkedPortal();
+    if (pipeline == null && syncedPipelines.isEmpty()) {
+      return;
+    }
+    try {
+      processPipeline();
+    } catch (IOException e) {
+      abort();
+      throw new PSQLException(GT.tr("An I/O error occurred while sending to the backend."),
+          PSQLState.CONNECTION_FAILURE, e);
+    }
+  }
+
+  /**
+   * Ends the implicit transaction that holds the chunked portal, if any, so that the connection
+   * can be used by another statement. Unless its result set was closed, the remaining rows of the
+   * portal are read first and kept for its next fetch.
+   */
+  private void syncChunkedPortal() throws SQLException {
+    Portal portal = chunkedPortal;
+    if (portal == null) {
+      return;
+    }
+    chunkedPortal = null;
+    LOGGER.log(Level.FINEST, "Reading the remaining rows of a chunked portal");
+    ResultHandlerBase handler = new ResultHandlerBase() {
+      @Override
+      public void handleResultRows(Query fromQuery, Field[] fields, List<Tuple> tuples,
+          @Nullable ResultCursor cursor) {
+        portal.setRemainingRows(tuples, null);
+      }
+    };
+    try {
+      if (!portal.isClosed()) {
+        sendExecute(castNonNull(portal.getQuery()), portal, 0);
+      }
+      sendSync();
+      processResults(handler, 0);
+      estimatedReceiveBufferBytes = 0;
+    } catch (IOException e) {
+      abort();
+      throw new PSQLException(GT.tr("An I/O error occurred while sending to the backend."),
+          PSQLState.CONNECTION_FAILURE, e);
+    }
+    SQLException error = handler.getException();
+    if (error != null) {
+      portal.setRemainingRows(portal.getRemainingRows(), error);
+    }
+  }
+
+  /**
+   * Ends the implicit transaction of a chunked fetch once its last row is read.
+   */
+  private void endChunkedExecution() throws IOException {
+    chunkedPortal = null;
+    sendSync();
+  }
+
+  /**
+   * Ends the pending pipeline segment with a Sync, if any, and reads the results of all the
+   * segments. The handlers are completed once all the results are read.
+   */
+  private void processPipeline() throws IOException, SQLException {
+    List<PipelineSegment> segments = new ArrayList<>(syncedPipelines.size() + 1);
+    try {
+      try {
+        PipelineResultHandler pipeline = this.pipeline;
+        if (pipeline != null) {
+          syncedPipelines.add(new PipelineSegment(pipeline, castNonNull(pipelineHandler)));
+          this.pipeline = null;
+          this.pipelineHandler = null;
+          sendSync();
+        }
+        PipelineSegment segment;
+        while ((segment = syncedPipelines.peekFirst()) != null) {
+          processResults(segment.handler, 0);
+          segments.add(syncedPipelines.removeFirst());
+        }
+        estimatedReceiveBufferBytes = 0;
+        pipelineBegin = false;
+      } finally {
+        finishConcurrentWrite();
+      }
+    } catch (IOException e) {
+      try {
+        failPipelines(segments,
+            new PSQLException(GT.tr("An I/O error occurred while sending to the backend."),
+                PSQLState.CONNECTION_FAILURE, e));
+      } catch (SQLException se) {
+        e.addSuppressed(se);
+      }
+      throw e;
+    }
+    completePipelines(segments);
+  }
+
+  /**
+   * Completes the handlers of pipeline segments whose results were read.
+   *
+   * @throws SQLException the first exception thrown by the handlers
+   */
+  private static void completePipelines(List<PipelineSegment> segments) throws SQLException {
+    SQLException failure = null;
+    for (PipelineSegment segment : segments) {
+      try {
+        segment.pipeline.handleCompletion();
+      } catch (SQLException e) {
+        if (failure == null) {
+          failure = e;
+        } else {
+          failure.setNextException(e);
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
+  /**
+   * Fails the handlers of the pipeline segments whose results cannot be read, and completes them
+   * after the segments whose results were read.
+   *
+   * @param segments the segments whose results were read
+   * @param error the cause of the failure
+   * @throws SQLException the first exception thrown by the handlers
+   */
+  private void failPipelines(List<PipelineSegment> segments, SQLException error)
+      throws SQLException {
+    for (PipelineSegment segment : syncedPipelines) {
+      segment.handler.handleError(error);
+      segments.add(segment);
+    }
+    syncedPipelines.clear();
+    pipelineBegin = false;
+    completePipelines(segments);
+  }
+
+  /**
+   * Waits for the background thread to send the messages written since
+   * {@link PGStream#startConcurrentWrite()}, if concurrent writes were started.
+   */
+  private void finishConcurrentWrite() throws IOException {
+    if (concurrentWrite) {
+      concurrentWrite = false;
+      pgStream.finishConcurrentWrite();
+    }
+  }
+
   private ResultHandler sendQueryPreamble(final ResultHandler delegateHandler, int flags)
       throws IOException {
     // First, send CloseStatements for finalized SimpleQueries that had statement names assigned.
@@ -661,6 +957,7 @@ public class QueryExecutorImpl extends QueryExecutorBase {
       throws SQLException {
     try (ResourceLock ignore = lock.obtain()) {
       waitOnLock();
+      syncPendingPipeline();
       if (!suppressBegin) {
         doSubprotocolBegin();
       }
@@ -790,6 +1087,7 @@ public class QueryExecutorImpl extends QueryExecutorBase {
   public void processNotifies(int timeoutMillis) throws SQLException {
     try (ResourceLock ignore = lock.obtain()) {
       waitOnLock();
+      syncPendingPipeline();
       // Asynchronous notifies only arrive when we are not in a transaction
       if (getTransactionState() != TransactionState.IDLE) {
         return;
@@ -964,6 +1262,7 @@ public class QueryExecutorImpl extends QueryExecutorBase {
       throws SQLException {
     try (ResourceLock ignore = lock.obtain()) {
       waitOnLock();
+      syncPendingPipeline();
       if (!suppressBegin) {
         doSubprotocolBegin();
       }
@@ -1456,21 +1755,17 @@ public class QueryExecutorImpl extends QueryExecutorBase {
     }
   }
 
-  /*
-   * To prevent client/server protocol deadlocks, we try to manage the estimated recv buffer size
-   * and force a sync +flush and process results if we think it might be getting too full.
+  /**
+   * Adds the expected response size of the given query to {@code estimatedReceiveBufferBytes}.
    *
-   * See the comments above MAX_BUFFERED_RECV_BYTES's declaration for details.
+   * @param sq query that is about to be sent
+   * @return false if the response size is unbounded, so the query should not be batched
    */
-  private void flushIfDeadlockRisk(Query query, boolean disallowBatching,
-      ResultHandler resultHandler,
-      @Nullable BatchResultHandler batchHandler,
-      final int flags) throws IOException {
+  private boolean estimateResponseSize(SimpleQuery sq) {
     // Assume all statements need at least this much reply buffer space,
     // plus params
     estimatedReceiveBufferBytes += NODATA_QUERY_RESPONSE_SIZE_BYTES;
 
-    SimpleQuery sq = (SimpleQuery) query;
     if (sq.isStatementDescribed()) {
       /*
        * Estimate the response size of the fields and add it to the expected response size.
@@ -1485,7 +1780,7 @@ public class QueryExecutorImpl extends QueryExecutorBase {
       } else {
         LOGGER.log(Level.FINEST, "Couldn't estimate result size or result size unbounded, "
             + "disabling batching for this query.");
-        disallowBatching = true;
+        return false;
       }
     } else {
       /*
@@ -1495,6 +1790,27 @@ public class QueryExecutorImpl extends QueryExecutorBase {
        * NODATA_QUERY_RESPONSE_SIZE_BYTES is enough to cover it.
        */
     }
+    return true;
+  }
+
+  /*
+   * To prevent client/server protocol deadlocks, we try to manage the estimated recv buffer size
+   * and force a sync +flush and process results if we think it might be getting too full.
+   *
+   * See the comments above MAX_BUFFERED_RECV_BYTES's declaration for details.
+   */
+  private void flushIfDeadlockRisk(Query query, boolean disallowBatching,
+      ResultHandler resultHandler,
+      @Nullable BatchResultHandler batchHandler,
+      final int flags) throws IOException {
+    if (concurrentWrite && !disallowBatching) {
+      // The responses are read while a background thread sends the queries, so the buffers
+      // cannot fill up on both sides
+      return;
+    }
+    if (!estimateResponseSize((SimpleQuery) query)) {
+      disallowBatching = true;
+    }
 
     if (disallowBatching || estimatedReceiveBufferBytes >= MAX_BUFFERED_RECV_BYTES) {
       LOGGER.log(Level.FINEST, "Forcing Sync, receive buffer full or batching disallowed");
@@ -1577,6 +1893,14 @@ public class QueryExecutorImpl extends QueryExecutorBase {
     pendingDescribePortalQueue.add(sync);
   }
 
+  private void sendFlush() throws IOException {
+    LOGGER.log(Level.FINEST, " FE=> Flush");
+
+    pgStream.sendChar(PgMessageType.FLUSH_REQ); // Flush
+    pgStream.sendInteger4(4); // Length
+    pgStream.flush();
+  }
+
   private void sendParse(SimpleQuery query, SimpleParameterList params, boolean oneShot)
       throws IOException {
     // Already parsed, or we have a Parse pending and the types are right?
@@ -2013,7 +2337,9 @@ public class QueryExecutorImpl extends QueryExecutorBase {
 
     // Construct a new portal if needed.
     Portal portal = null;
-    if (usePortal) {
+    if (usePortal && (flags & QueryExecutor.QUERY_CHUNKED_RESULTS) != 0) {
+      portal = new Portal(query, "");
+    } else if (usePortal) {
       String portalName = "C_" + (nextUniqueID++);
       portal = new Portal(query, portalName);
     }
@@ -2130,7 +2456,7 @@ public class QueryExecutorImpl extends QueryExecutorBase {
   private static final Portal UNNAMED_PORTAL = new Portal(null, "unnamed");
 
   private void registerOpenPortal(Portal portal) {
-    if (portal == UNNAMED_PORTAL) {
+    if (portal == UNNAMED_PORTAL || portal.isUnnamed()) {
       return; // Using the unnamed portal.
     }
 
@@ -2154,12 +2480,53 @@ public class QueryExecutorImpl extends QueryExecutorBase {
     processResults(handler, flags, false);
   }
 
+  /**
+   * Creates the columnar storage for the rows of the query being executed, when its row
+   * description was received before the Execute.
+   */
+  private @Nullable ColumnarRows createColumnarRows() {
+    ExecuteRequest executeData = pendingExecuteQueue.peekFirst();
+    Field[] fields = executeData == null ? null : executeData.query.getFields();
+    return fields == null ? null : ColumnarRows.create(fields);
+  }
+
+  /**
+   * Passes a DataRow message to a handler that processes the rows as they are received, see
+   * {@link ResultHandler#isStreamingRows()}.
+   */
+  private void streamRow(ResultHandler handler) throws IOException {
+    Tuple tuple;
+    try {
+      tuple = pgStream.receiveTransientTupleV3();
+    } catch (OutOfMemoryError oome) {
+      handler.handleError(
+          new PSQLException(GT.tr("Ran out of memory retrieving query results."),
+              PSQLState.OUT_OF_MEMORY, oome));
+      return;
+    }
+    ExecuteRequest executeData = pendingExecuteQueue.peekFirst();
+    Field[] fields = executeData == null ? null : executeData.query.getFields();
+    if (executeData == null || fields == null) {
+      throw new IllegalStateException(
+          "Received resultset tuples, but no field structure for them");
+    }
+    if (LOGGER.isLoggable(Level.FINEST)) {
+      LOGGER.log(Level.FINEST, " <=BE DataRow(len={0})", tuple.length());
+    }
+    handler.handleRow(executeData.query, fields, tuple);
+  }
+
   protected void processResults(ResultHandler handler, int flags, boolean adaptiveFetch)
       throws IOException {
     boolean noResults = (flags & QueryExecutor.QUERY_NO_RESULTS) != 0;
     boolean bothRowsAndStatus = (flags & QueryExecutor.QUERY_BOTH_ROWS_AND_STATUS) != 0;
+    boolean streamRows = !noResults && handler.isStreamingRows();
+    // True until the end of the Execute of a chunked fetch, see chunkedPortal
+    boolean chunked = (flags & QueryExecutor.QUERY_CHUNKED_RESULTS) != 0;
 
     List<Tuple> tuples = null;
+    // Storage of the fixed-width binary columns of tuples, when columnarResults is enabled
+    ColumnarRows columnarRows = null;
 
     int c;
     boolean endQuery = false;
@@ -2289,10 +2656,21 @@ public class QueryExecutorImpl extends QueryExecutorBase {
             handler.handleResultRows(currentQuery, fields, tuples, currentPortal);
           }
           tuples = null;
+
+          if (chunked) {
+            // The backend waits for the next Execute of the portal, see fetch()
+            chunkedPortal = currentPortal;
+            pgStream.clearResultBufferCount();
+            endQuery = true;
+          }
           break;
         }
 
         case PgMessageType.COMMAND_COMPLETE_RESPONSE: { // end of Execute
+          if (chunked) {
+            chunked = false;
+            endChunkedExecution();
+          }
           // Handle status.
           String status = receiveCommandStatus();
           if (isFlushCacheOnDeallocate()
@@ -2317,7 +2695,8 @@ public class QueryExecutorImpl extends QueryExecutorBase {
           }
           pgStream.clearMaxRowSizeBytes();
 
-          if (status.startsWith("SET")) {
+          sessionStateTracker.onCommandStatus(status, currentQuery.getNativeQuery());
+          if (status.startsWith("SET") || status.startsWith("RESET")) {
             String nativeSql = currentQuery.getNativeQuery().nativeSql;
             // Scan only the first 1024 characters to
             // avoid big overhead for long queries.
@@ -2383,6 +2762,10 @@ public class QueryExecutorImpl extends QueryExecutorBase {
         }
 
         case PgMessageType.DATA_ROW_RESPONSE: // Data Transfer (ongoing Execute response)
+          if (streamRows) {
+            streamRow(handler);
+            break;
+          }
           Tuple tuple = null;
           try {
             tuple = pgStream.receiveTupleV3();
@@ -2398,8 +2781,12 @@ public class QueryExecutorImpl extends QueryExecutorBase {
           if (!noResults) {
             if (tuples == null) {
               tuples = new ArrayList<>();
+              columnarRows = columnarResults ? createColumnarRows() : null;
             }
             if (tuple != null) {
+              if (columnarRows != null) {
+                tuple = columnarRows.add(tuple);
+              }
               tuples.add(tuple);
             }
           }
@@ -2418,6 +2805,10 @@ public class QueryExecutorImpl extends QueryExecutorBase {
 
         case PgMessageType.ERROR_RESPONSE:
           // Error Response (response to pretty much everything; backend then skips until Sync)
+          if (chunked) {
+            chunked = false;
+            endChunkedExecution();
+          }
           SQLException error = receiveErrorResponse();
           handler.handleError(error);
           if (willHealViaReparse(error)) {
@@ -2435,6 +2826,10 @@ public class QueryExecutorImpl extends QueryExecutorBase {
 
         case PgMessageType.EMPTY_QUERY_RESPONSE: { // Empty Query (end of Execute)
           pgStream.receiveInteger4();
+          if (chunked) {
+            chunked = false;
+            endChunkedExecution();
+          }
 
           LOGGER.log(Level.FINEST, " <=BE EmptyQuery");
 
@@ -2464,6 +2859,7 @@ public class QueryExecutorImpl extends QueryExecutorBase {
         case PgMessageType.ROW_DESCRIPTION_RESPONSE: // response to Describe
           Field[] fields = receiveFields();
           tuples = new ArrayList<>();
+          columnarRows = columnarResults ? ColumnarRows.create(fields) : null;
 
           SimpleQuery query = castNonNull(pendingDescribePortalQueue.peekFirst());
           if (!pendingExecuteQueue.isEmpty()
@@ -2546,6 +2942,8 @@ public class QueryExecutorImpl extends QueryExecutorBase {
           pgStream.send(buf);
           pgStream.sendChar(0);
           pgStream.flush();
+          chunked = false;
+          chunkedPortal = null;
           sendSync(); // send sync message
           skipMessage(); // skip the response message
           break;
@@ -2597,6 +2995,10 @@ public class QueryExecutorImpl extends QueryExecutorBase {
     try (ResourceLock ignore = lock.obtain()) {
       waitOnLock();
       final Portal portal = (Portal) cursor;
+      boolean chunked = portal == chunkedPortal;
+      if (!chunked) {
+        syncPendingPipeline();
+      }
 
       // Insert a ResultHandler that turns bare command statuses into empty datasets
       // (if the fetch returns no rows, we see just a CommandStatus..)
@@ -2609,16 +3011,41 @@ public class QueryExecutorImpl extends QueryExecutorBase {
         }
       };
 
+      if (portal.isUnnamed() && !chunked) {
+        // The remaining rows were read when the connection was used by another statement
+        List<Tuple> rows = portal.getRemainingRows();
+        Field[] fields = query.getFields();
+        SQLException error = portal.getRemainingError();
+        portal.setRemainingRows(null, null);
+        if (rows != null && fields != null) {
+          handler.handleResultRows(query, fields, rows, null);
+        } else {
+          handler.handleResultRows(query, NO_FIELDS, new ArrayList<>(), null);
+        }
+        if (error != null) {
+          handler.handleError(error);
+        }
+        handler.handleCompletion();
+        return;
+      }
+
       // Now actually run it.
 
       try {
-        processDeadParsedQueries();
-        processDeadPortals();
-
-        sendExecute(query, portal, fetchSize);
-        sendSync();
+        if (chunked) {
+          // The portal lives until the Sync, which is sent once its last row is read
+          chunkedPortal = null;
+          sendExecute(query, portal, fetchSize);
+          sendFlush();
+          processResults(handler, QueryExecutor.QUERY_CHUNKED_RESULTS, adaptiveFetch);
+        } else {
+          processDeadParsedQueries();
+          processDeadPortals();
 
-        processResults(handler, 0, adaptiveFetch);
+          sendExecute(query, portal, fetchSize);
+          sendSync();
+          processResults(handler, 0, adaptiveFetch);
+        }
         estimatedReceiveBufferBytes = 0;
       } catch (IOException e) {
         abort();
@@ -3083,6 +3510,25 @@ public class QueryExecutorImpl extends QueryExecutorBase {
   private final boolean allowEncodingChanges;
   private final boolean cleanupSavePoints;
 
+  /**
+   * Whether the fixed-width binary columns of the results are stored in primitive arrays, see
+   * {@link ColumnarRows}.
+   */
+  private final boolean columnarResults;
+
+  /**
+   * Whether {@link QueryExecutor#QUERY_CHUNKED_RESULTS} is honoured.
+   */
+  private final boolean chunkedResults;
+
+  /**
+   * Unnamed portal whose rows are being fetched in chunks, see
+   * {@link QueryExecutor#QUERY_CHUNKED_RESULTS}. The backend waits for the next Execute of the
+   * portal, and no Sync has been sent yet: the portal only lives until the Sync ends the implicit
+   * transaction.
+   */
+  private @Nullable Portal chunkedPortal;
+
   /**
    * The estimated server response size since we last consumed the input stream from the server, in
    * bytes.
@@ -3093,6 +3539,50 @@ public class QueryExecutorImpl extends QueryExecutorBase {
    */
   private int estimatedReceiveBufferBytes;
 
+  /**
+   * True while the messages are sent by a background thread, see
+   * {@link PGStream#startConcurrentWrite()}. The deadlock avoidance based on
+   * {@code estimatedReceiveBufferBytes} is then not needed.
+   */
+  private boolean concurrentWrite;
+
+  /**
+   * Handlers of the queries sent by {@link #executePipelined} since the last Sync, or null if
+   * there are no pending pipelined queries.
+   */
+  private @Nullable PipelineResultHandler pipeline;
+
+  /**
+   * The handler the pending pipeline results are processed with. It differs from
+   * {@link #pipeline} when the pipeline started with an implicit BEGIN.
+   */
+  private @Nullable ResultHandler pipelineHandler;
+
+  /**
+   * The pipeline segments ended by a Sync whose results are not read yet, in the order they were
+   * sent. Each segment runs in its own implicit transaction.
+   */
+  private final ArrayDeque<PipelineSegment> syncedPipelines = new ArrayDeque<>();
+
+  /**
+   * True if one of the pipeline segments whose results are not read yet sent a BEGIN, in which
+   * case the transaction is open for the next segments.
+   */
+  private boolean pipelineBegin;
+
+  /**
+   * The handlers of the queries pipelined between two Sync messages.
+   */
+  private static final class PipelineSegment {
+    final PipelineResultHandler pipeline;
+    final ResultHandler handler;
+
+    PipelineSegment(PipelineResultHandler pipeline, ResultHandler handler) {
+      this.pipeline = pipeline;
+      this.handler = handler;
+    }
+  }
+
   private final SimpleQuery beginTransactionQuery =
       new SimpleQuery(
           new NativeQuery("BEGIN", null, false, SqlCommand.BLANK),
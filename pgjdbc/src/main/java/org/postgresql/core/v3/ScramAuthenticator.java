@@ -5,26 +5,36 @@
 
 package org.postgresql.core.v3;
 
+import static org.postgresql.util.internal.Nullness.castNonNull;
+
+import org.postgresql.core.ConnectionTimer;
 import org.postgresql.core.PGStream;
 import org.postgresql.core.PgMessageType;
+import org.postgresql.util.ConnectionTimings.Phase;
 import org.postgresql.util.GT;
+import org.postgresql.util.LruCache;
 import org.postgresql.util.PSQLException;
 import org.postgresql.util.PSQLState;
 
 import com.ongres.scram.client.ScramClient;
 import com.ongres.scram.common.ClientFinalMessage;
 import com.ongres.scram.common.ClientFirstMessage;
+import com.ongres.scram.common.ScramMechanism;
 import com.ongres.scram.common.StringPreparation;
 import com.ongres.scram.common.exception.ScramException;
 import com.ongres.scram.common.util.TlsServerEndpoint;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.IOException;
 import java.net.Socket;
 import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateEncodingException;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -36,26 +46,77 @@ import javax.net.ssl.SSLSocket;
 final class ScramAuthenticator {
   private static final Logger LOGGER = Logger.getLogger(ScramAuthenticator.class.getName());
 
+  private static final SecureRandom NONCE_RANDOM = new SecureRandom();
+
   private final PGStream pgStream;
-  private final ScramClient scramClient;
+  private ScramClient scramClient;
+  private final ConnectionTimer timer;
+
+  private final String user;
+  private final @Nullable LruCache<ScramKeyCache.Key, ScramKeyCache.Keys> keyCache;
+
+  /**
+   * The state needed to replay the exchange with the cached keys, or null if the keys are not
+   * cached.
+   */
+  private char @Nullable [] password;
+  private @Nullable List<String> advertisedMechanisms;
+  private byte @Nullable [] cbindData;
+  private @Nullable String nonce;
 
-  ScramAuthenticator(char[] password, PGStream pgStream, ChannelBinding channelBinding) throws PSQLException {
+  /**
+   * The keys derived in this authentication, which are cached once the server accepted them.
+   */
+  private ScramKeyCache.@Nullable Key derivedKey;
+  private ScramKeyCache.@Nullable Keys derivedKeys;
+
+  /**
+   * @param user the user of the startup message, which identifies the cached keys
+   * @param keyCache the keys derived from the passwords, or null to not cache them
+   */
+  ScramAuthenticator(char[] password, PGStream pgStream, ChannelBinding channelBinding,
+      ConnectionTimer timer, String user,
+      @Nullable LruCache<ScramKeyCache.Key, ScramKeyCache.Keys> keyCache) throws PSQLException {
     this.pgStream = pgStream;
+    this.timer = timer;
+    this.user = user;
+    this.keyCache = keyCache;
     this.scramClient = initializeScramClient(password, pgStream, channelBinding);
   }
 
-  private static ScramClient initializeScramClient(char[] password, PGStream stream, ChannelBinding channelBinding) throws PSQLException {
+  private ScramClient initializeScramClient(char[] password, PGStream stream, ChannelBinding channelBinding) throws PSQLException {
     try {
       LOGGER.log(Level.FINEST, "channelBinding( {0} )", channelBinding);
       final byte[] cbindData = getChannelBindingData(stream, channelBinding);
       final List<String> advertisedMechanisms = advertisedMechanisms(stream, channelBinding);
-      ScramClient client = ScramClient.builder()
-          .advertisedMechanisms(advertisedMechanisms)
-          .username("*") // username is ignored by server, startup message is used instead
-          .password(password)
-          .channelBinding(TlsServerEndpoint.TLS_SERVER_END_POINT, cbindData)
-          .stringPreparation(StringPreparation.POSTGRESQL_PREPARATION)
-          .build();
+      ScramClient client;
+      if (keyCache == null) {
+        client = ScramClient.builder()
+            .advertisedMechanisms(advertisedMechanisms)
+            .username("*") // username is ignored by server, startup message is used instead
+            .password(password)
+            .channelBinding(TlsServerEndpoint.TLS_SERVER_END_POINT, cbindData)
+            .stringPreparation(StringPreparation.POSTGRESQL_PREPARATION)
+            .build();
+      } else {
+        // The nonce is chosen here, so that the exchange can be replayed with the cached keys
+        // once the server sent its salt. The password is kept until then, as the caller wipes it.
+        byte[] random = new byte[18];
+        NONCE_RANDOM.nextBytes(random);
+        String nonce = Base64.getEncoder().encodeToString(random);
+        this.password = password.clone();
+        this.advertisedMechanisms = advertisedMechanisms;
+        this.cbindData = cbindData;
+        this.nonce = nonce;
+        client = ScramClient.builder()
+            .advertisedMechanisms(advertisedMechanisms)
+            .username("*")
+            .password(password)
+            .channelBinding(TlsServerEndpoint.TLS_SERVER_END_POINT, cbindData)
+            .stringPreparation(StringPreparation.POSTGRESQL_PREPARATION)
+            .nonceSupplier(() -> nonce)
+            .build();
+      }
 
       LOGGER.log(Level.FINEST, () -> " Using SCRAM mechanism: "
           + client.getScramMechanism().getName());
@@ -67,6 +128,54 @@ final class ScramAuthenticator {
     }
   }
 
+  /**
+   * Replaces the client by one that uses the cached keys of the salt and iteration count of the
+   * server, or the keys derived now, and replays the exchange so far. The password is wiped.
+   */
+  private void useCachedKeys(String serverFirstMessage) throws ScramException {
+    char[] password = castNonNull(this.password);
+    try {
+      byte[] salt = null;
+      int iterations = 0;
+      for (String attribute : serverFirstMessage.split(",")) {
+        if (attribute.startsWith("s=")) {
+          salt = Base64.getDecoder().decode(attribute.substring(2));
+        } else if (attribute.startsWith("i=")) {
+          iterations = Integer.parseInt(attribute.substring(2));
+        }
+      }
+      if (salt == null || iterations <= 0) {
+        throw new IllegalArgumentException("Invalid server-first-message: " + serverFirstMessage);
+      }
+      ScramMechanism mechanism = scramClient.getScramMechanism();
+      ScramKeyCache.Key key = new ScramKeyCache.Key(user, mechanism, salt, iterations,
+          password);
+      ScramKeyCache.Keys keys = castNonNull(keyCache).get(key);
+      if (keys == null) {
+        keys = ScramKeyCache.Keys.derive(mechanism, password, salt, iterations);
+        derivedKey = key;
+        derivedKeys = keys;
+      } else {
+        LOGGER.log(Level.FINEST, " Using cached SCRAM keys");
+      }
+      String nonce = castNonNull(this.nonce);
+      ScramClient client = ScramClient.builder()
+          .advertisedMechanisms(castNonNull(advertisedMechanisms))
+          .username("*")
+          .clientAndServerKey(keys.clientKey, keys.serverKey)
+          .channelBinding(TlsServerEndpoint.TLS_SERVER_END_POINT, castNonNull(cbindData))
+          .stringPreparation(StringPreparation.POSTGRESQL_PREPARATION)
+          .nonceSupplier(() -> nonce)
+          .build();
+      client.clientFirstMessage();
+      client.serverFirstMessage(serverFirstMessage);
+      scramClient = client;
+    } finally {
+      Arrays.fill(password, (char) 0);
+      this.password = null;
+    }
+  }
+
   private static List<String> advertisedMechanisms(PGStream stream, ChannelBinding channelBinding)
       throws PSQLException, IOException {
     List<String> mechanisms = new ArrayList<>();
@@ -155,7 +264,22 @@ final class ScramAuthenticator {
           e);
     }
 
-    ClientFinalMessage clientFinalMessage = scramClient.clientFinalMessage();
+    // The keys are derived from the password with the salt and iteration count of the server
+    ClientFinalMessage clientFinalMessage;
+    timer.begin(Phase.SCRAM_KEY_DERIVATION);
+    try {
+      if (keyCache != null) {
+        useCachedKeys(receivedServerFirstMessage);
+      }
+      clientFinalMessage = scramClient.clientFinalMessage();
+    } catch (ScramException | IllegalStateException | IllegalArgumentException e) {
+      throw new PSQLException(
+          GT.tr("SCRAM authentication failed: {0}", e.getMessage()),
+          PSQLState.CONNECTION_REJECTED,
+          e);
+    } finally {
+      timer.end(Phase.SCRAM_KEY_DERIVATION);
+    }
     LOGGER.log(Level.FINEST, " FE=> SASLResponse( {0} )", clientFinalMessage);
     final byte[] clientFinalMessageBytes =
         clientFinalMessage.toString().getBytes(StandardCharsets.UTF_8);
@@ -176,6 +300,12 @@ final class ScramAuthenticator {
           PSQLState.CONNECTION_REJECTED,
           e);
     }
+    // The server proved that it knows the keys, so they were derived from the right password
+    ScramKeyCache.Key key = derivedKey;
+    ScramKeyCache.Keys keys = derivedKeys;
+    if (key != null && keys != null) {
+      castNonNull(keyCache).put(key, keys);
+    }
   }
 
   private interface BodySender {
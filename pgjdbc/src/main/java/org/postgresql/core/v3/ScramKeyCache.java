@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core.v3;
+
+import org.postgresql.util.CanEstimateSize;
+import org.postgresql.util.LruCache;
+
+import com.ongres.scram.common.ScramFunctions;
+import com.ongres.scram.common.ScramMechanism;
+import com.ongres.scram.common.StringPreparation;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * The SCRAM keys derived from the passwords, shared by the connections of the JVM, see
+ * {@link org.postgresql.PGProperty#SCRAM_KEY_CACHE_SIZE}. The derivation of the salted password
+ * iterates the hash function as many times as the server asks, so it is what makes a SCRAM
+ * authentication costly for the client.
+ *
+ * <p>The keys are identified by the user, the mechanism, the salt and iteration count of the
+ * server, and a digest of the password with the salt, so the password itself is not kept. A change
+ * of the password on the server changes the salt, hence a different key.</p>
+ */
+final class ScramKeyCache {
+  private static @Nullable LruCache<Key, Keys> cache;
+
+  private ScramKeyCache() {
+  }
+
+  /**
+   * Returns the cache, created with the given limit on the first call.
+   *
+   * @param maxSizeEntries maximum number of keys, 0 to not use the cache
+   * @return the cache, or null if it is not used
+   */
+  static synchronized @Nullable LruCache<Key, Keys> getInstance(int maxSizeEntries) {
+    if (maxSizeEntries <= 0) {
+      return null;
+    }
+    LruCache<Key, Keys> cache = ScramKeyCache.cache;
+    if (cache == null) {
+      cache = new LruCache<>(maxSizeEntries, Long.MAX_VALUE, true);
+      ScramKeyCache.cache = cache;
+    }
+    return cache;
+  }
+
+  /**
+   * Identifies the keys derived from a password.
+   */
+  static final class Key {
+    private final String user;
+    private final String mechanism;
+    private final byte[] salt;
+    private final int iterations;
+    private final byte[] passwordDigest;
+
+    Key(String user, ScramMechanism mechanism, byte[] salt, int iterations, char[] password) {
+      this.user = user;
+      // The keys of the channel binding variant are the same
+      String name = mechanism.getName();
+      this.mechanism = name.endsWith("-PLUS") ? name.substring(0, name.length() - 5) : name;
+      this.salt = salt;
+      this.iterations = iterations;
+      this.passwordDigest = digest(salt, password);
+    }
+
+    private static byte[] digest(byte[] salt, char[] password) {
+      ByteBuffer passwordBytes = StandardCharsets.UTF_8.encode(CharBuffer.wrap(password));
+      try {
+        MessageDigest md = MessageDigest.getInstance("SHA-256");
+        md.update(salt);
+        md.update(passwordBytes);
+        return md.digest();
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException("Unable to digest password with SHA-256", e);
+      } finally {
+        int limit = passwordBytes.limit();
+        for (int i = 0; i < limit; i++) {
+          passwordBytes.put(i, (byte) 0);
+        }
+      }
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      Key key = (Key) o;
+      return iterations == key.iterations
+          && user.equals(key.user)
+          && mechanism.equals(key.mechanism)
+          && Arrays.equals(salt, key.salt)
+          && MessageDigest.isEqual(passwordDigest, key.passwordDigest);
+    }
+
+    @Override
+    public int hashCode() {
+      int result = user.hashCode();
+      result = 31 * result + mechanism.hashCode();
+      result = 31 * result + Arrays.hashCode(salt);
+      result = 31 * result + iterations;
+      result = 31 * result + Arrays.hashCode(passwordDigest);
+      return result;
+    }
+  }
+
+  /**
+   * The client and server keys derived from a password.
+   */
+  static final class Keys implements CanEstimateSize {
+    final byte[] clientKey;
+    final byte[] serverKey;
+
+    Keys(byte[] clientKey, byte[] serverKey) {
+      this.clientKey = clientKey;
+      this.serverKey = serverKey;
+    }
+
+    /**
+     * Derives the keys from a password, which is the costly part of the authentication.
+     */
+    static Keys derive(ScramMechanism mechanism, char[] password, byte[] salt, int iterations) {
+      byte[] saltedPassword = ScramFunctions.saltedPassword(mechanism,
+          StringPreparation.POSTGRESQL_PREPARATION, password, salt, iterations);
+      try {
+        return new Keys(ScramFunctions.clientKey(mechanism, saltedPassword),
+            ScramFunctions.serverKey(mechanism, saltedPassword));
+      } finally {
+        Arrays.fill(saltedPassword, (byte) 0);
+      }
+    }
+
+    @Override
+    public long getSize() {
+      return 64 + clientKey.length + serverKey.length;
+    }
+  }
+}
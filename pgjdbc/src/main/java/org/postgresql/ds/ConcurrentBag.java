@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.ds;
+
+import static org.postgresql.ds.PoolEntry.STATE_IN_USE;
+import static org.postgresql.ds.PoolEntry.STATE_NOT_IN_USE;
+import static org.postgresql.ds.PoolEntry.STATE_REMOVED;
+import static org.postgresql.ds.PoolEntry.STATE_RESERVED;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The connections of a {@link PGConcurrentPoolingDataSource}, borrowed without taking a lock.
+ *
+ * <p>A thread first looks for an idle connection among the ones it returned before, then among
+ * all the connections of the pool, and finally waits for a connection to be returned or created.
+ * The state of each connection is changed by compare-and-set, so two threads never borrow the
+ * same connection. The connections are kept in a copy-on-write list, since they are looked up far
+ * more often than they are added or removed.</p>
+ */
+final class ConcurrentBag {
+  /**
+   * Notified when a thread found no idle connection, so that the pool can create one.
+   */
+  interface Listener {
+    /**
+     * @param waiting the number of threads waiting for a connection, including the caller
+     */
+    void addBagItem(int waiting);
+  }
+
+  /**
+   * Maximum number of connections remembered by each thread.
+   */
+  private static final int MAX_THREAD_LOCAL_ENTRIES = 16;
+
+  private final CopyOnWriteArrayList<PoolEntry> sharedList = new CopyOnWriteArrayList<>();
+  private final ThreadLocal<List<WeakReference<PoolEntry>>> threadList =
+      ThreadLocal.withInitial(() -> new ArrayList<>(MAX_THREAD_LOCAL_ENTRIES));
+  private final SynchronousQueue<PoolEntry> handoffQueue = new SynchronousQueue<>(true);
+  private final AtomicInteger waiters = new AtomicInteger();
+  private final Listener listener;
+  private volatile boolean closed;
+
+  ConcurrentBag(Listener listener) {
+    this.listener = listener;
+  }
+
+  /**
+   * Borrows an idle connection, waiting at most the given time for one to be returned or added.
+   *
+   * @param timeout the maximum time to wait
+   * @param unit the unit of the timeout
+   * @return the connection, in use by the caller, or null if none was available in time
+   * @throws InterruptedException if the thread was interrupted while waiting
+   */
+  @Nullable PoolEntry borrow(long timeout, TimeUnit unit) throws InterruptedException {
+    List<WeakReference<PoolEntry>> list = threadList.get();
+    for (int i = list.size() - 1; i >= 0; i--) {
+      PoolEntry entry = list.remove(i).get();
+      if (entry != null && entry.compareAndSetState(STATE_NOT_IN_USE, STATE_IN_USE)) {
+        return entry;
+      }
+    }
+
+    int waiting = waiters.incrementAndGet();
+    try {
+      for (PoolEntry entry : sharedList) {
+        if (entry.compareAndSetState(STATE_NOT_IN_USE, STATE_IN_USE)) {
+          if (waiting > 1) {
+            // This thread may have taken the connection that another one was about to get
+            listener.addBagItem(waiting - 1);
+          }
+          return entry;
+        }
+      }
+
+      listener.addBagItem(waiting);
+
+      long remaining = unit.toNanos(timeout);
+      while (remaining > 0) {
+        long start = System.nanoTime();
+        PoolEntry entry = handoffQueue.poll(remaining, TimeUnit.NANOSECONDS);
+        if (entry == null) {
+          return null;
+        }
+        if (entry.compareAndSetState(STATE_NOT_IN_USE, STATE_IN_USE)) {
+          return entry;
+        }
+        remaining -= System.nanoTime() - start;
+      }
+      return null;
+    } finally {
+      waiters.decrementAndGet();
+    }
+  }
+
+  /**
+   * Returns a borrowed connection to the bag. Nothing is done if the connection was removed in the
+   * meantime.
+   *
+   * @param entry the connection borrowed by the caller
+   */
+  void requite(PoolEntry entry) {
+    if (!entry.compareAndSetState(STATE_IN_USE, STATE_NOT_IN_USE)) {
+      return;
+    }
+    handOff(entry);
+    List<WeakReference<PoolEntry>> list = threadList.get();
+    if (list.size() < MAX_THREAD_LOCAL_ENTRIES) {
+      list.add(new WeakReference<>(entry));
+    }
+  }
+
+  /**
+   * Adds a new idle connection, handing it to a waiting thread if there is one.
+   *
+   * @param entry the connection to add
+   * @throws IllegalStateException if the bag is closed
+   */
+  void add(PoolEntry entry) {
+    if (closed) {
+      throw new IllegalStateException("The pool is closed");
+    }
+    sharedList.add(entry);
+    handOff(entry);
+  }
+
+  /**
+   * Removes a connection that is borrowed or reserved by the caller.
+   *
+   * @param entry the connection to remove
+   * @return false if the connection was not borrowed or reserved, for instance because it was
+   *     already removed
+   */
+  boolean remove(PoolEntry entry) {
+    if (!entry.compareAndSetState(STATE_IN_USE, STATE_REMOVED)
+        && !entry.compareAndSetState(STATE_RESERVED, STATE_REMOVED)) {
+      return false;
+    }
+    sharedList.remove(entry);
+    return true;
+  }
+
+  /**
+   * Reserves an idle connection, so that it cannot be borrowed while the pool checks or closes it.
+   *
+   * @param entry the connection to reserve
+   * @return false if the connection was not idle
+   */
+  boolean reserve(PoolEntry entry) {
+    return entry.compareAndSetState(STATE_NOT_IN_USE, STATE_RESERVED);
+  }
+
+  /**
+   * Makes a reserved connection available again.
+   *
+   * @param entry the connection reserved by the caller
+   */
+  void unreserve(PoolEntry entry) {
+    if (entry.compareAndSetState(STATE_RESERVED, STATE_NOT_IN_USE)) {
+      handOff(entry);
+    }
+  }
+
+  private void handOff(PoolEntry entry) {
+    while (waiters.get() > 0 && entry.getState() == STATE_NOT_IN_USE
+        && !handoffQueue.offer(entry)) {
+      Thread.yield();
+    }
+  }
+
+  /**
+   * Prevents the addition of connections, once the pool is closed.
+   */
+  void close() {
+    closed = true;
+  }
+
+  /**
+   * @return a snapshot of the connections of the bag
+   */
+  List<PoolEntry> values() {
+    return new ArrayList<>(sharedList);
+  }
+
+  /**
+   * @param state one of the {@code STATE_*} constants of {@link PoolEntry}
+   * @return the number of connections in the given state
+   */
+  int getCount(int state) {
+    int count = 0;
+    for (PoolEntry entry : sharedList) {
+      if (entry.getState() == state) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  int size() {
+    return sharedList.size();
+  }
+
+  int getWaitingThreadCount() {
+    return waiters.get();
+  }
+}
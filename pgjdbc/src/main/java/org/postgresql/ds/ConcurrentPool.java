@@ -0,0 +1,434 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.ds;
+
+import static org.postgresql.ds.PoolEntry.STATE_IN_USE;
+import static org.postgresql.ds.PoolEntry.STATE_NOT_IN_USE;
+
+import org.postgresql.util.GT;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.sql.ConnectionEvent;
+import javax.sql.ConnectionEventListener;
+
+/**
+ * The connections of a {@link PGConcurrentPoolingDataSource}, and the threads that maintain them.
+ *
+ * <p>The clients borrow the connections from a {@link ConcurrentBag} without taking a lock. The
+ * connections are opened by a single background thread, when a client finds no idle connection
+ * or when there are fewer idle connections than the minimum, so that the clients never wait for
+ * a connection to be opened by another client. A second background thread closes the connections
+ * that stayed idle for too long or reached their maximum lifetime, and validates the idle
+ * connections periodically so that the network and the server do not drop them.</p>
+ */
+final class ConcurrentPool implements ConcurrentBag.Listener {
+  private static final Logger LOGGER = Logger.getLogger(ConcurrentPool.class.getName());
+
+  /**
+   * Connections used or validated more recently than this are handed out without validation.
+   */
+  private static final long ALIVE_BYPASS_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+  private static final long HOUSEKEEPING_PERIOD_MS = 30000;
+  private static final long MIN_HOUSEKEEPING_PERIOD_MS = 100;
+
+  /**
+   * Maximum delay between two attempts to open a connection after a failure.
+   */
+  private static final long MAX_RETRY_DELAY_MS = 5000;
+
+  private final PGConnectionPoolDataSource source;
+  private final int maximumPoolSize;
+  private final int minimumIdle;
+  private final long connectionTimeoutNanos;
+  private final long idleTimeoutNanos;
+  private final long maxLifetimeMillis;
+  private final long keepaliveTimeNanos;
+  private final int validationTimeoutSeconds;
+  private final boolean resetSessionOnReturn;
+
+  private final ConcurrentBag bag = new ConcurrentBag(this);
+  private final AtomicInteger totalConnections = new AtomicInteger();
+  private final ThreadPoolExecutor addConnectionExecutor;
+  private final ScheduledThreadPoolExecutor houseKeeper;
+  private volatile boolean closed;
+  private volatile @Nullable SQLException lastConnectionFailure;
+
+  private final LongAdder createdCount = new LongAdder();
+  private final LongAdder closedCount = new LongAdder();
+  private final LongAdder borrowCount = new LongAdder();
+  private final LongAdder timeoutCount = new LongAdder();
+  private final LongAdder validationFailureCount = new LongAdder();
+  private final LongAdder borrowWaitNanos = new LongAdder();
+
+  ConcurrentPool(PGConnectionPoolDataSource source, int maximumPoolSize, int minimumIdle,
+      long connectionTimeout, long idleTimeout, long maxLifetime, long keepaliveTime,
+      long validationTimeout, boolean resetSessionOnReturn, int warmupParallelism) {
+    this.source = source;
+    this.maximumPoolSize = maximumPoolSize;
+    this.minimumIdle = minimumIdle;
+    this.connectionTimeoutNanos = connectionTimeout == 0
+        ? Long.MAX_VALUE : TimeUnit.MILLISECONDS.toNanos(connectionTimeout);
+    this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeout);
+    this.maxLifetimeMillis = maxLifetime;
+    this.keepaliveTimeNanos = TimeUnit.MILLISECONDS.toNanos(keepaliveTime);
+    this.validationTimeoutSeconds = (int) Math.max(1, (validationTimeout + 999) / 1000);
+    this.resetSessionOnReturn = resetSessionOnReturn;
+
+    // Several connections can be opened at the same time, so that the pool is filled faster
+    addConnectionExecutor = new ThreadPoolExecutor(warmupParallelism, warmupParallelism,
+        5, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(), runnable -> newThread(runnable, "PostgreSQL-JDBC-PoolFiller"));
+    addConnectionExecutor.allowCoreThreadTimeOut(true);
+    houseKeeper = new ScheduledThreadPoolExecutor(1,
+        runnable -> newThread(runnable, "PostgreSQL-JDBC-PoolHousekeeper"));
+    houseKeeper.setRemoveOnCancelPolicy(true);
+
+    long period = HOUSEKEEPING_PERIOD_MS;
+    if (idleTimeout > 0) {
+      period = Math.min(period, idleTimeout / 2);
+    }
+    if (keepaliveTime > 0) {
+      period = Math.min(period, keepaliveTime / 2);
+    }
+    period = Math.max(period, MIN_HOUSEKEEPING_PERIOD_MS);
+    houseKeeper.scheduleWithFixedDelay(this::houseKeep, period, period, TimeUnit.MILLISECONDS);
+    fillPool();
+  }
+
+  private static Thread newThread(Runnable runnable, String name) {
+    Thread thread = new Thread(runnable, name);
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  /**
+   * Borrows a connection, waiting at most the connection timeout for one to be available.
+   *
+   * @return the connection handed out to the client
+   * @throws SQLException if the pool is closed or no connection was available in time
+   */
+  Connection getConnection() throws SQLException {
+    long start = System.nanoTime();
+    long remaining = connectionTimeoutNanos;
+    try {
+      do {
+        if (closed) {
+          throw new PSQLException(GT.tr("This DataSource has been closed."),
+              PSQLState.CONNECTION_DOES_NOT_EXIST);
+        }
+        PoolEntry entry = bag.borrow(remaining, TimeUnit.NANOSECONDS);
+        if (entry == null) {
+          break;
+        }
+        long now = System.nanoTime();
+        if (entry.evicted || (now - Math.max(entry.lastAccessed, entry.lastValidated)
+            > ALIVE_BYPASS_NANOS && !validate(entry))) {
+          closeEntry(entry);
+          fillPool();
+        } else {
+          try {
+            Connection con = entry.pooledConnection.getConnection();
+            borrowCount.increment();
+            borrowWaitNanos.add(now - start);
+            return con;
+          } catch (SQLException e) {
+            // The previous client left the connection in a state that cannot be reset
+            LOGGER.log(Level.FINE, "Discarding a pooled connection that failed to be reset", e);
+            closeEntry(entry);
+            fillPool();
+          }
+        }
+        remaining = connectionTimeoutNanos - (System.nanoTime() - start);
+      } while (remaining > 0);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PSQLException(GT.tr("Interrupted while waiting for a connection from the pool."),
+          PSQLState.CONNECTION_UNABLE_TO_CONNECT, e);
+    }
+    timeoutCount.increment();
+    throw new PSQLException(
+        GT.tr("No connection was available in the pool after {0} ms.",
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)),
+        PSQLState.CONNECTION_UNABLE_TO_CONNECT, lastConnectionFailure);
+  }
+
+  PoolStatistics getStatistics() {
+    return new PoolStatistics(totalConnections.get(), bag.getCount(STATE_IN_USE),
+        bag.getCount(STATE_NOT_IN_USE), bag.getWaitingThreadCount(), createdCount.sum(),
+        closedCount.sum(), borrowCount.sum(), timeoutCount.sum(), validationFailureCount.sum(),
+        borrowWaitNanos.sum());
+  }
+
+  /**
+   * Closes all the connections, including the ones in use by clients.
+   */
+  void close() {
+    closed = true;
+    bag.close();
+    addConnectionExecutor.shutdownNow();
+    houseKeeper.shutdownNow();
+    for (PoolEntry entry : bag.values()) {
+      entry.evicted = true;
+      bag.reserve(entry);
+      closeEntry(entry);
+    }
+  }
+
+  boolean isClosed() {
+    return closed;
+  }
+
+  @Override
+  public void addBagItem(int waiting) {
+    if (!closed && waiting > addConnectionExecutor.getQueue().size()) {
+      submitCreator();
+    }
+  }
+
+  private void fillPool() {
+    if (closed) {
+      return;
+    }
+    int toAdd = Math.min(maximumPoolSize - totalConnections.get(),
+        minimumIdle - bag.getCount(STATE_NOT_IN_USE)) - addConnectionExecutor.getQueue().size();
+    for (int i = 0; i < toAdd; i++) {
+      submitCreator();
+    }
+  }
+
+  private void submitCreator() {
+    try {
+      addConnectionExecutor.execute(this::createConnections);
+    } catch (RejectedExecutionException e) {
+      // The pool was closed concurrently
+    }
+  }
+
+  /**
+   * Opens one connection if there is a need for it, retrying after the failures.
+   */
+  private void createConnections() {
+    long delay = 10;
+    while (!closed && shouldCreateConnection()) {
+      if (!reserveConnection()) {
+        // The other threads opened the last connections
+        return;
+      }
+      PoolEntry entry = createEntry();
+      if (entry != null) {
+        return;
+      }
+      try {
+        Thread.sleep(delay);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      delay = Math.min(MAX_RETRY_DELAY_MS, delay * 2);
+    }
+  }
+
+  private boolean shouldCreateConnection() {
+    return totalConnections.get() < maximumPoolSize
+        && (bag.getWaitingThreadCount() > 0 || bag.getCount(STATE_NOT_IN_USE) < minimumIdle);
+  }
+
+  /**
+   * Counts a connection about to be opened, unless the pool is full, so that the connections
+   * opened at the same time do not exceed the maximum pool size.
+   */
+  private boolean reserveConnection() {
+    int total;
+    do {
+      total = totalConnections.get();
+      if (total >= maximumPoolSize) {
+        return false;
+      }
+    } while (!totalConnections.compareAndSet(total, total + 1));
+    return true;
+  }
+
+  /**
+   * Opens a connection counted by {@link #reserveConnection()}, and adds it to the pool.
+   */
+  private @Nullable PoolEntry createEntry() {
+    PGPooledConnection pooledConnection;
+    try {
+      pooledConnection = (PGPooledConnection) source.getPooledConnection();
+    } catch (SQLException e) {
+      LOGGER.log(Level.FINE, "Failed to open a pooled connection", e);
+      lastConnectionFailure = e;
+      totalConnections.decrementAndGet();
+      return null;
+    }
+    lastConnectionFailure = null;
+    PoolEntry entry = new PoolEntry(pooledConnection, System.nanoTime());
+    pooledConnection.addConnectionEventListener(new EntryListener(entry));
+    createdCount.increment();
+    try {
+      bag.add(entry);
+    } catch (IllegalStateException e) {
+      // The pool was closed while the connection was opened
+      bag.reserve(entry);
+      closeEntry(entry);
+      return entry;
+    }
+    if (maxLifetimeMillis > 0) {
+      // Spread the end of life of the connections opened together, so that they are not all
+      // closed at the same time
+      long variance = maxLifetimeMillis > 10000
+          ? ThreadLocalRandom.current().nextLong(maxLifetimeMillis / 40) : 0;
+      try {
+        entry.endOfLife = houseKeeper.schedule(() -> softEvict(entry),
+            maxLifetimeMillis - variance, TimeUnit.MILLISECONDS);
+      } catch (RejectedExecutionException e) {
+        // The pool was closed after the connection was added, close() may have missed it
+        bag.reserve(entry);
+        closeEntry(entry);
+      }
+    }
+    return entry;
+  }
+
+  private boolean validate(PoolEntry entry) {
+    boolean valid;
+    try {
+      valid = entry.pooledConnection.isValid(validationTimeoutSeconds);
+    } catch (SQLException e) {
+      LOGGER.log(Level.FINE, "Failed to validate a pooled connection", e);
+      valid = false;
+    }
+    if (valid) {
+      entry.lastValidated = System.nanoTime();
+    } else {
+      validationFailureCount.increment();
+    }
+    return valid;
+  }
+
+  /**
+   * Closes the connection if it is idle, or when it is returned otherwise.
+   */
+  private void softEvict(PoolEntry entry) {
+    entry.evicted = true;
+    if (bag.reserve(entry)) {
+      closeEntry(entry);
+      fillPool();
+    }
+  }
+
+  /**
+   * Removes and closes a connection that is borrowed or reserved by the caller. Nothing is done if
+   * the connection was already removed.
+   */
+  private void closeEntry(PoolEntry entry) {
+    if (!bag.remove(entry)) {
+      return;
+    }
+    totalConnections.decrementAndGet();
+    closedCount.increment();
+    ScheduledFuture<?> endOfLife = entry.endOfLife;
+    if (endOfLife != null) {
+      endOfLife.cancel(false);
+    }
+    try {
+      entry.pooledConnection.close();
+    } catch (SQLException e) {
+      LOGGER.log(Level.FINE, "Failed to close a pooled connection", e);
+    }
+  }
+
+  private void houseKeep() {
+    try {
+      long now = System.nanoTime();
+      if (idleTimeoutNanos > 0 && minimumIdle < maximumPoolSize) {
+        int removable = bag.getCount(STATE_NOT_IN_USE) - minimumIdle;
+        for (PoolEntry entry : bag.values()) {
+          if (removable <= 0) {
+            break;
+          }
+          if (now - entry.lastAccessed > idleTimeoutNanos && bag.reserve(entry)) {
+            closeEntry(entry);
+            removable--;
+          }
+        }
+      }
+      if (keepaliveTimeNanos > 0) {
+        for (PoolEntry entry : bag.values()) {
+          if (now - Math.max(entry.lastAccessed, entry.lastValidated) > keepaliveTimeNanos
+              && bag.reserve(entry)) {
+            if (validate(entry)) {
+              bag.unreserve(entry);
+            } else {
+              closeEntry(entry);
+            }
+          }
+        }
+      }
+      fillPool();
+    } catch (RuntimeException e) {
+      // Keep the task scheduled
+      LOGGER.log(Level.WARNING, "Failed to maintain the connection pool", e);
+    }
+  }
+
+  /**
+   * Returns the connection to the pool when the client closes it, unless a fatal error occurred or
+   * the connection reached its maximum lifetime in the meantime.
+   */
+  private class EntryListener implements ConnectionEventListener {
+    private final PoolEntry entry;
+
+    EntryListener(PoolEntry entry) {
+      this.entry = entry;
+    }
+
+    @Override
+    public void connectionClosed(ConnectionEvent event) {
+      if (closed || entry.evicted) {
+        closeEntry(entry);
+        fillPool();
+        return;
+      }
+      if (resetSessionOnReturn) {
+        try {
+          entry.pooledConnection.resetSession();
+        } catch (SQLException e) {
+          LOGGER.log(Level.FINE, "Discarding a pooled connection whose session cannot be reset", e);
+          closeEntry(entry);
+          fillPool();
+          return;
+        }
+      }
+      entry.lastAccessed = System.nanoTime();
+      bag.requite(entry);
+    }
+
+    @Override
+    public void connectionErrorOccurred(ConnectionEvent event) {
+      // The client still holds the connection: close it when it is returned
+      entry.evicted = true;
+    }
+  }
+}
@@ -0,0 +1,392 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.ds;
+
+import org.postgresql.ds.common.BaseDataSource;
+import org.postgresql.jdbc.ResourceLock;
+import org.postgresql.util.DriverInfo;
+import org.postgresql.util.GT;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource which pools the connections for many concurrent threads.
+ *
+ * <p>
+ * Unlike {@link PGPoolingDataSource}, the connections are borrowed and returned without taking a
+ * lock: each thread first tries the connections it used before, then any idle connection, and
+ * only waits when all the connections are in use. The connections are opened and maintained by
+ * background threads: the idle connections are validated periodically, the connections above
+ * {@link #getMinimumIdle() minimumIdle} are closed when they stay idle for too long, and each
+ * connection is replaced when it reaches its {@link #getMaxLifetime() maxLifetime}.
+ * {@link #getPoolStatistics()} reports the state and the activity of the pool.
+ * </p>
+ *
+ * <p>
+ * The connection properties are read when the DataSource is initialized, which happens when the
+ * first connection is requested or when {@link #initialize()} is called. The pool settings cannot
+ * be changed afterwards. Note that <i>only connections for the default user are pooled.</i>
+ * Connections for other users are normal non-pooled connections, and do not count against the
+ * maximum pool size.
+ * </p>
+ */
+public class PGConcurrentPoolingDataSource extends BaseDataSource
+    implements DataSource, AutoCloseable {
+  private int maximumPoolSize = 10;
+  private int minimumIdle = -1;
+  private long connectionTimeout = 30000;
+  private long idleTimeout = 600000;
+  private long maxLifetime = 1800000;
+  private long keepaliveTime = 120000;
+  private long validationTimeout = 5000;
+  private boolean resetSessionOnReturn;
+  private int warmupParallelism = 1;
+
+  private final ResourceLock lock = new ResourceLock();
+  private volatile @Nullable ConcurrentPool pool;
+  private volatile boolean closed;
+
+  /**
+   * Gets a description of this DataSource.
+   */
+  @Override
+  public String getDescription() {
+    return "Concurrent pooling DataSource from " + DriverInfo.DRIVER_FULL_NAME;
+  }
+
+  private void checkNotInitialized() {
+    if (pool != null || closed) {
+      throw new IllegalStateException(
+          "Cannot set Data Source properties after DataSource has been used");
+    }
+  }
+
+  /**
+   * @return the maximum number of pooled connections, in use or idle
+   */
+  public int getMaximumPoolSize() {
+    return maximumPoolSize;
+  }
+
+  /**
+   * Sets the maximum number of pooled connections, in use or idle. When all of them are in use,
+   * the requests wait at most {@link #getConnectionTimeout() connectionTimeout} for a connection to
+   * be returned. Defaults to 10.
+   *
+   * @param maximumPoolSize the maximum number of pooled connections, at least 1
+   * @throws IllegalStateException if the DataSource has been used
+   */
+  public void setMaximumPoolSize(int maximumPoolSize) {
+    checkNotInitialized();
+    if (maximumPoolSize < 1) {
+      throw new IllegalArgumentException("maximumPoolSize must be at least 1");
+    }
+    this.maximumPoolSize = maximumPoolSize;
+  }
+
+  /**
+   * @return the number of idle connections that the pool tries to keep
+   */
+  public int getMinimumIdle() {
+    return minimumIdle < 0 ? maximumPoolSize : Math.min(minimumIdle, maximumPoolSize);
+  }
+
+  /**
+   * Sets the number of idle connections that the pool tries to keep, opening new connections in
+   * the background when there are fewer. Defaults to the maximum pool size, which makes the pool
+   * fixed-size.
+   *
+   * @param minimumIdle the number of idle connections to keep
+   * @throws IllegalStateException if the DataSource has been used
+   */
+  public void setMinimumIdle(int minimumIdle) {
+    checkNotInitialized();
+    if (minimumIdle < 0) {
+      throw new IllegalArgumentException("minimumIdle cannot be negative");
+    }
+    this.minimumIdle = minimumIdle;
+  }
+
+  /**
+   * @return the maximum time in milliseconds to wait for a connection, or 0 to wait indefinitely
+   */
+  public long getConnectionTimeout() {
+    return connectionTimeout;
+  }
+
+  /**
+   * Sets the maximum time to wait for a connection when they are all in use. Defaults to 30
+   * seconds.
+   *
+   * @param connectionTimeout the time in milliseconds, or 0 to wait indefinitely
+   * @throws IllegalStateException if the DataSource has been used
+   */
+  public void setConnectionTimeout(long connectionTimeout) {
+    checkNotInitialized();
+    this.connectionTimeout = checkDuration("connectionTimeout", connectionTimeout);
+  }
+
+  /**
+   * @return the time in milliseconds after which an idle connection above the minimum is closed,
+   *     or 0 to keep the idle connections
+   */
+  public long getIdleTimeout() {
+    return idleTimeout;
+  }
+
+  /**
+   * Sets the time after which an idle connection is closed, when there are more than
+   * {@link #getMinimumIdle() minimumIdle} idle connections. Defaults to 10 minutes.
+   *
+   * @param idleTimeout the time in milliseconds, or 0 to keep the idle connections
+   * @throws IllegalStateException if the DataSource has been used
+   */
+  public void setIdleTimeout(long idleTimeout) {
+    checkNotInitialized();
+    this.idleTimeout = checkDuration("idleTimeout", idleTimeout);
+  }
+
+  /**
+   * @return the maximum lifetime of a connection in milliseconds, or 0 for no limit
+   */
+  public long getMaxLifetime() {
+    return maxLifetime;
+  }
+
+  /**
+   * Sets the maximum lifetime of a connection. A connection that reaches it is closed as soon as
+   * it is idle, and replaced if needed. The lifetime of each connection is shortened by a random
+   * amount of up to 2.5%, so that the connections opened together are not closed together.
+   * Defaults to 30 minutes.
+   *
+   * @param maxLifetime the time in milliseconds, or 0 for no limit
+   * @throws IllegalStateException if the DataSource has been used
+   */
+  public void setMaxLifetime(long maxLifetime) {
+    checkNotInitialized();
+    this.maxLifetime = checkDuration("maxLifetime", maxLifetime);
+  }
+
+  /**
+   * @return the time in milliseconds after which an idle connection is validated, or 0 to never
+   *     validate the idle connections
+   */
+  public long getKeepaliveTime() {
+    return keepaliveTime;
+  }
+
+  /**
+   * Sets the time after which an idle connection is validated in the background, so that it is
+   * not dropped by the network or the server, and is discarded if it is broken. Defaults to 2
+   * minutes.
+   *
+   * @param keepaliveTime the time in milliseconds, or 0 to never validate the idle connections
+   * @throws IllegalStateException if the DataSource has been used
+   */
+  public void setKeepaliveTime(long keepaliveTime) {
+    checkNotInitialized();
+    this.keepaliveTime = checkDuration("keepaliveTime", keepaliveTime);
+  }
+
+  /**
+   * @return the maximum time in milliseconds to wait for the validation of a connection
+   */
+  public long getValidationTimeout() {
+    return validationTimeout;
+  }
+
+  /**
+   * Sets the maximum time to wait for the validation of a connection, which is rounded up to the
+   * second. The connections that were idle for more than half a second are validated before being
+   * handed out. Defaults to 5 seconds.
+   *
+   * @param validationTimeout the time in milliseconds
+   * @throws IllegalStateException if the DataSource has been used
+   */
+  public void setValidationTimeout(long validationTimeout) {
+    checkNotInitialized();
+    this.validationTimeout = checkDuration("validationTimeout", validationTimeout);
+  }
+
+  /**
+   * @return whether the session state changed by a client is restored when it returns the
+   *     connection
+   */
+  public boolean getResetSessionOnReturn() {
+    return resetSessionOnReturn;
+  }
+
+  /**
+   * Sets whether the session state changed by a client, such as the settings, the temporary
+   * tables, the notification channels or the advisory locks, is restored when it returns the
+   * connection. Only the state that changed is restored, so the connections whose session was not
+   * changed are returned without a round trip, and the statements prepared by the driver are kept.
+   * Defaults to false.
+   *
+   * @param resetSessionOnReturn whether to restore the session state
+   * @throws IllegalStateException if the DataSource has been used
+   * @see PGPooledConnection#resetSession()
+   */
+  public void setResetSessionOnReturn(boolean resetSessionOnReturn) {
+    checkNotInitialized();
+    this.resetSessionOnReturn = resetSessionOnReturn;
+  }
+
+  /**
+   * @return the maximum number of connections that the pool opens at the same time
+   */
+  public int getWarmupParallelism() {
+    return warmupParallelism;
+  }
+
+  /**
+   * Sets the maximum number of connections that the pool opens at the same time in the background,
+   * when it is initialized and when it replaces the closed connections. Higher values fill the
+   * pool faster when the connections take long to establish, for instance because of the network
+   * latency or the authentication. Defaults to 1.
+   *
+   * @param warmupParallelism the maximum number of connections opened at the same time, at least 1
+   * @throws IllegalStateException if the DataSource has been used
+   */
+  public void setWarmupParallelism(int warmupParallelism) {
+    checkNotInitialized();
+    if (warmupParallelism < 1) {
+      throw new IllegalArgumentException("warmupParallelism must be at least 1");
+    }
+    this.warmupParallelism = warmupParallelism;
+  }
+
+  private static long checkDuration(String name, long millis) {
+    if (millis < 0) {
+      throw new IllegalArgumentException(name + " cannot be negative");
+    }
+    return millis;
+  }
+
+  /**
+   * Initializes this DataSource, and starts opening the {@link #getMinimumIdle() minimumIdle}
+   * connections in the background. After this method is called, the pool settings cannot be
+   * changed. If you do not call this explicitly, it will be called the first time you get a
+   * connection from the DataSource.
+   *
+   * @throws SQLException if the DataSource is closed or its properties are invalid
+   */
+  public void initialize() throws SQLException {
+    getPool();
+  }
+
+  private ConcurrentPool getPool() throws SQLException {
+    ConcurrentPool pool = this.pool;
+    if (pool != null) {
+      return pool;
+    }
+    try (ResourceLock ignore = lock.obtain()) {
+      pool = this.pool;
+      if (pool == null) {
+        if (closed) {
+          throw new PSQLException(GT.tr("This DataSource has been closed."),
+              PSQLState.CONNECTION_DOES_NOT_EXIST);
+        }
+        PGConnectionPoolDataSource source = new PGConnectionPoolDataSource();
+        try {
+          source.initializeFrom(this);
+        } catch (Exception e) {
+          throw new PSQLException(GT.tr("Failed to setup DataSource."),
+              PSQLState.UNEXPECTED_ERROR, e);
+        }
+        pool = new ConcurrentPool(source, maximumPoolSize, getMinimumIdle(), connectionTimeout,
+            idleTimeout, maxLifetime, keepaliveTime, validationTimeout, resetSessionOnReturn,
+            warmupParallelism);
+        this.pool = pool;
+      }
+      return pool;
+    }
+  }
+
+  /**
+   * Gets a connection from the pool, waiting at most {@link #getConnectionTimeout()
+   * connectionTimeout} for one to be available.
+   *
+   * @return A pooled connection.
+   * @throws SQLException if the DataSource is closed, or no pooled connection was available in time.
+   *         In the latter case, the cause is the last failure to open a connection, if any.
+   */
+  @Override
+  public Connection getConnection() throws SQLException {
+    return getPool().getConnection();
+  }
+
+  /**
+   * Gets a <b>non-pooled</b> connection, unless the user and password are the same as the default
+   * values for this connection pool.
+   *
+   * @return A pooled connection.
+   * @throws SQLException if no pooled connection was available in time, or a non-pooled
+   *         connection cannot be opened
+   */
+  @Override
+  public Connection getConnection(@Nullable String user, @Nullable String password)
+      throws SQLException {
+    // If this is for the default user/password, use a pooled connection
+    if (user == null || (user.equals(getUser()) && ((password == null && getPassword() == null)
+        || (password != null && password.equals(getPassword()))))) {
+      return getConnection();
+    }
+    // Otherwise, use a non-pooled connection
+    return super.getConnection(user, password);
+  }
+
+  /**
+   * Returns a snapshot of the state and the counters of the pool.
+   *
+   * @return the statistics of the pool, all zero if the DataSource has not been initialized
+   */
+  public PoolStatistics getPoolStatistics() {
+    ConcurrentPool pool = this.pool;
+    return pool == null ? new PoolStatistics(0, 0, 0, 0, 0, 0, 0, 0, 0, 0) : pool.getStatistics();
+  }
+
+  /**
+   * Closes this DataSource, and all the pooled connections, whether in use or not.
+   */
+  @Override
+  public void close() {
+    try (ResourceLock ignore = lock.obtain()) {
+      closed = true;
+      ConcurrentPool pool = this.pool;
+      if (pool != null) {
+        pool.close();
+      }
+    }
+  }
+
+  /**
+   * @return true if {@link #close()} was called
+   */
+  public boolean isClosed() {
+    return closed;
+  }
+
+  @Override
+  public boolean isWrapperFor(Class<?> iface) throws SQLException {
+    return iface.isAssignableFrom(getClass());
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> iface) throws SQLException {
+    if (iface.isAssignableFrom(getClass())) {
+      return iface.cast(this);
+    }
+    throw new SQLException("Cannot unwrap to " + iface.getName());
+  }
+}
@@ -7,12 +7,24 @@ package org.postgresql.ds;
 
 import org.postgresql.ds.common.BaseDataSource;
 import org.postgresql.util.DriverInfo;
+import org.postgresql.util.GT;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.sql.ConnectionPoolDataSource;
 import javax.sql.PooledConnection;
@@ -73,6 +85,114 @@ public class PGConnectionPoolDataSource extends BaseDataSource
     return new PGPooledConnection(getConnection(user, password), defaultAutoCommit);
   }
 
+  /**
+   * Opens several connections for the default user, with up to {@code parallelism} connections
+   * being established at the same time. This is faster than calling {@link #getPooledConnection()}
+   * in a loop when warming up a pool, since the network round trips and the authentication of the
+   * connections overlap.
+   *
+   * @param count the number of connections to open
+   * @param parallelism the maximum number of connections being established at the same time
+   * @return the connections, in no particular order
+   * @throws SQLException if a connection cannot be established, in which case the connections
+   *         already opened are closed
+   */
+  public List<PooledConnection> getPooledConnections(int count, int parallelism)
+      throws SQLException {
+    List<PooledConnection> connections = new ArrayList<>(count);
+    if (parallelism <= 1 || count <= 1) {
+      try {
+        while (connections.size() < count) {
+          connections.add(getPooledConnection());
+        }
+      } catch (SQLException e) {
+        closeAll(connections, e);
+        throw e;
+      }
+      return connections;
+    }
+    int threads = Math.min(parallelism, count);
+    ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+      Thread thread = new Thread(runnable, "PostgreSQL-JDBC-PoolWarmup");
+      thread.setDaemon(true);
+      return thread;
+    });
+    // Once an attempt failed, the connections that did not start yet are not opened
+    AtomicBoolean failed = new AtomicBoolean();
+    List<Future<@Nullable PooledConnection>> futures = new ArrayList<>(count);
+    SQLException failure = null;
+    // The index of the first future whose connection is not in the list yet
+    int next = 0;
+    try {
+      for (int i = 0; i < count; i++) {
+        futures.add(executor.submit(() -> failed.get() ? null : getPooledConnection()));
+      }
+      for (; next < futures.size(); next++) {
+        try {
+          PooledConnection connection = futures.get(next).get();
+          if (connection != null) {
+            connections.add(connection);
+          }
+        } catch (ExecutionException e) {
+          failed.set(true);
+          if (failure == null) {
+            Throwable cause = e.getCause();
+            failure = cause instanceof SQLException ? (SQLException) cause
+                : new PSQLException(GT.tr("The connection attempt failed."),
+                    PSQLState.CONNECTION_UNABLE_TO_CONNECT, cause);
+          }
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      failed.set(true);
+      failure = new PSQLException(GT.tr("Interrupted while establishing a connection."),
+          PSQLState.CONNECTION_UNABLE_TO_CONNECT, e);
+      // The connections already established are closed with the others below, and the
+      // connections still being established are closed once they are
+      for (Future<@Nullable PooledConnection> future : futures.subList(next, futures.size())) {
+        if (future.isDone()) {
+          try {
+            PooledConnection connection = future.get();
+            if (connection != null) {
+              connections.add(connection);
+            }
+          } catch (ExecutionException | InterruptedException ignore) {
+            // Nothing to close, the future is done so get() does not wait
+          }
+        } else {
+          executor.execute(() -> {
+            try {
+              PooledConnection connection = future.get();
+              if (connection != null) {
+                connection.close();
+              }
+            } catch (Exception ignore) {
+              // Nothing to close
+            }
+          });
+        }
+      }
+    } finally {
+      executor.shutdown();
+    }
+    if (failure != null) {
+      closeAll(connections, failure);
+      throw failure;
+    }
+    return connections;
+  }
+
+  private static void closeAll(List<PooledConnection> connections, SQLException failure) {
+    for (PooledConnection connection : connections) {
+      try {
+        connection.close();
+      } catch (SQLException e) {
+        failure.addSuppressed(e);
+      }
+    }
+  }
+
   /**
    * Gets whether connections supplied by this pool will have autoCommit turned on by default. The
    * default value is {@code true}, so that autoCommit will be turned on by default.
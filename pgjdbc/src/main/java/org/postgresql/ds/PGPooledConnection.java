@@ -9,6 +9,11 @@ import static org.postgresql.util.internal.Nullness.castNonNull;
 
 import org.postgresql.PGConnection;
 import org.postgresql.PGStatement;
+import org.postgresql.core.BaseConnection;
+import org.postgresql.core.BaseStatement;
+import org.postgresql.core.QueryExecutor;
+import org.postgresql.core.SessionStateTracker;
+import org.postgresql.core.TransactionState;
 import org.postgresql.util.GT;
 import org.postgresql.util.PSQLException;
 import org.postgresql.util.PSQLState;
@@ -172,6 +177,62 @@ public class PGPooledConnection implements PooledConnection {
     return proxyCon;
   }
 
+  /**
+   * Restores the session state that the clients changed since the connection was opened or last
+   * reset, so that the next client finds the session as if the connection was new. Only the state
+   * that actually changed is restored, as tracked by {@link SessionStateTracker}: unlike
+   * {@code DISCARD ALL}, this sends nothing when the clients did not change the session, and keeps
+   * the statements prepared by the driver unless the clients used {@code PREPARE} or changed the
+   * {@code search_path}. If a client has a connection based on this PooledConnection, it is
+   * forcibly closed.
+   *
+   * <p>The settings are restored with {@code RESET ALL}, after which the settings that the driver
+   * made with {@code SET}, such as the read-only session of {@code readOnlyMode=always}, are
+   * applied again, see {@link BaseConnection#getSessionSettingsSql()}.</p>
+   *
+   * @throws SQLException if the connection is closed or the session cannot be restored
+   */
+  public void resetSession() throws SQLException {
+    Connection con = this.con;
+    if (con == null) {
+      throw new PSQLException(GT.tr("This PooledConnection has already been closed."),
+          PSQLState.CONNECTION_DOES_NOT_EXIST);
+    }
+    ConnectionHandler last = this.last;
+    if (last != null) {
+      last.close();
+      this.last = null;
+    }
+    BaseConnection pgCon = con.unwrap(BaseConnection.class);
+    SessionStateTracker tracker = pgCon.getQueryExecutor().getSessionStateTracker();
+    String sql = SessionStateTracker.getResetSql(tracker.getChanges(),
+        pgCon.getTransactionState() != TransactionState.IDLE, pgCon.getSessionSettingsSql());
+    if (sql == null) {
+      return;
+    }
+    try (Statement st = pgCon.createStatement()) {
+      ((BaseStatement) st).executeWithFlags(sql, QueryExecutor.QUERY_SUPPRESS_BEGIN);
+    } catch (SQLException e) {
+      fireConnectionError(e);
+      throw e;
+    }
+    pgCon.clearWarnings();
+    tracker.clear();
+  }
+
+  /**
+   * Returns whether the physical connection is still usable, without handing it out to a client.
+   * This lets a pool check its idle connections.
+   *
+   * @param timeout the time in seconds to wait for the validation query, or 0 for no limit
+   * @return true if the connection is open and answered the validation query
+   * @throws SQLException if the timeout is negative
+   */
+  boolean isValid(int timeout) throws SQLException {
+    Connection con = this.con;
+    return con != null && con.isValid(timeout);
+  }
+
   /**
    * Used to fire a connection closed event to all listeners.
    */
@@ -64,7 +64,7 @@ import javax.sql.PooledConnection;
  * @author Aaron Mulder (ammulder@chariotsolutions.com)
  *
  * @deprecated Since 42.0.0, instead of this class you should use a fully featured connection pool
- *     like HikariCP, vibur-dbcp, commons-dbcp, c3p0, etc.
+ *     like HikariCP, vibur-dbcp, commons-dbcp, c3p0, etc., or {@link PGConcurrentPoolingDataSource}.
  */
 @Deprecated
 public class PGPoolingDataSource extends BaseDataSource implements DataSource {
@@ -78,6 +78,7 @@ public class PGPoolingDataSource extends BaseDataSource implements DataSource {
   // Additional Data Source properties
   protected @Nullable String dataSourceName; // Must be protected for subclasses to sync updates to it
   private int initialConnections;
+  private int warmupParallelism = 1;
   private int maxConnections;
   // State variables
   private boolean initialized;
@@ -198,6 +199,34 @@ public class PGPoolingDataSource extends BaseDataSource implements DataSource {
     this.initialConnections = initialConnections;
   }
 
+  /**
+   * Gets the maximum number of initial connections that are established at the same time when this
+   * DataSource is initialized.
+   *
+   * @return the maximum number of initial connections established at the same time
+   */
+  public int getWarmupParallelism() {
+    return warmupParallelism;
+  }
+
+  /**
+   * Sets the maximum number of initial connections that are established at the same time when this
+   * DataSource is initialized. The default value is 1, which establishes them one after the other.
+   * Higher values make the initialization faster when the connections take long to establish, for
+   * instance because of the network latency or the authentication.
+   *
+   * @param warmupParallelism the maximum number of initial connections established at the same time
+   * @throws IllegalStateException The Warmup Parallelism cannot be changed after the DataSource
+   *         has been used.
+   */
+  public void setWarmupParallelism(int warmupParallelism) {
+    if (initialized) {
+      throw new IllegalStateException(
+          "Cannot set Data Source properties after DataSource has been used");
+    }
+    this.warmupParallelism = warmupParallelism;
+  }
+
   /**
    * Gets the maximum number of connections that the pool will allow. If a request comes in and this
    * many connections are in use, the request will block until a connection is available. Note that
@@ -288,8 +317,11 @@ public class PGPoolingDataSource extends BaseDataSource implements DataSource {
             e);
       }
 
-      while (available.size() < initialConnections) {
-        available.push(source.getPooledConnection());
+      if (initialConnections > available.size()) {
+        for (PooledConnection connection : source.getPooledConnections(
+            initialConnections - available.size(), warmupParallelism)) {
+          available.push(connection);
+        }
       }
 
       initialized = true;
@@ -468,6 +500,9 @@ public class PGPoolingDataSource extends BaseDataSource implements DataSource {
     if (initialConnections > 0) {
       ref.add(new StringRefAddr("initialConnections", Integer.toString(initialConnections)));
     }
+    if (warmupParallelism > 1) {
+      ref.add(new StringRefAddr("warmupParallelism", Integer.toString(warmupParallelism)));
+    }
     if (maxConnections > 0) {
       ref.add(new StringRefAddr("maxConnections", Integer.toString(maxConnections)));
     }
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.ds;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A physical connection of a {@link PGConcurrentPoolingDataSource}, with the state that the pool
+ * keeps about it.
+ */
+final class PoolEntry {
+  static final int STATE_NOT_IN_USE = 0;
+  static final int STATE_IN_USE = 1;
+  static final int STATE_REMOVED = -1;
+  static final int STATE_RESERVED = -2;
+
+  final PGPooledConnection pooledConnection;
+  final AtomicInteger state = new AtomicInteger(STATE_NOT_IN_USE);
+
+  /**
+   * {@link System#nanoTime()} when the connection was last returned to the pool.
+   */
+  volatile long lastAccessed;
+
+  /**
+   * {@link System#nanoTime()} when the connection was last validated.
+   */
+  volatile long lastValidated;
+
+  /**
+   * Set when the connection must be closed instead of being returned to the pool, for instance
+   * because it reached its maximum lifetime while in use.
+   */
+  volatile boolean evicted;
+
+  /**
+   * The task that evicts the connection when it reaches its maximum lifetime, if any.
+   */
+  volatile @Nullable ScheduledFuture<?> endOfLife;
+
+  PoolEntry(PGPooledConnection pooledConnection, long now) {
+    this.pooledConnection = pooledConnection;
+    this.lastAccessed = now;
+    this.lastValidated = now;
+  }
+
+  boolean compareAndSetState(int expect, int update) {
+    return state.compareAndSet(expect, update);
+  }
+
+  int getState() {
+    return state.get();
+  }
+}
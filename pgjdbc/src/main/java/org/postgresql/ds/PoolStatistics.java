@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.ds;
+
+/**
+ * State and counters of a {@link PGConcurrentPoolingDataSource}, since it was initialized.
+ */
+public final class PoolStatistics {
+  private final int totalConnections;
+  private final int activeConnections;
+  private final int idleConnections;
+  private final int pendingThreads;
+  private final long createdCount;
+  private final long closedCount;
+  private final long borrowCount;
+  private final long timeoutCount;
+  private final long validationFailureCount;
+  private final long borrowWaitNanos;
+
+  public PoolStatistics(int totalConnections, int activeConnections, int idleConnections,
+      int pendingThreads, long createdCount, long closedCount, long borrowCount, long timeoutCount,
+      long validationFailureCount, long borrowWaitNanos) {
+    this.totalConnections = totalConnections;
+    this.activeConnections = activeConnections;
+    this.idleConnections = idleConnections;
+    this.pendingThreads = pendingThreads;
+    this.createdCount = createdCount;
+    this.closedCount = closedCount;
+    this.borrowCount = borrowCount;
+    this.timeoutCount = timeoutCount;
+    this.validationFailureCount = validationFailureCount;
+    this.borrowWaitNanos = borrowWaitNanos;
+  }
+
+  /**
+   * @return the number of physical connections of the pool, in use or not
+   */
+  public int getTotalConnections() {
+    return totalConnections;
+  }
+
+  /**
+   * @return the number of connections handed out to clients
+   */
+  public int getActiveConnections() {
+    return activeConnections;
+  }
+
+  /**
+   * @return the number of connections available for clients
+   */
+  public int getIdleConnections() {
+    return idleConnections;
+  }
+
+  /**
+   * @return the number of threads waiting for a connection
+   */
+  public int getPendingThreads() {
+    return pendingThreads;
+  }
+
+  /**
+   * @return the number of physical connections opened by the pool
+   */
+  public long getCreatedCount() {
+    return createdCount;
+  }
+
+  /**
+   * @return the number of physical connections closed by the pool
+   */
+  public long getClosedCount() {
+    return closedCount;
+  }
+
+  /**
+   * @return the number of connections handed out to clients
+   */
+  public long getBorrowCount() {
+    return borrowCount;
+  }
+
+  /**
+   * @return the number of requests that failed because no connection was available in time
+   */
+  public long getTimeoutCount() {
+    return timeoutCount;
+  }
+
+  /**
+   * @return the number of idle connections that were closed because they failed their validation
+   */
+  public long getValidationFailureCount() {
+    return validationFailureCount;
+  }
+
+  /**
+   * @return the total time, in nanoseconds, that the clients waited for the connections handed out
+   */
+  public long getBorrowWaitNanos() {
+    return borrowWaitNanos;
+  }
+
+  /**
+   * @return the average time, in nanoseconds, that the clients waited for a connection, or 0 if
+   *     no connection was handed out
+   */
+  public long getAverageBorrowWaitNanos() {
+    return borrowCount == 0 ? 0 : borrowWaitNanos / borrowCount;
+  }
+
+  @Override
+  public String toString() {
+    return "PoolStatistics{"
+        + "totalConnections=" + totalConnections
+        + ", activeConnections=" + activeConnections
+        + ", idleConnections=" + idleConnections
+        + ", pendingThreads=" + pendingThreads
+        + ", createdCount=" + createdCount
+        + ", closedCount=" + closedCount
+        + ", borrowCount=" + borrowCount
+        + ", timeoutCount=" + timeoutCount
+        + ", validationFailureCount=" + validationFailureCount
+        + ", borrowWaitNanos=" + borrowWaitNanos
+        + '}';
+  }
+}
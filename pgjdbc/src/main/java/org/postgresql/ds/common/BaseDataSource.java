@@ -447,6 +447,23 @@ public abstract class BaseDataSource implements CommonDataSource, Referenceable
     PGProperty.RECEIVE_BUFFER_SIZE.set(properties, nbytes);
   }
 
+  /**
+   * @return maximum number of SCRAM keys kept in memory
+   * @see PGProperty#SCRAM_KEY_CACHE_SIZE
+   */
+  public int getScramKeyCacheSize() {
+    return PGProperty.SCRAM_KEY_CACHE_SIZE.getIntNoCheck(properties);
+  }
+
+  /**
+   * @param scramKeyCacheSize maximum number of SCRAM keys kept in memory, {@code 0} to disable
+   *     the cache
+   * @see PGProperty#SCRAM_KEY_CACHE_SIZE
+   */
+  public void setScramKeyCacheSize(int scramKeyCacheSize) {
+    PGProperty.SCRAM_KEY_CACHE_SIZE.set(properties, scramKeyCacheSize);
+  }
+
   /**
    * @return send buffer size
    * @see PGProperty#SEND_BUFFER_SIZE
@@ -527,6 +544,22 @@ public abstract class BaseDataSource implements CommonDataSource, Referenceable
     PGProperty.PREPARED_STATEMENT_CACHE_SIZE_MIB.set(properties, cacheSize);
   }
 
+  /**
+   * @return 'lru' or 'tinylfu'
+   * @see PGProperty#PREPARED_STATEMENT_CACHE_POLICY
+   */
+  public String getPreparedStatementCachePolicy() {
+    return castNonNull(PGProperty.PREPARED_STATEMENT_CACHE_POLICY.getOrDefault(properties));
+  }
+
+  /**
+   * @param policy how the prepared statement cache chooses the statements to discard
+   * @see PGProperty#PREPARED_STATEMENT_CACHE_POLICY
+   */
+  public void setPreparedStatementCachePolicy(@Nullable String policy) {
+    PGProperty.PREPARED_STATEMENT_CACHE_POLICY.set(properties, policy);
+  }
+
   /**
    * @return database metadata cache fields size (number of fields cached per connection)
    * @see PGProperty#DATABASE_METADATA_CACHE_FIELDS
@@ -559,6 +592,56 @@ public abstract class BaseDataSource implements CommonDataSource, Referenceable
     PGProperty.DATABASE_METADATA_CACHE_FIELDS_MIB.set(properties, cacheSize);
   }
 
+  /**
+   * @return number of seconds the results of the database metadata queries are cached
+   * @see PGProperty#DATABASE_METADATA_CACHE_SECONDS
+   */
+  public int getDatabaseMetadataCacheSeconds() {
+    return PGProperty.DATABASE_METADATA_CACHE_SECONDS.getIntNoCheck(properties);
+  }
+
+  /**
+   * @param seconds number of seconds the results of the database metadata queries are cached
+   * @see PGProperty#DATABASE_METADATA_CACHE_SECONDS
+   */
+  public void setDatabaseMetadataCacheSeconds(int seconds) {
+    PGProperty.DATABASE_METADATA_CACHE_SECONDS.set(properties, seconds);
+  }
+
+  /**
+   * @return true if the cache of fields is shared with the other connections to the same database
+   * @see PGProperty#DATABASE_METADATA_CACHE_SHARED
+   */
+  public boolean getDatabaseMetadataCacheShared() {
+    return PGProperty.DATABASE_METADATA_CACHE_SHARED.getBoolean(properties);
+  }
+
+  /**
+   * @param databaseMetadataCacheShared true to share the cache of fields with the other
+   *     connections to the same database
+   * @see PGProperty#DATABASE_METADATA_CACHE_SHARED
+   */
+  public void setDatabaseMetadataCacheShared(boolean databaseMetadataCacheShared) {
+    PGProperty.DATABASE_METADATA_CACHE_SHARED.set(properties, databaseMetadataCacheShared);
+  }
+
+  /**
+   * @return true if the repeated values of a column of a result set are the same String instance
+   * @see PGProperty#DEDUPLICATE_STRINGS
+   */
+  public boolean getDeduplicateStrings() {
+    return PGProperty.DEDUPLICATE_STRINGS.getBoolean(properties);
+  }
+
+  /**
+   * @param deduplicateStrings true to return the repeated values of a column of a result set as
+   *     the same String instance
+   * @see PGProperty#DEDUPLICATE_STRINGS
+   */
+  public void setDeduplicateStrings(boolean deduplicateStrings) {
+    PGProperty.DEDUPLICATE_STRINGS.set(properties, deduplicateStrings);
+  }
+
   /**
    * @param fetchSize default fetch size
    * @see PGProperty#DEFAULT_ROW_FETCH_SIZE
@@ -854,6 +937,22 @@ public abstract class BaseDataSource implements CommonDataSource, Referenceable
     return PGProperty.LOAD_BALANCE_HOSTS.isPresent(properties);
   }
 
+  /**
+   * @param parallelHostConnect whether to connect to all the hosts at the same time
+   * @see PGProperty#PARALLEL_HOST_CONNECT
+   */
+  public void setParallelHostConnect(boolean parallelHostConnect) {
+    PGProperty.PARALLEL_HOST_CONNECT.set(properties, parallelHostConnect);
+  }
+
+  /**
+   * @return whether to connect to all the hosts at the same time
+   * @see PGProperty#PARALLEL_HOST_CONNECT
+   */
+  public boolean getParallelHostConnect() {
+    return PGProperty.PARALLEL_HOST_CONNECT.getBoolean(properties);
+  }
+
   /**
    * @param hostRecheckSeconds host recheck seconds
    * @see PGProperty#HOST_RECHECK_SECONDS
@@ -1502,6 +1601,23 @@ public abstract class BaseDataSource implements CommonDataSource, Referenceable
     PGProperty.AUTHENTICATION_PLUGIN_CLASS_NAME.set(properties, className);
   }
 
+  /**
+   * @return the name of the class receiving the time spent in each phase of the connections
+   * @see PGProperty#CONNECTION_TIMING_LISTENER
+   */
+  public @Nullable String getConnectionTimingListener() {
+    return PGProperty.CONNECTION_TIMING_LISTENER.getOrDefault(properties);
+  }
+
+  /**
+   * @param className name of a class which implements
+   *     {@link org.postgresql.plugin.ConnectionTimingListener}
+   * @see PGProperty#CONNECTION_TIMING_LISTENER
+   */
+  public void setConnectionTimingListener(@Nullable String className) {
+    PGProperty.CONNECTION_TIMING_LISTENER.set(properties, className);
+  }
+
   public @Nullable String getProperty(String name) throws SQLException {
     PGProperty pgProperty = PGProperty.forName(name);
     if (pgProperty != null) {
@@ -1724,6 +1840,118 @@ public abstract class BaseDataSource implements CommonDataSource, Referenceable
     PGProperty.CLEANUP_SAVEPOINTS.set(properties, cleanupSavepoints);
   }
 
+  /**
+   * @return true if the fetch size is used in auto-commit mode
+   * @see PGProperty#CHUNKED_RESULTS
+   */
+  public boolean getChunkedResults() {
+    return PGProperty.CHUNKED_RESULTS.getBoolean(properties);
+  }
+
+  /**
+   * @param chunkedResults true to read the rows in chunks of the fetch size in auto-commit mode
+   * @see PGProperty#CHUNKED_RESULTS
+   */
+  public void setChunkedResults(boolean chunkedResults) {
+    PGProperty.CHUNKED_RESULTS.set(properties, chunkedResults);
+  }
+
+  /**
+   * @return true if the fixed-width binary columns of the results are stored in primitive arrays
+   * @see PGProperty#COLUMNAR_RESULTS
+   */
+  public boolean getColumnarResults() {
+    return PGProperty.COLUMNAR_RESULTS.getBoolean(properties);
+  }
+
+  /**
+   * @param columnarResults true to store the fixed-width binary columns in primitive arrays
+   * @see PGProperty#COLUMNAR_RESULTS
+   */
+  public void setColumnarResults(boolean columnarResults) {
+    PGProperty.COLUMNAR_RESULTS.set(properties, columnarResults);
+  }
+
+  /**
+   * @return true if batches are sent from a background thread
+   * @see PGProperty#CONCURRENT_BATCH_WRITES
+   */
+  public boolean getConcurrentBatchWrites() {
+    return PGProperty.CONCURRENT_BATCH_WRITES.getBoolean(properties);
+  }
+
+  /**
+   * @param concurrentBatchWrites true to send batches from a background thread
+   * @see PGProperty#CONCURRENT_BATCH_WRITES
+   */
+  public void setConcurrentBatchWrites(boolean concurrentBatchWrites) {
+    PGProperty.CONCURRENT_BATCH_WRITES.set(properties, concurrentBatchWrites);
+  }
+
+  /**
+   * @return true if the rows are received into buffers shared by several rows
+   * @see PGProperty#SHARED_ROW_BUFFERS
+   */
+  public boolean getSharedRowBuffers() {
+    return PGProperty.SHARED_ROW_BUFFERS.getBoolean(properties);
+  }
+
+  /**
+   * @param sharedRowBuffers true to receive the rows into buffers shared by several rows
+   * @see PGProperty#SHARED_ROW_BUFFERS
+   */
+  public void setSharedRowBuffers(boolean sharedRowBuffers) {
+    PGProperty.SHARED_ROW_BUFFERS.set(properties, sharedRowBuffers);
+  }
+
+  /**
+   * @return true if the types read from pg_type are shared with the other connections
+   * @see PGProperty#SHARED_TYPE_CATALOG
+   */
+  public boolean getSharedTypeCatalog() {
+    return PGProperty.SHARED_TYPE_CATALOG.getBoolean(properties);
+  }
+
+  /**
+   * @param sharedTypeCatalog true to share the types read from pg_type with the other connections
+   * @see PGProperty#SHARED_TYPE_CATALOG
+   */
+  public void setSharedTypeCatalog(boolean sharedTypeCatalog) {
+    PGProperty.SHARED_TYPE_CATALOG.set(properties, sharedTypeCatalog);
+  }
+
+  /**
+   * @return true if the types of the database are read when the connection is opened
+   * @see PGProperty#PRELOAD_TYPE_CATALOG
+   */
+  public boolean getPreloadTypeCatalog() {
+    return PGProperty.PRELOAD_TYPE_CATALOG.getBoolean(properties);
+  }
+
+  /**
+   * @param preloadTypeCatalog true to read the types of the database when the connection is opened
+   * @see PGProperty#PRELOAD_TYPE_CATALOG
+   */
+  public void setPreloadTypeCatalog(boolean preloadTypeCatalog) {
+    PGProperty.PRELOAD_TYPE_CATALOG.set(properties, preloadTypeCatalog);
+  }
+
+  /**
+   * @return true if plain TCP connections are read through a channel into a direct buffer
+   * @see PGProperty#DIRECT_RECEIVE_BUFFER
+   */
+  public boolean getDirectReceiveBuffer() {
+    return PGProperty.DIRECT_RECEIVE_BUFFER.getBoolean(properties);
+  }
+
+  /**
+   * @param directReceiveBuffer true to read plain TCP connections into a direct buffer
+   * @see PGProperty#DIRECT_RECEIVE_BUFFER
+   */
+  public void setDirectReceiveBuffer(boolean directReceiveBuffer) {
+    PGProperty.DIRECT_RECEIVE_BUFFER.set(properties, directReceiveBuffer);
+  }
+
   /**
    * @return boolean indicating property is enabled or not.
    * @see PGProperty#REWRITE_BATCHED_INSERTS
@@ -1764,6 +1992,22 @@ public abstract class BaseDataSource implements CommonDataSource, Referenceable
     PGProperty.MAX_RESULT_BUFFER.set(properties, maxResultBuffer);
   }
 
+  /**
+   * @return true if the values decoded from the current row of a result set are kept
+   * @see PGProperty#MEMOIZE_ROW_VALUES
+   */
+  public boolean getMemoizeRowValues() {
+    return PGProperty.MEMOIZE_ROW_VALUES.getBoolean(properties);
+  }
+
+  /**
+   * @param memoizeRowValues true to keep the values decoded from the current row of a result set
+   * @see PGProperty#MEMOIZE_ROW_VALUES
+   */
+  public void setMemoizeRowValues(boolean memoizeRowValues) {
+    PGProperty.MEMOIZE_ROW_VALUES.set(properties, memoizeRowValues);
+  }
+
   public boolean getAdaptiveFetch() {
     return PGProperty.ADAPTIVE_FETCH.getBoolean(properties);
   }
@@ -72,6 +72,10 @@ public class PGObjectFactory implements ObjectFactory {
     if (min != null) {
       pds.setInitialConnections(Integer.parseInt(min));
     }
+    String warmup = getProperty(ref, "warmupParallelism");
+    if (warmup != null) {
+      pds.setWarmupParallelism(Integer.parseInt(warmup));
+    }
     String max = getProperty(ref, "maxConnections");
     if (max != null) {
       pds.setMaxConnections(Integer.parseInt(max));
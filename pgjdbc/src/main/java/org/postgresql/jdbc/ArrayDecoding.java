@@ -13,6 +13,7 @@ import org.postgresql.core.Oid;
 import org.postgresql.core.Parser;
 import org.postgresql.jdbc2.ArrayAssistant;
 import org.postgresql.jdbc2.ArrayAssistantRegistry;
+import org.postgresql.util.ByteConverter;
 import org.postgresql.util.GT;
 import org.postgresql.util.PGbytea;
 import org.postgresql.util.PSQLException;
@@ -313,15 +314,46 @@ final class ArrayDecoding {
     }
   };
 
-  private static final ArrayDecoder<BigDecimal[]> BIG_DECIMAL_STRING_DECODER = new AbstractObjectStringArrayDecoder<BigDecimal[]>(
+  private static final ArrayDecoder<BigDecimal[]> BIG_DECIMAL_OBJ_ARRAY = new AbstractObjectArrayDecoder<BigDecimal[]>(
       BigDecimal.class) {
 
+    @Override
+    Object parseValue(int length, ByteBuffer bytes, BaseConnection connection) throws SQLException {
+      assert bytes.hasArray();
+      final Number value = ByteConverter.numeric(bytes.array(), bytes.arrayOffset() + bytes.position(), length);
+      bytes.position(bytes.position() + length);
+      if (!(value instanceof BigDecimal)) {
+        // NaN and infinities, which the text format rejects too
+        throw new PSQLException(GT.tr("Bad value for type {0} : {1}", "BigDecimal", value),
+            PSQLState.NUMERIC_VALUE_OUT_OF_RANGE);
+      }
+      return value;
+    }
+
     @Override
     Object parseValue(String stringVal, BaseConnection connection) throws SQLException {
       return PgResultSet.toBigDecimal(stringVal);
     }
   };
 
+  private static final ArrayDecoder<String[]> JSONB_STRING_ARRAY = new AbstractObjectArrayDecoder<String[]>(
+      String.class) {
+
+    @Override
+    Object parseValue(int length, ByteBuffer bytes, BaseConnection connection) throws SQLException {
+      assert bytes.hasArray();
+      final String val = PgResultSet.decodeJsonb(bytes.array(), bytes.arrayOffset() + bytes.position(), length,
+          connection);
+      bytes.position(bytes.position() + length);
+      return val;
+    }
+
+    @Override
+    Object parseValue(String stringVal, BaseConnection connection) throws SQLException {
+      return stringVal;
+    }
+  };
+
   private static final ArrayDecoder<String[]> STRING_ONLY_DECODER = new AbstractObjectStringArrayDecoder<String[]>(
       String.class) {
 
@@ -380,11 +412,11 @@ final class ArrayDecoding {
     OID_TO_DECODER.put(Oid.TEXT, STRING_ARRAY);
     OID_TO_DECODER.put(Oid.VARCHAR, STRING_ARRAY);
     // 42.2.x decodes jsonb array as String rather than PGobject
-    OID_TO_DECODER.put(Oid.JSONB, STRING_ONLY_DECODER);
+    OID_TO_DECODER.put(Oid.JSONB, JSONB_STRING_ARRAY);
     OID_TO_DECODER.put(Oid.BIT, BOOLEAN_OBJ_ARRAY);
     OID_TO_DECODER.put(Oid.BOOL, BOOLEAN_OBJ_ARRAY);
     OID_TO_DECODER.put(Oid.BYTEA, BYTE_ARRAY_ARRAY);
-    OID_TO_DECODER.put(Oid.NUMERIC, BIG_DECIMAL_STRING_DECODER);
+    OID_TO_DECODER.put(Oid.NUMERIC, BIG_DECIMAL_OBJ_ARRAY);
     OID_TO_DECODER.put(Oid.BPCHAR, STRING_ONLY_DECODER);
     OID_TO_DECODER.put(Oid.CHAR, STRING_ONLY_DECODER);
     OID_TO_DECODER.put(Oid.JSON, STRING_ONLY_DECODER);
@@ -802,4 +834,240 @@ final class ArrayDecoding {
       }
     }
   }
+
+  /**
+   * Tells whether the given class is an array of {@code boolean}, {@code short}, {@code int},
+   * {@code long}, {@code float} or {@code double}, of any number of dimensions, that
+   * {@link #readPrimitiveArray(byte[], int, Class, BaseConnection)} can decode.
+   *
+   * @param arrayType the class of the array, e.g. {@code double[].class}
+   * @return true if the arrays of this class can be decoded without boxing
+   */
+  static boolean isPrimitiveArrayType(Class<?> arrayType) {
+    Class<?> componentType = arrayType;
+    while (componentType.isArray()) {
+      componentType = componentType.getComponentType();
+    }
+    return componentType != arrayType && componentType.isPrimitive()
+        && componentType != byte.class && componentType != char.class;
+  }
+
+  /**
+   * Decodes the binary representation of an array of {@code bool}, {@code int2}, {@code int4},
+   * {@code int8}, {@code float4} or {@code float8} directly into an array of primitives, such as
+   * {@code double[]} or {@code int[][]}, without boxing the elements. The integer types can be
+   * widened, e.g. an {@code int4[]} read as {@code long[]}, as can {@code float4} read as
+   * {@code double}.
+   *
+   * @param bytes the buffer that contains the binary representation of the array
+   * @param offset the position of the array in <i>bytes</i>
+   * @param arrayType the class of the array to return, with as many dimensions as the array
+   * @param connection the connection the <i>bytes</i> were retrieved from
+   * @return the array, of class <i>arrayType</i>
+   * @throws SQLException if the elements cannot be converted, are null, or the number of
+   *     dimensions does not match
+   */
+  static Object readPrimitiveArray(byte[] bytes, int offset, Class<?> arrayType,
+      BaseConnection connection) throws SQLException {
+    final int dimensions = ByteConverter.int4(bytes, offset);
+    final boolean hasNulls = ByteConverter.int4(bytes, offset + 4) != 0;
+    final int elementOid = ByteConverter.int4(bytes, offset + 8);
+    final Class<?> componentType = checkPrimitiveConversion(arrayType, elementOid, connection);
+
+    if (dimensions == 0) {
+      return Array.newInstance(castNonNull(arrayType.getComponentType()), 0);
+    }
+    checkPrimitiveDimensions(arrayType, dimensions);
+    if (hasNulls) {
+      throw nullElementException(arrayType);
+    }
+
+    final int[] dimensionLengths = new int[dimensions];
+    int pos = offset + 12;
+    for (int i = 0; i < dimensions; i++) {
+      dimensionLengths[i] = ByteConverter.int4(bytes, pos);
+      // skip the lower bound
+      pos += 8;
+    }
+    final Object array = Array.newInstance(componentType, dimensionLengths);
+    readPrimitiveValues(array, elementOid, bytes, pos);
+    return array;
+  }
+
+  /**
+   * Stores the binary values that start at <i>pos</i> into the array, and its sub-arrays.
+   *
+   * @return the position after the last value
+   */
+  private static int readPrimitiveValues(Object array, int elementOid, byte[] bytes, int pos) {
+    if (array instanceof Object[]) {
+      for (Object subArray : (Object[]) array) {
+        pos = readPrimitiveValues(castNonNull(subArray), elementOid, bytes, pos);
+      }
+      return pos;
+    }
+    // Each value is preceded by its length, which is fixed for these types
+    if (array instanceof double[]) {
+      final double[] values = (double[]) array;
+      for (int i = 0; i < values.length; i++) {
+        values[i] = elementOid == Oid.FLOAT8
+            ? ByteConverter.float8(bytes, pos + 4) : ByteConverter.float4(bytes, pos + 4);
+        pos += 4 + ByteConverter.int4(bytes, pos);
+      }
+    } else if (array instanceof float[]) {
+      final float[] values = (float[]) array;
+      for (int i = 0; i < values.length; i++) {
+        values[i] = ByteConverter.float4(bytes, pos + 4);
+        pos += 8;
+      }
+    } else if (array instanceof boolean[]) {
+      final boolean[] values = (boolean[]) array;
+      for (int i = 0; i < values.length; i++) {
+        values[i] = bytes[pos + 4] == 1;
+        pos += 5;
+      }
+    } else {
+      final int length = Array.getLength(array);
+      for (int i = 0; i < length; i++) {
+        final long value;
+        if (elementOid == Oid.INT8) {
+          value = ByteConverter.int8(bytes, pos + 4);
+        } else if (elementOid == Oid.INT4) {
+          value = ByteConverter.int4(bytes, pos + 4);
+        } else {
+          value = ByteConverter.int2(bytes, pos + 4);
+        }
+        pos += 4 + ByteConverter.int4(bytes, pos);
+        if (array instanceof long[]) {
+          ((long[]) array)[i] = value;
+        } else if (array instanceof int[]) {
+          ((int[]) array)[i] = (int) value;
+        } else {
+          ((short[]) array)[i] = (short) value;
+        }
+      }
+    }
+    return pos;
+  }
+
+  /**
+   * Converts the elements of a parsed text array into an array of primitives, see
+   * {@link #readPrimitiveArray(byte[], int, Class, BaseConnection)}.
+   *
+   * @param list the parsed array
+   * @param elementOid the oid of the elements
+   * @param arrayType the class of the array to return, with as many dimensions as the array
+   * @param connection the connection the array was retrieved from
+   * @return the array, of class <i>arrayType</i>
+   * @throws SQLException if the elements cannot be converted, are null, or the number of
+   *     dimensions does not match
+   */
+  static Object readPrimitiveArray(PgArrayList list, int elementOid, Class<?> arrayType,
+      BaseConnection connection) throws SQLException {
+    final Class<?> componentType = checkPrimitiveConversion(arrayType, elementOid, connection);
+    if (list.isEmpty()) {
+      return Array.newInstance(castNonNull(arrayType.getComponentType()), 0);
+    }
+    final int dimensions = list.dimensionsCount;
+    checkPrimitiveDimensions(arrayType, dimensions);
+
+    final int[] dimensionLengths = new int[dimensions];
+    List<?> subList = list;
+    for (int i = 0; i < dimensions; i++) {
+      dimensionLengths[i] = subList.size();
+      if (i != dimensions - 1) {
+        subList = (List<?>) castNonNull(subList.get(0), "first element of the array is null");
+      }
+    }
+    final Object array = Array.newInstance(componentType, dimensionLengths);
+    storePrimitiveValues(array, list, arrayType);
+    return array;
+  }
+
+  private static void storePrimitiveValues(Object array, List<?> list, Class<?> arrayType)
+      throws SQLException {
+    if (array instanceof Object[]) {
+      final Object[] subArrays = (Object[]) array;
+      for (int i = 0; i < subArrays.length; i++) {
+        storePrimitiveValues(castNonNull(subArrays[i]),
+            (List<?>) castNonNull(list.get(i), "list.get(i)"), arrayType);
+      }
+      return;
+    }
+    final int length = Array.getLength(array);
+    for (int i = 0; i < length; i++) {
+      final String value = (String) list.get(i);
+      if (value == null) {
+        throw nullElementException(arrayType);
+      }
+      if (array instanceof double[]) {
+        ((double[]) array)[i] = PgResultSet.toDouble(value);
+      } else if (array instanceof float[]) {
+        ((float[]) array)[i] = PgResultSet.toFloat(value);
+      } else if (array instanceof long[]) {
+        ((long[]) array)[i] = PgResultSet.toLong(value);
+      } else if (array instanceof int[]) {
+        ((int[]) array)[i] = PgResultSet.toInt(value);
+      } else if (array instanceof short[]) {
+        ((short[]) array)[i] = PgResultSet.toShort(value);
+      } else {
+        ((boolean[]) array)[i] = BooleanTypeUtil.fromString(value);
+      }
+    }
+  }
+
+  /**
+   * Checks that the elements of the given type can be stored in the primitive array.
+   *
+   * @return the primitive type of the elements of the array
+   */
+  private static Class<?> checkPrimitiveConversion(Class<?> arrayType, int elementOid,
+      BaseConnection connection) throws SQLException {
+    Class<?> componentType = arrayType;
+    while (componentType.isArray()) {
+      componentType = componentType.getComponentType();
+    }
+    final boolean supported;
+    if (componentType == long.class) {
+      supported = elementOid == Oid.INT8 || elementOid == Oid.INT4 || elementOid == Oid.INT2;
+    } else if (componentType == int.class) {
+      supported = elementOid == Oid.INT4 || elementOid == Oid.INT2;
+    } else if (componentType == short.class) {
+      supported = elementOid == Oid.INT2;
+    } else if (componentType == double.class) {
+      supported = elementOid == Oid.FLOAT8 || elementOid == Oid.FLOAT4;
+    } else if (componentType == float.class) {
+      supported = elementOid == Oid.FLOAT4;
+    } else if (componentType == boolean.class) {
+      supported = elementOid == Oid.BOOL;
+    } else {
+      supported = false;
+    }
+    if (!supported || componentType == arrayType) {
+      throw new PSQLException(GT.tr("conversion to {0} from {1} not supported",
+          arrayType.getSimpleName(), connection.getTypeInfo().getPGType(elementOid) + "[]"),
+          PSQLState.INVALID_PARAMETER_VALUE);
+    }
+    return componentType;
+  }
+
+  private static void checkPrimitiveDimensions(Class<?> arrayType, int dimensions)
+      throws PSQLException {
+    int arrayDimensions = 0;
+    for (Class<?> c = arrayType; c.isArray(); c = c.getComponentType()) {
+      arrayDimensions++;
+    }
+    if (arrayDimensions != dimensions) {
+      throw new PSQLException(
+          GT.tr("Cannot convert an array of {0} dimensions to {1}", dimensions,
+              arrayType.getSimpleName()),
+          PSQLState.DATA_TYPE_MISMATCH);
+    }
+  }
+
+  private static PSQLException nullElementException(Class<?> arrayType) {
+    return new PSQLException(
+        GT.tr("Cannot convert an array with null elements to {0}", arrayType.getSimpleName()),
+        PSQLState.DATA_TYPE_MISMATCH);
+  }
 }
@@ -19,6 +19,7 @@ import org.checkerframework.checker.index.qual.Positive;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.lang.reflect.Array;
+import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.util.HashMap;
@@ -1079,6 +1080,9 @@ final class ArrayEncoding {
             // this should never happen
             throw new IllegalStateException(e);
           }
+        } else if (array[i] instanceof BigDecimal) {
+          // numeric text has no exponent
+          PgArray.escapeArrayElement(sb, ((BigDecimal) array[i]).toPlainString());
         } else {
           PgArray.escapeArrayElement(sb, array[i].toString());
         }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.jdbc;
+
+import org.postgresql.core.QueryExecutor;
+
+import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reads the results of the statements executed asynchronously on a connection.
+ *
+ * <p>Asynchronous statements are queued with
+ * {@link QueryExecutor#executePipelined(org.postgresql.core.Query,
+ * org.postgresql.core.ParameterList, org.postgresql.core.ResultHandler, int, int)}, and a task of
+ * a shared daemon thread pool synchronizes the pipeline. At most one task is scheduled per
+ * connection: the results of the statements queued while it waits for the connection lock are
+ * read in the same round trip. Each statement is followed by its own Sync, so it runs in its own
+ * implicit transaction.</p>
+ */
+class AsyncResultReader implements Runnable {
+  private static final Logger LOGGER = Logger.getLogger(AsyncResultReader.class.getName());
+
+  private final QueryExecutor queryExecutor;
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+
+  AsyncResultReader(QueryExecutor queryExecutor) {
+    this.queryExecutor = queryExecutor;
+  }
+
+  /**
+   * Makes sure a reader task will synchronize the pipeline after the statements queued so far.
+   */
+  void schedule() {
+    if (scheduled.compareAndSet(false, true)) {
+      Pool.EXECUTOR.execute(this);
+    }
+  }
+
+  @Override
+  public void run() {
+    // Clear the flag first: statements queued from now on either are answered by this sync, or
+    // schedule another task that finds nothing to do
+    scheduled.set(false);
+    try {
+      queryExecutor.syncPipeline();
+    } catch (SQLException e) {
+      // The futures of the pipelined statements have already been failed with this error
+      LOGGER.log(Level.FINE, "Failed to read the results of asynchronous statements", e);
+    }
+  }
+
+  /**
+   * Lazily creates the threads, so that applications that do not use asynchronous execution
+   * do not pay for them.
+   */
+  private static class Pool {
+    static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+      Thread thread = new Thread(runnable, "PostgreSQL-JDBC-AsyncReader");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.jdbc;
+
+import org.postgresql.core.Oid;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The built-in types the driver has a binary codec for. When
+ * {@link org.postgresql.PGProperty#BINARY_TRANSFER} is enabled, the columns of these types are
+ * requested in binary format, and the parameters of the types in {@link #SEND_OIDS} are sent in
+ * binary format, see {@link org.postgresql.core.v3.TypeTransferModeRegistry}.
+ *
+ * <p>A type is only listed when every getter of {@link PgResultSet} and {@link PgArray} returns
+ * the same value for the binary format as for the text format.</p>
+ */
+final class BinaryTypeRegistry {
+  /**
+   * The types the driver can decode from the binary format.
+   */
+  static final Set<Integer> RECEIVE_OIDS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+      Oid.BYTEA,
+      Oid.INT2,
+      Oid.INT4,
+      Oid.INT8,
+      Oid.FLOAT4,
+      Oid.FLOAT8,
+      Oid.NUMERIC,
+      Oid.TIME,
+      Oid.DATE,
+      Oid.TIMETZ,
+      Oid.TIMESTAMP,
+      Oid.TIMESTAMPTZ,
+      Oid.JSONB,
+      Oid.BYTEA_ARRAY,
+      Oid.INT2_ARRAY,
+      Oid.INT4_ARRAY,
+      Oid.INT8_ARRAY,
+      Oid.OID_ARRAY,
+      Oid.FLOAT4_ARRAY,
+      Oid.FLOAT8_ARRAY,
+      Oid.NUMERIC_ARRAY,
+      Oid.BOOL_ARRAY,
+      Oid.VARCHAR_ARRAY,
+      Oid.TEXT_ARRAY,
+      Oid.JSONB_ARRAY,
+      Oid.UUID_ARRAY,
+      Oid.POINT,
+      Oid.BOX,
+      Oid.UUID)));
+
+  /**
+   * The types the driver can encode in the binary format.
+   */
+  static final Set<Integer> SEND_OIDS;
+
+  static {
+    Set<Integer> oids = new HashSet<>(RECEIVE_OIDS);
+    // Receive only: the driver decodes these, but binds their values as text
+    oids.remove(Oid.JSONB);
+    oids.remove(Oid.NUMERIC_ARRAY);
+    oids.remove(Oid.BOOL_ARRAY);
+    oids.remove(Oid.JSONB_ARRAY);
+    oids.remove(Oid.UUID_ARRAY);
+    /*
+     * Does not pass unit tests because unit tests expect setDate to have millisecond accuracy
+     * whereas the binary transfer only supports date accuracy.
+     */
+    oids.remove(Oid.DATE);
+    SEND_OIDS = Collections.unmodifiableSet(oids);
+  }
+
+  private BinaryTypeRegistry() {
+  }
+}
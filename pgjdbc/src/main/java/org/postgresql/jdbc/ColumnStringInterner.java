@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.jdbc;
+
+import static org.postgresql.util.internal.Nullness.castNonNull;
+
+import org.postgresql.core.Encoding;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Decodes the values of one column of a result set, returning the same {@code String} instance
+ * for the values that have the same bytes, such as the status codes of a low-cardinality column.
+ *
+ * <p>The distinct values are kept in a small open-addressing table keyed by their encoded bytes,
+ * so a repeated value is found without decoding it or allocating anything. Once the column has
+ * shown more than {@link #MAX_VALUES} distinct values, it is not considered low-cardinality: the
+ * table is dropped and the values are decoded as usual.</p>
+ *
+ * <p>Instances are confined to their result set and are not thread safe.</p>
+ */
+final class ColumnStringInterner {
+  /**
+   * Values longer than this number of bytes are decoded without being looked up.
+   */
+  static final int MAX_VALUE_LENGTH = 64;
+
+  /**
+   * Number of distinct values after which the column is no longer deduplicated.
+   */
+  static final int MAX_VALUES = 256;
+
+  /**
+   * Twice the maximum number of values, so that the probe sequences stay short.
+   */
+  private static final int TABLE_SIZE = 512;
+
+  private byte @Nullable [] @Nullable [] keys = new byte[TABLE_SIZE][];
+  private final @Nullable String[] values = new String[TABLE_SIZE];
+  private int size;
+
+  /**
+   * Decodes the given bytes, returning the previous instance if the same bytes were decoded before.
+   *
+   * @param bytes the buffer that contains the value
+   * @param offset the offset of the value in the buffer
+   * @param length the length of the value in bytes
+   * @param encoding the encoding of the value
+   * @return the decoded value
+   * @throws IOException if the value cannot be decoded
+   */
+  String decode(byte[] bytes, int offset, int length, Encoding encoding) throws IOException {
+    byte @Nullable [] @Nullable [] keys = this.keys;
+    if (keys == null || length > MAX_VALUE_LENGTH) {
+      return encoding.decode(bytes, offset, length);
+    }
+    int mask = keys.length - 1;
+    for (int i = hash(bytes, offset, length) & mask; ; i = (i + 1) & mask) {
+      byte[] key = keys[i];
+      if (key == null) {
+        String value = encoding.decode(bytes, offset, length);
+        if (size == MAX_VALUES) {
+          // High cardinality: the lookups would cost more than they save
+          this.keys = null;
+          Arrays.fill(values, null);
+        } else {
+          keys[i] = Arrays.copyOfRange(bytes, offset, offset + length);
+          values[i] = value;
+          size++;
+        }
+        return value;
+      }
+      if (equals(key, bytes, offset, length)) {
+        return castNonNull(values[i]);
+      }
+    }
+  }
+
+  /**
+   * Returns whether the values of the column are still deduplicated.
+   */
+  boolean isEnabled() {
+    return keys != null;
+  }
+
+  private static int hash(byte[] bytes, int offset, int length) {
+    int hash = 1;
+    for (int i = offset, end = offset + length; i < end; i++) {
+      hash = 31 * hash + bytes[i];
+    }
+    return hash ^ (hash >>> 16);
+  }
+
+  private static boolean equals(byte[] key, byte[] bytes, int offset, int length) {
+    if (key.length != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (key[i] != bytes[offset + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
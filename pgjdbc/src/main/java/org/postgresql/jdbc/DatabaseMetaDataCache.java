@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.jdbc;
+
+import org.postgresql.core.Field;
+import org.postgresql.core.Tuple;
+import org.postgresql.util.CanEstimateSize;
+import org.postgresql.util.LruCache;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The results of the {@link java.sql.DatabaseMetaData} methods of a connection, kept for a short
+ * time, see {@link org.postgresql.PGProperty#DATABASE_METADATA_CACHE_SECONDS}. The keys are the
+ * name of the method and its arguments. The results also depend on the role and the
+ * {@code search_path} of the session, so a cache is only used with the settings it was created
+ * with, see {@link org.postgresql.core.SessionStateTracker#getSettingsGeneration()}.
+ */
+final class DatabaseMetaDataCache {
+  private static final int MAX_ENTRIES = 256;
+  private static final long MAX_BYTES = 8 * 1024 * 1024;
+
+  /**
+   * The columns and rows of a result.
+   */
+  static final class Result implements CanEstimateSize {
+    final Field[] fields;
+    final List<Tuple> rows;
+    final long createdNanos;
+    private final long size;
+
+    Result(Field[] fields, List<Tuple> rows, long createdNanos) {
+      this.fields = fields;
+      this.createdNanos = createdNanos;
+      List<Tuple> copy = new ArrayList<>(rows.size());
+      long size = 64L * fields.length;
+      for (Tuple row : rows) {
+        // Copy the rows so that they do not keep the receive buffers of the result in memory
+        Tuple rowCopy = row.readOnlyCopy();
+        copy.add(rowCopy);
+        size += 16L * rowCopy.fieldCount() + rowCopy.length();
+      }
+      this.rows = copy;
+      this.size = size;
+    }
+
+    @Override
+    public long getSize() {
+      return size;
+    }
+  }
+
+  private final long ttlNanos;
+  final int settingsGeneration;
+  private final LruCache<List<@Nullable Object>, Result> cache =
+      new LruCache<>(MAX_ENTRIES, MAX_BYTES, true);
+
+  /**
+   * @param ttlSeconds the number of seconds a result is kept
+   * @param settingsGeneration the generation of the settings of the session
+   */
+  DatabaseMetaDataCache(int ttlSeconds, int settingsGeneration) {
+    this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    this.settingsGeneration = settingsGeneration;
+  }
+
+  /**
+   * @param key the name of the method and its arguments
+   * @return the result, or null if it is not cached or expired
+   */
+  @Nullable Result get(List<@Nullable Object> key) {
+    Result result = cache.get(key);
+    if (result == null || System.nanoTime() - result.createdNanos > ttlNanos) {
+      return null;
+    }
+    return result;
+  }
+
+  void put(List<@Nullable Object> key, Result result) {
+    cache.put(key, result);
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.jdbc;
+
+import org.postgresql.core.Tuple;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps the values decoded from the current row of a result set, so that a column read several
+ * times by the same getter is decoded once. Each column keeps the first value decoded by one of
+ * the getters listed in {@link Kind}: the getters that are built on another one, such as
+ * {@code getObject} on a text column, still benefit from the value it keeps.
+ *
+ * <p>The values are kept as long as the result set is positioned on the same {@link Tuple}: the
+ * rows are never modified once received, and the updates of an updatable result set replace the
+ * current tuple. Only immutable values are kept, since the caller may modify the others, such as
+ * {@link java.sql.Timestamp} or arrays.</p>
+ *
+ * <p>Instances are confined to their result set and are not thread safe.</p>
+ */
+final class DecodedValueCache {
+  /**
+   * The getters whose values are kept. Two getters may return different values of the same class
+   * for the same column, so a value is only returned to the getter that decoded it.
+   */
+  enum Kind {
+    STRING,
+    OBJECT,
+    BIG_DECIMAL,
+    LOCAL_DATE,
+    LOCAL_TIME,
+    LOCAL_DATE_TIME,
+    OFFSET_TIME,
+    OFFSET_DATE_TIME,
+    INSTANT;
+
+    /**
+     * Returns the kind of the values returned by {@code getObject(int, Class)} for the given class
+     * when they are not decoded by another getter that keeps them, or null if they are not kept.
+     */
+    static @Nullable Kind of(Class<?> type) {
+      if (type == LocalDate.class) {
+        return LOCAL_DATE;
+      } else if (type == LocalTime.class) {
+        return LOCAL_TIME;
+      } else if (type == LocalDateTime.class) {
+        return LOCAL_DATE_TIME;
+      } else if (type == OffsetTime.class) {
+        return OFFSET_TIME;
+      } else if (type == OffsetDateTime.class) {
+        return OFFSET_DATE_TIME;
+      } else if (type == Instant.class) {
+        return INSTANT;
+      }
+      return null;
+    }
+  }
+
+  private static final Set<Class<?>> IMMUTABLE_CLASSES = new HashSet<>(Arrays.asList(
+      String.class, Boolean.class, Short.class, Integer.class, Long.class, Float.class,
+      Double.class, BigDecimal.class, UUID.class, LocalDate.class, LocalTime.class,
+      LocalDateTime.class, OffsetTime.class, OffsetDateTime.class, Instant.class));
+
+  private final @Nullable Object[] values;
+  private final @Nullable Kind[] kinds;
+  private @Nullable Tuple row;
+
+  DecodedValueCache(int columns) {
+    values = new Object[columns];
+    kinds = new Kind[columns];
+  }
+
+  /**
+   * Returns the value of the given column decoded by the given getter from the given row.
+   *
+   * @param row the current row
+   * @param col the column index, starting from 0
+   * @param kind the getter
+   * @return the value, or null if the value was not decoded by that getter from that row
+   */
+  @Nullable Object get(Tuple row, int col, Kind kind) {
+    return row == this.row && kinds[col] == kind ? values[col] : null;
+  }
+
+  /**
+   * Keeps the value decoded by the given getter, if it is immutable and no other value of the
+   * column was kept for that row.
+   *
+   * @param row the current row
+   * @param col the column index, starting from 0
+   * @param kind the getter
+   * @param value the decoded value
+   */
+  void put(Tuple row, int col, Kind kind, Object value) {
+    if (!IMMUTABLE_CLASSES.contains(value.getClass())) {
+      return;
+    }
+    if (row != this.row) {
+      Arrays.fill(kinds, null);
+      Arrays.fill(values, null);
+      this.row = row;
+    }
+    if (kinds[col] == null) {
+      kinds[col] = kind;
+      values[col] = value;
+    }
+  }
+}
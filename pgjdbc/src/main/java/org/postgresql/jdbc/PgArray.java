@@ -22,6 +22,7 @@ import org.postgresql.util.PSQLState;
 
 import org.checkerframework.checker.nullness.qual.Nullable;
 
+import java.math.BigDecimal;
 import java.sql.Array;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -179,6 +180,39 @@ public class PgArray implements Array {
     return buildArray(arrayList, (int) index, count);
   }
 
+  /**
+   * Returns the elements of an array of {@code bool}, {@code int2}, {@code int4}, {@code int8},
+   * {@code float4} or {@code float8} as an array of primitives, such as {@code float[]} or
+   * {@code long[][]}, without boxing the elements as {@link #getArray()} does. The class of the
+   * array must have as many dimensions as the array, and its elements can be wider than those of
+   * the array, e.g. {@code long[]} for an {@code int4[]} or {@code double[]} for a
+   * {@code float4[]}. The array must not contain nulls.
+   *
+   * @param arrayType the class of the array to return, e.g. {@code double[].class}
+   * @param <T> the type of the array
+   * @return the elements of the array, or null if the array is null
+   * @throws SQLException if the elements cannot be converted to the primitive type, are null, or
+   *     the number of dimensions does not match
+   */
+  public <T> @Nullable T getPrimitiveArray(Class<T> arrayType) throws SQLException {
+    final BaseConnection connection = getConnection();
+    if (!ArrayDecoding.isPrimitiveArrayType(arrayType)) {
+      throw new PSQLException(GT.tr("conversion to {0} from {1} not supported",
+          arrayType.getName(), getBaseTypeName() + "[]"), PSQLState.INVALID_PARAMETER_VALUE);
+    }
+    byte[] fieldBytes = this.fieldBytes;
+    if (fieldBytes != null) {
+      return arrayType.cast(
+          ArrayDecoding.readPrimitiveArray(fieldBytes, 0, arrayType, connection));
+    }
+    String fieldString = this.fieldString;
+    if (fieldString == null) {
+      return null;
+    }
+    return arrayType.cast(ArrayDecoding.readPrimitiveArray(buildArrayList(fieldString),
+        connection.getTypeInfo().getPGArrayElement(oid), arrayType, connection));
+  }
+
   private Object readBinaryArray(byte[] fieldBytes, int index, int count) throws SQLException {
     return ArrayDecoding.readBinaryArray(index, count, fieldBytes, getConnection());
   }
@@ -433,10 +467,17 @@ public class PgArray implements Array {
     if (fieldString == null && fieldBytes != null) {
       try {
         Object array = readBinaryArray(fieldBytes, 1, 0);
-
-        final ArrayEncoding.ArrayEncoder arraySupport = ArrayEncoding.getArrayEncoder(array);
-        assert arraySupport != null;
-        fieldString = arraySupport.toArrayString(connection.getTypeInfo().getArrayDelimiter(oid), array);
+        char delim = connection.getTypeInfo().getArrayDelimiter(oid);
+
+        if (isServerTextFormat(oid)) {
+          StringBuilder sb = new StringBuilder();
+          appendServerText(sb, delim, array);
+          fieldString = sb.toString();
+        } else {
+          final ArrayEncoding.ArrayEncoder arraySupport = ArrayEncoding.getArrayEncoder(array);
+          assert arraySupport != null;
+          fieldString = arraySupport.toArrayString(delim, array);
+        }
       } catch (SQLException e) {
         fieldString = "NULL"; // punt
       }
@@ -444,6 +485,80 @@ public class PgArray implements Array {
     return fieldString;
   }
 
+  /**
+   * Tells whether {@link #toString()} must write the binary array of the given type exactly like
+   * the server's text format. These arrays are received in binary format by default, see
+   * {@link BinaryTypeRegistry}, so {@code getString()} must not depend on the format.
+   */
+  private static boolean isServerTextFormat(int oid) {
+    switch (oid) {
+      case Oid.BOOL_ARRAY:
+      case Oid.NUMERIC_ARRAY:
+      case Oid.UUID_ARRAY:
+      case Oid.JSONB_ARRAY:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Writes a decoded array like {@code array_out} does: {@code t}/{@code f} for booleans, and
+   * elements quoted only where the array syntax needs it.
+   */
+  private static void appendServerText(StringBuilder sb, char delim, Object array) {
+    sb.append('{');
+    int length = java.lang.reflect.Array.getLength(array);
+    for (int i = 0; i < length; i++) {
+      if (i > 0) {
+        sb.append(delim);
+      }
+      Object v = java.lang.reflect.Array.get(array, i);
+      if (v == null) {
+        sb.append("NULL");
+      } else if (v.getClass().isArray()) {
+        appendServerText(sb, delim, v);
+      } else if (v instanceof Boolean) {
+        sb.append((Boolean) v ? 't' : 'f');
+      } else {
+        String s = v instanceof BigDecimal ? ((BigDecimal) v).toPlainString() : v.toString();
+        if (needsQuotes(s, delim)) {
+          escapeArrayElement(sb, s);
+        } else {
+          sb.append(s);
+        }
+      }
+    }
+    sb.append('}');
+  }
+
+  private static boolean needsQuotes(String s, char delim) {
+    if (s.isEmpty() || "NULL".equalsIgnoreCase(s)) {
+      return true;
+    }
+    for (int j = 0; j < s.length(); j++) {
+      char c = s.charAt(j);
+      switch (c) {
+        case '{':
+        case '}':
+        case '"':
+        case '\\':
+        case ' ':
+        case '\t':
+        case '\n':
+        case '\r':
+        case '\u000b':
+        case '\f':
+          return true;
+        default:
+          if (c == delim) {
+            return true;
+          }
+      }
+    }
+    return false;
+  }
+
   /**
    * Convert array list to PG String representation (e.g. {0,1,2}).
    */
@@ -9,6 +9,7 @@ import static org.postgresql.util.internal.Nullness.castNonNull;
 
 import org.postgresql.Driver;
 import org.postgresql.PGNotification;
+import org.postgresql.PGPipeline;
 import org.postgresql.PGProperty;
 import org.postgresql.copy.CopyManager;
 import org.postgresql.core.BaseConnection;
@@ -39,6 +40,8 @@ import org.postgresql.geometric.PGpolygon;
 import org.postgresql.largeobject.LargeObjectManager;
 import org.postgresql.replication.PGReplicationConnection;
 import org.postgresql.replication.PGReplicationConnectionImpl;
+import org.postgresql.util.CacheStatistics;
+import org.postgresql.util.ConnectionTimings;
 import org.postgresql.util.DriverInfo;
 import org.postgresql.util.GT;
 import org.postgresql.util.HostSpec;
@@ -82,7 +85,6 @@ import java.sql.Savepoint;
 import java.sql.Statement;
 import java.sql.Struct;
 import java.sql.Types;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
@@ -103,7 +105,6 @@ import java.util.logging.Logger;
 public class PgConnection implements BaseConnection {
 
   private static final Logger LOGGER = Logger.getLogger(PgConnection.class.getName());
-  private static final Set<Integer> SUPPORTED_BINARY_OIDS = getSupportedBinaryOids();
   private static final SQLPermission SQL_PERMISSION_ABORT = new SQLPermission("callAbort");
   private static final SQLPermission SQL_PERMISSION_NETWORK_TIMEOUT = new SQLPermission("setNetworkTimeout");
 
@@ -160,6 +161,8 @@ public class PgConnection implements BaseConnection {
 
   /* Actual network handler */
   private final QueryExecutor queryExecutor;
+  /* Completes the futures of the statements executed asynchronously */
+  private final AsyncResultReader asyncResultReader;
 
   /* Query that runs COMMIT */
   private final Query commitQuery;
@@ -173,6 +176,8 @@ public class PgConnection implements BaseConnection {
   private final TypeInfo typeCache;
 
   private boolean disableColumnSanitiser;
+  private final boolean deduplicateStrings;
+  private final boolean memoizeRowValues;
 
   // Default statement prepare threshold.
   protected int prepareThreshold;
@@ -200,6 +205,7 @@ public class PgConnection implements BaseConnection {
   private boolean readOnly;
   // Filter out database objects for which the current user has no privileges granted from the DatabaseMetaData
   private final boolean  hideUnprivilegedObjects ;
+  private final int databaseMetadataCacheSeconds;
   // Whether to include error details in logging and exceptions
   private final boolean logServerErrorDetail;
   // Bind String to UNSPECIFIED or VARCHAR?
@@ -275,6 +281,7 @@ public class PgConnection implements BaseConnection {
 
     // Now make the initial connection and set up local state
     this.queryExecutor = ConnectionFactory.openConnection(hostSpecs, info);
+    this.asyncResultReader = new AsyncResultReader(queryExecutor);
 
     // WARNING for unsupported servers (9.0 and lower are not supported)
     if (LOGGER.isLoggable(Level.WARNING) && !haveMinimumServerVersion(ServerVersion.v9_1)) {
@@ -290,27 +297,21 @@ public class PgConnection implements BaseConnection {
     }
 
     this.hideUnprivilegedObjects = PGProperty.HIDE_UNPRIVILEGED_OBJECTS.getBoolean(info);
+    this.databaseMetadataCacheSeconds = PGProperty.DATABASE_METADATA_CACHE_SECONDS.getInt(info);
 
-    // get oids that support binary transfer
-    Set<Integer> binaryOids = getBinaryEnabledOids(info);
+    // get oids that support binary transfer, split for receive and send for better control
+    Set<Integer> useBinarySendForOids =
+        getBinaryEnabledOids(info, BinaryTypeRegistry.SEND_OIDS);
+    Set<Integer> useBinaryReceiveForOids =
+        getBinaryEnabledOids(info, BinaryTypeRegistry.RECEIVE_OIDS);
     // get oids that should be disabled from transfer
     binaryDisabledOids = getBinaryDisabledOids(info);
     // if there are any, remove them from the enabled ones
     if (!binaryDisabledOids.isEmpty()) {
-      binaryOids.removeAll(binaryDisabledOids);
+      useBinarySendForOids.removeAll(binaryDisabledOids);
+      useBinaryReceiveForOids.removeAll(binaryDisabledOids);
     }
 
-    // split for receive and send for better control
-    Set<Integer> useBinarySendForOids = new HashSet<>(binaryOids);
-
-    Set<Integer> useBinaryReceiveForOids = new HashSet<>(binaryOids);
-
-    /*
-     * Does not pass unit tests because unit tests expect setDate to have millisecond accuracy
-     * whereas the binary transfer only supports date accuracy.
-     */
-    useBinarySendForOids.remove(Oid.DATE);
-
     queryExecutor.setBinaryReceiveOids(useBinaryReceiveForOids);
     queryExecutor.setBinarySendOids(useBinarySendForOids);
 
@@ -355,6 +356,9 @@ public class PgConnection implements BaseConnection {
     @SuppressWarnings("argument")
     TypeInfo typeCache = createTypeInfo(this, unknownLength);
     this.typeCache = typeCache;
+    if (PGProperty.SHARED_TYPE_CATALOG.getBoolean(info) && typeCache instanceof TypeInfoCache) {
+      ((TypeInfoCache) typeCache).setSharedCatalog(SharedTypeCatalog.forServer(queryExecutor));
+    }
     initObjectTypes(info);
 
     if (PGProperty.LOG_UNCLOSED_CONNECTIONS.getBoolean(info)) {
@@ -363,6 +367,8 @@ public class PgConnection implements BaseConnection {
     finalizeAction = new PgConnectionCleaningAction(lock, openStackTrace, queryExecutor.getCloseAction());
     this.logServerErrorDetail = PGProperty.LOG_SERVER_ERROR_DETAIL.getBoolean(info);
     this.disableColumnSanitiser = PGProperty.DISABLE_COLUMN_SANITISER.getBoolean(info);
+    this.deduplicateStrings = PGProperty.DEDUPLICATE_STRINGS.getBoolean(info);
+    this.memoizeRowValues = PGProperty.MEMOIZE_ROW_VALUES.getBoolean(info);
 
     if (haveMinimumServerVersion(ServerVersion.v8_3)) {
       typeCache.addCoreType("uuid", Oid.UUID, Types.OTHER, "java.util.UUID", Oid.UUID_ARRAY);
@@ -378,15 +384,32 @@ public class PgConnection implements BaseConnection {
       this.clientInfo.put("ApplicationName", appName);
     }
 
-    fieldMetadataCache = new LruCache<>(
-        Math.max(0, PGProperty.DATABASE_METADATA_CACHE_FIELDS.getInt(info)),
-        Math.max(0, PGProperty.DATABASE_METADATA_CACHE_FIELDS_MIB.getInt(info) * 1024L * 1024L),
-        false);
+    int metadataCacheFields = Math.max(0, PGProperty.DATABASE_METADATA_CACHE_FIELDS.getInt(info));
+    long metadataCacheBytes =
+        Math.max(0, PGProperty.DATABASE_METADATA_CACHE_FIELDS_MIB.getInt(info) * 1024L * 1024L);
+    if (PGProperty.DATABASE_METADATA_CACHE_SHARED.getBoolean(info)) {
+      fieldMetadataCache = SharedFieldMetadataCache.forServer(queryExecutor, metadataCacheFields,
+          metadataCacheBytes);
+    } else {
+      fieldMetadataCache = new LruCache<>(metadataCacheFields, metadataCacheBytes, false);
+    }
 
     replicationConnection = PGProperty.REPLICATION.getOrDefault(info) != null;
 
     xmlFactoryFactoryClass = PGProperty.XML_FACTORY_FACTORY.getOrDefault(info);
     cleanable = LazyCleaner.getInstance().register(leakHandle, finalizeAction);
+
+    if (PGProperty.PRELOAD_TYPE_CATALOG.getBoolean(info) && !replicationConnection
+        && typeCache instanceof TypeInfoCache) {
+      try {
+        ((TypeInfoCache) typeCache).preloadTypes();
+      } catch (SQLException e) {
+        close();
+        throw e;
+      }
+    }
+    // The settings made while opening the connection are not changes to restore
+    queryExecutor.getSessionStateTracker().clear();
   }
 
   private static ReadOnlyBehavior getReadOnlyBehavior(@Nullable String property) {
@@ -404,48 +427,22 @@ public class PgConnection implements BaseConnection {
     }
   }
 
-  private static Set<Integer> getSupportedBinaryOids() {
-    return new HashSet<>(Arrays.asList(
-        Oid.BYTEA,
-        Oid.INT2,
-        Oid.INT4,
-        Oid.INT8,
-        Oid.FLOAT4,
-        Oid.FLOAT8,
-        Oid.NUMERIC,
-        Oid.TIME,
-        Oid.DATE,
-        Oid.TIMETZ,
-        Oid.TIMESTAMP,
-        Oid.TIMESTAMPTZ,
-        Oid.BYTEA_ARRAY,
-        Oid.INT2_ARRAY,
-        Oid.INT4_ARRAY,
-        Oid.INT8_ARRAY,
-        Oid.OID_ARRAY,
-        Oid.FLOAT4_ARRAY,
-        Oid.FLOAT8_ARRAY,
-        Oid.VARCHAR_ARRAY,
-        Oid.TEXT_ARRAY,
-        Oid.POINT,
-        Oid.BOX,
-        Oid.UUID));
-  }
-
   /**
    * Gets all oids for which binary transfer can be enabled.
    *
    * @param info properties
+   * @param supportedOids the built-in types with a binary codec, see {@link BinaryTypeRegistry}
    * @return oids for which binary transfer can be enabled
    * @throws PSQLException if any oid is not valid
    */
-  private static Set<Integer> getBinaryEnabledOids(Properties info) throws PSQLException {
+  private static Set<Integer> getBinaryEnabledOids(Properties info, Set<Integer> supportedOids)
+      throws PSQLException {
     // check if binary transfer should be enabled for built-in types
     boolean binaryTransfer = PGProperty.BINARY_TRANSFER.getBoolean(info);
     // get formats that currently have binary protocol support
     Set<Integer> binaryOids = new HashSet<>(32);
     if (binaryTransfer) {
-      binaryOids.addAll(SUPPORTED_BINARY_OIDS);
+      binaryOids.addAll(supportedOids);
     }
     // add all oids which are enabled for binary transfer by the creator of the connection
     String oids = PGProperty.BINARY_TRANSFER_ENABLE.getOrDefault(info);
@@ -936,6 +933,17 @@ public class PgConnection implements BaseConnection {
     return readOnly && readOnlyBehavior != ReadOnlyBehavior.ignore;
   }
 
+  @Override
+  public @Nullable String getSessionSettingsSql() {
+    String sql = queryExecutor.getSessionStateTracker().getInitialSettings();
+    if (readOnly && autoCommit && readOnlyBehavior == ReadOnlyBehavior.always) {
+      // Mirrors setReadOnly and setAutoCommit
+      String readOnlySql = setSessionReadOnly.query.getNativeSql();
+      sql = sql == null ? readOnlySql : sql + ';' + readOnlySql;
+    }
+    return sql;
+  }
+
   @Override
   public void setAutoCommit(boolean autoCommit) throws SQLException {
     checkClosed();
@@ -1131,6 +1139,15 @@ public class PgConnection implements BaseConnection {
     return hideUnprivilegedObjects;
   }
 
+  /**
+   * @return the number of seconds the results of the {@link DatabaseMetaData} methods are kept, or
+   *     0 if they are not cached
+   * @see PGProperty#DATABASE_METADATA_CACHE_SECONDS
+   */
+  int getDatabaseMetadataCacheSeconds() {
+    return databaseMetadataCacheSeconds;
+  }
+
   /**
    * Get server version number.
    *
@@ -1304,6 +1321,16 @@ public class PgConnection implements BaseConnection {
 
   private @Nullable CopyManager copyManager;
 
+  @Override
+  public PGPipeline beginPipeline() throws SQLException {
+    checkClosed();
+    return new PgPipeline(this);
+  }
+
+  AsyncResultReader getAsyncResultReader() {
+    return asyncResultReader;
+  }
+
   @Override
   public CopyManager getCopyAPI() throws SQLException {
     checkClosed();
@@ -1328,6 +1355,16 @@ public class PgConnection implements BaseConnection {
     return this.disableColumnSanitiser;
   }
 
+  @Override
+  public boolean getDeduplicateStrings() {
+    return deduplicateStrings;
+  }
+
+  @Override
+  public boolean getMemoizeRowValues() {
+    return memoizeRowValues;
+  }
+
   public void setDisableColumnSanitiser(boolean disableColumnSanitiser) {
     this.disableColumnSanitiser = disableColumnSanitiser;
     LOGGER.log(Level.FINE, "  setDisableColumnSanitiser = {0}", disableColumnSanitiser);
@@ -1338,6 +1375,33 @@ public class PgConnection implements BaseConnection {
     return queryExecutor.getPreferQueryMode();
   }
 
+  @Override
+  public CacheStatistics getPreparedStatementCacheStatistics() {
+    return queryExecutor.getStatementCacheStatistics();
+  }
+
+  @Override
+  public CacheStatistics getFieldMetadataCacheStatistics() {
+    return fieldMetadataCache.getStatistics();
+  }
+
+  @Override
+  public void invalidateFieldMetadataCache() {
+    fieldMetadataCache.clear();
+  }
+
+  @Override
+  public void invalidateSharedTypeCatalog() {
+    if (typeCache instanceof TypeInfoCache) {
+      ((TypeInfoCache) typeCache).invalidateSharedCatalog();
+    }
+  }
+
+  @Override
+  public ConnectionTimings getConnectionTimings() {
+    return queryExecutor.getConnectionTimings();
+  }
+
   @Override
   public AutoSave getAutosave() {
     return queryExecutor.getAutoSave();
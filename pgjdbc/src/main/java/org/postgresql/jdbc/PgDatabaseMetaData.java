@@ -8,6 +8,7 @@ package org.postgresql.jdbc;
 import static org.postgresql.util.internal.Nullness.castNonNull;
 
 import org.postgresql.Driver;
+import org.postgresql.PGStatement;
 import org.postgresql.core.BaseStatement;
 import org.postgresql.core.Field;
 import org.postgresql.core.Oid;
@@ -58,6 +59,7 @@ public class PgDatabaseMetaData implements DatabaseMetaData {
 
   private int nameDataLength; // length for name datatype
   private int indexMaxKeys; // maximum number of keys in an index.
+  private @Nullable DatabaseMetaDataCache resultCache;
 
   protected int getMaxIndexKeys() throws SQLException {
     if (indexMaxKeys == 0) {
@@ -1456,6 +1458,13 @@ public class PgDatabaseMetaData implements DatabaseMetaData {
   @Override
   public ResultSet getTables(@Nullable String catalog, @Nullable String schemaPattern,
       @Nullable String tableNamePattern, String @Nullable [] types) throws SQLException {
+    return cached(() -> queryTables(catalog, schemaPattern, tableNamePattern, types),
+        "getTables", catalog, schemaPattern, tableNamePattern,
+        types == null ? null : Arrays.asList(types));
+  }
+
+  private ResultSet queryTables(@Nullable String catalog, @Nullable String schemaPattern,
+      @Nullable String tableNamePattern, String @Nullable [] types) throws SQLException {
     String orderby;
     String useSchemas = "SCHEMAS";
     int columns = 10;
@@ -1710,6 +1719,13 @@ public class PgDatabaseMetaData implements DatabaseMetaData {
   public ResultSet getColumns(@Nullable String catalog, @Nullable String schemaPattern,
       @Nullable String tableNamePattern,
       @Nullable String columnNamePattern) throws SQLException {
+    return cached(() -> queryColumns(catalog, schemaPattern, tableNamePattern, columnNamePattern),
+        "getColumns", catalog, schemaPattern, tableNamePattern, columnNamePattern);
+  }
+
+  private ResultSet queryColumns(@Nullable String catalog, @Nullable String schemaPattern,
+      @Nullable String tableNamePattern,
+      @Nullable String columnNamePattern) throws SQLException {
 
     String currentCatalog = connection.getCatalog();
     int numberOfFields = 24; // JDBC4
@@ -2407,6 +2423,12 @@ public class PgDatabaseMetaData implements DatabaseMetaData {
   @Override
   public ResultSet getPrimaryKeys(@Nullable String catalog, @Nullable String schema, String table)
       throws SQLException {
+    return cached(() -> queryPrimaryKeys(catalog, schema, table),
+        "getPrimaryKeys", catalog, schema, table);
+  }
+
+  private ResultSet queryPrimaryKeys(@Nullable String catalog, @Nullable String schema,
+      String table) throws SQLException {
 
     String currentCatalog = connection.getCatalog();
     Field[] f = new Field[6];
@@ -2822,6 +2844,13 @@ public class PgDatabaseMetaData implements DatabaseMetaData {
   public ResultSet getIndexInfo(
       @Nullable String catalog, @Nullable String schema, String tableName,
       boolean unique, boolean approximate) throws SQLException {
+    return cached(() -> queryIndexInfo(catalog, schema, tableName, unique, approximate),
+        "getIndexInfo", catalog, schema, tableName, unique, approximate);
+  }
+
+  private ResultSet queryIndexInfo(
+      @Nullable String catalog, @Nullable String schema, String tableName,
+      boolean unique, boolean approximate) throws SQLException {
 
     String currentCatalog = connection.getCatalog();
     Field[] f = new Field[14];
@@ -3159,6 +3188,55 @@ public class PgDatabaseMetaData implements DatabaseMetaData {
     return statement;
   }
 
+  /**
+   * A query of the metadata.
+   */
+  @FunctionalInterface
+  private interface MetaDataQuery {
+    ResultSet execute() throws SQLException;
+  }
+
+  /**
+   * Returns the result of the query from the cache of the results, if it is enabled and the
+   * result of the same method with the same arguments is not expired, and the settings of the
+   * session did not change since, see
+   * {@link org.postgresql.PGProperty#DATABASE_METADATA_CACHE_SECONDS}.
+   *
+   * @param query the query to execute on a cache miss
+   * @param method the name of the method
+   * @param args the arguments of the method
+   * @return the result of the query
+   * @throws SQLException if the query fails
+   */
+  private ResultSet cached(MetaDataQuery query, String method, @Nullable Object... args)
+      throws SQLException {
+    int ttlSeconds = connection.getDatabaseMetadataCacheSeconds();
+    if (ttlSeconds <= 0) {
+      return query.execute();
+    }
+    // The results depend on the role and search_path, so they are discarded when they change
+    int settingsGeneration =
+        connection.getQueryExecutor().getSessionStateTracker().getSettingsGeneration();
+    DatabaseMetaDataCache resultCache = this.resultCache;
+    if (resultCache == null || resultCache.settingsGeneration != settingsGeneration) {
+      this.resultCache = resultCache = new DatabaseMetaDataCache(ttlSeconds, settingsGeneration);
+    }
+    List<@Nullable Object> key = new ArrayList<>(args.length + 1);
+    key.add(method);
+    Collections.addAll(key, args);
+    DatabaseMetaDataCache.Result result = resultCache.get(key);
+    if (result == null) {
+      try (ResultSet rs = query.execute()) {
+        PgResultSet pgResultSet = rs.unwrap(PgResultSet.class);
+        result = new DatabaseMetaDataCache.Result(pgResultSet.fields,
+            castNonNull(pgResultSet.rows), System.nanoTime());
+      }
+      resultCache.put(key, result);
+    }
+    return ((BaseStatement) createMetaDataStatement())
+        .createDriverResultSet(result.fields, new ArrayList<>(result.rows));
+  }
+
   private ResultSet executeMetadataStatement(String sql, List<String> args) throws SQLException {
     return prepareMetaDataStatement(sql, args).executeQuery();
   }
@@ -3170,6 +3248,13 @@ public class PgDatabaseMetaData implements DatabaseMetaData {
       String arg = args.get(i);
       ps.setString(i + 1, arg);
     }
+    // The same few statements are executed many times by the tools that read the schema, so
+    // prepare them on the server from the first execution, unless server-prepared statements
+    // are disabled
+    PGStatement pgStatement = ps.unwrap(PGStatement.class);
+    if (pgStatement.getPrepareThreshold() > 1) {
+      pgStatement.setPrepareThreshold(1);
+    }
     // We know the statements won't be reused after processing the ResultSet, so we configure
     // the statement to close on ResultSet.close. It enables the query to release to the pool,
     // so the query gets server-prepared
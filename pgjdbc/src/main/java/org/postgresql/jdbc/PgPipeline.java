@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.jdbc;
+
+import org.postgresql.PGPipeline;
+import org.postgresql.core.CachedQuery;
+import org.postgresql.core.Field;
+import org.postgresql.core.ParameterList;
+import org.postgresql.core.Query;
+import org.postgresql.core.QueryExecutor;
+import org.postgresql.core.ResultCursor;
+import org.postgresql.core.ResultHandlerBase;
+import org.postgresql.core.Tuple;
+import org.postgresql.util.GT;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.PSQLState;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link PGPipeline} implementation on top of
+ * {@link QueryExecutor#executePipelined(Query, ParameterList,
+ * org.postgresql.core.ResultHandler, int, int)}. The result handlers are also used by the
+ * asynchronous execution methods of {@link PgStatement}.
+ */
+class PgPipeline implements PGPipeline {
+  private final PgConnection connection;
+  private boolean closed;
+
+  PgPipeline(PgConnection connection) {
+    this.connection = connection;
+  }
+
+  @Override
+  public CompletableFuture<ResultSet> executeQuery(PreparedStatement statement)
+      throws SQLException {
+    PgPreparedStatement ps = unwrap(statement);
+    QueryResultHandler handler = new QueryResultHandler(ps);
+    enqueue(ps, ps.preparedQuery, ps.preparedParameters, handler, 0);
+    return handler.future;
+  }
+
+  @Override
+  public CompletableFuture<Long> executeUpdate(PreparedStatement statement) throws SQLException {
+    PgPreparedStatement ps = unwrap(statement);
+    UpdateResultHandler handler = new UpdateResultHandler(ps);
+    enqueue(ps, ps.preparedQuery, ps.preparedParameters, handler, QueryExecutor.QUERY_NO_RESULTS);
+    return handler.future;
+  }
+
+  @Override
+  public void sync() throws SQLException {
+    checkClosed();
+    connection.getQueryExecutor().syncPipeline();
+  }
+
+  @Override
+  public void close() throws SQLException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    if (!connection.isClosed()) {
+      connection.getQueryExecutor().syncPipeline();
+    }
+  }
+
+  private PgPreparedStatement unwrap(PreparedStatement statement) throws SQLException {
+    checkClosed();
+    if (!statement.isWrapperFor(PgPreparedStatement.class)) {
+      throw new PSQLException(GT.tr("Only PostgreSQL prepared statements can be pipelined."),
+          PSQLState.WRONG_OBJECT_TYPE);
+    }
+    PgPreparedStatement ps = statement.unwrap(PgPreparedStatement.class);
+    if (ps.connection != connection) {
+      throw new PSQLException(
+          GT.tr("The statement was created by a different connection than the pipeline."),
+          PSQLState.WRONG_OBJECT_TYPE);
+    }
+    ps.checkClosed();
+    return ps;
+  }
+
+  /**
+   * Queues a statement in the pipeline of its connection.
+   *
+   * @param statement statement that owns the results
+   * @param cachedQuery query to execute
+   * @param parameters parameters of the query, copied before they are queued
+   * @param handler handler that receives the results at the next sync point
+   * @param flags execution flags, see {@link QueryExecutor}
+   * @throws SQLException if the statement cannot be queued
+   */
+  static void enqueue(PgStatement statement, CachedQuery cachedQuery,
+      @Nullable ParameterList parameters, ResultHandlerBase handler, int flags)
+      throws SQLException {
+    PgConnection connection = statement.connection;
+    // Mirrors PgStatement#executeInternal
+    if (statement.isOneShotQuery(cachedQuery)) {
+      flags |= QueryExecutor.QUERY_ONESHOT;
+    }
+    if (connection.getAutoCommit()) {
+      flags |= QueryExecutor.QUERY_SUPPRESS_BEGIN;
+    }
+    if (connection.hintReadOnly()) {
+      flags |= QueryExecutor.QUERY_READ_ONLY_HINT;
+    }
+    if (statement.concurrency != ResultSet.CONCUR_READ_ONLY) {
+      flags |= QueryExecutor.QUERY_NO_BINARY_TRANSFER;
+    }
+    Query query = cachedQuery.query;
+    if (query.isEmpty()) {
+      flags |= QueryExecutor.QUERY_SUPPRESS_BEGIN;
+    }
+    // The parameters are copied as the statement can be re-bound before the results arrive
+    connection.getQueryExecutor().executePipelined(query,
+        parameters == null ? null : parameters.copy(), handler, statement.getMaxRows(), flags);
+  }
+
+  private void checkClosed() throws SQLException {
+    if (closed) {
+      throw new PSQLException(GT.tr("This pipeline has been closed."),
+          PSQLState.OBJECT_NOT_IN_STATE);
+    }
+    connection.checkClosed();
+  }
+
+  abstract static class PipelinedResultHandler<T extends @Nullable Object>
+      extends ResultHandlerBase {
+    final CompletableFuture<T> future = new CompletableFuture<>();
+    final PgStatement statement;
+
+    PipelinedResultHandler(PgStatement statement) {
+      this.statement = statement;
+    }
+
+    @Override
+    public void handleWarning(SQLWarning warning) {
+      statement.addWarning(warning);
+    }
+
+    abstract T getResult() throws SQLException;
+
+    @Override
+    public void handleCompletion() {
+      SQLException error = getException();
+      if (error == null) {
+        try {
+          future.complete(getResult());
+          return;
+        } catch (SQLException e) {
+          error = e;
+        }
+      }
+      future.completeExceptionally(error);
+    }
+  }
+
+  static class QueryResultHandler extends PipelinedResultHandler<ResultSet> {
+    private @Nullable ResultSet resultSet;
+
+    QueryResultHandler(PgStatement statement) {
+      super(statement);
+    }
+
+    @Override
+    public void handleResultRows(Query fromQuery, Field[] fields, List<Tuple> tuples,
+        @Nullable ResultCursor cursor) {
+      try {
+        resultSet = statement.createResultSet(fromQuery, fields, tuples, cursor);
+      } catch (SQLException e) {
+        handleError(e);
+      }
+    }
+
+    @Override
+    ResultSet getResult() throws SQLException {
+      ResultSet resultSet = this.resultSet;
+      if (resultSet == null) {
+        throw new PSQLException(GT.tr("No results were returned by the query."),
+            PSQLState.NO_DATA);
+      }
+      return resultSet;
+    }
+  }
+
+  static class UpdateResultHandler extends PipelinedResultHandler<Long> {
+    private long updateCount = -1;
+    private boolean sawResultSet;
+
+    UpdateResultHandler(PgStatement statement) {
+      super(statement);
+    }
+
+    @Override
+    public void handleResultRows(Query fromQuery, Field[] fields, List<Tuple> tuples,
+        @Nullable ResultCursor cursor) {
+      sawResultSet = true;
+    }
+
+    @Override
+    public void handleCommandStatus(String status, long updateCount, long insertOID) {
+      this.updateCount = updateCount;
+    }
+
+    @Override
+    Long getResult() throws SQLException {
+      if (sawResultSet) {
+        throw new PSQLException(GT.tr("A result was returned when none was expected."),
+            PSQLState.TOO_MANY_RESULTS);
+      }
+      return updateCount;
+    }
+  }
+}
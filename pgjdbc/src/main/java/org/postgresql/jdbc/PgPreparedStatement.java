@@ -8,6 +8,7 @@ package org.postgresql.jdbc;
 import static org.postgresql.util.internal.Nullness.castNonNull;
 
 import org.postgresql.Driver;
+import org.postgresql.PGRowConsumer;
 import org.postgresql.core.BaseConnection;
 import org.postgresql.core.CachedQuery;
 import org.postgresql.core.Oid;
@@ -80,6 +81,7 @@ import java.util.Map;
 import java.util.StringJoiner;
 import java.util.TimeZone;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 class PgPreparedStatement extends PgStatement implements PreparedStatement {
 
@@ -203,6 +205,57 @@ class PgPreparedStatement extends PgStatement implements PreparedStatement {
     }
   }
 
+  @Override
+  public CompletableFuture<ResultSet> executeQueryAsync(String sql) throws SQLException {
+    throw new PSQLException(
+        GT.tr("Can''t use query methods that take a query string on a PreparedStatement."),
+        PSQLState.WRONG_OBJECT_TYPE);
+  }
+
+  @Override
+  public CompletableFuture<Long> executeUpdateAsync(String sql) throws SQLException {
+    throw new PSQLException(
+        GT.tr("Can''t use query methods that take a query string on a PreparedStatement."),
+        PSQLState.WRONG_OBJECT_TYPE);
+  }
+
+  @Override
+  public long executeStreaming(String sql, PGRowConsumer consumer) throws SQLException {
+    throw new PSQLException(
+        GT.tr("Can''t use query methods that take a query string on a PreparedStatement."),
+        PSQLState.WRONG_OBJECT_TYPE);
+  }
+
+  @Override
+  public long executeStreaming(PGRowConsumer consumer) throws SQLException {
+    try (ResourceLock ignore = lock.obtain()) {
+      rowConsumer = consumer;
+      streamedRows = 0;
+      try {
+        executeWithFlags(0);
+      } finally {
+        rowConsumer = null;
+      }
+      return streamedRows;
+    }
+  }
+
+  @Override
+  public CompletableFuture<ResultSet> executeQueryAsync() throws SQLException {
+    checkClosed();
+    PgPipeline.QueryResultHandler handler = new PgPipeline.QueryResultHandler(this);
+    executeAsync(preparedQuery, preparedParameters, handler, 0);
+    return handler.future;
+  }
+
+  @Override
+  public CompletableFuture<Long> executeUpdateAsync() throws SQLException {
+    checkClosed();
+    PgPipeline.UpdateResultHandler handler = new PgPipeline.UpdateResultHandler(this);
+    executeAsync(preparedQuery, preparedParameters, handler, QueryExecutor.QUERY_NO_RESULTS);
+    return handler.future;
+  }
+
   @Override
   protected boolean isOneShotQuery(@Nullable CachedQuery cachedQuery) {
     if (cachedQuery == null) {
@@ -73,6 +73,7 @@ import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -115,6 +116,8 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
   protected final Field[] fields; // Field metadata for this resultset.
   protected final @Nullable Query originalQuery; // Query we originated from
   private @Nullable TimestampUtils timestampUtils; // our own Object because it's not thread safe
+  private @Nullable ColumnStringInterner @Nullable [] stringInterners; // if deduplicateStrings
+  private final @Nullable DecodedValueCache decodedValues; // if memoizeRowValues
 
   protected final int maxRows; // Maximum rows in this resultset (might be 0).
   protected final int maxFieldSize; // Maximum field size in this resultset (might be 0).
@@ -181,6 +184,8 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
     this.resultsettype = rsType;
     this.resultsetconcurrency = rsConcurrency;
     this.adaptiveFetch = adaptiveFetch;
+    this.decodedValues =
+        connection.getMemoizeRowValues() ? new DecodedValueCache(fields.length) : null;
 
     // Constructor doesn't have fetch size and can't be sure if fetch size was used so initial value would be the number of rows
     this.lastUsedFetchSize = tuples.size();
@@ -438,9 +443,37 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
     return makeArray(oid, castNonNull(getFixedString(i)));
   }
 
+  /**
+   * Reads an array of numbers or booleans into an array of primitives, see
+   * {@link PgArray#getPrimitiveArray(Class)}. The binary arrays are decoded directly from the
+   * received row, without creating a {@link PgArray}.
+   */
+  private <T> @Nullable T getPrimitiveArray(@Positive int columnIndex, Class<T> arrayType)
+      throws SQLException {
+    Tuple row = getRawRow(columnIndex);
+    if (row == null) {
+      return null;
+    }
+    int col = columnIndex - 1;
+    if (isBinary(columnIndex)) {
+      return arrayType.cast(ArrayDecoding.readPrimitiveArray(row.getBuffer(col),
+          row.getOffset(col), arrayType, connection));
+    }
+    return new PgArray(connection, fields[col].getOID(), castNonNull(getFixedString(columnIndex)))
+        .getPrimitiveArray(arrayType);
+  }
+
   @Override
   public @Nullable BigDecimal getBigDecimal(@Positive int columnIndex) throws SQLException {
-    return getBigDecimal(columnIndex, -1);
+    if (decodedValues == null) {
+      return getBigDecimal(columnIndex, -1);
+    }
+    Object value = getDecodedValue(columnIndex, DecodedValueCache.Kind.BIG_DECIMAL);
+    if (value != null) {
+      return (BigDecimal) value;
+    }
+    return keepDecodedValue(columnIndex, DecodedValueCache.Kind.BIG_DECIMAL,
+        getBigDecimal(columnIndex, -1));
   }
 
   @Override
@@ -597,8 +630,8 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
   public @Nullable Timestamp getTimestamp(
       int i, @Nullable Calendar cal) throws SQLException {
 
-    byte[] value = getRawValue(i);
-    if (value == null) {
+    Tuple tuple = getRawRow(i);
+    if (tuple == null) {
       return null;
     }
 
@@ -609,12 +642,13 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
     int oid = fields[col].getOID();
 
     if (isBinary(i)) {
-      byte [] row = castNonNull(thisRow).get(col);
       if (oid == Oid.TIMESTAMPTZ || oid == Oid.TIMESTAMP) {
         boolean hasTimeZone = oid == Oid.TIMESTAMPTZ;
         TimeZone tz = cal.getTimeZone();
-        return getTimestampUtils().toTimestampBin(tz, castNonNull(row), hasTimeZone);
-      } else if (oid == Oid.TIME) {
+        return getTimestampUtils().toTimestampBin(tz, getTimestampBits(tuple, col), hasTimeZone);
+      }
+      byte [] row = tuple.get(col);
+      if (oid == Oid.TIME) {
         // JDBC spec says getTimestamp of Time and Date must be supported
         Timestamp tsWithMicros = getTimestampUtils().toTimestampBin(cal.getTimeZone(), castNonNull(row), false);
         // If server sends us a TIME, we ensure java counterpart has date of 1970-01-01
@@ -638,6 +672,7 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
             PSQLState.DATA_TYPE_MISMATCH);
       }
     }
+    byte[] value = castNonNull(tuple.get(col));
 
     // If this is actually a timestamptz, the server-provided timezone will override
     // the one we pass in, which is the desired behaviour. Otherwise, we'll
@@ -658,8 +693,8 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
   private static final LocalDate LOCAL_DATE_EPOCH = LocalDate.of(1970, 1, 1);
 
   private @Nullable OffsetDateTime getOffsetDateTime(int i) throws SQLException {
-    byte[] value = getRawValue(i);
-    if (value == null) {
+    Tuple tuple = getRawRow(i);
+    if (tuple == null) {
       return null;
     }
 
@@ -667,10 +702,12 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
     int oid = fields[col].getOID();
 
     // TODO: Disallow getting OffsetDateTime from a non-TZ field
+    if (isBinary(i) && (oid == Oid.TIMESTAMPTZ || oid == Oid.TIMESTAMP)) {
+      return getTimestampUtils().toOffsetDateTimeBin(getTimestampBits(tuple, col));
+    }
+    byte[] value = castNonNull(tuple.get(col));
     if (isBinary(i)) {
-      if (oid == Oid.TIMESTAMPTZ || oid == Oid.TIMESTAMP) {
-        return getTimestampUtils().toOffsetDateTimeBin(value);
-      } else if (oid == Oid.TIMETZ) {
+      if (oid == Oid.TIMETZ) {
         // JDBC spec says timetz must be supported
         return getTimestampUtils().toOffsetTimeBin(value).atDate(LOCAL_DATE_EPOCH);
       }
@@ -698,6 +735,47 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
         PSQLState.DATA_TYPE_MISMATCH);
   }
 
+  private @Nullable Instant getInstant(int i) throws SQLException {
+    Tuple tuple = getRawRow(i);
+    if (tuple == null) {
+      return null;
+    }
+
+    int col = i - 1;
+    int oid = fields[col].getOID();
+
+    if (oid == Oid.TIMESTAMPTZ) {
+      if (isBinary(i)) {
+        return getTimestampUtils().toInstantBin(getTimestampBits(tuple, col));
+      }
+      OffsetDateTime offsetDateTime =
+          getTimestampUtils().toOffsetDateTime(castNonNull(tuple.get(col)));
+      if (offsetDateTime.equals(OffsetDateTime.MAX)) {
+        return Instant.MAX;
+      } else if (offsetDateTime.equals(OffsetDateTime.MIN)) {
+        return Instant.MIN;
+      }
+      return offsetDateTime.toInstant();
+    }
+
+    throw new PSQLException(
+        GT.tr("Cannot convert the column of type {0} to requested type {1}.",
+            Oid.toString(oid), "java.time.Instant"),
+        PSQLState.DATA_TYPE_MISMATCH);
+  }
+
+  /**
+   * Reads the eight bytes of a binary {@link Oid#TIMESTAMP} or {@link Oid#TIMESTAMPTZ} value,
+   * without copying the value out of the row.
+   */
+  private static long getTimestampBits(Tuple tuple, int col) throws PSQLException {
+    if (tuple.getLength(col) != 8) {
+      throw new PSQLException(GT.tr("Unsupported binary encoding of {0}.", "timestamp"),
+          PSQLState.BAD_DATETIME_FORMAT);
+    }
+    return tuple.getInt8(col);
+  }
+
   private @Nullable OffsetTime getOffsetTime(int i) throws SQLException {
     byte[] value = getRawValue(i);
     if (value == null) {
@@ -722,8 +800,8 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
   }
 
   private @Nullable LocalDateTime getLocalDateTime(int i) throws SQLException {
-    byte[] value = getRawValue(i);
-    if (value == null) {
+    Tuple tuple = getRawRow(i);
+    if (tuple == null) {
       return null;
     }
 
@@ -732,7 +810,7 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
 
     if (oid == Oid.TIMESTAMP) {
       if (isBinary(i)) {
-        return getTimestampUtils().toLocalDateTimeBin(value);
+        return getTimestampUtils().toLocalDateTimeBin(getTimestampBits(tuple, col));
       } else {
         return getTimestampUtils().toLocalDateTime(castNonNull(getString(i)));
       }
@@ -745,19 +823,21 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
   }
 
   private @Nullable LocalDate getLocalDate(int i) throws SQLException {
-    byte[] value = getRawValue(i);
-    if (value == null) {
+    Tuple tuple = getRawRow(i);
+    if (tuple == null) {
       return null;
     }
 
     int col = i - 1;
     int oid = fields[col].getOID();
 
+    if (isBinary(i) && oid == Oid.TIMESTAMP) {
+      return getTimestampUtils().toLocalDateTimeBin(getTimestampBits(tuple, col)).toLocalDate();
+    }
+    byte[] value = castNonNull(tuple.get(col));
     if (isBinary(i)) {
       if (oid == Oid.DATE) {
         return getTimestampUtils().toLocalDateBin(value);
-      } else if (oid == Oid.TIMESTAMP) {
-        return getTimestampUtils().toLocalDateTimeBin(value).toLocalDate();
       }
     } else {
       // string
@@ -2390,14 +2470,27 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
   @Override
   public @Nullable String getString(@Positive int columnIndex) throws SQLException {
     connection.getLogger().log(Level.FINEST, "  getString columnIndex: {0}", columnIndex);
-    byte[] value = getRawValue(columnIndex);
-    if (value == null) {
+    if (decodedValues == null) {
+      return decodeString(columnIndex);
+    }
+    Object value = getDecodedValue(columnIndex, DecodedValueCache.Kind.STRING);
+    if (value != null) {
+      return (String) value;
+    }
+    return keepDecodedValue(columnIndex, DecodedValueCache.Kind.STRING, decodeString(columnIndex));
+  }
+
+  private @Nullable String decodeString(@Positive int columnIndex) throws SQLException {
+    Tuple row = getRawRow(columnIndex);
+    if (row == null) {
       return null;
     }
+    int col = columnIndex - 1;
 
     // varchar in binary is same as text, other binary fields are converted to their text format
     if (isBinary(columnIndex) && getSQLType(columnIndex) != Types.VARCHAR) {
-      Field field = fields[columnIndex - 1];
+      byte[] value = castNonNull(row.get(col));
+      Field field = fields[col];
       TimestampUtils ts = getTimestampUtils();
       // internalGetObject is used in getObject(int), so we can't easily alter the returned type
       // Currently, internalGetObject delegates to getTime(), getTimestamp(), so it has issues
@@ -2414,6 +2507,8 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
           return ts.toString(ts.toLocalDateTimeBin(value));
         case Oid.TIMESTAMPTZ:
           return ts.toStringOffsetDateTime(value);
+        case Oid.JSONB:
+          return decodeJsonb(row.getBuffer(col), row.getOffset(col), row.getLength(col), connection);
       }
       // internalGetObject requires thisRow to be non-null
       castNonNull(thisRow, "thisRow");
@@ -2435,7 +2530,13 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
 
     Encoding encoding = connection.getEncoding();
     try {
-      return trimString(columnIndex, encoding.decode(value));
+      byte[] buffer = row.getBuffer(col);
+      int offset = row.getOffset(col);
+      int length = row.getLength(col);
+      String value = connection.getDeduplicateStrings()
+          ? getStringInterner(col).decode(buffer, offset, length, encoding)
+          : encoding.decode(buffer, offset, length);
+      return trimString(columnIndex, value);
     } catch (IOException ioe) {
       throw new PSQLException(
           GT.tr(
@@ -2444,6 +2545,20 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
     }
   }
 
+  private ColumnStringInterner getStringInterner(int col) {
+    @Nullable ColumnStringInterner[] stringInterners = this.stringInterners;
+    if (stringInterners == null) {
+      stringInterners = new ColumnStringInterner[fields.length];
+      this.stringInterners = stringInterners;
+    }
+    ColumnStringInterner interner = stringInterners[col];
+    if (interner == null) {
+      interner = new ColumnStringInterner();
+      stringInterners[col] = interner;
+    }
+    return interner;
+  }
+
   /**
    * Retrieves the value of the designated column in the current row of this <code>ResultSet</code>
    * object as a <code>boolean</code> in the Java programming language.
@@ -2553,23 +2668,24 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
   @Override
   public short getShort(@Positive int columnIndex) throws SQLException {
     connection.getLogger().log(Level.FINEST, "  getShort columnIndex: {0}", columnIndex);
-    byte[] value = getRawValue(columnIndex);
-    if (value == null) {
+    Tuple row = getRawRow(columnIndex);
+    if (row == null) {
       return 0; // SQL NULL
     }
+    int col = columnIndex - 1;
 
     if (isBinary(columnIndex)) {
-      int col = columnIndex - 1;
       int oid = fields[col].getOID();
       if (oid == Oid.INT2) {
-        return ByteConverter.int2(value, 0);
+        return row.getInt2(col);
       }
-      return (short) readLongValue(value, oid, Short.MIN_VALUE, Short.MAX_VALUE, "short");
+      return (short) readLongValue(castNonNull(row.get(col)), oid, Short.MIN_VALUE, Short.MAX_VALUE, "short");
     }
     Encoding encoding = connection.getEncoding();
     if (encoding.hasAsciiNumbers()) {
       try {
-        return (short) NumberParser.getFastLong(value, Short.MIN_VALUE, Short.MAX_VALUE);
+        return (short) NumberParser.getFastLong(row.getBuffer(col), row.getOffset(col),
+            row.getLength(col), Short.MIN_VALUE, Short.MAX_VALUE);
       } catch (NumberFormatException ignored) {
         // Fast path failed, use slower parsing below
       }
@@ -2581,24 +2697,25 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
   @Override
   public int getInt(@Positive int columnIndex) throws SQLException {
     connection.getLogger().log(Level.FINEST, "  getInt columnIndex: {0}", columnIndex);
-    byte[] value = getRawValue(columnIndex);
-    if (value == null) {
+    Tuple row = getRawRow(columnIndex);
+    if (row == null) {
       return 0; // SQL NULL
     }
+    int col = columnIndex - 1;
 
     if (isBinary(columnIndex)) {
-      int col = columnIndex - 1;
       int oid = fields[col].getOID();
       if (oid == Oid.INT4) {
-        return ByteConverter.int4(value, 0);
+        return row.getInt4(col);
       }
-      return (int) readLongValue(value, oid, Integer.MIN_VALUE, Integer.MAX_VALUE, "int");
+      return (int) readLongValue(castNonNull(row.get(col)), oid, Integer.MIN_VALUE, Integer.MAX_VALUE, "int");
     }
 
     Encoding encoding = connection.getEncoding();
     if (encoding.hasAsciiNumbers()) {
       try {
-        return (int) NumberParser.getFastLong(value, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        return (int) NumberParser.getFastLong(row.getBuffer(col), row.getOffset(col),
+            row.getLength(col), Integer.MIN_VALUE, Integer.MAX_VALUE);
       } catch (NumberFormatException ignored) {
         // Fast path failed, use slower parsing below
       }
@@ -2610,24 +2727,25 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
   @Override
   public long getLong(@Positive int columnIndex) throws SQLException {
     connection.getLogger().log(Level.FINEST, "  getLong columnIndex: {0}", columnIndex);
-    byte[] value = getRawValue(columnIndex);
-    if (value == null) {
+    Tuple row = getRawRow(columnIndex);
+    if (row == null) {
       return 0; // SQL NULL
     }
+    int col = columnIndex - 1;
 
     if (isBinary(columnIndex)) {
-      int col = columnIndex - 1;
       int oid = fields[col].getOID();
       if (oid == Oid.INT8) {
-        return ByteConverter.int8(value, 0);
+        return row.getInt8(col);
       }
-      return readLongValue(value, oid, Long.MIN_VALUE, Long.MAX_VALUE, "long");
+      return readLongValue(castNonNull(row.get(col)), oid, Long.MIN_VALUE, Long.MAX_VALUE, "long");
     }
 
     Encoding encoding = connection.getEncoding();
     if (encoding.hasAsciiNumbers()) {
       try {
-        return NumberParser.getFastLong(value, Long.MIN_VALUE, Long.MAX_VALUE);
+        return NumberParser.getFastLong(row.getBuffer(col), row.getOffset(col),
+            row.getLength(col), Long.MIN_VALUE, Long.MAX_VALUE);
       } catch (NumberFormatException ignored) {
         // Fast path failed, use slower parsing below
       }
@@ -2718,8 +2836,8 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
   @Override
   public float getFloat(@Positive int columnIndex) throws SQLException {
     connection.getLogger().log(Level.FINEST, "  getFloat columnIndex: {0}", columnIndex);
-    byte[] value = getRawValue(columnIndex);
-    if (value == null) {
+    Tuple row = getRawRow(columnIndex);
+    if (row == null) {
       return 0; // SQL NULL
     }
 
@@ -2727,9 +2845,9 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
       int col = columnIndex - 1;
       int oid = fields[col].getOID();
       if (oid == Oid.FLOAT4) {
-        return ByteConverter.float4(value, 0);
+        return Float.intBitsToFloat(row.getInt4(col));
       }
-      return (float) readDoubleValue(value, oid, "float");
+      return (float) readDoubleValue(castNonNull(row.get(col)), oid, "float");
     }
 
     return toFloat(getFixedString(columnIndex));
@@ -2739,8 +2857,8 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
   @Override
   public double getDouble(@Positive int columnIndex) throws SQLException {
     connection.getLogger().log(Level.FINEST, "  getDouble columnIndex: {0}", columnIndex);
-    byte[] value = getRawValue(columnIndex);
-    if (value == null) {
+    Tuple row = getRawRow(columnIndex);
+    if (row == null) {
       return 0; // SQL NULL
     }
 
@@ -2748,9 +2866,9 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
       int col = columnIndex - 1;
       int oid = fields[col].getOID();
       if (oid == Oid.FLOAT8) {
-        return ByteConverter.float8(value, 0);
+        return Double.longBitsToDouble(row.getInt8(col));
       }
-      return readDoubleValue(value, oid, "double");
+      return readDoubleValue(castNonNull(row.get(col)), oid, "double");
     }
 
     return toDouble(getFixedString(columnIndex));
@@ -2840,6 +2958,11 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
     }
 
     if (isBinary(columnIndex)) {
+      if (fields[columnIndex - 1].getOID() == Oid.JSONB) {
+        // Same bytes as the text format: strip the version number
+        checkJsonbVersion(value, 0, value.length);
+        return Arrays.copyOfRange(value, 1, value.length);
+      }
       // If the data is already binary then just return it
       return value;
     }
@@ -3060,6 +3183,17 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
   @Override
   public @Nullable Object getObject(@Positive int columnIndex) throws SQLException {
     connection.getLogger().log(Level.FINEST, "  getObject columnIndex: {0}", columnIndex);
+    if (decodedValues == null) {
+      return decodeObject(columnIndex);
+    }
+    Object value = getDecodedValue(columnIndex, DecodedValueCache.Kind.OBJECT);
+    if (value != null) {
+      return value;
+    }
+    return keepDecodedValue(columnIndex, DecodedValueCache.Kind.OBJECT, decodeObject(columnIndex));
+  }
+
+  private @Nullable Object decodeObject(@Positive int columnIndex) throws SQLException {
     Field field;
 
     byte[] value = getRawValue(columnIndex);
@@ -3080,7 +3214,8 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
       return result;
     }
 
-    if (isBinary(columnIndex)) {
+    // jsonb objects are built from the text
+    if (isBinary(columnIndex) && field.getOID() != Oid.JSONB) {
       return connection.getObject(getPGType(columnIndex), null, value);
     }
     String stringValue = castNonNull(getString(columnIndex));
@@ -3299,6 +3434,72 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
     return bytes;
   }
 
+  /**
+   * Like {@link #getRawValue(int)}, but does not copy the value when the row is stored in a buffer
+   * shared with other rows: the value should be read with {@link Tuple#getBuffer(int)},
+   * {@link Tuple#getOffset(int)} and {@link Tuple#getLength(int)}.
+   *
+   * @param column The column number to check. Range starts from 1.
+   * @return the current row, or null if the value is null
+   * @throws SQLException If state or column is invalid.
+   */
+  @EnsuresNonNull("thisRow")
+  private @Nullable Tuple getRawRow(@Positive int column) throws SQLException {
+    checkClosed();
+    Tuple row = thisRow;
+    if (row == null) {
+      throw new PSQLException(
+          GT.tr("ResultSet not positioned properly, perhaps you need to call next."),
+          PSQLState.INVALID_CURSOR_STATE);
+    }
+    checkColumnIndex(column);
+    wasNullFlag = row.isNull(column - 1);
+    return wasNullFlag ? null : row;
+  }
+
+  /**
+   * Returns the value of the given column decoded by the given getter from the current row, if
+   * {@link org.postgresql.PGProperty#MEMOIZE_ROW_VALUES} is enabled.
+   *
+   * @param column The column number to check. Range starts from 1.
+   * @param kind the getter
+   * @return the value, or null if the value is null or was not decoded yet
+   * @throws SQLException If state or column is invalid.
+   */
+  private @Nullable Object getDecodedValue(@Positive int column, DecodedValueCache.Kind kind)
+      throws SQLException {
+    Tuple row = getRawRow(column);
+    DecodedValueCache decodedValues = this.decodedValues;
+    return row == null || decodedValues == null ? null : decodedValues.get(row, column - 1, kind);
+  }
+
+  private <T> @Nullable T keepDecodedValue(@Positive int column, DecodedValueCache.Kind kind,
+      @Nullable T value) {
+    DecodedValueCache decodedValues = this.decodedValues;
+    Tuple row = thisRow;
+    if (value != null && decodedValues != null && row != null) {
+      decodedValues.put(row, column - 1, kind, value);
+    }
+    return value;
+  }
+
+  /**
+   * Positions this result set on a row passed to a {@link org.postgresql.PGRowConsumer}. The row
+   * replaces the previous one, as the rows are not kept.
+   *
+   * @param row the row received from the backend
+   */
+  void setStreamedRow(Tuple row) {
+    List<Tuple> rows = castNonNull(this.rows);
+    if (rows.isEmpty()) {
+      rows.add(row);
+    } else {
+      rows.set(0, row);
+    }
+    currentRow = 0;
+    thisRow = row;
+  }
+
   /**
    * Returns true if the value of the given column is in binary format.
    *
@@ -3533,7 +3734,7 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
       case Oid.FLOAT8:
         return ByteConverter.float8(bytes, 0);
       case Oid.NUMERIC:
-        return ByteConverter.numeric(bytes).doubleValue();
+        return ByteConverter.numericToDouble(bytes, 0, bytes.length);
     }
     throw new PSQLException(GT.tr("Cannot convert the column of type {0} to requested type {1}.",
         Oid.toString(oid), targetType), PSQLState.DATA_TYPE_MISMATCH);
@@ -3599,16 +3800,12 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
         }
         break;
       case Oid.NUMERIC:
-        Number num = ByteConverter.numeric(bytes);
-        BigInteger i = ((BigDecimal) num).toBigInteger();
-        int gt = i.compareTo(LONGMAX);
-        int lt = i.compareTo(LONGMIN);
-
-        if (gt > 0 || lt < 0) {
-          throw new PSQLException(GT.tr("Bad value for type {0} : {1}", "long", num),
+        try {
+          val = ByteConverter.numericToLong(bytes, 0, bytes.length);
+        } catch (ArithmeticException e) {
+          throw new PSQLException(
+              GT.tr("Bad value for type {0} : {1}", "long", ByteConverter.numeric(bytes)),
               PSQLState.NUMERIC_VALUE_OUT_OF_RANGE);
-        } else {
-          val = num.longValue();
         }
         break;
       default:
@@ -3663,6 +3860,37 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
     return new UUID(ByteConverter.int8(data, 0), ByteConverter.int8(data, 8));
   }
 
+  /**
+   * Decodes the binary representation of a {@code jsonb} value, which is a version number
+   * followed by the text of the value.
+   *
+   * @param bytes the buffer that contains the value
+   * @param offset the position of the value in <i>bytes</i>
+   * @param length the number of bytes of the value
+   * @param connection the connection the <i>bytes</i> were retrieved from
+   * @return the text of the value
+   * @throws SQLException if the version is unknown or the text cannot be decoded
+   */
+  static String decodeJsonb(byte[] bytes, int offset, int length, BaseConnection connection)
+      throws SQLException {
+    checkJsonbVersion(bytes, offset, length);
+    try {
+      return connection.getEncoding().decode(bytes, offset + 1, length - 1);
+    } catch (IOException ioe) {
+      throw new PSQLException(
+          GT.tr(
+              "Invalid character data was found.  This is most likely caused by stored data containing characters that are invalid for the character set the database was created in.  The most common example of this is storing 8bit data in a SQL_ASCII database."),
+          PSQLState.DATA_ERROR, ioe);
+    }
+  }
+
+  private static void checkJsonbVersion(byte[] bytes, int offset, int length) throws PSQLException {
+    if (length < 1 || bytes[offset] != 1) {
+      throw new PSQLException(GT.tr("Unsupported binary encoding of {0}.", "jsonb"),
+          PSQLState.DATA_TYPE_MISMATCH);
+    }
+  }
+
   private class PrimaryKey {
     int index; // where in the result set is this primaryKey
     String name; // what is the columnName of this primary Key
@@ -3747,6 +3975,19 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
     if (type == null) {
       throw new SQLException("type is null");
     }
+    DecodedValueCache.@Nullable Kind kind = decodedValues == null ? null : DecodedValueCache.Kind.of(type);
+    if (kind == null) {
+      return decodeObject(columnIndex, type);
+    }
+    Object value = getDecodedValue(columnIndex, kind);
+    if (value != null) {
+      return type.cast(value);
+    }
+    return keepDecodedValue(columnIndex, kind, decodeObject(columnIndex, type));
+  }
+
+  private <T> @Nullable T decodeObject(@Positive int columnIndex, Class<T> type)
+      throws SQLException {
     int sqlType = getSQLType(columnIndex);
     if (type == BigDecimal.class) {
       if (sqlType == Types.NUMERIC || sqlType == Types.DECIMAL) {
@@ -3918,6 +4159,13 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
         throw new PSQLException(GT.tr("conversion to {0} from {1} not supported", type, getPGType(columnIndex)),
                 PSQLState.INVALID_PARAMETER_VALUE);
       }
+    } else if (type.isArray() && ArrayDecoding.isPrimitiveArrayType(type)) {
+      if (sqlType == Types.ARRAY) {
+        return getPrimitiveArray(columnIndex, type);
+      } else {
+        throw new PSQLException(GT.tr("conversion to {0} from {1} not supported", type, getPGType(columnIndex)),
+                PSQLState.INVALID_PARAMETER_VALUE);
+      }
     } else if (type == SQLXML.class) {
       if (sqlType == Types.SQLXML) {
         return type.cast(getSQLXML(columnIndex));
@@ -3947,11 +4195,13 @@ public class PgResultSet implements ResultSet, PGRefCursorResultSet {
       return type.cast(getLocalDateTime(columnIndex));
     } else if (type == OffsetDateTime.class) {
       return type.cast(getOffsetDateTime(columnIndex));
+    } else if (type == Instant.class) {
+      return type.cast(getInstant(columnIndex));
     } else if (type == OffsetTime.class) {
       return type.cast(getOffsetTime(columnIndex));
     } else if (PGobject.class.isAssignableFrom(type)) {
       Object object;
-      if (isBinary(columnIndex)) {
+      if (isBinary(columnIndex) && fields[columnIndex - 1].getOID() != Oid.JSONB) {
         byte[] byteValue = castNonNull(thisRow, "thisRow").get(columnIndex - 1);
         object = connection.getObject(getPGType(columnIndex), null, byteValue);
       } else {
@@ -8,6 +8,7 @@ package org.postgresql.jdbc;
 import static org.postgresql.util.internal.Nullness.castNonNull;
 
 import org.postgresql.Driver;
+import org.postgresql.PGRowConsumer;
 import org.postgresql.core.BaseConnection;
 import org.postgresql.core.BaseStatement;
 import org.postgresql.core.CachedQuery;
@@ -38,6 +39,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.TimeZone;
 import java.util.TimerTask;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
@@ -149,6 +151,16 @@ public class PgStatement implements Statement, BaseStatement {
    */
   protected @Nullable ResultWrapper generatedKeys;
 
+  /**
+   * Receives the rows of the statement being executed by {@code executeStreaming}, or null.
+   */
+  protected @Nullable PGRowConsumer rowConsumer;
+
+  /**
+   * Number of rows passed to {@link #rowConsumer} by the current execution.
+   */
+  protected long streamedRows;
+
   protected int mPrepareThreshold; // Reuse threshold to enable use of PREPARE
 
   protected int maxFieldSize;
@@ -225,6 +237,11 @@ public class PgStatement implements Statement, BaseStatement {
   public class StatementResultHandler extends ResultHandlerBase {
     private @Nullable ResultWrapper results;
     private @Nullable ResultWrapper lastResult;
+    private final @Nullable PGRowConsumer rowConsumer = PgStatement.this.rowConsumer;
+    /**
+     * Result set positioned on the row passed to {@link #rowConsumer}, reused for all the rows.
+     */
+    private @Nullable PgResultSet streamedRow;
 
     @Nullable ResultWrapper getResults() {
       return results;
@@ -249,6 +266,37 @@ public class PgStatement implements Statement, BaseStatement {
       }
     }
 
+    @Override
+    public boolean isStreamingRows() {
+      return rowConsumer != null;
+    }
+
+    @Override
+    public void handleRow(Query fromQuery, Field[] fields, Tuple tuple) {
+      PGRowConsumer rowConsumer = this.rowConsumer;
+      if (rowConsumer == null || getException() != null) {
+        // Once the consumer has failed, the remaining rows are discarded
+        return;
+      }
+      try {
+        PgResultSet row = streamedRow;
+        if (row == null || row.fields != fields) {
+          row = new PgResultSet(fromQuery, PgStatement.this, fields, new ArrayList<>(1), null,
+              0, getMaxFieldSize(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY,
+              getResultSetHoldability(), false);
+          streamedRow = row;
+        }
+        row.setStreamedRow(tuple);
+        rowConsumer.accept(row);
+        streamedRows++;
+      } catch (SQLException e) {
+        handleError(e);
+      } catch (RuntimeException e) {
+        handleError(new PSQLException(GT.tr("The row consumer failed."),
+            PSQLState.UNEXPECTED_ERROR, e));
+      }
+    }
+
     @Override
     public void handleCommandStatus(String status, long updateCount, long insertOID) {
       append(new ResultWrapper(updateCount, insertOID));
@@ -368,6 +416,98 @@ public class PgStatement implements Statement, BaseStatement {
         PSQLState.WRONG_OBJECT_TYPE);
   }
 
+  @Override
+  public CompletableFuture<ResultSet> executeQueryAsync(String sql) throws SQLException {
+    PgPipeline.QueryResultHandler handler = new PgPipeline.QueryResultHandler(this);
+    executeAsync(sql, handler, 0);
+    return handler.future;
+  }
+
+  @Override
+  public CompletableFuture<Long> executeUpdateAsync(String sql) throws SQLException {
+    PgPipeline.UpdateResultHandler handler = new PgPipeline.UpdateResultHandler(this);
+    executeAsync(sql, handler, QueryExecutor.QUERY_NO_RESULTS);
+    return handler.future;
+  }
+
+  private void executeAsync(String sql, PgPipeline.PipelinedResultHandler<?> handler, int flags)
+      throws SQLException {
+    checkClosed();
+    QueryExecutor queryExecutor = connection.getQueryExecutor();
+    Object key = queryExecutor
+        .createQueryKey(sql, replaceProcessingEnabled, false, NO_RETURNING_COLUMNS);
+    // Mirrors executeCachedSql, the query goes back to the cache once its results are received
+    CachedQuery cachedQuery;
+    boolean shouldCache =
+        connection.getPreferQueryMode() == PreferQueryMode.EXTENDED_CACHE_EVERYTHING;
+    if (shouldCache) {
+      cachedQuery = queryExecutor.borrowQueryByKey(key);
+    } else {
+      cachedQuery = queryExecutor.createQueryByKey(key);
+    }
+    boolean queued = false;
+    try {
+      executeAsync(cachedQuery, null, handler, flags);
+      queued = true;
+    } finally {
+      if (shouldCache) {
+        if (queued) {
+          handler.future.whenComplete((result, error) -> queryExecutor.releaseQuery(cachedQuery));
+        } else {
+          queryExecutor.releaseQuery(cachedQuery);
+        }
+      }
+    }
+  }
+
+  /**
+   * Sends a query in the pipeline of the connection and makes sure its results are read in the
+   * background. The query is followed by a sync point, so it runs in its own implicit transaction
+   * and a failure of another asynchronous statement does not roll it back.
+   */
+  protected final void executeAsync(CachedQuery cachedQuery,
+      @Nullable ParameterList queryParameters, ResultHandlerBase handler, int flags)
+      throws SQLException {
+    PgPipeline.enqueue(this, cachedQuery, queryParameters, handler,
+        flags | QueryExecutor.QUERY_PIPELINE_SYNC);
+    connection.getAsyncResultReader().schedule();
+  }
+
+  @Override
+  public CompletableFuture<ResultSet> executeQueryAsync() throws SQLException {
+    checkClosed();
+    throw new PSQLException(GT.tr("Can''t use executeQueryAsync() on a Statement."),
+        PSQLState.WRONG_OBJECT_TYPE);
+  }
+
+  @Override
+  public long executeStreaming(String sql, PGRowConsumer consumer) throws SQLException {
+    try (ResourceLock ignore = lock.obtain()) {
+      rowConsumer = consumer;
+      streamedRows = 0;
+      try {
+        executeWithFlags(sql, 0);
+      } finally {
+        rowConsumer = null;
+      }
+      return streamedRows;
+    }
+  }
+
+  @Override
+  public long executeStreaming(PGRowConsumer consumer) throws SQLException {
+    checkClosed();
+    throw new PSQLException(GT.tr("Can''t use executeStreaming(PGRowConsumer) on a Statement."),
+        PSQLState.WRONG_OBJECT_TYPE);
+  }
+
+  @Override
+  public CompletableFuture<Long> executeUpdateAsync() throws SQLException {
+    checkClosed();
+    throw new PSQLException(GT.tr("Can''t use executeUpdateAsync() on a Statement."),
+        PSQLState.WRONG_OBJECT_TYPE);
+  }
+
   /*
   If there are multiple result sets we close any that have been processed and left open
   by the client.
@@ -451,10 +591,15 @@ public class PgStatement implements Statement, BaseStatement {
       throws SQLException {
     closeForNextExecution();
 
-    // Enable cursor-based resultset if possible.
-    if (fetchSize > 0 && !wantsScrollableResultSet() && !connection.getAutoCommit()
-        && !wantsHoldableResultSet()) {
-      flags |= QueryExecutor.QUERY_FORWARD_CURSOR;
+    // Enable cursor-based resultset if possible. Streamed rows need no cursor.
+    if (fetchSize > 0 && !wantsScrollableResultSet() && !wantsHoldableResultSet()
+        && rowConsumer == null) {
+      if (!connection.getAutoCommit()) {
+        flags |= QueryExecutor.QUERY_FORWARD_CURSOR;
+      } else {
+        // The query executor ignores both flags unless chunkedResults is enabled
+        flags |= QueryExecutor.QUERY_FORWARD_CURSOR | QueryExecutor.QUERY_CHUNKED_RESULTS;
+      }
     }
 
     if (wantsGeneratedKeysOnce || wantsGeneratedKeysAlways) {
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.jdbc;
+
+import org.postgresql.core.QueryExecutor;
+import org.postgresql.util.LruCache;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The caches of field metadata shared by the connections of the JVM to the same server and
+ * database, see {@link org.postgresql.PGProperty#DATABASE_METADATA_CACHE_SHARED}. The fields are
+ * identified by the oid of their table and their position in the table, which are only unique
+ * within a database, hence one cache per server and database.
+ */
+final class SharedFieldMetadataCache {
+  private static final ConcurrentMap<String, LruCache<FieldMetadata.Key, FieldMetadata>> CACHES =
+      new ConcurrentHashMap<>();
+
+  private SharedFieldMetadataCache() {
+  }
+
+  /**
+   * Returns the cache of the server and database of the given connection. The limits are those
+   * of the first connection to the database.
+   *
+   * @param queryExecutor the connection
+   * @param maxSizeEntries maximum number of fields
+   * @param maxSizeBytes maximum estimated size of the fields
+   * @return the shared cache
+   */
+  static LruCache<FieldMetadata.Key, FieldMetadata> forServer(QueryExecutor queryExecutor,
+      int maxSizeEntries, long maxSizeBytes) {
+    return CACHES.computeIfAbsent(SharedTypeCatalog.serverKey(queryExecutor),
+        k -> new LruCache<>(maxSizeEntries, maxSizeBytes, true));
+  }
+}
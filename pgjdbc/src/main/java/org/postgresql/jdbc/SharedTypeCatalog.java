@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.jdbc;
+
+import org.postgresql.core.QueryExecutor;
+import org.postgresql.util.HostSpec;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The facts of the {@code pg_type} catalog of a database that do not depend on the
+ * {@code search_path} of the session, shared by the connections of the JVM to the same server and
+ * database. The connections consult it before querying the catalog and store the results of their
+ * queries in it, see {@link org.postgresql.PGProperty#SHARED_TYPE_CATALOG}.
+ *
+ * <p>The names of the types are not shared, as the name of a type depends on the schemas on the
+ * search path of each session.</p>
+ *
+ * <p>The catalogs are kept for the life of the JVM: one catalog is created for each distinct
+ * server, database and server version that the connections use, including after an upgrade of
+ * the server. A catalog only holds the types that the connections read.</p>
+ */
+final class SharedTypeCatalog {
+  private static final ConcurrentMap<String, SharedTypeCatalog> CATALOGS =
+      new ConcurrentHashMap<>();
+
+  private final ConcurrentMap<Integer, Integer> oidToSQLType = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Integer, Integer> arrayOidToElementOid = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Integer, Character> oidToArrayDelimiter = new ConcurrentHashMap<>();
+  private final AtomicInteger generation = new AtomicInteger();
+
+  private SharedTypeCatalog() {
+  }
+
+  /**
+   * Returns the catalog of the server and database of the given connection. The server is
+   * identified by its host, port and version.
+   *
+   * @param queryExecutor the connection
+   * @return the shared catalog
+   */
+  static SharedTypeCatalog forServer(QueryExecutor queryExecutor) {
+    return CATALOGS.computeIfAbsent(serverKey(queryExecutor), k -> new SharedTypeCatalog());
+  }
+
+  /**
+   * Returns a key that identifies the server and database of the given connection, by the host,
+   * port and version of the server and the name of the database.
+   *
+   * @param queryExecutor the connection
+   * @return the key of the server and database
+   */
+  static String serverKey(QueryExecutor queryExecutor) {
+    HostSpec hostSpec = queryExecutor.getHostSpec();
+    return hostSpec.getHost() + ':' + hostSpec.getPort() + '/' + queryExecutor.getDatabase()
+        + ' ' + queryExecutor.getServerVersion();
+  }
+
+  /**
+   * Discards the types of this server, for instance after types were dropped or replaced.
+   */
+  void invalidate() {
+    generation.incrementAndGet();
+    oidToSQLType.clear();
+    arrayOidToElementOid.clear();
+    oidToArrayDelimiter.clear();
+  }
+
+  /**
+   * Returns a number that changes each time the types are discarded, so that the connections can
+   * discard the names of the types they resolved themselves.
+   *
+   * @return the number of times the types were discarded
+   */
+  int getGeneration() {
+    return generation.get();
+  }
+
+  @Nullable Integer getSQLType(int oid) {
+    return oidToSQLType.get(oid);
+  }
+
+  void putSQLType(int oid, int sqlType) {
+    oidToSQLType.put(oid, sqlType);
+  }
+
+  @Nullable Integer getArrayElement(int arrayOid) {
+    return arrayOidToElementOid.get(arrayOid);
+  }
+
+  void putArrayElement(int arrayOid, int elementOid) {
+    arrayOidToElementOid.put(arrayOid, elementOid);
+  }
+
+  @Nullable Character getArrayDelimiter(int oid) {
+    return oidToArrayDelimiter.get(oid);
+  }
+
+  void putArrayDelimiter(int oid, char delimiter) {
+    oidToArrayDelimiter.put(oid, delimiter);
+  }
+}
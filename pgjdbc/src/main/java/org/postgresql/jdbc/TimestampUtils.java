@@ -25,6 +25,7 @@ import java.sql.Date;
 import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -36,10 +37,13 @@ import java.time.ZoneOffset;
 import java.time.chrono.IsoEra;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoField;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Objects;
 import java.util.SimpleTimeZone;
 import java.util.TimeZone;
@@ -69,6 +73,10 @@ public class TimestampUtils {
   private static final OffsetDateTime MIN_OFFSET_DATETIME = MIN_LOCAL_DATETIME.atOffset(ZoneOffset.UTC);
   private static final Duration PG_EPOCH_DIFF =
       Duration.between(Instant.EPOCH, LocalDate.of(2000, 1, 1).atStartOfDay().toInstant(ZoneOffset.UTC));
+  private static final long PG_EPOCH_SECS = PG_EPOCH_DIFF.getSeconds();
+  // Before 1900 the zone rules of java.time and of Calendar may differ, see guessTimestamp
+  private static final long MIN_CACHED_OFFSET_SECS =
+      LocalDate.of(1900, 1, 1).atStartOfDay().toEpochSecond(ZoneOffset.UTC);
 
   private static final @Nullable Field DEFAULT_TIME_ZONE_FIELD;
 
@@ -81,6 +89,9 @@ public class TimestampUtils {
 
   private @Nullable TimeZone prevDefaultZoneFieldValue;
   private @Nullable TimeZone defaultTimeZoneCache;
+  // The range is immutable and replaced as a whole, so the callers that do not hold the lock
+  // read either the previous or the next range, and check it before using it
+  private @Nullable ZoneOffsetRange zoneOffsetCache;
 
   static {
     // The expected maximum value is 60 (seconds), so 64 is used "just in case"
@@ -191,6 +202,26 @@ public class TimestampUtils {
     int nanos;
   }
 
+  /**
+   * The offset of a time zone over a range of local times without daylight saving transition.
+   * The instances are immutable, so the cache needs no lock even though the binary conversions
+   * do not take {@link #lock}.
+   */
+  private static final class ZoneOffsetRange {
+    final TimeZone zone;
+    // local times, in seconds since 1970-01-01T00:00, start inclusive and end exclusive
+    final long startSecs;
+    final long endSecs;
+    final long offsetMillis;
+
+    ZoneOffsetRange(TimeZone zone, long startSecs, long endSecs, long offsetMillis) {
+      this.zone = zone;
+      this.startSecs = startSecs;
+      this.endSecs = endSecs;
+      this.offsetMillis = offsetMillis;
+    }
+  }
+
   enum Infinity {
     POSITIVE,
     NEGATIVE
@@ -675,6 +706,9 @@ public class TimestampUtils {
    * @throws PSQLException If binary format could not be parsed.
    */
   public OffsetDateTime toOffsetDateTimeBin(byte[] bytes) throws PSQLException {
+    if (!usesDouble && bytes.length == 8) {
+      return toOffsetDateTimeBin(ByteConverter.int8(bytes, 0));
+    }
     ParsedBinaryTimestamp parsedTimestamp = this.toProlepticParsedTimestampBin(bytes);
     if (parsedTimestamp.infinity == Infinity.POSITIVE) {
       return OffsetDateTime.MAX;
@@ -1447,6 +1481,9 @@ public class TimestampUtils {
    */
   public Timestamp toTimestampBin(@Nullable TimeZone tz, byte[] bytes, boolean timestamptz)
       throws PSQLException {
+    if (!usesDouble && bytes.length == 8) {
+      return toTimestampBin(tz, ByteConverter.int8(bytes, 0), timestamptz);
+    }
 
     ParsedBinaryTimestamp parsedTimestamp = this.toParsedTimestampBin(tz, bytes, timestamptz);
     if (parsedTimestamp.infinity == Infinity.POSITIVE) {
@@ -1567,6 +1604,9 @@ public class TimestampUtils {
    * @throws PSQLException If binary format could not be parsed.
    */
   public LocalDateTime toLocalDateTimeBin(byte[] bytes) throws PSQLException {
+    if (!usesDouble && bytes.length == 8) {
+      return toLocalDateTimeBin(ByteConverter.int8(bytes, 0));
+    }
 
     ParsedBinaryTimestamp parsedTimestamp = this.toProlepticParsedTimestampBin(bytes);
     if (parsedTimestamp.infinity == Infinity.POSITIVE) {
@@ -1580,6 +1620,119 @@ public class TimestampUtils {
     return LocalDateTime.ofEpochSecond(parsedTimestamp.millis / 1000L, parsedTimestamp.nanos, ZoneOffset.UTC);
   }
 
+  /**
+   * Returns the bytes of a binary {@link Oid#TIMESTAMP} or {@link Oid#TIMESTAMPTZ} value as a
+   * byte array, for the servers that send date and time values as floating point numbers.
+   */
+  private static byte[] timestampBytes(long bits) {
+    byte[] bytes = new byte[8];
+    ByteConverter.int8(bytes, 0, bits);
+    return bytes;
+  }
+
+  /**
+   * Returns the local date time object matching the given binary {@link Oid#TIMESTAMP} or
+   * {@link Oid#TIMESTAMPTZ} value, read as a long, without intermediate objects.
+   *
+   * @param bits The eight bytes of the binary value, for instance from
+   *     {@link org.postgresql.core.Tuple#getInt8(int)}: the microseconds since 2000-01-01.
+   * @return The parsed local date time object.
+   * @throws PSQLException If binary format could not be parsed.
+   */
+  public LocalDateTime toLocalDateTimeBin(long bits) throws PSQLException {
+    if (usesDouble) {
+      return toLocalDateTimeBin(timestampBytes(bits));
+    }
+    if (bits == Long.MAX_VALUE) {
+      return LocalDateTime.MAX;
+    } else if (bits == Long.MIN_VALUE) {
+      return LocalDateTime.MIN;
+    }
+    long secs = Math.floorDiv(bits, 1000000L);
+    int nanos = (int) Math.floorMod(bits, 1000000L) * 1000;
+    // hardcode utc because the backend does not provide us the timezone
+    return LocalDateTime.ofEpochSecond(secs + PG_EPOCH_SECS, nanos, ZoneOffset.UTC);
+  }
+
+  /**
+   * Returns the offset date time object matching the given binary {@link Oid#TIMESTAMPTZ} value,
+   * read as a long, in UTC.
+   *
+   * @param bits The eight bytes of the binary value.
+   * @return The parsed offset date time object.
+   * @throws PSQLException If binary format could not be parsed.
+   * @see #toLocalDateTimeBin(long)
+   */
+  public OffsetDateTime toOffsetDateTimeBin(long bits) throws PSQLException {
+    if (usesDouble) {
+      return toOffsetDateTimeBin(timestampBytes(bits));
+    }
+    if (bits == Long.MAX_VALUE) {
+      return OffsetDateTime.MAX;
+    } else if (bits == Long.MIN_VALUE) {
+      return OffsetDateTime.MIN;
+    }
+    // Postgres is always UTC, so no need to look up the rules of a zone like ofInstant does
+    return OffsetDateTime.of(toLocalDateTimeBin(bits), ZoneOffset.UTC);
+  }
+
+  /**
+   * Returns the instant matching the given binary {@link Oid#TIMESTAMPTZ} value, read as a long.
+   * The infinite values are returned as {@link Instant#MAX} and {@link Instant#MIN}.
+   *
+   * @param bits The eight bytes of the binary value.
+   * @return The parsed instant.
+   * @throws PSQLException If binary format could not be parsed.
+   * @see #toLocalDateTimeBin(long)
+   */
+  public Instant toInstantBin(long bits) throws PSQLException {
+    if (usesDouble) {
+      OffsetDateTime dateTime = toOffsetDateTimeBin(timestampBytes(bits));
+      return dateTime == OffsetDateTime.MAX ? Instant.MAX
+          : dateTime == OffsetDateTime.MIN ? Instant.MIN : dateTime.toInstant();
+    }
+    if (bits == Long.MAX_VALUE) {
+      return Instant.MAX;
+    } else if (bits == Long.MIN_VALUE) {
+      return Instant.MIN;
+    }
+    return Instant.ofEpochSecond(Math.floorDiv(bits, 1000000L) + PG_EPOCH_SECS,
+        Math.floorMod(bits, 1000000L) * 1000);
+  }
+
+  /**
+   * Returns the SQL Timestamp object matching the given binary {@link Oid#TIMESTAMP} or
+   * {@link Oid#TIMESTAMPTZ} value, read as a long.
+   *
+   * @param tz The timezone used when received data is {@link Oid#TIMESTAMP}, ignored if data
+   *        already contains {@link Oid#TIMESTAMPTZ}.
+   * @param bits The eight bytes of the binary value.
+   * @param timestamptz True if the binary is in GMT.
+   * @return The parsed timestamp object.
+   * @throws PSQLException If binary format could not be parsed.
+   * @see #toLocalDateTimeBin(long)
+   */
+  public Timestamp toTimestampBin(@Nullable TimeZone tz, long bits, boolean timestamptz)
+      throws PSQLException {
+    if (usesDouble) {
+      return toTimestampBin(tz, timestampBytes(bits), timestamptz);
+    }
+    if (bits == Long.MAX_VALUE) {
+      return new Timestamp(PGStatement.DATE_POSITIVE_INFINITY);
+    } else if (bits == Long.MIN_VALUE) {
+      return new Timestamp(PGStatement.DATE_NEGATIVE_INFINITY);
+    }
+    long millis = toJavaSecs(Math.floorDiv(bits, 1000000L)) * 1000L;
+    if (!timestamptz) {
+      // Here be dragons: backend did not provide us the timezone, so we guess the actual point in
+      // time
+      millis = guessTimestamp(millis, tz);
+    }
+    Timestamp ts = new Timestamp(millis);
+    ts.setNanos((int) Math.floorMod(bits, 1000000L) * 1000);
+    return ts;
+  }
+
   /**
    * Returns the local date time object matching the given bytes with {@link Oid#DATE} or
    * {@link Oid#TIMESTAMP}.
@@ -1643,6 +1796,17 @@ public class TimestampUtils {
       // For well-known non-DST time zones, just subtract offset
       return millis - tz.getRawOffset();
     }
+    // Most timestamps fall in the same range between two daylight saving transitions as the
+    // previous one, where the offset is constant
+    long localSecs = Math.floorDiv(millis, 1000L);
+    ZoneOffsetRange range = zoneOffsetCache;
+    if (range == null || range.zone != tz || localSecs < range.startSecs
+        || localSecs >= range.endSecs) {
+      range = getZoneOffsetRange(tz, localSecs);
+    }
+    if (range != null) {
+      return millis - range.offsetMillis;
+    }
     // For all the other time zones, enjoy debugging Calendar API
     // Here we do a straight-forward implementation that splits original timestamp into pieces and
     // composes it back.
@@ -1671,6 +1835,56 @@ public class TimestampUtils {
     return cal.getTimeInMillis();
   }
 
+  /**
+   * Computes the offset of the given zone at the given local time, and the range of local times
+   * that have the same offset, so that the next timestamps do not need Calendar.
+   *
+   * @param tz the time zone of the timestamp
+   * @param localSecs the local time, in seconds since 1970-01-01T00:00
+   * @return the range, or null if the local time is in a daylight saving gap or overlap, or if
+   *     the zone rules of java.time might differ from those of Calendar
+   */
+  private @Nullable ZoneOffsetRange getZoneOffsetRange(TimeZone tz, long localSecs) {
+    // Custom rules of SimpleTimeZone are not known to java.time, and old dates use the Julian
+    // calendar and local mean times
+    if (tz instanceof SimpleTimeZone || localSecs < MIN_CACHED_OFFSET_SECS
+        || localSecs >= PGStatement.DATE_POSITIVE_SMALLER_INFINITY / 1000) {
+      return null;
+    }
+    ZoneRules rules;
+    try {
+      rules = tz.toZoneId().getRules();
+    } catch (DateTimeException e) {
+      return null;
+    }
+    LocalDateTime local = LocalDateTime.ofEpochSecond(localSecs, 0, ZoneOffset.UTC);
+    List<ZoneOffset> offsets = rules.getValidOffsets(local);
+    if (offsets.size() != 1) {
+      return null;
+    }
+    ZoneOffset offset = offsets.get(0);
+    Instant instant = local.toInstant(offset);
+    long startSecs = Long.MIN_VALUE;
+    long endSecs = Long.MAX_VALUE;
+    ZoneOffsetTransition previous = rules.previousTransition(instant);
+    if (previous != null) {
+      startSecs = Math.max(previous.getDateTimeBefore().toEpochSecond(ZoneOffset.UTC),
+          previous.getDateTimeAfter().toEpochSecond(ZoneOffset.UTC));
+    }
+    ZoneOffsetTransition next = rules.nextTransition(instant);
+    if (next != null) {
+      endSecs = Math.min(next.getDateTimeBefore().toEpochSecond(ZoneOffset.UTC),
+          next.getDateTimeAfter().toEpochSecond(ZoneOffset.UTC));
+    }
+    if (localSecs < startSecs || localSecs >= endSecs) {
+      return null;
+    }
+    ZoneOffsetRange range =
+        new ZoneOffsetRange(tz, startSecs, endSecs, offset.getTotalSeconds() * 1000L);
+    zoneOffsetCache = range;
+    return range;
+  }
+
   private static boolean isSimpleTimeZone(String id) {
     return id.startsWith("GMT") || id.startsWith("UTC");
   }
@@ -26,9 +26,11 @@ import java.sql.SQLException;
 import java.sql.Types;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Level;
@@ -74,6 +76,18 @@ public class TypeInfoCache implements TypeInfo {
   private @Nullable PreparedStatement getTypeInfoStatement;
   private @Nullable PreparedStatement getAllTypeInfoStatement;
   private final ResourceLock lock = new ResourceLock();
+  /**
+   * The types shared with the other connections to the same server, or {@code null} if each
+   * connection has its own types.
+   */
+  private @Nullable SharedTypeCatalog sharedCatalog;
+
+  // the generation of the shared catalog when the names of the types were last discarded
+  private int sharedCatalogGeneration;
+
+  // the types added by addCoreType, which are kept when the shared catalog is invalidated
+  private final Set<Integer> coreOids = new HashSet<>();
+  private final Set<String> coreNames = new HashSet<>();
 
   // basic pg types info:
   // 0 - type name
@@ -182,10 +196,64 @@ public class TypeInfoCache implements TypeInfo {
     pgNameToJavaClass.put("hstore", Map.class.getName());
   }
 
+  /**
+   * Shares the types that do not depend on the {@code search_path} with the other connections to
+   * the same server. The connection looks up these types in the shared catalog instead of its own
+   * maps, so that {@link SharedTypeCatalog#invalidate()} applies to all the connections.
+   *
+   * @param sharedCatalog the catalog of the server, or {@code null} to not share the types
+   */
+  void setSharedCatalog(@Nullable SharedTypeCatalog sharedCatalog) {
+    try (ResourceLock ignore = lock.obtain()) {
+      this.sharedCatalog = sharedCatalog;
+      if (sharedCatalog != null) {
+        sharedCatalogGeneration = sharedCatalog.getGeneration();
+      }
+    }
+  }
+
+  /**
+   * Discards the types shared with the other connections to the same server, if any, and the
+   * names of the types resolved by this connection.
+   */
+  void invalidateSharedCatalog() {
+    SharedTypeCatalog sharedCatalog = this.sharedCatalog;
+    if (sharedCatalog != null) {
+      sharedCatalog.invalidate();
+      try (ResourceLock ignore = lock.obtain()) {
+        discardNamesIfInvalidated();
+      }
+    }
+  }
+
+  /**
+   * Discards the names of the types resolved by this connection if the shared catalog was
+   * invalidated since, by this connection or another one, as the OIDs they map to may be stale.
+   * The core types are kept. Must be called with the lock held.
+   */
+  private void discardNamesIfInvalidated() {
+    SharedTypeCatalog sharedCatalog = this.sharedCatalog;
+    if (sharedCatalog == null) {
+      return;
+    }
+    int generation = sharedCatalog.getGeneration();
+    if (generation != sharedCatalogGeneration) {
+      sharedCatalogGeneration = generation;
+      oidToPgName.keySet().retainAll(coreOids);
+      pgNameToOid.keySet().retainAll(coreNames);
+      pgNameToSQLType.keySet().retainAll(coreNames);
+    }
+  }
+
   @Override
   public void addCoreType(String pgTypeName, Integer oid, Integer sqlType,
       String javaClass, Integer arrayOid) {
     try (ResourceLock ignore = lock.obtain()) {
+      coreOids.add(oid);
+      coreOids.add(arrayOid);
+      coreNames.add(pgTypeName);
+      coreNames.add(pgTypeName + "[]");
+      coreNames.add("_" + pgTypeName);
       pgNameToJavaClass.put(pgTypeName, javaClass);
       pgNameToOid.put(pgTypeName, oid);
       oidToPgName.put(oid, pgTypeName);
@@ -319,6 +387,92 @@ public class TypeInfoCache implements TypeInfo {
     rs.close();
   }
 
+  /**
+   * Reads in one query the types of the database that are not tables nor arrays of tables, with
+   * their names, their SQL types, and the element and delimiter of the array types, so that the
+   * first queries of the connection do not query them one by one. The types that are already known are kept.
+   *
+   * @throws SQLException if the types cannot be read
+   * @see org.postgresql.PGProperty#PRELOAD_TYPE_CATALOG
+   */
+  public void preloadTypes() throws SQLException {
+    LOGGER.log(Level.FINEST, "preloading the type catalog");
+    // The types are sorted by the position of their schema in the search path, as in
+    // getOidStatement(String), so that the first type with a given name is the one it would find
+    String sql = "SELECT t.oid, t.typname, n.nspname, n.nspname = ANY(current_schemas(true)) AS on_path,"
+        + " t.typinput = 'pg_catalog.array_in'::regproc AS is_array, t.typtype, t.typelem, e.typdelim"
+        + "  FROM pg_catalog.pg_type t"
+        + "  JOIN pg_catalog.pg_namespace n ON t.typnamespace = n.oid"
+        + "  LEFT JOIN pg_catalog.pg_type e ON t.typelem = e.oid"
+        + "  LEFT JOIN pg_catalog.pg_class c ON t.typrelid = c.oid"
+        + "  LEFT JOIN pg_catalog.pg_class ec ON e.typrelid = ec.oid"
+        + "  LEFT JOIN (select s.r, (current_schemas(false))[s.r] as nspname "
+        + "               from generate_series(1, array_upper(current_schemas(false), 1)) as s(r) ) as sp "
+        + "    ON sp.nspname = n.nspname"
+        + " WHERE (t.typrelid = 0 OR c.relkind = 'c')"
+        // The arrays of the row types of the tables, such as _tablename, are skipped too
+        + "   AND (e.typrelid IS NULL OR e.typrelid = 0 OR ec.relkind = 'c')"
+        + " ORDER BY sp.r, t.oid DESC";
+    try (ResourceLock ignore = lock.obtain();
+         PreparedStatement stmt = conn.prepareStatement(sql)) {
+      // Go through BaseStatement to avoid transaction start.
+      if (!((BaseStatement) stmt).executeWithFlags(QueryExecutor.QUERY_SUPPRESS_BEGIN)) {
+        throw new PSQLException(GT.tr("No results were returned by the query."), PSQLState.NO_DATA);
+      }
+      SharedTypeCatalog sharedCatalog = this.sharedCatalog;
+      ResultSet rs = castNonNull(stmt.getResultSet());
+      while (rs.next()) {
+        int oid = (int) rs.getLong("oid");
+        String name = castNonNull(rs.getString("typname"));
+        String schema = castNonNull(rs.getString("nspname"));
+        int sqlType = getSQLTypeFromQueryResult(rs);
+        if (!pgNameToSQLType.containsKey(name)) {
+          pgNameToSQLType.put(name, sqlType);
+        }
+        if (!oidToSQLType.containsKey(oid)) {
+          if (sharedCatalog != null) {
+            sharedCatalog.putSQLType(oid, sqlType);
+          } else {
+            oidToSQLType.put(oid, sqlType);
+          }
+        }
+
+        if (!oidToPgName.containsKey(oid)) {
+          // same names as getPGType(int)
+          String pgTypeName;
+          if (rs.getBoolean("on_path")) {
+            pgTypeName = name;
+            pgNameToOid.put(schema + "." + name, oid);
+          } else {
+            pgTypeName = "\"" + schema + "\".\"" + name + "\"";
+            if (schema.equals(schema.toLowerCase(Locale.ROOT)) && schema.indexOf('.') == -1
+                && name.equals(name.toLowerCase(Locale.ROOT)) && name.indexOf('.') == -1) {
+              pgNameToOid.put(schema + "." + name, oid);
+            }
+          }
+          if (!pgNameToOid.containsKey(pgTypeName)) {
+            pgNameToOid.put(pgTypeName, oid);
+          }
+          oidToPgName.put(oid, pgTypeName);
+        }
+
+        int elementOid = (int) rs.getLong("typelem");
+        String delimiter = rs.getString("typdelim");
+        if (rs.getBoolean("is_array") && elementOid != Oid.UNSPECIFIED && delimiter != null
+            && !pgArrayToPgType.containsKey(oid)) {
+          if (sharedCatalog != null) {
+            sharedCatalog.putArrayElement(oid, elementOid);
+            sharedCatalog.putArrayDelimiter(oid, delimiter.charAt(0));
+          } else {
+            pgArrayToPgType.put(oid, elementOid);
+            arrayOidToDelimiter.put(oid, delimiter.charAt(0));
+          }
+        }
+      }
+      rs.close();
+    }
+  }
+
   private PreparedStatement prepareGetTypeInfoStatement() throws SQLException {
     PreparedStatement getTypeInfoStatement = this.getTypeInfoStatement;
     if (getTypeInfoStatement == null) {
@@ -337,6 +491,7 @@ public class TypeInfoCache implements TypeInfo {
       if (pgTypeName.endsWith("[]")) {
         return Types.ARRAY;
       }
+      discardNamesIfInvalidated();
       Integer i = this.pgNameToSQLType.get(pgTypeName);
       if (i != null) {
         return i;
@@ -375,6 +530,13 @@ public class TypeInfoCache implements TypeInfo {
       if (i != null) {
         return i;
       }
+      SharedTypeCatalog sharedCatalog = this.sharedCatalog;
+      if (sharedCatalog != null) {
+        i = sharedCatalog.getSQLType(typeOid);
+        if (i != null) {
+          return i;
+        }
+      }
 
       LOGGER.log(Level.FINEST, "querying SQL typecode for pg type oid ''{0}''", intOidToLong(typeOid));
 
@@ -396,7 +558,11 @@ public class TypeInfoCache implements TypeInfo {
       }
       rs.close();
 
-      oidToSQLType.put(typeOid, sqlType);
+      if (sharedCatalog != null) {
+        sharedCatalog.putSQLType(typeOid, sqlType);
+      } else {
+        oidToSQLType.put(typeOid, sqlType);
+      }
       return sqlType;
     }
   }
@@ -518,6 +684,7 @@ public class TypeInfoCache implements TypeInfo {
         return Oid.UNSPECIFIED;
       }
 
+      discardNamesIfInvalidated();
       Integer oid = pgNameToOid.get(pgTypeName);
       if (oid != null) {
         return oid;
@@ -553,6 +720,7 @@ public class TypeInfoCache implements TypeInfo {
         return null;
       }
 
+      discardNamesIfInvalidated();
       String pgTypeName = oidToPgName.get(oid);
       if (pgTypeName != null) {
         return pgTypeName;
@@ -643,6 +811,13 @@ public class TypeInfoCache implements TypeInfo {
       if (delim != null) {
         return delim;
       }
+      SharedTypeCatalog sharedCatalog = this.sharedCatalog;
+      if (sharedCatalog != null) {
+        delim = sharedCatalog.getArrayDelimiter(oid);
+        if (delim != null) {
+          return delim;
+        }
+      }
 
       PreparedStatement getArrayDelimiterStatement = prepareGetArrayDelimiterStatement();
 
@@ -662,7 +837,11 @@ public class TypeInfoCache implements TypeInfo {
       String s = castNonNull(rs.getString(1));
       delim = s.charAt(0);
 
-      arrayOidToDelimiter.put(oid, delim);
+      if (sharedCatalog != null) {
+        sharedCatalog.putArrayDelimiter(oid, delim);
+      } else {
+        arrayOidToDelimiter.put(oid, delim);
+      }
 
       rs.close();
 
@@ -693,6 +872,13 @@ public class TypeInfoCache implements TypeInfo {
       if (pgType != null) {
         return pgType;
       }
+      SharedTypeCatalog sharedCatalog = this.sharedCatalog;
+      if (sharedCatalog != null) {
+        pgType = sharedCatalog.getArrayElement(oid);
+        if (pgType != null) {
+          return pgType;
+        }
+      }
 
       PreparedStatement getArrayElementOidStatement = prepareGetArrayElementOidStatement();
 
@@ -713,7 +899,11 @@ public class TypeInfoCache implements TypeInfo {
       boolean onPath = rs.getBoolean(2);
       String schema = rs.getString(3);
       String name = castNonNull(rs.getString(4));
-      pgArrayToPgType.put(oid, pgType);
+      if (sharedCatalog != null) {
+        sharedCatalog.putArrayElement(oid, pgType);
+      } else {
+        pgArrayToPgType.put(oid, pgType);
+      }
       pgNameToOid.put(schema + "." + name, pgType);
       String fullName = "\"" + schema + "\".\"" + name + "\"";
       pgNameToOid.put(fullName, pgType);
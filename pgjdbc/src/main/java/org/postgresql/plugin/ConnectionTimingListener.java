@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.plugin;
+
+import org.postgresql.util.ConnectionTimings;
+
+/**
+ * Receives the time spent in each phase of the connections, for instance to feed metrics. The
+ * class is named by the {@code connectionTimingListener} connection property, and one instance is
+ * created for each connection.
+ *
+ * <p>The methods are called by the thread that opens the connection, and should return quickly.
+ * The exceptions they throw are logged and ignored.</p>
+ */
+public interface ConnectionTimingListener {
+
+  /**
+   * Called when a connection to a host is established, before it is handed out.
+   *
+   * @param timings the time spent in each phase of the connection
+   */
+  void connectionEstablished(ConnectionTimings timings);
+
+  /**
+   * Called when a connection to a host failed. The driver may then try another host.
+   *
+   * @param timings the time spent in each phase of the connection, until the failure
+   * @param failure the cause of the failure
+   */
+  default void connectionFailed(ConnectionTimings timings, Throwable failure) {
+  }
+}
@@ -7,8 +7,6 @@ package org.postgresql.util;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.channels.Channels;
-import java.nio.channels.WritableByteChannel;
 
 /**
  * A {@link ByteStreamWriter} that writes a {@link ByteBuffer java.nio.ByteBuffer} to a byte array
@@ -36,17 +34,8 @@ public class ByteBufferByteStreamWriter implements ByteStreamWriter {
 
   @Override
   public void writeTo(ByteStreamTarget target) throws IOException {
-    if (buf.hasArray()) {
-      // Avoid copying the array if possible
-      target.getOutputStream()
-          .write(buf.array(), buf.arrayOffset() + buf.position(), buf.remaining());
-      return;
-    }
-
-    // this _does_ involve some copying to a temporary buffer, but that's unavoidable
-    // as OutputStream itself only accepts single bytes or heap allocated byte arrays
-    try (WritableByteChannel c = Channels.newChannel(target.getOutputStream())) {
-      c.write(buf);
-    }
+    // The driver sends the array without copying it, and a large direct buffer with a gathering
+    // write when the connection allows it
+    target.write(buf);
   }
 }
@@ -6,10 +6,7 @@
 package org.postgresql.util;
 
 import java.io.IOException;
-import java.io.OutputStream;
 import java.nio.ByteBuffer;
-import java.nio.channels.Channels;
-import java.nio.channels.WritableByteChannel;
 
 /**
  * A {@link ByteStreamWriter} that writes a {@link ByteBuffer java.nio.ByteBuffer} to a byte array
@@ -41,31 +38,6 @@ class ByteBuffersByteStreamWriter implements ByteStreamWriter {
 
   @Override
   public void writeTo(ByteStreamTarget target) throws IOException {
-    boolean allArraysAreAccessible = true;
-    for (ByteBuffer buffer : buffers) {
-      if (!buffer.hasArray()) {
-        allArraysAreAccessible = false;
-        break;
-      }
-    }
-
-    OutputStream os = target.getOutputStream();
-    if (allArraysAreAccessible) {
-      for (ByteBuffer buffer : buffers) {
-        os.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
-      }
-      return;
-    }
-    // Channels.newChannel does not buffer writes, so we can mix writes to the channel with writes
-    // to the OutputStream
-    try (WritableByteChannel c = Channels.newChannel(os)) {
-      for (ByteBuffer buffer : buffers) {
-        if (buffer.hasArray()) {
-          os.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
-        } else {
-          c.write(buffer);
-        }
-      }
-    }
+    target.write(buffers);
   }
 }
@@ -5,6 +5,8 @@
 
 package org.postgresql.util;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Arrays;
@@ -65,6 +67,8 @@ public class ByteConverter {
   private static final int LONG_BYTES = 4;
   private static final int[] INT_TEN_POWERS = new int[6];
   private static final long[] LONG_TEN_POWERS = new long[19];
+  //the powers of ten that are exact doubles
+  private static final double[] DOUBLE_TEN_POWERS = new double[23];
   private static final BigInteger[] BI_TEN_POWERS = new BigInteger[32];
   private static final BigInteger BI_TEN_THOUSAND = BigInteger.valueOf(10000);
   private static final BigInteger BI_MAX_LONG = BigInteger.valueOf(Long.MAX_VALUE);
@@ -76,6 +80,9 @@ public class ByteConverter {
     for (int i = 0; i < LONG_TEN_POWERS.length; i++) {
       LONG_TEN_POWERS[i] = (long) Math.pow(10, i);
     }
+    for (int i = 0; i < DOUBLE_TEN_POWERS.length; i++) {
+      DOUBLE_TEN_POWERS[i] = i == 0 ? 1 : DOUBLE_TEN_POWERS[i - 1] * 10;
+    }
     for (int i = 0; i < BI_TEN_POWERS.length; i++) {
       BI_TEN_POWERS[i] = BigInteger.TEN.pow(i);
     }
@@ -257,19 +264,8 @@ public class ByteConverter {
           }
         }
       }
-      //now we need BigInteger to create BigDecimal
-      if (unscaledBI == null) {
-        unscaledBI = BigInteger.valueOf(unscaledInt);
-      }
       //if there is remaining effective scale, apply it here
-      if (effectiveScale > 0) {
-        unscaledBI = unscaledBI.multiply(tenPower(effectiveScale));
-      }
-      if (sign == NUMERIC_NEG) {
-        unscaledBI = unscaledBI.negate();
-      }
-
-      return new BigDecimal(unscaledBI, scale);
+      return toBigDecimal(unscaledInt, unscaledBI, effectiveScale, sign, scale);
     }
 
     //if there is no scale, then shorts are the unscaled int
@@ -295,19 +291,21 @@ public class ByteConverter {
           }
         }
       }
-      //now we need BigInteger to create BigDecimal
+      //the difference between len and weight (adjusted from 0 based) becomes the scale for BigDecimal
+      final int bigDecScale = (len - (weight + 1)) * 4;
+      //string representation always results in a BigDecimal with scale of 0
+      //the binary representation, where weight and len can infer trailing 0s, can result in a negative scale
+      //to produce a consistent BigDecimal, we return the equivalent object with scale set to 0
+      if (bigDecScale <= 0) {
+        return toBigDecimal(unscaledInt, unscaledBI, -bigDecScale, sign, 0);
+      }
       if (unscaledBI == null) {
         unscaledBI = BigInteger.valueOf(unscaledInt);
       }
       if (sign == NUMERIC_NEG) {
         unscaledBI = unscaledBI.negate();
       }
-      //the difference between len and weight (adjusted from 0 based) becomes the scale for BigDecimal
-      final int bigDecScale = (len - (weight + 1)) * 4;
-      //string representation always results in a BigDecimal with scale of 0
-      //the binary representation, where weight and len can infer trailing 0s, can result in a negative scale
-      //to produce a consistent BigDecimal, we return the equivalent object with scale set to 0
-      return bigDecScale == 0 ? new BigDecimal(unscaledBI) : new BigDecimal(unscaledBI, bigDecScale).setScale(0);
+      return new BigDecimal(unscaledBI, bigDecScale).setScale(0);
     }
 
     //defer moving to BigInteger as long as possible
@@ -362,39 +360,127 @@ public class ByteConverter {
       }
     }
 
+    //if there is remaining weight and effective scale, apply them here
+    return toBigDecimal(unscaledInt, unscaledBI, effectiveWeight * 4 + effectiveScale, sign, scale);
+  }
+
+  /**
+   * Builds the {@link BigDecimal} of the digits decoded by {@link #numeric(byte[], int, int)}.
+   * The value is kept in a {@code long} when it fits, which avoids any {@link BigInteger}.
+   *
+   * @param unscaledInt the digits, if <i>unscaledBI</i> is null
+   * @param unscaledBI the digits, if they did not fit in <i>unscaledInt</i>
+   * @param tenExponent the power of ten the digits are multiplied by
+   * @param sign the sign of the numeric value
+   * @param scale the scale of the result
+   * @return the value
+   */
+  private static BigDecimal toBigDecimal(long unscaledInt, @Nullable BigInteger unscaledBI,
+      int tenExponent, short sign, int scale) {
+    if (unscaledBI == null && tenExponent < LONG_TEN_POWERS.length
+        && unscaledInt <= Long.MAX_VALUE / LONG_TEN_POWERS[tenExponent]) {
+      final long unscaled = unscaledInt * LONG_TEN_POWERS[tenExponent];
+      return BigDecimal.valueOf(sign == NUMERIC_NEG ? -unscaled : unscaled, scale);
+    }
     //now we need BigInteger to create BigDecimal
     if (unscaledBI == null) {
       unscaledBI = BigInteger.valueOf(unscaledInt);
     }
-    //if there is remaining weight, apply it here
-    if (effectiveWeight > 0) {
-      unscaledBI = unscaledBI.multiply(tenPower(effectiveWeight * 4));
-    }
-    //if there is remaining effective scale, apply it here
-    if (effectiveScale > 0) {
-      unscaledBI = unscaledBI.multiply(tenPower(effectiveScale));
+    if (tenExponent > 0) {
+      unscaledBI = unscaledBI.multiply(tenPower(tenExponent));
     }
     if (sign == NUMERIC_NEG) {
       unscaledBI = unscaledBI.negate();
     }
-
     return new BigDecimal(unscaledBI, scale);
   }
 
+  /**
+   * Converts the binary representation of a numeric to a {@code long}, without building a
+   * {@link BigDecimal}. The fractional digits are discarded, like
+   * {@link BigDecimal#longValue()} does.
+   *
+   * @param bytes array of bytes to be decoded from binary numeric representation.
+   * @param pos index of the start position of the bytes array for number
+   * @param numBytes number of bytes to use
+   * @return the integer part of the numeric value
+   * @throws ArithmeticException if the value is NaN, infinite or out of the range of {@code long}
+   */
+  public static long numericToLong(byte[] bytes, int pos, int numBytes) {
+    if (numBytes < 8) {
+      throw new IllegalArgumentException("number of bytes should be at-least 8");
+    }
+    final int len = ByteConverter.int2(bytes, pos) & 0xFFFF;
+    final short weight = ByteConverter.int2(bytes, pos + 2);
+    final short sign = ByteConverter.int2(bytes, pos + 4);
+    if (numBytes != (len * SHORT_BYTES + 8)) {
+      throw new IllegalArgumentException("invalid length of bytes \"numeric\" value");
+    }
+    if (sign != NUMERIC_POS && sign != NUMERIC_NEG) {
+      throw new ArithmeticException("numeric value is not finite");
+    }
+    //the value is accumulated as a negative number, so that Long.MIN_VALUE does not overflow
+    long value = 0;
+    //the digits before the decimal point are 0 to weight, and the ones after len are 0
+    for (int i = 0; i <= weight; i++) {
+      final int d = i < len ? ByteConverter.int2(bytes, pos + 8 + i * SHORT_BYTES) : 0;
+      value = Math.subtractExact(Math.multiplyExact(value, 10000L), d);
+    }
+    return sign == NUMERIC_NEG ? value : Math.negateExact(value);
+  }
+
+  /**
+   * Converts the binary representation of a numeric to a {@code double}, without building a
+   * {@link BigDecimal} when the digits fit in the 53 bits of a double mantissa and the power of
+   * ten is exact, in which case a single rounding gives the correctly rounded result.
+   *
+   * @param bytes array of bytes to be decoded from binary numeric representation.
+   * @param pos index of the start position of the bytes array for number
+   * @param numBytes number of bytes to use
+   * @return the closest double value, or one of the special double values
+   */
+  public static double numericToDouble(byte[] bytes, int pos, int numBytes) {
+    if (numBytes < 8) {
+      throw new IllegalArgumentException("number of bytes should be at-least 8");
+    }
+    final int len = ByteConverter.int2(bytes, pos) & 0xFFFF;
+    final short weight = ByteConverter.int2(bytes, pos + 2);
+    final short sign = ByteConverter.int2(bytes, pos + 4);
+    if ((sign == NUMERIC_POS || sign == NUMERIC_NEG) && len <= 4
+        && numBytes == (len * SHORT_BYTES + 8)) {
+      long digits = 0;
+      for (int i = 0; i < len; i++) {
+        digits = digits * 10000 + ByteConverter.int2(bytes, pos + 8 + i * SHORT_BYTES);
+      }
+      //value = digits * 10000^(weight - len + 1)
+      final int tenExponent = (weight - len + 1) * 4;
+      if (digits < (1L << 53) && Math.abs(tenExponent) < DOUBLE_TEN_POWERS.length) {
+        final double value = tenExponent >= 0
+            ? digits * DOUBLE_TEN_POWERS[tenExponent]
+            : digits / DOUBLE_TEN_POWERS[-tenExponent];
+        return sign == NUMERIC_NEG ? -value : value;
+      }
+    }
+    return numeric(bytes, pos, numBytes).doubleValue();
+  }
+
   /**
    * Converts a non-null {@link BigDecimal} to binary format for {@link org.postgresql.core.Oid#NUMERIC}.
    * @param nbr The instance to represent in binary.
    * @return The binary representation of <i>nbr</i>.
    */
   public static byte[] numeric(BigDecimal nbr) {
-    final PositiveShorts shorts = new PositiveShorts();
-    BigInteger unscaled = nbr.unscaledValue().abs();
     int scale = nbr.scale();
-    if (unscaled.equals(BigInteger.ZERO)) {
+    if (nbr.signum() == 0) {
       final byte[] bytes = new byte[]{0, 0, -1, -1, 0, 0, 0, 0};
       ByteConverter.int2(bytes, 6, Math.max(0, scale));
       return bytes;
     }
+    if (scale >= 0 && scale < LONG_TEN_POWERS.length && nbr.precision() < LONG_TEN_POWERS.length) {
+      return numeric(Math.abs(nbr.unscaledValue().longValue()), scale, nbr.signum() == -1);
+    }
+    final PositiveShorts shorts = new PositiveShorts();
+    BigInteger unscaled = nbr.unscaledValue().abs();
     int weight = -1;
     if (scale <= 0) {
       //this means we have an integer
@@ -498,6 +584,51 @@ public class ByteConverter {
     return bytes;
   }
 
+  /**
+   * Converts a non-zero numeric value with at most 18 digits to binary format, with
+   * {@code long} arithmetic.
+   *
+   * @param unscaled the absolute unscaled value
+   * @param scale the number of digits after the decimal point, at most 18
+   * @param negative whether the value is negative
+   * @return The binary representation of the value.
+   */
+  private static byte[] numeric(long unscaled, int scale, boolean negative) {
+    //the base 10000 digits, least significant first
+    final short[] digits = new short[8];
+    int count = 0;
+    long value = unscaled;
+    //the last group after the decimal point is padded with 0s to 4 digits
+    final int mod = scale % 4;
+    if (mod != 0) {
+      digits[count++] = (short) ((value % LONG_TEN_POWERS[mod]) * INT_TEN_POWERS[4 - mod]);
+      value /= LONG_TEN_POWERS[mod];
+    }
+    while (value != 0) {
+      digits[count++] = (short) (value % 10000);
+      value /= 10000;
+    }
+    //the leading 0 groups after the decimal point are not stored, they lower the weight
+    final int weight = count - (scale + 3) / 4 - 1;
+    //neither are the trailing 0 groups
+    int low = 0;
+    while (digits[low] == 0) {
+      ++low;
+    }
+
+    final byte[] bytes = new byte[8 + (2 * (count - low))];
+    ByteConverter.int2(bytes, 0, count - low);
+    ByteConverter.int2(bytes, 2, weight);
+    ByteConverter.int2(bytes, 4, negative ? NUMERIC_NEG : NUMERIC_POS);
+    ByteConverter.int2(bytes, 6, scale);
+    int idx = 8;
+    for (int i = count - 1; i >= low; i--) {
+      ByteConverter.int2(bytes, idx, digits[i]);
+      idx += 2;
+    }
+    return bytes;
+  }
+
   private static BigInteger tenPower(int exponent) {
     return BI_TEN_POWERS.length > exponent ? BI_TEN_POWERS[exponent] : BigInteger.TEN.pow(exponent);
   }
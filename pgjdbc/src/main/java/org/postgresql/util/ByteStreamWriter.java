@@ -9,6 +9,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 
 /**
  * A class that can be used to set a byte array parameter by writing to an OutputStream.
@@ -73,5 +75,30 @@ public interface ByteStreamWriter {
      * @return an output stream
      */
     OutputStream getOutputStream();
+
+    /**
+     * Writes the remaining bytes of the given buffers to the target. The default implementation
+     * writes them to {@link #getOutputStream()}; the driver can send large direct buffers
+     * without copying them.
+     *
+     * @param buffers the data to write
+     * @throws IOException if the target throws or there is some other error
+     */
+    default void write(ByteBuffer... buffers) throws IOException {
+      OutputStream os = getOutputStream();
+      // Channels.newChannel does not buffer writes, so we can mix writes to the channel with
+      // writes to the OutputStream
+      WritableByteChannel c = null;
+      for (ByteBuffer buffer : buffers) {
+        if (buffer.hasArray()) {
+          os.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        } else {
+          if (c == null) {
+            c = Channels.newChannel(os);
+          }
+          c.write(buffer.duplicate());
+        }
+      }
+    }
   }
 }
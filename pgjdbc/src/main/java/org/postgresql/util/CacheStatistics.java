@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.util;
+
+/**
+ * Counters of a cache of the driver, since it was created.
+ */
+public final class CacheStatistics {
+  private final long hitCount;
+  private final long missCount;
+  private final long evictionCount;
+  private final int size;
+
+  public CacheStatistics(long hitCount, long missCount, long evictionCount, int size) {
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.evictionCount = evictionCount;
+    this.size = size;
+  }
+
+  /**
+   * @return the number of lookups that found an entry
+   */
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * @return the number of lookups that did not find an entry
+   */
+  public long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * @return the ratio of the lookups that found an entry, or 1 if there was no lookup
+   */
+  public double getHitRate() {
+    long requests = hitCount + missCount;
+    return requests == 0 ? 1.0 : (double) hitCount / requests;
+  }
+
+  /**
+   * @return the number of entries that were discarded, or not admitted, to keep the cache within
+   *     its limits
+   */
+  public long getEvictionCount() {
+    return evictionCount;
+  }
+
+  /**
+   * @return the number of entries in the cache
+   */
+  public int getSize() {
+    return size;
+  }
+
+  @Override
+  public String toString() {
+    return "CacheStatistics{"
+        + "hitCount=" + hitCount
+        + ", missCount=" + missCount
+        + ", evictionCount=" + evictionCount
+        + ", size=" + size
+        + '}';
+  }
+}
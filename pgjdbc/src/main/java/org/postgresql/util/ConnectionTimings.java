@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.util;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Time spent in each phase of the establishment of a connection to one host.
+ *
+ * <p>When a phase happened several times, for instance when the connection was retried without
+ * SSL, the times are added. The phases that did not happen take no time.</p>
+ */
+public final class ConnectionTimings {
+  /**
+   * A phase of the establishment of a connection.
+   */
+  public enum Phase {
+    /**
+     * Resolution of the host name.
+     */
+    DNS,
+
+    /**
+     * Connection of the TCP socket.
+     */
+    TCP_CONNECT,
+
+    /**
+     * Negotiation of the GSS encryption.
+     */
+    GSS_ENCRYPTION,
+
+    /**
+     * Negotiation of SSL and TLS handshake.
+     */
+    SSL_HANDSHAKE,
+
+    /**
+     * Exchange of the startup packet and the authentication messages, until the server accepts
+     * the authentication.
+     */
+    AUTHENTICATION,
+
+    /**
+     * Derivation of the SCRAM keys from the password, which is part of {@link #AUTHENTICATION}.
+     */
+    SCRAM_KEY_DERIVATION,
+
+    /**
+     * Reception of the parameters of the session, until the server is ready for queries.
+     */
+    STARTUP,
+
+    /**
+     * Queries run by the driver before handing out the connection, such as the check of the
+     * server type or the initial settings.
+     */
+    INITIAL_QUERIES
+  }
+
+  private final HostSpec hostSpec;
+  private final Map<Phase, Long> phaseNanos;
+  private final long totalNanos;
+
+  public ConnectionTimings(HostSpec hostSpec, Map<Phase, Long> phaseNanos, long totalNanos) {
+    this.hostSpec = hostSpec;
+    Map<Phase, Long> copy = new EnumMap<>(Phase.class);
+    copy.putAll(phaseNanos);
+    this.phaseNanos = Collections.unmodifiableMap(copy);
+    this.totalNanos = totalNanos;
+  }
+
+  /**
+   * @return the host that was connected
+   */
+  public HostSpec getHostSpec() {
+    return hostSpec;
+  }
+
+  /**
+   * @param phase a phase of the establishment of the connection
+   * @return the time spent in the phase, in nanoseconds, or 0 if it did not happen
+   */
+  public long getNanos(Phase phase) {
+    Long nanos = phaseNanos.get(phase);
+    return nanos == null ? 0 : nanos;
+  }
+
+  /**
+   * @return the time spent in the phases that happened, in nanoseconds, in the order of the phases
+   */
+  public Map<Phase, Long> getPhaseNanos() {
+    return phaseNanos;
+  }
+
+  /**
+   * @return the time between the start of the connection to the host and the end of the last
+   *     phase, in nanoseconds
+   */
+  public long getTotalNanos() {
+    return totalNanos;
+  }
+
+  @Override
+  public String toString() {
+    return "ConnectionTimings{"
+        + "hostSpec=" + hostSpec
+        + ", phaseNanos=" + phaseNanos
+        + ", totalNanos=" + totalNanos
+        + '}';
+  }
+}
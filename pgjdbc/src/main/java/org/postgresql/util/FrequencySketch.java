@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.util;
+
+/**
+ * Estimates how often the keys of a cache are accessed, including the keys that are no longer in
+ * the cache. This is a count-min sketch of 4-bit counters, as used by TinyLFU: each key has four
+ * counters and its frequency is the smallest of them. All the counters are halved once the
+ * number of increments reaches ten times the maximum size of the cache, so that the old accesses
+ * weigh less than the recent ones.
+ */
+final class FrequencySketch {
+  private static final long[] SEEDS = {
+      0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+  private static final long RESET_MASK = 0x7777777777777777L;
+
+  /**
+   * Sixteen counters per element.
+   */
+  private final long[] table;
+  private final int sampleSize;
+  private int additions;
+
+  /**
+   * @param maximumSize the maximum number of entries of the cache
+   */
+  FrequencySketch(int maximumSize) {
+    int size = Math.max(1, Math.min(maximumSize, 1 << 24));
+    int tableSize = Math.max(16, Integer.highestOneBit(size - 1) << 1);
+    table = new long[tableSize];
+    sampleSize = 10 * size;
+  }
+
+  /**
+   * @param key the key
+   * @return the estimated number of accesses to the key, from 0 to 15
+   */
+  int frequency(Object key) {
+    int hash = spread(key.hashCode());
+    int start = (hash & 3) << 2;
+    int frequency = 15;
+    for (int i = 0; i < 4; i++) {
+      int index = indexOf(hash, i);
+      int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+      frequency = Math.min(frequency, count);
+    }
+    return frequency;
+  }
+
+  /**
+   * Records an access to the key.
+   *
+   * @param key the key
+   */
+  void increment(Object key) {
+    int hash = spread(key.hashCode());
+    int start = (hash & 3) << 2;
+    boolean added = false;
+    for (int i = 0; i < 4; i++) {
+      int index = indexOf(hash, i);
+      int offset = (start + i) << 2;
+      long mask = 0xfL << offset;
+      if ((table[index] & mask) != mask) {
+        table[index] += 1L << offset;
+        added = true;
+      }
+    }
+    if (added && ++additions == sampleSize) {
+      reset();
+    }
+  }
+
+  private void reset() {
+    for (int i = 0; i < table.length; i++) {
+      table[i] = (table[i] >>> 1) & RESET_MASK;
+    }
+    additions /= 2;
+  }
+
+  private int indexOf(int hash, int i) {
+    long h = (hash + SEEDS[i]) * SEEDS[i];
+    h += h >>> 32;
+    return ((int) h) & (table.length - 1);
+  }
+
+  private static int spread(int hash) {
+    int h = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+    h = ((h >>> 16) ^ h) * 0x45d9f3b;
+    return (h >>> 16) ^ h;
+  }
+}
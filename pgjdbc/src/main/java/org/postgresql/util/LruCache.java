@@ -16,6 +16,12 @@ import java.util.Map;
 
 /**
  * Caches values in simple least-recently-accessed order.
+ *
+ * <p>With frequency admission, the cache keeps an estimate of how often each key is looked up,
+ * see {@link FrequencySketch}. When the cache is full, an entry that is put is admitted only if
+ * its key is accessed more often than the least recently used entry, which is evicted; otherwise
+ * the new entry is discarded. This TinyLFU policy keeps the frequently used entries when many
+ * entries are used only once.</p>
  */
 @SuppressWarnings("ExtendsObject")
 public class LruCache<Key extends Object, Value extends CanEstimateSize>
@@ -44,7 +50,11 @@ public class LruCache<Key extends Object, Value extends CanEstimateSize>
   private final long maxSizeBytes;
   private long currentSize;
   private final Map<Key, Value> cache;
+  private final @Nullable FrequencySketch sketch;
   private final ResourceLock lock = new ResourceLock();
+  private long hitCount;
+  private long missCount;
+  private long evictionCount;
 
   private class LimitedMap extends LinkedHashMap<Key, Value> {
     LimitedMap(int initialCapacity, float loadFactor, boolean accessOrder) {
@@ -54,7 +64,8 @@ public class LruCache<Key extends Object, Value extends CanEstimateSize>
     @Override
     protected boolean removeEldestEntry(Map.Entry<Key, Value> eldest) {
       // Avoid creating iterators if size constraints not violated
-      if (size() <= maxSizeEntries && currentSize <= maxSizeBytes) {
+      // With a frequency sketch, put() decides which entries are removed
+      if (sketch != null || size() <= maxSizeEntries && currentSize <= maxSizeBytes) {
         return false;
       }
 
@@ -65,6 +76,7 @@ public class LruCache<Key extends Object, Value extends CanEstimateSize>
         }
 
         Map.Entry<Key, Value> entry = it.next();
+        evictionCount++;
         evictValue(entry.getValue());
         long valueSize = entry.getValue().getSize();
         if (valueSize > 0) {
@@ -94,10 +106,30 @@ public class LruCache<Key extends Object, Value extends CanEstimateSize>
   public LruCache(int maxSizeEntries, long maxSizeBytes, boolean accessOrder,
       @Nullable CreateAction<Key, Value> createAction,
       @Nullable EvictAction<Value> onEvict) {
+    this(maxSizeEntries, maxSizeBytes, accessOrder, createAction, onEvict, false);
+  }
+
+  /**
+   * Creates a cache.
+   *
+   * @param maxSizeEntries maximum number of entries
+   * @param maxSizeBytes maximum estimated size of the entries
+   * @param accessOrder true to order the entries by access, false by insertion
+   * @param createAction creates the entries that {@link #borrow} does not find, or null
+   * @param onEvict action invoked on the entries removed from the cache, or null
+   * @param frequencyAdmission true to admit the new entries of a full cache only if their key is
+   *     accessed more often than the evicted entry
+   */
+  public LruCache(int maxSizeEntries, long maxSizeBytes, boolean accessOrder,
+      @Nullable CreateAction<Key, Value> createAction,
+      @Nullable EvictAction<Value> onEvict,
+      boolean frequencyAdmission) {
     this.maxSizeEntries = maxSizeEntries;
     this.maxSizeBytes = maxSizeBytes;
     this.createAction = createAction;
     this.onEvict = onEvict;
+    this.sketch = frequencyAdmission && maxSizeEntries > 0 ? new FrequencySketch(maxSizeEntries)
+        : null;
     this.cache = new LimitedMap(16, 0.75f, accessOrder);
   }
 
@@ -110,7 +142,14 @@ public class LruCache<Key extends Object, Value extends CanEstimateSize>
   @Override
   public @Nullable Value get(Key key) {
     try (ResourceLock ignore = lock.obtain()) {
-      return cache.get(key);
+      recordAccess(key);
+      Value value = cache.get(key);
+      if (value == null) {
+        missCount++;
+      } else {
+        hitCount++;
+      }
+      return value;
     }
   }
 
@@ -123,18 +162,28 @@ public class LruCache<Key extends Object, Value extends CanEstimateSize>
    */
   public Value borrow(Key key) throws SQLException {
     try (ResourceLock ignore = lock.obtain()) {
+      recordAccess(key);
       Value value = cache.remove(key);
       if (value == null) {
+        missCount++;
         if (createAction == null) {
           throw new UnsupportedOperationException("createAction == null, so can't create object");
         }
         return createAction.create(key);
       }
+      hitCount++;
       currentSize -= value.getSize();
       return value;
     }
   }
 
+  private void recordAccess(Key key) {
+    FrequencySketch sketch = this.sketch;
+    if (sketch != null) {
+      sketch.increment(key);
+    }
+  }
+
   /**
    * Returns given value to the cache.
    *
@@ -147,11 +196,18 @@ public class LruCache<Key extends Object, Value extends CanEstimateSize>
       if (maxSizeBytes == 0 || maxSizeEntries == 0 || valueSize * 2 > maxSizeBytes) {
         // Just destroy the value if cache is disabled or if entry would consume more than a half of
         // the cache
+        if (maxSizeBytes != 0 && maxSizeEntries != 0) {
+          evictionCount++;
+        }
         evictValue(value);
         return;
       }
       currentSize += valueSize;
       @Nullable Value prev = cache.put(key, value);
+      FrequencySketch sketch = this.sketch;
+      if (sketch != null) {
+        admit(sketch, key, value);
+      }
       if (prev == null) {
         return;
       }
@@ -163,6 +219,60 @@ public class LruCache<Key extends Object, Value extends CanEstimateSize>
     }
   }
 
+  /**
+   * Evicts the least recently used entries, while the cache exceeds its limits and the new entry
+   * is accessed more often than them. Otherwise, discards the new entry.
+   */
+  private void admit(FrequencySketch sketch, Key key, Value value) {
+    if (cache.size() <= maxSizeEntries && currentSize <= maxSizeBytes) {
+      return;
+    }
+    int frequency = sketch.frequency(key);
+    Iterator<Map.Entry<Key, Value>> it = cache.entrySet().iterator();
+    while (cache.size() > maxSizeEntries || currentSize > maxSizeBytes) {
+      Map.@Nullable Entry<Key, Value> victim = it.hasNext() ? it.next() : null;
+      if (victim != null && victim.getValue() == value) {
+        continue;
+      }
+      if (victim == null || frequency <= sketch.frequency(victim.getKey())) {
+        cache.remove(key);
+        currentSize -= value.getSize();
+        evictionCount++;
+        evictValue(value);
+        return;
+      }
+      it.remove();
+      currentSize -= victim.getValue().getSize();
+      evictionCount++;
+      evictValue(victim.getValue());
+    }
+  }
+
+  /**
+   * Returns the counters of the cache. Borrowing an entry counts as a hit, creating it as a miss.
+   *
+   * @return the counters of the cache
+   */
+  public CacheStatistics getStatistics() {
+    try (ResourceLock ignore = lock.obtain()) {
+      return new CacheStatistics(hitCount, missCount, evictionCount, cache.size());
+    }
+  }
+
+  /**
+   * Removes all the entries from the cache. The evict action is invoked on them, but they are not
+   * counted as evictions.
+   */
+  public void clear() {
+    try (ResourceLock ignore = lock.obtain()) {
+      for (Value value : cache.values()) {
+        evictValue(value);
+      }
+      cache.clear();
+      currentSize = 0;
+    }
+  }
+
   /**
    * Puts all the values from the given map into the cache.
    *
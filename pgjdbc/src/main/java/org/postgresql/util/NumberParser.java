@@ -30,20 +30,37 @@ public class NumberParser {
    *                               The value must then be parsed by another (less optimised) method.
    */
   public static long getFastLong(byte[] bytes, long minVal, long maxVal) throws NumberFormatException {
-    int len = bytes.length;
-    if (len == 0) {
+    return getFastLong(bytes, 0, bytes.length, minVal, maxVal);
+  }
+
+  /**
+   * Optimised byte[] to number parser, see {@link #getFastLong(byte[], long, long)}.
+   *
+   * @param bytes array that contains the integer represented as a sequence of ASCII bytes
+   * @param offset position of the first byte of the integer
+   * @param length number of bytes of the integer
+   * @param minVal minimum allowed value
+   * @param maxVal maximum allowed value
+   * @return The parsed number.
+   * @throws NumberFormatException If the number is invalid or the out of range for fast parsing.
+   *                               The value must then be parsed by another (less optimised) method.
+   */
+  public static long getFastLong(byte[] bytes, int offset, int length, long minVal, long maxVal)
+      throws NumberFormatException {
+    int len = offset + length;
+    if (length == 0) {
       throw FAST_NUMBER_FAILED;
     }
 
-    boolean neg = bytes[0] == '-';
+    boolean neg = bytes[offset] == '-';
 
     long val = 0;
-    int start = neg ? 1 : 0;
+    int start = neg ? offset + 1 : offset;
     while (start < len) {
       byte b = bytes[start++];
       if (b < '0' || b > '9') {
         if (b == '.') {
-          if (neg && len == 2 || !neg && len == 1) {
+          if (neg && length == 2 || !neg && length == 1) {
             // we have to check that string is not "." or "-."
             throw FAST_NUMBER_FAILED;
           }
@@ -8,11 +8,15 @@ package org.postgresql.util.internal;
 import org.postgresql.util.ByteConverter;
 import org.postgresql.util.GT;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
+
 import java.io.EOFException;
 import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
 import java.util.Arrays;
 
 /**
@@ -31,8 +35,27 @@ public class PgBufferedOutputStream extends FilterOutputStream {
    */
   protected int count;
 
+  /**
+   * Channel of the wrapped stream, used to send the direct buffers without copying them.
+   */
+  private final @Nullable GatheringByteChannel channel;
+
   public PgBufferedOutputStream(OutputStream out, int bufferSize) {
+    this(out, null, bufferSize);
+  }
+
+  /**
+   * Creates a buffered stream that sends large direct {@link ByteBuffer}s to the given channel,
+   * see {@link #write(ByteBuffer...)}.
+   *
+   * @param out the stream to write to
+   * @param channel the channel of the stream, in blocking mode, or null
+   * @param bufferSize size of the buffer
+   */
+  public PgBufferedOutputStream(OutputStream out, @Nullable GatheringByteChannel channel,
+      int bufferSize) {
     super(out);
+    this.channel = channel;
     buf = new byte[bufferSize];
   }
 
@@ -121,6 +144,69 @@ public class PgBufferedOutputStream extends FilterOutputStream {
     count = len;
   }
 
+  /**
+   * Writes the remaining bytes of the given buffers, without changing their position. The buffers
+   * backed by an array are written like {@link #write(byte[], int, int)}. When the stream has a
+   * channel, the consecutive direct buffers larger than the send buffer are sent with the buffered
+   * bytes in one gathering write, without being copied. Otherwise they are copied once, into the
+   * send buffer.
+   *
+   * @param buffers the data to write
+   * @throws IOException in case writing to the underlying stream fails
+   */
+  public void write(ByteBuffer... buffers) throws IOException {
+    int i = 0;
+    while (i < buffers.length) {
+      ByteBuffer buffer = buffers[i];
+      if (buffer.hasArray()) {
+        write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        i++;
+        continue;
+      }
+      int end = i + 1;
+      long length = buffer.remaining();
+      while (end < buffers.length && !buffers[end].hasArray()) {
+        length += buffers[end++].remaining();
+      }
+      GatheringByteChannel channel = this.channel;
+      if (channel != null && length >= buf.length) {
+        writeGathering(channel, buffers, i, end);
+      } else {
+        for (; i < end; i++) {
+          copyToBuffer(buffers[i].duplicate());
+        }
+      }
+      i = end;
+    }
+  }
+
+  private void writeGathering(GatheringByteChannel channel, ByteBuffer[] buffers, int from, int to)
+      throws IOException {
+    ByteBuffer[] sources = new ByteBuffer[to - from + 1];
+    sources[0] = ByteBuffer.wrap(buf, 0, count);
+    long remaining = count;
+    for (int i = from; i < to; i++) {
+      sources[i - from + 1] = buffers[i].duplicate();
+      remaining += buffers[i].remaining();
+    }
+    count = 0;
+    while (remaining > 0) {
+      remaining -= channel.write(sources);
+    }
+  }
+
+  private void copyToBuffer(ByteBuffer source) throws IOException {
+    byte[] buf = this.buf;
+    while (source.hasRemaining()) {
+      if (count == buf.length) {
+        flushBuffer();
+      }
+      int length = Math.min(source.remaining(), buf.length - count);
+      source.get(buf, count, length);
+      count += length;
+    }
+  }
+
   /**
    * Writes the given amount of bytes from an input stream to this buffered stream.
    * @param inStream input data
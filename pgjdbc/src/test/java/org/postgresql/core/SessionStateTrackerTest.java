@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+class SessionStateTrackerTest {
+  private static NativeQuery query(String sql) {
+    return new NativeQuery(sql, SqlCommand.createStatementTypeInfo(SqlCommandType.BLANK));
+  }
+
+  @Test
+  void settings() {
+    SessionStateTracker tracker = new SessionStateTracker();
+    tracker.onCommandStatus("SET", query("SET work_mem = '1MB'"));
+    assertEquals(SessionStateTracker.SETTINGS, tracker.getChanges());
+    tracker.onCommandStatus("SET", query("SET search_path TO other"));
+    assertEquals(SessionStateTracker.SETTINGS | SessionStateTracker.SEARCH_PATH,
+        tracker.getChanges());
+    tracker.clear();
+    tracker.onParameterStatus();
+    assertEquals(SessionStateTracker.SETTINGS, tracker.getChanges());
+  }
+
+  @Test
+  void settingsGeneration() {
+    SessionStateTracker tracker = new SessionStateTracker();
+    int generation = tracker.getSettingsGeneration();
+    tracker.onCommandStatus("SELECT 1", query("select 1"));
+    tracker.onCommandStatus("COMMIT", query("COMMIT"));
+    assertEquals(generation, tracker.getSettingsGeneration(), "no setting changed");
+
+    tracker.onCommandStatus("SET", query("SET ROLE other"));
+    assertNotEquals(generation, generation = tracker.getSettingsGeneration(), "SET ROLE");
+    tracker.clear();
+    tracker.onCommandStatus("ROLLBACK", query("ROLLBACK"));
+    assertNotEquals(generation, generation = tracker.getSettingsGeneration(),
+        "the rollback may undo the SET");
+    tracker.onCommandStatus("ROLLBACK", query("ROLLBACK"));
+    assertEquals(generation, tracker.getSettingsGeneration(), "no SET since the last rollback");
+  }
+
+  @Test
+  void queryText() {
+    SessionStateTracker tracker = new SessionStateTracker();
+    tracker.onCommandStatus("SELECT 1", query("select * from weather where temperature > 0"));
+    tracker.onCommandStatus("SELECT 1", query("select pg_advisory_xact_lock(1)"));
+    tracker.onCommandStatus("CREATE TABLE", query("create table t (id int)"));
+    assertEquals(0, tracker.getChanges(), "transaction-level locks are released at the end");
+
+    tracker.onCommandStatus("CREATE TABLE", query("CREATE TEMPORARY TABLE t (id int)"));
+    assertEquals(SessionStateTracker.TEMPORARY_OBJECTS, tracker.getChanges());
+    tracker.onCommandStatus("SELECT 1", query("SELECT pg_try_advisory_lock(1)"));
+    assertEquals(SessionStateTracker.TEMPORARY_OBJECTS | SessionStateTracker.ADVISORY_LOCKS,
+        tracker.getChanges());
+  }
+
+  @Test
+  void commandTags() {
+    SessionStateTracker tracker = new SessionStateTracker();
+    tracker.onCommandStatus("LISTEN", query("LISTEN channel"));
+    tracker.onCommandStatus("PREPARE", query("PREPARE p AS SELECT 1"));
+    tracker.onCommandStatus("DECLARE CURSOR", query("DECLARE c CURSOR WITH HOLD FOR SELECT 1"));
+    assertEquals(SessionStateTracker.LISTEN | SessionStateTracker.PREPARED_STATEMENTS
+        | SessionStateTracker.CURSORS, tracker.getChanges());
+    tracker.onCommandStatus("DISCARD ALL", query("DISCARD ALL"));
+    assertEquals(0, tracker.getChanges());
+  }
+
+  @Test
+  void resetSql() {
+    assertNull(SessionStateTracker.getResetSql(0, false), "nothing to reset");
+    assertEquals("ROLLBACK;", SessionStateTracker.getResetSql(0, true));
+    assertEquals("SET SESSION AUTHORIZATION DEFAULT;RESET ALL;UNLISTEN *;",
+        SessionStateTracker.getResetSql(
+            SessionStateTracker.SETTINGS | SessionStateTracker.LISTEN, false));
+    assertEquals("RESET search_path;SET SESSION AUTHORIZATION DEFAULT;RESET ALL;"
+            + "DISCARD TEMP;SELECT pg_advisory_unlock_all();",
+        SessionStateTracker.getResetSql(SessionStateTracker.SETTINGS
+            | SessionStateTracker.SEARCH_PATH | SessionStateTracker.TEMPORARY_OBJECTS
+            | SessionStateTracker.ADVISORY_LOCKS, false));
+    assertEquals("SET SESSION AUTHORIZATION DEFAULT;RESET ALL;"
+            + "SET SESSION CHARACTERISTICS AS TRANSACTION READ ONLY;",
+        SessionStateTracker.getResetSql(SessionStateTracker.SETTINGS, false,
+            "SET SESSION CHARACTERISTICS AS TRANSACTION READ ONLY"));
+    assertNull(SessionStateTracker.getResetSql(0, false, "SET extra_float_digits = 3"),
+        "the settings made by the driver are only set again after RESET ALL");
+  }
+}
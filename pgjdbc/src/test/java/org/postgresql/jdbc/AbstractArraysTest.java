@@ -8,6 +8,7 @@ package org.postgresql.jdbc;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import org.postgresql.PGNotification;
+import org.postgresql.PGPipeline;
 import org.postgresql.copy.CopyManager;
 import org.postgresql.core.BaseConnection;
 import org.postgresql.core.CachedQuery;
@@ -22,6 +23,8 @@ import org.postgresql.jdbc.FieldMetadata.Key;
 import org.postgresql.largeobject.LargeObjectManager;
 import org.postgresql.replication.PGReplicationConnection;
 import org.postgresql.test.annotations.tags.Arrays;
+import org.postgresql.util.CacheStatistics;
+import org.postgresql.util.ConnectionTimings;
 import org.postgresql.util.LruCache;
 import org.postgresql.util.PGobject;
 import org.postgresql.xml.PGXmlFactoryFactory;
@@ -430,6 +433,22 @@ public abstract class AbstractArraysTest<A> {
       throw new UnsupportedOperationException();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean getDeduplicateStrings() {
+      throw new UnsupportedOperationException();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean getMemoizeRowValues() {
+      throw new UnsupportedOperationException();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -939,6 +958,14 @@ public abstract class AbstractArraysTest<A> {
       throw new UnsupportedOperationException();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PGPipeline beginPipeline() throws SQLException {
+      throw new UnsupportedOperationException();
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1091,6 +1118,14 @@ public abstract class AbstractArraysTest<A> {
       return false;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getSessionSettingsSql() {
+      return null;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1107,6 +1142,46 @@ public abstract class AbstractArraysTest<A> {
       throw new UnsupportedOperationException();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CacheStatistics getPreparedStatementCacheStatistics() {
+      throw new UnsupportedOperationException();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CacheStatistics getFieldMetadataCacheStatistics() {
+      throw new UnsupportedOperationException();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidateSharedTypeCatalog() {
+      throw new UnsupportedOperationException();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidateFieldMetadataCache() {
+      throw new UnsupportedOperationException();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ConnectionTimings getConnectionTimings() {
+      throw new UnsupportedOperationException();
+    }
+
     /**
      * {@inheritDoc}
      */
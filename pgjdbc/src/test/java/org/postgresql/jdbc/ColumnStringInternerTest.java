@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.jdbc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.core.Encoding;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+class ColumnStringInternerTest {
+  private static final Encoding UTF8 = Encoding.getJVMEncoding("UTF-8");
+
+  private static String decode(ColumnStringInterner interner, String prefix, String value)
+      throws IOException {
+    byte[] bytes = (prefix + value).getBytes(StandardCharsets.UTF_8);
+    return interner.decode(bytes, prefix.length(), bytes.length - prefix.length(), UTF8);
+  }
+
+  @Test
+  void sameInstanceForSameBytes() throws IOException {
+    ColumnStringInterner interner = new ColumnStringInterner();
+    String first = decode(interner, "", "ACTIVE");
+    assertEquals("ACTIVE", first);
+    assertSame(first, decode(interner, "xyz", "ACTIVE"));
+    assertEquals("ACTIVÉ", decode(interner, "", "ACTIVÉ"));
+    assertSame(decode(interner, "", "ACTIVÉ"), decode(interner, "a", "ACTIVÉ"));
+    assertEquals("", decode(interner, "abc", ""));
+    assertTrue(interner.isEnabled());
+  }
+
+  @Test
+  void longValuesNotInterned() throws IOException {
+    ColumnStringInterner interner = new ColumnStringInterner();
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i <= ColumnStringInterner.MAX_VALUE_LENGTH; i++) {
+      sb.append('x');
+    }
+    String value = sb.toString();
+    assertNotSame(decode(interner, "", value), decode(interner, "", value));
+    assertTrue(interner.isEnabled());
+  }
+
+  @Test
+  void disabledAfterTooManyValues() throws IOException {
+    ColumnStringInterner interner = new ColumnStringInterner();
+    String zero = decode(interner, "", "0");
+    for (int i = 1; i < ColumnStringInterner.MAX_VALUES; i++) {
+      decode(interner, "", Integer.toString(i));
+    }
+    assertTrue(interner.isEnabled());
+    assertSame(zero, decode(interner, "", "0"));
+    assertEquals("new", decode(interner, "", "new"));
+    assertFalse(interner.isEnabled());
+    assertNotSame(decode(interner, "", "0"), decode(interner, "", "0"));
+  }
+}
@@ -11,9 +11,11 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import org.postgresql.PGConnection;
 import org.postgresql.PGProperty;
 import org.postgresql.core.ServerVersion;
 import org.postgresql.test.TestUtil;
+import org.postgresql.util.ConnectionTimings.Phase;
 import org.postgresql.util.PSQLState;
 
 import org.junit.jupiter.api.AfterAll;
@@ -119,6 +121,51 @@ class ScramTest {
     assertEquals(expectedMessage, e.getMessage());
   }
 
+  /**
+   * Test that the connections authenticate with the cached keys, and that the cached keys are not
+   * used for another password.
+   */
+  @ParameterizedTest
+  @ValueSource(strings = {"secret", "q\u00A0w\u2000e\u2003r\u2009t\u3000y"})
+  void cachedKeys(String passwd) throws SQLException {
+    createRole(passwd);
+
+    Properties props = new Properties();
+    PGProperty.USER.set(props, ROLE_NAME);
+    PGProperty.PASSWORD.set(props, passwd);
+    PGProperty.SCRAM_KEY_CACHE_SIZE.set(props, 16);
+
+    long derivationNanos = 0;
+    for (int i = 0; i < 3; i++) {
+      try (Connection c = assertDoesNotThrow(() -> TestUtil.openDB(props))) {
+        assertEquals(ROLE_NAME, TestUtil.queryForString(c, "SELECT current_user"));
+        long nanos = c.unwrap(PGConnection.class).getConnectionTimings()
+            .getNanos(Phase.SCRAM_KEY_DERIVATION);
+        if (i == 0) {
+          derivationNanos = nanos;
+        } else {
+          // The cached keys skip the thousands of iterations of the derivation
+          long first = derivationNanos;
+          assertTrue(nanos < first / 2,
+              () -> "login with cached keys took " + nanos + "ns, first login " + first + "ns");
+        }
+      }
+    }
+
+    PGProperty.PASSWORD.set(props, passwd + "x");
+    SQLException ex = assertThrows(SQLException.class, () -> TestUtil.openDB(props));
+    assertEquals(PSQLState.INVALID_PASSWORD.getState(), ex.getSQLState());
+
+    // A new password has a new salt
+    createRole(passwd + "x");
+    try (Connection c = assertDoesNotThrow(() -> TestUtil.openDB(props))) {
+      assertEquals(ROLE_NAME, TestUtil.queryForString(c, "SELECT current_user"));
+    }
+    PGProperty.PASSWORD.set(props, passwd);
+    ex = assertThrows(SQLException.class, () -> TestUtil.openDB(props));
+    assertEquals(PSQLState.INVALID_PASSWORD.getState(), ex.getSQLState());
+  }
+
   private static void createRole(String passwd) throws SQLException {
     try (Statement stmt = con.createStatement()) {
       stmt.execute("SET password_encryption='scram-sha-256'");
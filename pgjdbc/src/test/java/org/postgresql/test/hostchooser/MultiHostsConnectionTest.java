@@ -10,6 +10,7 @@ import static java.util.Arrays.asList;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
@@ -154,6 +155,11 @@ public class MultiHostsConnectionTest {
 
   private Connection getConnection(HostRequirement hostType, boolean reset, boolean lb,
       String... targets) throws SQLException {
+    return getConnection(hostType, reset, lb, false, targets);
+  }
+
+  private Connection getConnection(HostRequirement hostType, boolean reset, boolean lb,
+      boolean parallel, String... targets) throws SQLException {
     TestUtil.closeDB(con);
 
     if (reset) {
@@ -168,6 +174,9 @@ public class MultiHostsConnectionTest {
     if (lb) {
       PGProperty.LOAD_BALANCE_HOSTS.set(props, "true");
     }
+    if (parallel) {
+      PGProperty.PARALLEL_HOST_CONNECT.set(props, "true");
+    }
 
     StringBuilder sb = new StringBuilder();
     sb.append("jdbc:postgresql://");
@@ -323,6 +332,29 @@ public class MultiHostsConnectionTest {
     assertGlobalState(primary1, "Primary");
   }
 
+  @Test
+  void parallelConnect() throws SQLException {
+    getConnection(primary, true, false, true, fake1, secondary1, primary1);
+    assertRemote(primaryIp);
+    assertGlobalState(fake1, "ConnectFail");
+    assertGlobalState(primary1, "Primary");
+
+    getConnection(preferSecondary, true, false, true, fake1, primary1, secondary1);
+    assertRemote(secondaryIP);
+    assertGlobalState(secondary1, "Secondary");
+
+    getConnection(any, true, false, true, fake1, primary1);
+    assertRemote(primaryIp);
+    assertGlobalState(primary1, "ConnectOK");
+  }
+
+  @Test
+  void parallelConnectFailure() throws SQLException {
+    PSQLException ex = assertThrows(PSQLException.class,
+        () -> getConnection(any, true, false, true, fake1, "127.127.217.218:1"));
+    assertEquals(PSQLState.CONNECTION_UNABLE_TO_CONNECT.getState(), ex.getSQLState());
+  }
+
   @Test
   void failedConnection() throws SQLException {
     try {
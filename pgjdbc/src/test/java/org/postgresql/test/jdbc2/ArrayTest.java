@@ -5,9 +5,11 @@
 
 package org.postgresql.test.jdbc2;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -908,4 +910,37 @@ public class ArrayTest extends BaseTest4 {
     }
   }
 
+  @Test
+  public void testGetPrimitiveArray() throws SQLException {
+    PreparedStatement pstmt = conn.prepareStatement(
+        "SELECT '{1.5,2.5,-3}'::float4[], '{{1,2},{3,4}}'::int4[], '{t,f}'::bool[], '{}'::int8[]");
+    ResultSet rs = pstmt.executeQuery();
+    assertTrue(rs.next());
+
+    assertArrayEquals(new float[]{1.5f, 2.5f, -3f}, rs.getObject(1, float[].class));
+    assertArrayEquals(new double[]{1.5, 2.5, -3}, rs.getObject(1, double[].class));
+    assertArrayEquals(new long[][]{{1, 2}, {3, 4}}, rs.getObject(2, long[][].class));
+    assertArrayEquals(new int[][]{{1, 2}, {3, 4}},
+        ((PgArray) rs.getArray(2)).getPrimitiveArray(int[][].class));
+    assertArrayEquals(new boolean[]{true, false}, rs.getObject(3, boolean[].class));
+    assertArrayEquals(new long[0], rs.getObject(4, long[].class));
+
+    assertThrows(SQLException.class, () -> rs.getObject(1, int[].class));
+    assertThrows(SQLException.class, () -> rs.getObject(2, int[].class));
+    rs.close();
+    pstmt.close();
+  }
+
+  @Test
+  public void testGetPrimitiveArrayWithNull() throws SQLException {
+    PreparedStatement pstmt = conn.prepareStatement("SELECT '{1,NULL}'::int4[], NULL::int4[]");
+    ResultSet rs = pstmt.executeQuery();
+    assertTrue(rs.next());
+
+    assertThrows(SQLException.class, () -> rs.getObject(1, int[].class));
+    assertNull(rs.getObject(2, int[].class));
+    rs.close();
+    pstmt.close();
+  }
+
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGStatement;
+import org.postgresql.test.TestUtil;
+import org.postgresql.util.PSQLState;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+class AsyncExecutionTest extends BaseTest4 {
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    assumeNotSimpleQueryMode();
+    TestUtil.createTempTable(con, "async_test", "id int primary key, val text");
+  }
+
+  @Override
+  public void tearDown() throws SQLException {
+    TestUtil.dropTable(con, "async_test");
+    super.tearDown();
+  }
+
+  @Test
+  void preparedStatementCompletesInBackground() throws Exception {
+    try (PreparedStatement insert = con.prepareStatement("INSERT INTO async_test VALUES (?, ?)");
+         PreparedStatement select = con.prepareStatement("SELECT val FROM async_test WHERE id = ?")) {
+      List<CompletableFuture<Long>> inserts = new ArrayList<>();
+      for (int i = 0; i < 10; i++) {
+        insert.setInt(1, i);
+        insert.setString(2, "v" + i);
+        inserts.add(insert.unwrap(PGStatement.class).executeUpdateAsync());
+      }
+      select.setInt(1, 7);
+      CompletableFuture<ResultSet> rows = select.unwrap(PGStatement.class).executeQueryAsync();
+
+      for (CompletableFuture<Long> inserted : inserts) {
+        assertEquals(1L, inserted.get(10, TimeUnit.SECONDS));
+      }
+      try (ResultSet rs = rows.get(10, TimeUnit.SECONDS)) {
+        assertTrue(rs.next());
+        assertEquals("v7", rs.getString(1));
+        assertFalse(rs.next());
+      }
+    }
+  }
+
+  @Test
+  void statementWithSql() throws Exception {
+    try (Statement stmt = con.createStatement()) {
+      PGStatement pgStmt = stmt.unwrap(PGStatement.class);
+      CompletableFuture<Long> inserted =
+          pgStmt.executeUpdateAsync("INSERT INTO async_test VALUES (1, 'a')");
+      CompletableFuture<ResultSet> rows = pgStmt.executeQueryAsync("SELECT count(*) FROM async_test");
+      assertEquals(1L, inserted.get(10, TimeUnit.SECONDS));
+      try (ResultSet rs = rows.get(10, TimeUnit.SECONDS)) {
+        assertTrue(rs.next());
+        assertEquals(1, rs.getInt(1));
+      }
+    }
+  }
+
+  @Test
+  void failureCompletesExceptionally() throws Exception {
+    try (Statement stmt = con.createStatement()) {
+      CompletableFuture<ResultSet> rows =
+          stmt.unwrap(PGStatement.class).executeQueryAsync("SELECT * FROM async_test_missing");
+      ExecutionException e =
+          assertThrows(ExecutionException.class, () -> rows.get(10, TimeUnit.SECONDS));
+      assertEquals(PSQLState.UNDEFINED_TABLE.getState(),
+          ((SQLException) e.getCause()).getSQLState());
+
+      // The connection is still usable
+      try (ResultSet rs = stmt.executeQuery("SELECT 1")) {
+        assertTrue(rs.next());
+      }
+    }
+  }
+
+  @Test
+  void failureDoesNotRollBackOtherStatements() throws Exception {
+    try (Statement stmt = con.createStatement()) {
+      PGStatement pgStmt = stmt.unwrap(PGStatement.class);
+      CompletableFuture<Long> first =
+          pgStmt.executeUpdateAsync("INSERT INTO async_test VALUES (1, 'a')");
+      CompletableFuture<Long> duplicate =
+          pgStmt.executeUpdateAsync("INSERT INTO async_test VALUES (1, 'b')");
+      CompletableFuture<Long> last =
+          pgStmt.executeUpdateAsync("INSERT INTO async_test VALUES (2, 'c')");
+      assertEquals(1L, first.get(10, TimeUnit.SECONDS));
+      ExecutionException e =
+          assertThrows(ExecutionException.class, () -> duplicate.get(10, TimeUnit.SECONDS));
+      assertEquals(PSQLState.UNIQUE_VIOLATION.getState(),
+          ((SQLException) e.getCause()).getSQLState());
+      assertEquals(1L, last.get(10, TimeUnit.SECONDS));
+
+      try (ResultSet rs = stmt.executeQuery("SELECT string_agg(val, ',' ORDER BY id) FROM async_test")) {
+        assertTrue(rs.next());
+        assertEquals("a,c", rs.getString(1), "each asynchronous statement runs in its own transaction");
+      }
+    }
+  }
+
+  @Test
+  void blockingCallWaitsForAsyncResults() throws Exception {
+    try (PreparedStatement insert = con.prepareStatement("INSERT INTO async_test VALUES (?, ?)");
+         Statement stmt = con.createStatement()) {
+      insert.setInt(1, 1);
+      insert.setString(2, "a");
+      CompletableFuture<Long> inserted = insert.unwrap(PGStatement.class).executeUpdateAsync();
+      try (ResultSet rs = stmt.executeQuery("SELECT count(*) FROM async_test")) {
+        assertTrue(inserted.isDone(), "a blocking call should read the pending async results first");
+        assertTrue(rs.next());
+        assertEquals(1, rs.getInt(1));
+      }
+    }
+  }
+
+  @Test
+  void noArgMethodsRequirePreparedStatement() throws Exception {
+    try (Statement stmt = con.createStatement()) {
+      assertThrows(SQLException.class, () -> stmt.unwrap(PGStatement.class).executeQueryAsync());
+    }
+    try (PreparedStatement ps = con.prepareStatement("SELECT 1")) {
+      assertThrows(SQLException.class,
+          () -> ps.unwrap(PGStatement.class).executeQueryAsync("SELECT 2"));
+    }
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.core.BaseConnection;
+import org.postgresql.core.Oid;
+import org.postgresql.core.QueryExecutor;
+import org.postgresql.core.ServerVersion;
+import org.postgresql.util.PGobject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedClass;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * The types received in binary format by default return the same values as in text format.
+ */
+@ParameterizedClass
+@MethodSource("data")
+public class BinaryReceiveTypesTest extends BaseTest4 {
+
+  public BinaryReceiveTypesTest(BinaryMode binaryMode) {
+    setBinaryMode(binaryMode);
+  }
+
+  public static Iterable<Object[]> data() {
+    Collection<Object[]> ids = new ArrayList<>();
+    for (BinaryMode binaryMode : BinaryMode.values()) {
+      ids.add(new Object[]{binaryMode});
+    }
+    return ids;
+  }
+
+  @Test
+  public void receivedInBinary() throws SQLException {
+    QueryExecutor queryExecutor = con.unwrap(BaseConnection.class).getQueryExecutor();
+    for (int oid : new int[]{Oid.JSONB, Oid.NUMERIC_ARRAY, Oid.BOOL_ARRAY, Oid.UUID_ARRAY,
+        Oid.JSONB_ARRAY}) {
+      assertTrue(queryExecutor.useBinaryForReceive(oid), () -> "binary receive of " + oid);
+    }
+  }
+
+  @Test
+  public void jsonb() throws SQLException {
+    assumeMinimumServerVersion(ServerVersion.v9_4);
+    String json = "{\"a\": [1, 2.50], \"é\": null}";
+    try (PreparedStatement ps = con.prepareStatement("SELECT ?::jsonb, ARRAY[?::jsonb, NULL]")) {
+      ps.setString(1, json);
+      ps.setString(2, json);
+      try (ResultSet rs = ps.executeQuery()) {
+        assertTrue(rs.next());
+        assertEquals(json, rs.getString(1));
+        assertArrayEquals(json.getBytes(StandardCharsets.UTF_8), rs.getBytes(1));
+        PGobject object = rs.getObject(1, PGobject.class);
+        assertEquals("jsonb", object.getType());
+        assertEquals(json, object.getValue());
+        assertEquals(json, ((PGobject) rs.getObject(1)).getValue());
+        assertArrayEquals(new String[]{json, null}, (Object[]) rs.getArray(2).getArray());
+        assertEquals("{\"{\\\"a\\\": [1, 2.50], \\\"é\\\": null}\",NULL}", rs.getString(2));
+      }
+    }
+  }
+
+  @Test
+  public void arrays() throws SQLException {
+    UUID uuid = UUID.fromString("a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11");
+    try (PreparedStatement ps = con.prepareStatement("SELECT ARRAY[12.50, NULL, 0.0000001]::numeric[],"
+        + " ARRAY[true, NULL, false], ARRAY[?::uuid, NULL]")) {
+      ps.setObject(1, uuid);
+      try (ResultSet rs = ps.executeQuery()) {
+        assertTrue(rs.next());
+        assertArrayEquals(new BigDecimal[]{new BigDecimal("12.50"), null, new BigDecimal("0.0000001")},
+            (Object[]) rs.getArray(1).getArray());
+        assertArrayEquals(new Boolean[]{true, null, false}, (Object[]) rs.getArray(2).getArray());
+        assertArrayEquals(new UUID[]{uuid, null}, (Object[]) rs.getArray(3).getArray());
+        assertEquals("{12.50,NULL,0.0000001}", rs.getString(1));
+        assertEquals("{t,NULL,f}", rs.getString(2));
+        assertEquals("{a0eebc99-9c0b-4ef8-bb6d-6bb9bd380a11,NULL}", rs.getString(3));
+      }
+    }
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGProperty;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+class ChunkedResultsTest extends BaseTest4 {
+  private static final String WIDE_ROWS =
+      "SELECT i, repeat('x', 1000) FROM generate_series(1, 10000) i";
+
+  @Override
+  protected void updateProperties(Properties props) {
+    super.updateProperties(props);
+    PGProperty.CHUNKED_RESULTS.set(props, true);
+    // The whole result (about 10 MiB) does not fit, a chunk of 100 rows does
+    PGProperty.MAX_RESULT_BUFFER.set(props, "1M");
+  }
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    assumeNotSimpleQueryMode();
+    assertTrue(con.getAutoCommit());
+  }
+
+  @Test
+  void fetchesInChunks() throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(WIDE_ROWS)) {
+      ps.setFetchSize(100);
+      try (ResultSet rs = ps.executeQuery()) {
+        for (int i = 1; i <= 10000; i++) {
+          assertTrue(rs.next());
+          assertEquals(i, rs.getInt(1));
+        }
+        assertFalse(rs.next());
+      }
+    }
+  }
+
+  @Test
+  void withoutFetchSize() throws SQLException {
+    try (Statement stmt = con.createStatement()) {
+      assertThrows(SQLException.class, () -> stmt.executeQuery(WIDE_ROWS));
+    }
+  }
+
+  @Test
+  void otherStatementReadsRemainingRows() throws SQLException {
+    try (Statement stmt = con.createStatement();
+         Statement other = con.createStatement()) {
+      stmt.setFetchSize(10);
+      try (ResultSet rs = stmt.executeQuery("SELECT i FROM generate_series(1, 100) i")) {
+        for (int i = 1; i <= 50; i++) {
+          assertTrue(rs.next());
+          assertEquals(i, rs.getInt(1));
+        }
+        try (ResultSet otherRs = other.executeQuery("SELECT 42")) {
+          assertTrue(otherRs.next());
+          assertEquals(42, otherRs.getInt(1));
+        }
+        for (int i = 51; i <= 100; i++) {
+          assertTrue(rs.next());
+          assertEquals(i, rs.getInt(1));
+        }
+        assertFalse(rs.next());
+      }
+    }
+  }
+
+  @Test
+  void closedResultSetDiscardsRows() throws SQLException {
+    try (Statement stmt = con.createStatement()) {
+      stmt.setFetchSize(100);
+      try (ResultSet rs = stmt.executeQuery(WIDE_ROWS)) {
+        assertTrue(rs.next());
+      }
+      // Reading the remaining rows would exceed maxResultBuffer
+      try (ResultSet rs = stmt.executeQuery("SELECT 1")) {
+        assertTrue(rs.next());
+        assertEquals(1, rs.getInt(1));
+      }
+    }
+  }
+
+  @Test
+  void errorWhileFetching() throws SQLException {
+    try (Statement stmt = con.createStatement()) {
+      stmt.setFetchSize(10);
+      try (ResultSet rs = stmt.executeQuery(
+          "SELECT 1 / (50 - i) FROM generate_series(1, 100) i")) {
+        assertThrows(SQLException.class, () -> {
+          while (rs.next()) {
+            rs.getInt(1);
+          }
+        });
+      }
+      // The connection is still usable
+      try (ResultSet rs = stmt.executeQuery("SELECT 1")) {
+        assertTrue(rs.next());
+      }
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGProperty;
+import org.postgresql.test.TestUtil;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedClass;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Properties;
+
+@ParameterizedClass
+@MethodSource("data")
+public class ColumnarResultsTest extends BaseTest4 {
+
+  public ColumnarResultsTest(BinaryMode binaryMode) {
+    setBinaryMode(binaryMode);
+  }
+
+  public static Iterable<Object[]> data() {
+    Collection<Object[]> ids = new ArrayList<>();
+    for (BinaryMode binaryMode : BinaryMode.values()) {
+      ids.add(new Object[]{binaryMode});
+    }
+    return ids;
+  }
+
+  @Override
+  protected void updateProperties(Properties props) {
+    super.updateProperties(props);
+    PGProperty.COLUMNAR_RESULTS.set(props, true);
+  }
+
+  @Test
+  void getters() throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(
+        "SELECT x::int2, x::int4, x::int8, x::float4, x::float8, 'v' || x,"
+            + " CASE WHEN x % 3 = 0 THEN NULL ELSE x END::int4"
+            + " FROM generate_series(1, 10000) x")) {
+      // Several executions so that the statement is server-prepared and binary transfer is used
+      for (int execution = 0; execution < 6; execution++) {
+        try (ResultSet rs = ps.executeQuery()) {
+          for (int x = 1; x <= 10000; x++) {
+            assertTrue(rs.next());
+            assertEquals(x, rs.getShort(1));
+            assertEquals(x, rs.getInt(2));
+            assertEquals(x, rs.getLong(3));
+            assertEquals(x, rs.getFloat(4), 0);
+            assertEquals(x, rs.getDouble(5), 0);
+            assertEquals("v" + x, rs.getString(6));
+            // Conversions that do not read the arrays directly
+            assertEquals(x, rs.getLong(2));
+            assertEquals(String.valueOf(x), rs.getString(3));
+            if (x % 3 == 0) {
+              assertEquals(0, rs.getInt(7));
+              assertTrue(rs.wasNull());
+              assertNull(rs.getObject(7));
+            } else {
+              assertEquals(x, rs.getInt(7));
+              assertFalse(rs.wasNull());
+              assertEquals(x, rs.getObject(7));
+            }
+          }
+          assertFalse(rs.next());
+        }
+      }
+    }
+  }
+
+  @Test
+  void dateTime() throws SQLException {
+    Timestamp timestamp = Timestamp.valueOf("2024-02-29 12:34:56.789");
+    Date date = Date.valueOf("2024-02-29");
+    try (PreparedStatement ps = con.prepareStatement("SELECT ?::timestamp, ?::date")) {
+      ps.setTimestamp(1, timestamp);
+      ps.setDate(2, date);
+      for (int execution = 0; execution < 6; execution++) {
+        try (ResultSet rs = ps.executeQuery()) {
+          assertTrue(rs.next());
+          assertEquals(timestamp, rs.getTimestamp(1));
+          assertEquals(date, rs.getDate(2));
+        }
+      }
+    }
+  }
+
+  @Test
+  void updatableResultSet() throws SQLException {
+    TestUtil.createTempTable(con, "columnar_rows", "id int primary key, val int8");
+    try (Statement stmt = con.createStatement()) {
+      stmt.executeUpdate("INSERT INTO columnar_rows VALUES (1, 10), (2, 20)");
+    }
+    try (Statement stmt = con.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE,
+        ResultSet.CONCUR_UPDATABLE);
+         ResultSet rs = stmt.executeQuery("SELECT id, val FROM columnar_rows ORDER BY id")) {
+      assertTrue(rs.next());
+      rs.updateLong(2, 11);
+      rs.updateRow();
+      assertEquals(11, rs.getLong(2));
+      assertTrue(rs.next());
+      assertEquals(20, rs.getLong(2));
+      assertTrue(rs.first());
+      assertEquals(1, rs.getInt(1));
+    } finally {
+      TestUtil.dropTable(con, "columnar_rows");
+    }
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGPipeline;
+import org.postgresql.PGProperty;
+import org.postgresql.test.TestUtil;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.BatchUpdateException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+
+class ConcurrentBatchWritesTest extends BaseTest4 {
+  private static final int ROWS = 2000;
+
+  @Override
+  protected void updateProperties(Properties props) {
+    super.updateProperties(props);
+    PGProperty.CONCURRENT_BATCH_WRITES.set(props, true);
+  }
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    TestUtil.createTempTable(con, "concurrent_batch", "id int primary key, val text");
+  }
+
+  @Override
+  public void tearDown() throws SQLException {
+    TestUtil.dropTable(con, "concurrent_batch");
+    super.tearDown();
+  }
+
+  private static String wideValue(int i) {
+    char[] chars = new char[10000];
+    Arrays.fill(chars, (char) ('a' + i % 26));
+    return new String(chars);
+  }
+
+  @Test
+  void batchReturningWideRows() throws SQLException {
+    // The text column makes the result size unbounded, which used to force one round trip per row
+    try (PreparedStatement ps = con.prepareStatement(
+        "INSERT INTO concurrent_batch VALUES (?, ?)", new String[]{"val"})) {
+      for (int i = 0; i < ROWS; i++) {
+        ps.setInt(1, i);
+        ps.setString(2, wideValue(i));
+        ps.addBatch();
+      }
+      int[] counts = ps.executeBatch();
+      int[] expected = new int[ROWS];
+      Arrays.fill(expected, 1);
+      assertArrayEquals(expected, counts);
+
+      try (ResultSet keys = ps.getGeneratedKeys()) {
+        for (int i = 0; i < ROWS; i++) {
+          assertTrue(keys.next());
+          assertEquals(wideValue(i), keys.getString(1));
+        }
+        assertFalse(keys.next());
+      }
+    }
+  }
+
+  @Test
+  void batchFailure() throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement("INSERT INTO concurrent_batch VALUES (?, ?)")) {
+      for (int i = 0; i < ROWS; i++) {
+        ps.setInt(1, i == ROWS / 2 ? 0 : i);
+        ps.setString(2, wideValue(i));
+        ps.addBatch();
+      }
+      assertThrows(BatchUpdateException.class, ps::executeBatch);
+    }
+    // The connection is still usable
+    try (Statement stmt = con.createStatement();
+         ResultSet rs = stmt.executeQuery("SELECT 1")) {
+      assertTrue(rs.next());
+    }
+  }
+
+  @Test
+  void pipelineWideRows() throws Exception {
+    assumeNotSimpleQueryMode();
+    try (PreparedStatement ps = con.prepareStatement(
+        "INSERT INTO concurrent_batch VALUES (?, ?) RETURNING val");
+         PGPipeline pipeline = con.unwrap(PGConnection.class).beginPipeline()) {
+      List<CompletableFuture<ResultSet>> results = new ArrayList<>();
+      for (int i = 0; i < ROWS; i++) {
+        ps.setInt(1, i);
+        ps.setString(2, wideValue(i));
+        results.add(pipeline.executeQuery(ps));
+      }
+      pipeline.sync();
+      for (int i = 0; i < ROWS; i++) {
+        try (ResultSet rs = results.get(i).get()) {
+          assertTrue(rs.next());
+          assertEquals(wideValue(i), rs.getString(1));
+        }
+      }
+    }
+  }
+}
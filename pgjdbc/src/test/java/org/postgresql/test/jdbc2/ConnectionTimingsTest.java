@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGProperty;
+import org.postgresql.plugin.ConnectionTimingListener;
+import org.postgresql.test.TestUtil;
+import org.postgresql.util.ConnectionTimings;
+import org.postgresql.util.ConnectionTimings.Phase;
+import org.postgresql.util.PSQLState;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Properties;
+
+class ConnectionTimingsTest {
+  private static volatile ConnectionTimings established;
+  private static volatile ConnectionTimings failed;
+
+  public static class RecordingListener implements ConnectionTimingListener {
+    @Override
+    public void connectionEstablished(ConnectionTimings timings) {
+      established = timings;
+    }
+
+    @Override
+    public void connectionFailed(ConnectionTimings timings, Throwable failure) {
+      failed = timings;
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    established = null;
+    failed = null;
+  }
+
+  @Test
+  void timingsOfConnection() throws SQLException {
+    try (Connection con = TestUtil.openDB()) {
+      ConnectionTimings timings = con.unwrap(PGConnection.class).getConnectionTimings();
+      assertEquals(TestUtil.getServer(), timings.getHostSpec().getHost(), "host");
+      assertTrue(timings.getNanos(Phase.TCP_CONNECT) > 0, () -> "TCP_CONNECT: " + timings);
+      assertTrue(timings.getNanos(Phase.AUTHENTICATION) > 0, () -> "AUTHENTICATION: " + timings);
+      assertTrue(timings.getNanos(Phase.STARTUP) > 0, () -> "STARTUP: " + timings);
+      long sum = 0;
+      for (Phase phase : timings.getPhaseNanos().keySet()) {
+        if (phase != Phase.SCRAM_KEY_DERIVATION) {
+          sum += timings.getNanos(phase);
+        }
+      }
+      assertTrue(sum <= timings.getTotalNanos(), () -> "the phases should not exceed the total: "
+          + timings);
+    }
+  }
+
+  @Test
+  void listenerReceivesTimings() throws SQLException {
+    Properties props = new Properties();
+    PGProperty.CONNECTION_TIMING_LISTENER.set(props, RecordingListener.class.getName());
+    try (Connection con = TestUtil.openDB(props)) {
+      ConnectionTimings timings = established;
+      assertNotNull(timings, "the listener should be called");
+      assertEquals(con.unwrap(PGConnection.class).getConnectionTimings().getPhaseNanos(),
+          timings.getPhaseNanos());
+      assertNull(failed, "no attempt should have failed");
+    }
+  }
+
+  @Test
+  void listenerReceivesFailures() {
+    Properties props = new Properties();
+    PGProperty.CONNECTION_TIMING_LISTENER.set(props, RecordingListener.class.getName());
+    TestUtil.setTestUrlProperty(props, PGProperty.PG_HOST, "127.127.217.217");
+    TestUtil.setTestUrlProperty(props, PGProperty.PG_PORT, "1");
+    PGProperty.CONNECT_TIMEOUT.set(props, 1);
+    assertThrows(SQLException.class, () -> TestUtil.openDB(props));
+    ConnectionTimings timings = failed;
+    assertNotNull(timings, "the listener should be called");
+    assertFalse(timings.getPhaseNanos().containsKey(Phase.AUTHENTICATION),
+        () -> "the failure should happen before the authentication: " + timings);
+    assertNull(established);
+  }
+
+  @Test
+  void invalidListener() {
+    Properties props = new Properties();
+    PGProperty.CONNECTION_TIMING_LISTENER.set(props, "org.example.MissingListener");
+    SQLException e = assertThrows(SQLException.class, () -> TestUtil.openDB(props));
+    assertEquals(PSQLState.INVALID_PARAMETER_VALUE.getState(), e.getSQLState());
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGProperty;
+import org.postgresql.test.TestUtil;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+class DatabaseMetaDataResultCacheTest extends BaseTest4 {
+
+  @Override
+  protected void updateProperties(Properties props) {
+    super.updateProperties(props);
+    PGProperty.DATABASE_METADATA_CACHE_SECONDS.set(props, 3600);
+  }
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    TestUtil.createTable(con, "metadata_cache_a", "id int primary key, label text");
+  }
+
+  @Override
+  protected void tearDown() throws SQLException {
+    TestUtil.dropTable(con, "metadata_cache_a");
+    TestUtil.dropTable(con, "metadata_cache_b");
+    super.tearDown();
+  }
+
+  @Test
+  void tablesCachedByArguments() throws SQLException {
+    DatabaseMetaData metaData = con.getMetaData();
+    assertEquals(Arrays.asList("metadata_cache_a"), tableNames(metaData, "metadata_cache_%"));
+
+    TestUtil.createTable(con, "metadata_cache_b", "id int");
+    // Same arguments: the cached result, which can be read again
+    assertEquals(Arrays.asList("metadata_cache_a"), tableNames(metaData, "metadata_cache_%"));
+    // Other arguments: a new query
+    assertEquals(Arrays.asList("metadata_cache_b"), tableNames(metaData, "metadata_cache_b"));
+  }
+
+  @Test
+  void columnsAndKeys() throws SQLException {
+    DatabaseMetaData metaData = con.getMetaData();
+    for (int i = 0; i < 2; i++) {
+      try (ResultSet rs = metaData.getColumns(null, null, "metadata_cache_a", null)) {
+        assertTrue(rs.next());
+        assertEquals("id", rs.getString("COLUMN_NAME"));
+        assertTrue(rs.next());
+        assertEquals("label", rs.getString("COLUMN_NAME"));
+        assertFalse(rs.next());
+      }
+      try (ResultSet rs = metaData.getPrimaryKeys(null, null, "metadata_cache_a")) {
+        assertTrue(rs.next());
+        assertEquals("id", rs.getString("COLUMN_NAME"));
+        assertFalse(rs.next());
+      }
+    }
+  }
+
+  @Test
+  void searchPathChangeDiscardsResults() throws SQLException {
+    DatabaseMetaData metaData = con.getMetaData();
+    assertEquals(Arrays.asList("metadata_cache_a"), tableNames(metaData, "metadata_cache_%"));
+
+    TestUtil.createTable(con, "metadata_cache_b", "id int");
+    TestUtil.execute(con, "SET search_path TO public");
+    assertEquals(Arrays.asList("metadata_cache_a", "metadata_cache_b"),
+        tableNames(metaData, "metadata_cache_%"));
+  }
+
+  @Test
+  void roleChangeDiscardsResults() throws SQLException {
+    DatabaseMetaData metaData = con.getMetaData();
+    assertEquals(Arrays.asList("metadata_cache_a"), tableNames(metaData, "metadata_cache_%"));
+
+    TestUtil.createTable(con, "metadata_cache_b", "id int");
+    TestUtil.execute(con, "SET ROLE \"" + TestUtil.getUser() + "\"");
+    assertEquals(Arrays.asList("metadata_cache_a", "metadata_cache_b"),
+        tableNames(metaData, "metadata_cache_%"));
+  }
+
+  @Test
+  void endOfTransactionDiscardsResults() throws SQLException {
+    DatabaseMetaData metaData = con.getMetaData();
+    TestUtil.createTable(con, "metadata_cache_b", "id int");
+    con.setAutoCommit(false);
+    TestUtil.execute(con, "SET LOCAL search_path TO public");
+    assertEquals(Arrays.asList("metadata_cache_a", "metadata_cache_b"),
+        tableNames(metaData, "metadata_cache_%"));
+    con.rollback();
+    con.setAutoCommit(true);
+    // The rollback restored the search_path
+    TestUtil.dropTable(con, "metadata_cache_b");
+    assertEquals(Arrays.asList("metadata_cache_a"), tableNames(metaData, "metadata_cache_%"));
+  }
+
+  private static List<String> tableNames(DatabaseMetaData metaData, String pattern)
+      throws SQLException {
+    List<String> names = new ArrayList<>();
+    try (ResultSet rs = metaData.getTables(null, null, pattern, new String[]{"TABLE"})) {
+      while (rs.next()) {
+        names.add(rs.getString("TABLE_NAME"));
+      }
+    }
+    return names;
+  }
+}
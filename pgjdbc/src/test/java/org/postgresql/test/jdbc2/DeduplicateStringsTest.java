@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGProperty;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedClass;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Properties;
+
+@ParameterizedClass
+@MethodSource("data")
+public class DeduplicateStringsTest extends BaseTest4 {
+
+  public DeduplicateStringsTest(BinaryMode binaryMode) {
+    setBinaryMode(binaryMode);
+  }
+
+  public static Iterable<Object[]> data() {
+    Collection<Object[]> ids = new ArrayList<>();
+    for (BinaryMode binaryMode : BinaryMode.values()) {
+      ids.add(new Object[]{binaryMode});
+    }
+    return ids;
+  }
+
+  @Override
+  protected void updateProperties(Properties props) {
+    super.updateProperties(props);
+    PGProperty.DEDUPLICATE_STRINGS.set(props, true);
+  }
+
+  @Test
+  void lowCardinalityColumn() throws SQLException {
+    try (Statement stmt = con.createStatement();
+         ResultSet rs = stmt.executeQuery("SELECT CASE WHEN x % 2 = 0 THEN 'état' END,"
+             + " 'v' || (x % 3)::text FROM generate_series(1, 1000) x")) {
+      String even = null;
+      String[] modulos = new String[3];
+      for (int x = 1; x <= 1000; x++) {
+        assertTrue(rs.next());
+        String value = rs.getString(1);
+        if (x % 2 == 0) {
+          assertEquals("état", value);
+          if (even == null) {
+            even = value;
+          }
+          assertSame(even, value);
+        } else {
+          assertNull(value);
+          assertTrue(rs.wasNull());
+        }
+        String modulo = rs.getString(2);
+        assertEquals("v" + (x % 3), modulo);
+        if (modulos[x % 3] == null) {
+          modulos[x % 3] = modulo;
+        }
+        assertSame(modulos[x % 3], modulo);
+      }
+      assertFalse(rs.next());
+    }
+  }
+
+  @Test
+  void highCardinalityColumn() throws SQLException {
+    try (Statement stmt = con.createStatement();
+         ResultSet rs = stmt.executeQuery("SELECT 'v' || (x % 1000)::text"
+             + " FROM generate_series(0, 1999) x")) {
+      String[] first = new String[1000];
+      for (int x = 0; x < 2000; x++) {
+        assertTrue(rs.next());
+        String value = rs.getString(1);
+        assertEquals("v" + (x % 1000), value);
+        if (x < 1000) {
+          first[x] = value;
+        } else {
+          // The column stopped being deduplicated after its first distinct values
+          assertNotSame(first[x - 1000], value);
+        }
+      }
+    }
+  }
+}
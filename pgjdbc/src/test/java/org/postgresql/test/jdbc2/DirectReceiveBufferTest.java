@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.postgresql.PGProperty;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+class DirectReceiveBufferTest extends BaseTest4 {
+
+  @Override
+  protected void updateProperties(Properties props) {
+    super.updateProperties(props);
+    PGProperty.DIRECT_RECEIVE_BUFFER.set(props, true);
+  }
+
+  @Test
+  void largeResult() throws SQLException {
+    try (Statement stmt = con.createStatement();
+         ResultSet rs = stmt.executeQuery(
+             "SELECT i, repeat('x', i % 100000) FROM generate_series(1, 1000) i")) {
+      for (int i = 1; i <= 1000; i++) {
+        assertTrue(rs.next());
+        assertEquals(i, rs.getInt(1));
+        assertEquals(i % 100000, rs.getString(2).length());
+      }
+      assertFalse(rs.next());
+    }
+  }
+
+  @Test
+  void copyOut() throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    long rows = con.unwrap(PGConnection.class).getCopyAPI().copyOut(
+        "COPY (SELECT i, repeat('y', 1000) FROM generate_series(1, 10000) i) TO STDOUT", out);
+    assertEquals(10000, rows);
+    String[] lines = new String(out.toByteArray(), StandardCharsets.UTF_8).split("\n");
+    assertEquals(10000, lines.length);
+    assertEquals("10000\t", lines[9999].substring(0, 6));
+  }
+
+  @Test
+  void notificationWithTimeout() throws Exception {
+    try (Statement stmt = con.createStatement()) {
+      stmt.execute("LISTEN direct_receive_buffer");
+      PGConnection connection = con.unwrap(PGConnection.class);
+      // The reads with a timeout go through the socket stream
+      assertEquals(0, connection.getNotifications(100).length);
+      stmt.execute("NOTIFY direct_receive_buffer");
+      PGNotification[] notifications = connection.getNotifications(1000);
+      assertEquals(1, notifications.length);
+      assertEquals("direct_receive_buffer", notifications[0].getName());
+      stmt.execute("UNLISTEN direct_receive_buffer");
+    }
+  }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGProperty;
+import org.postgresql.test.TestUtil;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedClass;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Properties;
+
+@ParameterizedClass
+@MethodSource("data")
+public class MemoizeRowValuesTest extends BaseTest4 {
+
+  public MemoizeRowValuesTest(BinaryMode binaryMode) {
+    setBinaryMode(binaryMode);
+  }
+
+  public static Iterable<Object[]> data() {
+    Collection<Object[]> ids = new ArrayList<>();
+    for (BinaryMode binaryMode : BinaryMode.values()) {
+      ids.add(new Object[]{binaryMode});
+    }
+    return ids;
+  }
+
+  @Override
+  protected void updateProperties(Properties props) {
+    super.updateProperties(props);
+    PGProperty.MEMOIZE_ROW_VALUES.set(props, true);
+  }
+
+  @Test
+  void sameValueUntilNextRow() throws SQLException {
+    try (Statement stmt = con.createStatement();
+         ResultSet rs = stmt.executeQuery("SELECT 'v' || x, x * 0.1,"
+             + " DATE '2025-01-01' + x, x, NULLIF(x, 1)::text, localtimestamp"
+             + " FROM generate_series(1, 2) x")) {
+      for (int x = 1; x <= 2; x++) {
+        assertTrue(rs.next());
+        String string = rs.getString(1);
+        assertEquals("v" + x, string);
+        assertSame(string, rs.getString(1));
+        assertSame(string, rs.getObject(1));
+        BigDecimal decimal = rs.getBigDecimal(2);
+        assertEquals(new BigDecimal(x).divide(BigDecimal.TEN), decimal);
+        assertSame(decimal, rs.getBigDecimal(2));
+        LocalDate date = rs.getObject(3, LocalDate.class);
+        assertEquals(LocalDate.of(2025, 1, 1).plusDays(x), date);
+        assertSame(date, rs.getObject(3, LocalDate.class));
+        // Another getter decodes its own value
+        assertEquals(String.valueOf(x), rs.getString(4));
+        assertEquals(x, rs.getObject(4));
+        assertSame(rs.getObject(4), rs.getObject(4));
+        assertEquals(String.valueOf(x), rs.getString(4));
+        if (x == 1) {
+          assertNull(rs.getString(5));
+          assertTrue(rs.wasNull());
+        } else {
+          assertSame(rs.getString(5), rs.getString(5));
+          assertFalse(rs.wasNull());
+        }
+        // Mutable values are decoded again
+        assertNotSame(rs.getObject(6), rs.getObject(6));
+        assertNotSame(rs.getTimestamp(6), rs.getTimestamp(6));
+      }
+      assertFalse(rs.next());
+    }
+  }
+
+  @Test
+  void conversionsStillChecked() throws SQLException {
+    try (Statement stmt = con.createStatement();
+         ResultSet rs = stmt.executeQuery("SELECT 42")) {
+      assertTrue(rs.next());
+      assertEquals("42", rs.getString(1));
+      assertThrows(SQLException.class, () -> rs.getObject(1, String.class));
+      assertThrows(SQLException.class, () -> rs.getObject(1, LocalDate.class));
+    }
+  }
+
+  @Test
+  void updatedRow() throws SQLException {
+    TestUtil.createTempTable(con, "memoize_row", "id int primary key, name text");
+    try (Statement stmt = con.createStatement()) {
+      stmt.executeUpdate("INSERT INTO memoize_row VALUES (1, 'before')");
+    }
+    try (Statement stmt = con.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE,
+        ResultSet.CONCUR_UPDATABLE);
+         ResultSet rs = stmt.executeQuery("SELECT id, name FROM memoize_row")) {
+      assertTrue(rs.next());
+      assertEquals("before", rs.getString(2));
+      rs.updateString(2, "after");
+      rs.updateRow();
+      assertEquals("after", rs.getString(2));
+      rs.refreshRow();
+      assertEquals("after", rs.getString(2));
+    }
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGPipeline;
+import org.postgresql.test.TestUtil;
+import org.postgresql.util.PSQLState;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+class PipelineTest extends BaseTest4 {
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    assumeNotSimpleQueryMode();
+    TestUtil.createTempTable(con, "pipeline_test", "id int primary key, val text");
+  }
+
+  @Override
+  public void tearDown() throws SQLException {
+    TestUtil.dropTable(con, "pipeline_test");
+    super.tearDown();
+  }
+
+  @Test
+  void futuresCompleteAtSync() throws Exception {
+    try (PreparedStatement insert = con.prepareStatement("INSERT INTO pipeline_test VALUES (?, ?)");
+         PreparedStatement select = con.prepareStatement("SELECT val FROM pipeline_test WHERE id = ?");
+         PGPipeline pipeline = con.unwrap(PGConnection.class).beginPipeline()) {
+      List<CompletableFuture<Long>> inserts = new ArrayList<>();
+      for (int i = 0; i < 10; i++) {
+        insert.setInt(1, i);
+        insert.setString(2, "v" + i);
+        inserts.add(pipeline.executeUpdate(insert));
+      }
+      select.setInt(1, 7);
+      CompletableFuture<ResultSet> rows = pipeline.executeQuery(select);
+      assertFalse(rows.isDone(), "results should not be read before the sync point");
+
+      pipeline.sync();
+
+      for (CompletableFuture<Long> inserted : inserts) {
+        assertEquals(1L, inserted.get());
+      }
+      try (ResultSet rs = rows.get()) {
+        assertTrue(rs.next());
+        assertEquals("v7", rs.getString(1));
+        assertFalse(rs.next());
+      }
+    }
+  }
+
+  @Test
+  void failureAbortsRestOfPipeline() throws Exception {
+    try (PreparedStatement insert = con.prepareStatement("INSERT INTO pipeline_test VALUES (?, ?)");
+         PGPipeline pipeline = con.unwrap(PGConnection.class).beginPipeline()) {
+      insert.setInt(1, 1);
+      insert.setString(2, "a");
+      CompletableFuture<Long> first = pipeline.executeUpdate(insert);
+      CompletableFuture<Long> duplicate = pipeline.executeUpdate(insert);
+      insert.setInt(1, 2);
+      CompletableFuture<Long> skipped = pipeline.executeUpdate(insert);
+      pipeline.sync();
+
+      assertTrue(first.isDone());
+      ExecutionException e = assertThrows(ExecutionException.class, duplicate::get);
+      assertEquals(PSQLState.UNIQUE_VIOLATION.getState(),
+          ((SQLException) e.getCause()).getSQLState());
+      e = assertThrows(ExecutionException.class, skipped::get);
+      assertEquals(PSQLState.IN_FAILED_SQL_TRANSACTION.getState(),
+          ((SQLException) e.getCause()).getSQLState());
+
+      // The next sync segment is not affected by the failure
+      insert.setInt(1, 3);
+      CompletableFuture<Long> after = pipeline.executeUpdate(insert);
+      pipeline.sync();
+      assertEquals(1L, after.get());
+    }
+    try (Statement stmt = con.createStatement();
+         ResultSet rs = stmt.executeQuery("SELECT id FROM pipeline_test")) {
+      assertTrue(rs.next());
+      assertEquals(3, rs.getInt(1), "The failed segment runs in an implicit transaction");
+      assertFalse(rs.next());
+    }
+  }
+
+  @Test
+  void otherStatementSyncsPipeline() throws Exception {
+    try (PreparedStatement insert = con.prepareStatement("INSERT INTO pipeline_test VALUES (?, ?)");
+         PGPipeline pipeline = con.unwrap(PGConnection.class).beginPipeline()) {
+      insert.setInt(1, 1);
+      insert.setString(2, "a");
+      CompletableFuture<Long> inserted = pipeline.executeUpdate(insert);
+      try (Statement stmt = con.createStatement();
+           ResultSet rs = stmt.executeQuery("SELECT count(*) FROM pipeline_test")) {
+        assertTrue(inserted.isDone(), "executing another statement should sync the pipeline");
+        assertTrue(rs.next());
+        assertEquals(1, rs.getInt(1));
+      }
+    }
+  }
+
+  @Test
+  void updateReturningRowsFails() throws Exception {
+    try (PreparedStatement select = con.prepareStatement("SELECT 1");
+         PGPipeline pipeline = con.unwrap(PGConnection.class).beginPipeline()) {
+      CompletableFuture<Long> result = pipeline.executeUpdate(select);
+      pipeline.sync();
+      ExecutionException e = assertThrows(ExecutionException.class, result::get);
+      assertInstanceOf(SQLException.class, e.getCause());
+    }
+  }
+
+  @Test
+  void closedPipelineRejectsStatements() throws Exception {
+    PGPipeline pipeline = con.unwrap(PGConnection.class).beginPipeline();
+    pipeline.close();
+    try (PreparedStatement select = con.prepareStatement("SELECT 1")) {
+      assertThrows(SQLException.class, () -> pipeline.executeQuery(select));
+    }
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGProperty;
+import org.postgresql.core.BaseConnection;
+import org.postgresql.core.TypeInfo;
+import org.postgresql.test.TestUtil;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Properties;
+
+class PreloadTypeCatalogTest extends BaseTest4 {
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    TestUtil.createEnumType(con, "preload_catalog_mood", "'sad', 'happy'");
+    TestUtil.createTable(con, "preload_catalog_table", "id int");
+  }
+
+  @Override
+  protected void tearDown() throws SQLException {
+    TestUtil.dropType(con, "preload_catalog_mood");
+    TestUtil.dropTable(con, "preload_catalog_table");
+    super.tearDown();
+  }
+
+  @Test
+  void typesKnownWithoutQuery() throws SQLException {
+    int oid;
+    int arrayOid;
+    try (Statement stmt = con.createStatement();
+         ResultSet rs = stmt.executeQuery(
+             "SELECT oid, typarray FROM pg_type WHERE typname = 'preload_catalog_mood'")) {
+      assertTrue(rs.next());
+      oid = (int) rs.getLong(1);
+      arrayOid = (int) rs.getLong(2);
+    }
+
+    Properties props = new Properties();
+    updateProperties(props);
+    PGProperty.PRELOAD_TYPE_CATALOG.set(props, true);
+    Connection preloaded = TestUtil.openDB(props);
+    try {
+      preloaded.setAutoCommit(false);
+      try (Statement stmt = preloaded.createStatement()) {
+        assertThrows(SQLException.class, () -> stmt.execute("SELECT 1/0"));
+      }
+      // The transaction is aborted, so the types can only come from the preloaded catalog
+      TypeInfo typeInfo = preloaded.unwrap(BaseConnection.class).getTypeInfo();
+      assertEquals(Types.VARCHAR, typeInfo.getSQLType(oid));
+      assertEquals("preload_catalog_mood", typeInfo.getPGType(oid));
+      assertEquals(oid, typeInfo.getPGType("preload_catalog_mood"));
+      assertEquals(Types.ARRAY, typeInfo.getSQLType(arrayOid));
+      assertEquals(oid, typeInfo.getPGArrayElement(arrayOid));
+      assertEquals(',', typeInfo.getArrayDelimiter(arrayOid));
+      preloaded.rollback();
+    } finally {
+      TestUtil.closeDB(preloaded);
+    }
+  }
+
+  @Test
+  void tableTypesNotPreloaded() throws SQLException {
+    int oid;
+    int arrayOid;
+    try (Statement stmt = con.createStatement();
+         ResultSet rs = stmt.executeQuery(
+             "SELECT oid, typarray FROM pg_type WHERE typname = 'preload_catalog_table'")) {
+      assertTrue(rs.next());
+      oid = (int) rs.getLong(1);
+      arrayOid = (int) rs.getLong(2);
+    }
+
+    Properties props = new Properties();
+    updateProperties(props);
+    PGProperty.PRELOAD_TYPE_CATALOG.set(props, true);
+    Connection preloaded = TestUtil.openDB(props);
+    try {
+      preloaded.setAutoCommit(false);
+      try (Statement stmt = preloaded.createStatement()) {
+        assertThrows(SQLException.class, () -> stmt.execute("SELECT 1/0"));
+      }
+      // The transaction is aborted, so the types that were not preloaded cannot be queried
+      TypeInfo typeInfo = preloaded.unwrap(BaseConnection.class).getTypeInfo();
+      assertThrows(SQLException.class, () -> typeInfo.getPGType(oid), "row type of the table");
+      assertThrows(SQLException.class, () -> typeInfo.getPGType(arrayOid), "array of the row type");
+      preloaded.rollback();
+    } finally {
+      TestUtil.closeDB(preloaded);
+    }
+  }
+}
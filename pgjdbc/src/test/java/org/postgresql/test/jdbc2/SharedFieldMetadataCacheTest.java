@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGProperty;
+import org.postgresql.test.TestUtil;
+import org.postgresql.util.CacheStatistics;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+
+class SharedFieldMetadataCacheTest extends BaseTest4 {
+
+  @Override
+  protected void updateProperties(Properties props) {
+    super.updateProperties(props);
+    PGProperty.DATABASE_METADATA_CACHE_SHARED.set(props, true);
+  }
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    TestUtil.createTable(con, "shared_metadata", "id serial, label text not null");
+  }
+
+  @Override
+  protected void tearDown() throws SQLException {
+    TestUtil.dropTable(con, "shared_metadata");
+    super.tearDown();
+  }
+
+  @Test
+  void fieldsResolvedByOtherConnection() throws SQLException {
+    CacheStatistics before = con.unwrap(PGConnection.class).getFieldMetadataCacheStatistics();
+    assertMetadata(con);
+    CacheStatistics loaded = con.unwrap(PGConnection.class).getFieldMetadataCacheStatistics();
+    assertEquals(before.getMissCount() + 2, loaded.getMissCount());
+
+    Properties props = new Properties();
+    updateProperties(props);
+    Connection other = TestUtil.openDB(props);
+    try {
+      assertMetadata(other);
+      CacheStatistics after = other.unwrap(PGConnection.class).getFieldMetadataCacheStatistics();
+      assertEquals(loaded.getMissCount(), after.getMissCount(), "missCount");
+      assertEquals(loaded.getHitCount() + 2, after.getHitCount(), "hitCount");
+    } finally {
+      TestUtil.closeDB(other);
+    }
+  }
+
+  @Test
+  void invalidateAfterDdl() throws SQLException {
+    Properties props = new Properties();
+    updateProperties(props);
+    Connection other = TestUtil.openDB(props);
+    try {
+      assertMetadata(con);
+      assertMetadata(other);
+      try (Statement stmt = con.createStatement()) {
+        stmt.execute("ALTER TABLE shared_metadata ALTER COLUMN label DROP NOT NULL");
+      }
+      con.unwrap(PGConnection.class).invalidateFieldMetadataCache();
+      try (Statement stmt = other.createStatement();
+           ResultSet rs = stmt.executeQuery("SELECT label FROM shared_metadata")) {
+        assertEquals(ResultSetMetaData.columnNullable, rs.getMetaData().isNullable(1),
+            "the other connection should read the altered column again");
+      }
+    } finally {
+      TestUtil.closeDB(other);
+    }
+  }
+
+  private static void assertMetadata(Connection con) throws SQLException {
+    try (Statement stmt = con.createStatement();
+         ResultSet rs = stmt.executeQuery("SELECT id AS a, label AS b FROM shared_metadata")) {
+      ResultSetMetaData metaData = rs.getMetaData();
+      assertEquals("id", metaData.getColumnName(1));
+      assertEquals(ResultSetMetaData.columnNoNulls, metaData.isNullable(2));
+      assertTrue(metaData.isAutoIncrement(1));
+    }
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGProperty;
+import org.postgresql.test.TestUtil;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedClass;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Properties;
+
+@ParameterizedClass
+@MethodSource("data")
+public class SharedRowBuffersTest extends BaseTest4 {
+
+  public SharedRowBuffersTest(BinaryMode binaryMode) {
+    setBinaryMode(binaryMode);
+  }
+
+  public static Iterable<Object[]> data() {
+    Collection<Object[]> ids = new ArrayList<>();
+    for (BinaryMode binaryMode : BinaryMode.values()) {
+      ids.add(new Object[]{binaryMode});
+    }
+    return ids;
+  }
+
+  @Override
+  protected void updateProperties(Properties props) {
+    super.updateProperties(props);
+    PGProperty.SHARED_ROW_BUFFERS.set(props, true);
+  }
+
+  @Test
+  void getters() throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(
+        "SELECT x::int2, x::int4, x::int8, x::float4, x::float8, 'v' || x, NULL::int4,"
+            + " decode(lpad(to_hex(x), 2, '0'), 'hex')"
+            + " FROM generate_series(1, 10000) x")) {
+      // Several executions so that the statement is server-prepared and binary transfer is used
+      for (int execution = 0; execution < 6; execution++) {
+        try (ResultSet rs = ps.executeQuery()) {
+          for (int x = 1; x <= 10000; x++) {
+            assertTrue(rs.next());
+            assertEquals(x, rs.getShort(1));
+            assertEquals(x, rs.getInt(2));
+            assertEquals(x, rs.getLong(3));
+            assertEquals(x, rs.getFloat(4), 0);
+            assertEquals(x, rs.getDouble(5), 0);
+            assertEquals("v" + x, rs.getString(6));
+            assertEquals(0, rs.getInt(7));
+            assertTrue(rs.wasNull());
+            assertNull(rs.getString(7));
+            assertArrayEquals(new byte[]{(byte) x}, rs.getBytes(8));
+          }
+          assertFalse(rs.next());
+        }
+      }
+    }
+  }
+
+  @Test
+  void largeRows() throws SQLException {
+    char[] chars = new char[100000];
+    Arrays.fill(chars, 'x');
+    String large = new String(chars);
+    try (Statement stmt = con.createStatement();
+         ResultSet rs = stmt.executeQuery(
+             "SELECT i, repeat('x', 100000) FROM generate_series(1, 5) i")) {
+      for (int i = 1; i <= 5; i++) {
+        assertTrue(rs.next());
+        assertEquals(i, rs.getInt(1));
+        assertEquals(large, rs.getString(2));
+      }
+      assertFalse(rs.next());
+    }
+  }
+
+  @Test
+  void rowsAreKeptAfterNextQuery() throws SQLException {
+    try (Statement stmt = con.createStatement();
+         ResultSet first = stmt.executeQuery("SELECT 'first' || i FROM generate_series(1, 100) i")) {
+      try (Statement other = con.createStatement();
+           ResultSet second = other.executeQuery("SELECT 'second' || i FROM generate_series(1, 100) i")) {
+        while (second.next()) {
+          second.getString(1);
+        }
+      }
+      for (int i = 1; i <= 100; i++) {
+        assertTrue(first.next());
+        assertEquals("first" + i, first.getString(1));
+      }
+    }
+  }
+
+  @Test
+  void updatableResultSet() throws SQLException {
+    TestUtil.createTempTable(con, "shared_rows", "id int primary key, val text");
+    try (Statement stmt = con.createStatement()) {
+      stmt.executeUpdate("INSERT INTO shared_rows VALUES (1, 'a'), (2, 'b')");
+    }
+    try (Statement stmt = con.createStatement(ResultSet.TYPE_SCROLL_INSENSITIVE,
+        ResultSet.CONCUR_UPDATABLE);
+         ResultSet rs = stmt.executeQuery("SELECT id, val FROM shared_rows ORDER BY id")) {
+      assertTrue(rs.next());
+      rs.updateString(2, "updated");
+      rs.updateRow();
+      assertEquals("updated", rs.getString(2));
+      assertTrue(rs.next());
+      assertEquals("b", rs.getString(2));
+    } finally {
+      TestUtil.dropTable(con, "shared_rows");
+    }
+  }
+}
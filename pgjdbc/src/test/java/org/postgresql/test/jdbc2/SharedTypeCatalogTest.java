@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGProperty;
+import org.postgresql.core.BaseConnection;
+import org.postgresql.core.Oid;
+import org.postgresql.core.TypeInfo;
+import org.postgresql.test.TestUtil;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Properties;
+
+class SharedTypeCatalogTest extends BaseTest4 {
+
+  @Override
+  protected void updateProperties(Properties props) {
+    super.updateProperties(props);
+    PGProperty.SHARED_TYPE_CATALOG.set(props, true);
+  }
+
+  @Override
+  protected void setUp() throws Exception {
+    super.setUp();
+    TestUtil.createEnumType(con, "shared_catalog_mood", "'sad', 'happy'");
+  }
+
+  @Override
+  protected void tearDown() throws SQLException {
+    TestUtil.dropType(con, "shared_catalog_mood");
+    super.tearDown();
+  }
+
+  @Test
+  void typesResolvedByOtherConnection() throws SQLException {
+    assertMood(con);
+    Properties props = new Properties();
+    updateProperties(props);
+    Connection other = TestUtil.openDB(props);
+    try {
+      assertMood(other);
+    } finally {
+      TestUtil.closeDB(other);
+    }
+  }
+
+  @Test
+  void invalidate() throws SQLException {
+    assertMood(con);
+    con.unwrap(PGConnection.class).invalidateSharedTypeCatalog();
+    assertMood(con);
+  }
+
+  @Test
+  void invalidateDiscardsNamesOfAllConnections() throws SQLException {
+    Properties props = new Properties();
+    updateProperties(props);
+    Connection other = TestUtil.openDB(props);
+    try {
+      TypeInfo typeInfo = con.unwrap(BaseConnection.class).getTypeInfo();
+      TypeInfo otherTypeInfo = other.unwrap(BaseConnection.class).getTypeInfo();
+      int oid = typeInfo.getPGType("shared_catalog_mood");
+      assertEquals(oid, otherTypeInfo.getPGType("shared_catalog_mood"));
+
+      TestUtil.dropType(con, "shared_catalog_mood");
+      TestUtil.createEnumType(con, "shared_catalog_mood", "'sad', 'happy'");
+      con.unwrap(PGConnection.class).invalidateSharedTypeCatalog();
+
+      int newOid = typeInfo.getPGType("shared_catalog_mood");
+      assertNotEquals(oid, newOid, "the name should be resolved again");
+      assertEquals(newOid, otherTypeInfo.getPGType("shared_catalog_mood"),
+          "the other connection should resolve the name again");
+      assertEquals("shared_catalog_mood", otherTypeInfo.getPGType(newOid));
+      assertEquals("int4", otherTypeInfo.getPGType(Oid.INT4), "core types are kept");
+      assertMood(con);
+      assertMood(other);
+    } finally {
+      TestUtil.closeDB(other);
+    }
+  }
+
+  private static void assertMood(Connection con) throws SQLException {
+    try (Statement stmt = con.createStatement();
+         ResultSet rs = stmt.executeQuery(
+             "SELECT 'happy'::shared_catalog_mood, ARRAY['sad', 'happy']::shared_catalog_mood[]")) {
+      assertTrue(rs.next());
+      assertEquals(Types.VARCHAR, rs.getMetaData().getColumnType(1));
+      assertEquals("happy", rs.getString(1));
+      assertEquals(Types.ARRAY, rs.getMetaData().getColumnType(2));
+      Array array = rs.getArray(2);
+      assertEquals(Types.VARCHAR, array.getBaseType());
+      assertArrayEquals(new Object[]{"sad", "happy"}, (Object[]) array.getArray());
+    }
+  }
+}
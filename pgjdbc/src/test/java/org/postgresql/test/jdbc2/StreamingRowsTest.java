@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.PGStatement;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class StreamingRowsTest extends BaseTest4 {
+
+  @Test
+  void statement() throws SQLException {
+    AtomicInteger expected = new AtomicInteger(1);
+    try (Statement stmt = con.createStatement()) {
+      long count = stmt.unwrap(PGStatement.class).executeStreaming(
+          "SELECT i, 'v' || i, NULL::text FROM generate_series(1, 100000) i",
+          row -> {
+            int i = expected.getAndIncrement();
+            assertEquals(i, row.getInt(1));
+            assertEquals("v" + i, row.getString(2));
+            assertNull(row.getString(3));
+            assertTrue(row.wasNull());
+          });
+      assertEquals(100000, count);
+      assertEquals(100001, expected.get());
+    }
+  }
+
+  @Test
+  void preparedStatement() throws SQLException {
+    try (PreparedStatement ps = con.prepareStatement(
+        "SELECT i::int8, i::float8 FROM generate_series(1, ?) i")) {
+      // Several executions so that binary transfer is used too
+      for (int execution = 0; execution < 6; execution++) {
+        ps.setInt(1, 1000);
+        List<Long> values = new ArrayList<>();
+        long count = ps.unwrap(PGStatement.class).executeStreaming(row -> {
+          values.add(row.getLong(1));
+          assertEquals(row.getLong(1), row.getDouble(2), 0);
+        });
+        assertEquals(1000, count);
+        assertEquals(1000, values.size());
+        assertEquals(1000L, values.get(999));
+      }
+    }
+  }
+
+  @Test
+  void rowsAreNotKept() throws SQLException {
+    List<ResultSet> views = new ArrayList<>();
+    try (Statement stmt = con.createStatement()) {
+      stmt.unwrap(PGStatement.class).executeStreaming(
+          "SELECT i FROM generate_series(1, 3) i", views::add);
+    }
+    assertEquals(3, views.size());
+    assertSame(views.get(0), views.get(2), "the row view should be reused");
+  }
+
+  @Test
+  void ignoresFetchSize() throws SQLException {
+    con.setAutoCommit(false);
+    try (Statement stmt = con.createStatement()) {
+      stmt.setFetchSize(10);
+      long count = stmt.unwrap(PGStatement.class).executeStreaming(
+          "SELECT i FROM generate_series(1, 1000) i", row -> row.getInt(1));
+      assertEquals(1000, count);
+    } finally {
+      con.setAutoCommit(true);
+    }
+  }
+
+  @Test
+  void consumerFailure() throws SQLException {
+    AtomicInteger calls = new AtomicInteger();
+    try (Statement stmt = con.createStatement()) {
+      SQLException e = assertThrows(SQLException.class,
+          () -> stmt.unwrap(PGStatement.class).executeStreaming(
+              "SELECT i FROM generate_series(1, 1000) i",
+              row -> {
+                if (calls.incrementAndGet() == 10) {
+                  throw new IllegalStateException("consumer failure");
+                }
+              }));
+      assertEquals("consumer failure", e.getCause().getMessage());
+      assertEquals(10, calls.get(), "the rows after the failure should be discarded");
+
+      // The connection is still usable
+      try (ResultSet rs = stmt.executeQuery("SELECT 1")) {
+        assertTrue(rs.next());
+      }
+    }
+  }
+
+  @Test
+  void wrongStatementType() throws SQLException {
+    try (Statement stmt = con.createStatement()) {
+      assertThrows(SQLException.class,
+          () -> stmt.unwrap(PGStatement.class).executeStreaming(row -> { }));
+    }
+    try (PreparedStatement ps = con.prepareStatement("SELECT 1")) {
+      assertThrows(SQLException.class,
+          () -> ps.unwrap(PGStatement.class).executeStreaming("SELECT 2", row -> { }));
+    }
+  }
+}
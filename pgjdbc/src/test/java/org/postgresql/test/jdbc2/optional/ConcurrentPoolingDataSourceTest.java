@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2025, PostgreSQL Global Development Group
+ * See the LICENSE file in the project root for more information.
+ */
+
+package org.postgresql.test.jdbc2.optional;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.postgresql.ds.PGConcurrentPoolingDataSource;
+import org.postgresql.ds.PoolStatistics;
+import org.postgresql.test.TestUtil;
+import org.postgresql.util.PSQLState;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tests for {@link PGConcurrentPoolingDataSource}.
+ */
+class ConcurrentPoolingDataSourceTest {
+  private PGConcurrentPoolingDataSource ds;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    ds = new PGConcurrentPoolingDataSource();
+    BaseDataSourceTest.setupDataSource(ds);
+  }
+
+  @AfterEach
+  void tearDown() {
+    ds.close();
+  }
+
+  @Test
+  void connectionsAreReused() throws SQLException {
+    ds.setMaximumPoolSize(1);
+    int pid;
+    try (Connection con = ds.getConnection()) {
+      pid = TestUtil.getBackendPid(con);
+    }
+    try (Connection con = ds.getConnection()) {
+      assertEquals(pid, TestUtil.getBackendPid(con), "the physical connection should be reused");
+    }
+    PoolStatistics stats = ds.getPoolStatistics();
+    assertEquals(2, stats.getBorrowCount(), "borrowCount");
+    assertEquals(1, stats.getCreatedCount(), "createdCount");
+    assertEquals(1, stats.getIdleConnections(), "idleConnections");
+    assertEquals(0, stats.getActiveConnections(), "activeConnections");
+  }
+
+  @Test
+  void timeoutWhenAllConnectionsAreInUse() throws SQLException {
+    ds.setMaximumPoolSize(2);
+    ds.setConnectionTimeout(500);
+    try (Connection con1 = ds.getConnection();
+         Connection con2 = ds.getConnection()) {
+      SQLException e = assertThrows(SQLException.class, ds::getConnection);
+      assertEquals(PSQLState.CONNECTION_UNABLE_TO_CONNECT.getState(), e.getSQLState());
+      PoolStatistics stats = ds.getPoolStatistics();
+      assertEquals(1, stats.getTimeoutCount(), "timeoutCount");
+      assertEquals(2, stats.getActiveConnections(), "activeConnections");
+    }
+  }
+
+  @Test
+  void concurrentBorrowDoesNotExceedMaximumPoolSize() throws Exception {
+    ds.setMaximumPoolSize(3);
+    ds.setMinimumIdle(1);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(executor.submit(() -> {
+          for (int j = 0; j < 50; j++) {
+            try (Connection con = ds.getConnection();
+                 Statement st = con.createStatement();
+                 ResultSet rs = st.executeQuery("select 1")) {
+              assertTrue(rs.next());
+            }
+          }
+          return null;
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    PoolStatistics stats = ds.getPoolStatistics();
+    assertEquals(400, stats.getBorrowCount(), "borrowCount");
+    assertTrue(stats.getTotalConnections() <= 3, () -> "totalConnections: " + stats);
+    assertTrue(stats.getCreatedCount() >= 1, () -> "createdCount: " + stats);
+  }
+
+  @Test
+  void brokenIdleConnectionIsReplaced() throws Exception {
+    ds.setMaximumPoolSize(1);
+    int pid;
+    try (Connection con = ds.getConnection()) {
+      pid = TestUtil.getBackendPid(con);
+      assertTrue(TestUtil.terminateBackend(con), "the backend should be terminated");
+    }
+    // Idle connections are validated after half a second
+    Thread.sleep(600);
+    try (Connection con = ds.getConnection()) {
+      assertNotEquals(pid, TestUtil.getBackendPid(con), "the broken connection should be replaced");
+    }
+    assertEquals(1, ds.getPoolStatistics().getValidationFailureCount(), "validationFailureCount");
+  }
+
+  @Test
+  void connectionIsReplacedAfterMaxLifetime() throws Exception {
+    ds.setMaximumPoolSize(1);
+    ds.setMaxLifetime(500);
+    int pid;
+    try (Connection con = ds.getConnection()) {
+      pid = TestUtil.getBackendPid(con);
+    }
+    Thread.sleep(1000);
+    try (Connection con = ds.getConnection()) {
+      assertNotEquals(pid, TestUtil.getBackendPid(con),
+          "the connection should be replaced after its lifetime");
+    }
+    assertTrue(ds.getPoolStatistics().getClosedCount() >= 1, "closedCount");
+  }
+
+  @Test
+  void closeClosesConnectionsInUse() throws SQLException {
+    Connection con = ds.getConnection();
+    assertThrows(IllegalStateException.class, () -> ds.setMaximumPoolSize(5));
+    ds.close();
+    assertTrue(ds.isClosed(), "isClosed");
+    assertTrue(con.isClosed(), "the connection in use should be closed");
+    assertThrows(SQLException.class, ds::getConnection);
+    assertEquals(0, ds.getPoolStatistics().getTotalConnections(), "totalConnections");
+  }
+
+  @Test
+  void sessionIsResetOnReturn() throws SQLException {
+    ds.setMaximumPoolSize(1);
+    ds.setResetSessionOnReturn(true);
+    String workMem;
+    try (Connection con = ds.getConnection();
+         Statement st = con.createStatement()) {
+      workMem = TestUtil.queryForString(con, "show work_mem");
+      st.execute("SET work_mem = '1234kB'");
+    }
+    try (Connection con = ds.getConnection()) {
+      assertEquals(workMem, TestUtil.queryForString(con, "show work_mem"), "work_mem");
+    }
+  }
+
+  @Test
+  void warmupOpensConnectionsConcurrently() throws Exception {
+    ds.setMaximumPoolSize(4);
+    ds.setWarmupParallelism(3);
+    ds.initialize();
+    long deadline = System.nanoTime() + SECONDS.toNanos(10);
+    while (ds.getPoolStatistics().getIdleConnections() < 4 && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    PoolStatistics stats = ds.getPoolStatistics();
+    assertEquals(4, stats.getIdleConnections(), () -> "idleConnections: " + stats);
+    assertEquals(4, stats.getCreatedCount(), () -> "createdCount: " + stats);
+  }
+
+  @Test
+  void defaultUserIsPooled() throws SQLException {
+    try (Connection con = ds.getConnection(TestUtil.getUser(), TestUtil.getPassword())) {
+      assertFalse(con.isClosed());
+    }
+    assertEquals(1, ds.getPoolStatistics().getBorrowCount(), "the default user should be pooled");
+  }
+}
@@ -7,13 +7,18 @@ package org.postgresql.test.jdbc2.optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
+import org.postgresql.PGStatement;
+import org.postgresql.core.BaseConnection;
 import org.postgresql.core.ServerVersion;
+import org.postgresql.core.TransactionState;
 import org.postgresql.ds.PGConnectionPoolDataSource;
+import org.postgresql.ds.PGPooledConnection;
 import org.postgresql.jdbc2.optional.ConnectionPool;
 import org.postgresql.test.TestUtil;
 import org.postgresql.util.PSQLException;
@@ -516,4 +521,88 @@ public class ConnectionPoolTest extends BaseDataSourceTest {
     assertEquals(pool.getPortNumber(), pool2.getPortNumber());
   }
 
+  /**
+   * Ensures that resetSession restores the session state changed by a client, without dropping the
+   * statements prepared by the driver.
+   */
+  @Test
+  public void testResetSession() throws SQLException {
+    PGPooledConnection pc = (PGPooledConnection) getPooledConnection();
+    String workMem;
+    String preparedStatements;
+    try (Connection con = pc.getConnection()) {
+      try (PreparedStatement ps = con.prepareStatement("select 1")) {
+        ps.unwrap(PGStatement.class).setPrepareThreshold(1);
+        ps.executeQuery().close();
+        ps.executeQuery().close();
+      }
+      preparedStatements = TestUtil.queryForString(con, "select count(*) from pg_prepared_statements");
+      assertNotEquals("0", preparedStatements, "the statement should be prepared on the server");
+      workMem = TestUtil.queryForString(con, "show work_mem");
+      try (Statement st = con.createStatement()) {
+        st.execute("SET work_mem = '1234kB'");
+        st.execute("CREATE TEMP TABLE reset_session_test (id int)");
+        st.execute("LISTEN reset_session_test");
+        st.executeQuery("SELECT pg_advisory_lock(4242)").close();
+      }
+    }
+    pc.resetSession();
+    try (Connection con = pc.getConnection()) {
+      assertEquals(workMem, TestUtil.queryForString(con, "show work_mem"), "work_mem");
+      assertEquals("0", TestUtil.queryForString(con, "select count(*) from pg_class"
+          + " where relname = 'reset_session_test' and pg_table_is_visible(oid)"), "temp tables");
+      assertEquals("0", TestUtil.queryForString(con,
+          "select count(*) from pg_listening_channels()"), "listening channels");
+      assertEquals("0", TestUtil.queryForString(con, "select count(*) from pg_locks"
+          + " where locktype = 'advisory' and pid = pg_backend_pid()"), "advisory locks");
+      assertEquals(preparedStatements,
+          TestUtil.queryForString(con, "select count(*) from pg_prepared_statements"),
+          "the statements prepared by the driver should be kept");
+    }
+  }
+
+  /**
+   * Ensures that resetSession applies again the read-only session of readOnlyMode=always, which
+   * RESET ALL undoes.
+   */
+  @Test
+  public void testResetSessionKeepsReadOnlySession() throws SQLException {
+    initializeDataSource();
+    bds.setReadOnlyMode("always");
+    PGPooledConnection pc = (PGPooledConnection) getPooledConnection();
+    try (Connection con = pc.getConnection()) {
+      con.setReadOnly(true);
+      assertEquals("on", TestUtil.queryForString(con, "show transaction_read_only"));
+      try (Statement st = con.createStatement()) {
+        st.execute("SET work_mem = '1234kB'");
+      }
+    }
+    pc.resetSession();
+    try (Connection con = pc.getConnection()) {
+      assertTrue(con.isReadOnly());
+      assertEquals("on", TestUtil.queryForString(con, "show transaction_read_only"),
+          "the session should still be read-only like the connection");
+    }
+  }
+
+  /**
+   * Ensures that resetSession rolls back the transaction left open by a client.
+   */
+  @Test
+  public void testResetSessionRollsBack() throws SQLException {
+    PGPooledConnection pc = (PGPooledConnection) getPooledConnection();
+    try (Connection con = pc.getConnection()) {
+      try (Statement st = con.createStatement()) {
+        st.execute("BEGIN");
+        st.execute("CREATE TEMP TABLE reset_session_rollback (id int)");
+      }
+    }
+    pc.resetSession();
+    try (Connection con = pc.getConnection()) {
+      assertEquals(TransactionState.IDLE, con.unwrap(BaseConnection.class).getTransactionState());
+      assertEquals("0", TestUtil.queryForString(con, "select count(*) from pg_class"
+          + " where relname = 'reset_session_rollback' and pg_table_is_visible(oid)"));
+    }
+  }
+
 }
@@ -11,6 +11,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import org.postgresql.ds.common.BaseDataSource;
 import org.postgresql.jdbc2.optional.PoolingDataSource;
+import org.postgresql.test.TestUtil;
 import org.postgresql.util.PSQLException;
 
 import org.junit.jupiter.api.Test;
@@ -19,6 +20,10 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Minimal tests for pooling DataSource. Needs many more.
@@ -108,6 +113,38 @@ public class PoolingDataSourceTest extends BaseDataSourceTest {
     con.close();
   }
 
+  /**
+   * The initial connections can be established at the same time.
+   */
+  @Test
+  public void testWarmupParallelism() throws SQLException {
+    PoolingDataSource pds = new PoolingDataSource();
+    setupDataSource(pds);
+    pds.setDataSourceName(DS_NAME + " warmup");
+    pds.setInitialConnections(3);
+    pds.setWarmupParallelism(3);
+    pds.setMaxConnections(3);
+    try {
+      pds.initialize();
+      Set<String> pids = new HashSet<>();
+      List<Connection> connections = new ArrayList<>();
+      try {
+        for (int i = 0; i < 3; i++) {
+          Connection con = pds.getConnection();
+          connections.add(con);
+          pids.add(TestUtil.queryForString(con, "SELECT pg_backend_pid()"));
+        }
+      } finally {
+        for (Connection con : connections) {
+          con.close();
+        }
+      }
+      assertEquals(3, pids.size(), "the initial connections should be distinct sessions");
+    } finally {
+      pds.close();
+    }
+  }
+
   @Test
   public void testConnectionObjectMethods() throws SQLException {
     con = getDataSourceConnection();
@@ -27,6 +27,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -362,6 +363,7 @@ public class GetObject310Test extends BaseTest4 {
         OffsetDateTime offsetDateTime = localDateTime.atOffset(offset).withOffsetSameInstant(ZoneOffset.UTC);
         assertEquals(offsetDateTime, rs.getObject("timestamp_with_time_zone_column", OffsetDateTime.class));
         assertEquals(offsetDateTime, rs.getObject(1, OffsetDateTime.class));
+        assertEquals(offsetDateTime.toInstant(), rs.getObject(1, Instant.class));
 
         assertDataTypeMismatch(rs, "timestamp_with_time_zone_column", LocalTime.class);
         assertDataTypeMismatch(rs, "timestamp_with_time_zone_column", LocalDateTime.class);
@@ -370,6 +372,26 @@ public class GetObject310Test extends BaseTest4 {
     }
   }
 
+  /**
+   * Test the behavior getObject for timestamp with time zone columns as {@link Instant}.
+   */
+  @Test
+  public void testGetInstant() throws SQLException {
+    try (Statement stmt = con.createStatement();
+        ResultSet rs = stmt.executeQuery("SELECT '2004-10-19 10:23:54.123456+02'::timestamptz,"
+            + " 'infinity'::timestamptz, '-infinity'::timestamptz, NULL::timestamptz,"
+            + " '2004-10-19 10:23:54'::timestamp")) {
+      assertTrue(rs.next());
+      assertEquals(Instant.parse("2004-10-19T08:23:54.123456Z"), rs.getObject(1, Instant.class));
+      assertEquals(Instant.MAX, rs.getObject(2, Instant.class));
+      assertEquals(Instant.MIN, rs.getObject(3, Instant.class));
+      assertNull(rs.getObject(4, Instant.class));
+      assertTrue(rs.wasNull());
+      PSQLException ex = assertThrows(PSQLException.class, () -> rs.getObject(5, Instant.class));
+      assertEquals(PSQLState.DATA_TYPE_MISMATCH.getState(), ex.getSQLState());
+    }
+  }
+
   @Test
   public void testBcDate() throws SQLException {
     try (Statement stmt = con.createStatement(); ResultSet rs = stmt.executeQuery("SELECT '1582-09-30 BC'::date")) {
@@ -14,8 +14,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
 import java.util.TimeZone;
 
 class TimestampUtilsTest {
@@ -171,4 +175,70 @@ class TimestampUtilsTest {
         timestampUtils.toOffsetTime(inputTime),
         "timestampUtils.toOffsetTime(" + inputTime + ")");
   }
+
+  @Test
+  void toTimestampBinInDaylightSavingGap() throws SQLException {
+    TimeZone paris = TimeZone.getTimeZone("Europe/Paris");
+    // Fills the cached offset range of the winter time first
+    assertToTimestampBin(paris, "2023-03-25T12:00:00");
+    // 02:00 to 03:00 does not exist on 2023-03-26 in Paris
+    assertToTimestampBin(paris, "2023-03-26T02:00:00");
+    assertToTimestampBin(paris, "2023-03-26T02:30:00");
+    assertToTimestampBin(paris, "2023-03-26T02:59:59");
+    assertToTimestampBin(paris, "2023-03-26T01:00:00");
+  }
+
+  @Test
+  void toTimestampBinInDaylightSavingOverlap() throws SQLException {
+    TimeZone paris = TimeZone.getTimeZone("Europe/Paris");
+    // Fills the cached offset range of the summer time first
+    assertToTimestampBin(paris, "2023-10-28T12:00:00");
+    // 02:00 to 03:00 occurs twice on 2023-10-29 in Paris
+    assertToTimestampBin(paris, "2023-10-29T02:00:00");
+    assertToTimestampBin(paris, "2023-10-29T02:30:00");
+    assertToTimestampBin(paris, "2023-10-29T02:59:59");
+    assertToTimestampBin(paris, "2023-10-29T01:00:00");
+  }
+
+  @Test
+  void toTimestampBinAcrossDaylightSavingTransitions() throws SQLException {
+    for (String zone : new String[]{"Europe/Paris", "America/New_York", "Australia/Sydney",
+        "Australia/Lord_Howe"}) {
+      TimeZone tz = TimeZone.getTimeZone(zone);
+      // Every 15 minutes over a year, so that each value either hits the cached range of the
+      // previous one or crosses a transition boundary
+      LocalDateTime end = LocalDateTime.parse("2024-01-01T00:00:00");
+      for (LocalDateTime local = LocalDateTime.parse("2023-01-01T00:00:00"); local.isBefore(end);
+          local = local.plusMinutes(15)) {
+        assertToTimestampBin(tz, local.toString());
+      }
+      // And the last second before each boundary, after a value in the range
+      for (String boundary : new String[]{"2023-03-12T02:00:00", "2023-03-26T02:00:00",
+          "2023-04-02T02:00:00", "2023-04-02T03:00:00", "2023-10-01T02:00:00",
+          "2023-10-29T03:00:00", "2023-11-05T01:00:00", "2023-11-05T02:00:00"}) {
+        LocalDateTime local = LocalDateTime.parse(boundary);
+        assertToTimestampBin(tz, local.minusHours(6).toString());
+        assertToTimestampBin(tz, local.minusSeconds(1).toString());
+        assertToTimestampBin(tz, local.toString());
+        assertToTimestampBin(tz, local.plusSeconds(1).toString());
+      }
+    }
+  }
+
+  /**
+   * Checks that a binary timestamp without time zone is decoded to the same instant as computed by
+   * {@link Calendar} in the given time zone.
+   */
+  private void assertToTimestampBin(TimeZone tz, String localDateTime) throws SQLException {
+    LocalDateTime local = LocalDateTime.parse(localDateTime);
+    Calendar cal = new GregorianCalendar(tz);
+    cal.clear();
+    cal.set(local.getYear(), local.getMonthValue() - 1, local.getDayOfMonth(), local.getHour(),
+        local.getMinute(), local.getSecond());
+    long micros = (local.toEpochSecond(ZoneOffset.UTC)
+        - LocalDateTime.parse("2000-01-01T00:00:00").toEpochSecond(ZoneOffset.UTC)) * 1000000L;
+    assertEquals(cal.getTimeInMillis(),
+        timestampUtils.toTimestampBin(tz, micros, false).getTime(),
+        () -> localDateTime + " in " + tz.getID());
+  }
 }
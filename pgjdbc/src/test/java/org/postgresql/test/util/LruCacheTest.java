@@ -8,6 +8,7 @@ package org.postgresql.test.util;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import org.postgresql.util.CacheStatistics;
 import org.postgresql.util.CanEstimateSize;
 import org.postgresql.util.LruCache;
 
@@ -16,8 +17,10 @@ import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Deque;
+import java.util.List;
 
 /**
  * Tests {@link org.postgresql.util.LruCache}.
@@ -169,6 +172,67 @@ class LruCacheTest {
     }
   }
 
+  @Test
+  void statistics() throws SQLException {
+    use(1);
+    use(-1);
+    use(2);
+    use(3);
+    Entry d = use(4);
+    use(5, cache.get(1));
+    CacheStatistics statistics = cache.getStatistics();
+    assertEquals(2, statistics.getHitCount(), "hits");
+    assertEquals(5, statistics.getMissCount(), "misses");
+    assertEquals(1, statistics.getEvictionCount(), "evictions");
+    assertEquals(4, statistics.getSize(), "size");
+    assertEquals(d, cache.get(4));
+  }
+
+  @Test
+  void clear() throws SQLException {
+    Entry a = use(1);
+    Entry b = use(2);
+    expectEvict.addAll(Arrays.asList(a, b));
+    cache.clear();
+    assertEvict();
+    CacheStatistics statistics = cache.getStatistics();
+    assertEquals(0, statistics.getEvictionCount(), "evictions");
+    assertEquals(0, statistics.getSize(), "size");
+    // The size of the removed entries is not counted anymore
+    use(499);
+    use(500);
+  }
+
+  @Test
+  void frequencyAdmission() throws SQLException {
+    List<Integer> evicted = new ArrayList<>();
+    LruCache<Integer, Entry> cache = new LruCache<>(4, 1000, false, Entry::new,
+        entry -> evicted.add(entry.id), true);
+    for (int i = 1; i <= 4; i++) {
+      for (int j = 0; j < 3; j++) {
+        cache.put(i, cache.borrow(i));
+      }
+    }
+    // The keys used once are not admitted
+    for (int i = 100; i < 110; i++) {
+      cache.put(i, cache.borrow(i));
+    }
+    assertEquals(Arrays.asList(100, 101, 102, 103, 104, 105, 106, 107, 108, 109), evicted);
+    evicted.clear();
+
+    // A key used more often than the least recently used entry replaces it
+    for (int j = 0; j < 5; j++) {
+      cache.put(200, cache.borrow(200));
+    }
+    assertEquals(Arrays.asList(200, 200, 200, 1), evicted);
+
+    CacheStatistics statistics = cache.getStatistics();
+    assertEquals(9, statistics.getHitCount(), "hits");
+    assertEquals(18, statistics.getMissCount(), "misses");
+    assertEquals(14, statistics.getEvictionCount(), "evictions");
+    assertEquals(4, statistics.getSize(), "size");
+  }
+
   private Entry use(int expectCreate, Entry... expectEvict) throws SQLException {
     this.expectCreate[0] = expectCreate <= 0 ? -1 : expectCreate;
     this.expectEvict.clear();
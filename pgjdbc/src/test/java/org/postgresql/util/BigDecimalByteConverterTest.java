@@ -6,6 +6,7 @@
 package org.postgresql.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -92,6 +93,16 @@ public class BigDecimalByteConverterTest {
     } else {
       assertEquals(number.toPlainString(), actual.toPlainString());
     }
+    assertEquals(number.doubleValue(), ByteConverter.numericToDouble(bytes, 0, bytes.length),
+        "numericToDouble");
+    BigInteger integer = number.toBigInteger();
+    if (integer.bitLength() < 64) {
+      assertEquals(integer.longValue(), ByteConverter.numericToLong(bytes, 0, bytes.length),
+          "numericToLong");
+    } else {
+      assertThrows(ArithmeticException.class,
+          () -> ByteConverter.numericToLong(bytes, 0, bytes.length), "numericToLong");
+    }
   }
 
   @Test
@@ -102,5 +113,9 @@ public class BigDecimalByteConverterTest {
     assertEquals(Double.POSITIVE_INFINITY, pinf);
     Number ninf = ByteConverter.numeric(new byte[]{0, 0, 0, 0, (byte) 0xF0, 0, 0, 0});
     assertEquals(Double.NEGATIVE_INFINITY, ninf);
+    byte[] nanBytes = {0, 0, 0, 0, (byte) 0xC0, 0, 0, 0};
+    assertEquals(Double.NaN, ByteConverter.numericToDouble(nanBytes, 0, nanBytes.length));
+    assertThrows(ArithmeticException.class,
+        () -> ByteConverter.numericToLong(nanBytes, 0, nanBytes.length));
   }
 }
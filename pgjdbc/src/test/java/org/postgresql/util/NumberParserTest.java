@@ -43,6 +43,19 @@ class NumberParserTest {
     assertGetLongFail(Long.toString(Long.MIN_VALUE).substring(1));
   }
 
+  @Test
+  void getFastLong_slice() {
+    byte[] bytes = "12-234.5;.;7".getBytes();
+    assertEquals(-234, NumberParser.getFastLong(bytes, 2, 6, Long.MIN_VALUE, Long.MAX_VALUE));
+    assertEquals(7, NumberParser.getFastLong(bytes, 11, 1, Long.MIN_VALUE, Long.MAX_VALUE));
+    try {
+      long ret = NumberParser.getFastLong(bytes, 9, 1, Long.MIN_VALUE, Long.MAX_VALUE);
+      fail("Expected NumberFormatException on parsing \".\", but result: " + ret);
+    } catch (NumberFormatException nfe) {
+      // ok
+    }
+  }
+
   private static void assertGetLongResult(String s, long expected) {
     try {
       assertEquals(
@@ -6,6 +6,7 @@
 package org.postgresql.util.internal;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
@@ -24,6 +25,8 @@ import java.io.ByteArrayOutputStream;
 import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -292,6 +295,119 @@ public class PgBufferedOutputStreamTest {
     }
   }
 
+  /**
+   * Records the gathering writes, and writes at most {@code maxWrite} bytes per call.
+   */
+  static class RecordingChannel implements GatheringByteChannel {
+    final ByteArrayOutputStream written = new ByteArrayOutputStream();
+    final int maxWrite;
+    int writes;
+
+    RecordingChannel(int maxWrite) {
+      this.maxWrite = maxWrite;
+    }
+
+    @Override
+    public long write(ByteBuffer[] srcs, int offset, int length) {
+      writes++;
+      long total = 0;
+      for (int i = offset; i < offset + length && total < maxWrite; i++) {
+        while (srcs[i].hasRemaining() && total < maxWrite) {
+          written.write(srcs[i].get());
+          total++;
+        }
+      }
+      return total;
+    }
+
+    @Override
+    public long write(ByteBuffer[] srcs) {
+      return write(srcs, 0, srcs.length);
+    }
+
+    @Override
+    public int write(ByteBuffer src) {
+      return (int) write(new ByteBuffer[]{src});
+    }
+
+    @Override
+    public boolean isOpen() {
+      return true;
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+
+  @Nested
+  class ByteBufferTests {
+    private ByteBuffer direct(int size, int seed) {
+      byte[] data = new byte[size];
+      new Random(seed).nextBytes(data);
+      ByteBuffer buffer = ByteBuffer.allocateDirect(size);
+      buffer.put(data).flip();
+      return buffer;
+    }
+
+    private byte[] bytes(ByteBuffer... buffers) {
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      for (ByteBuffer buffer : buffers) {
+        ByteBuffer copy = buffer.duplicate();
+        while (copy.hasRemaining()) {
+          baos.write(copy.get());
+        }
+      }
+      return baos.toByteArray();
+    }
+
+    @Test
+    void directBuffersAreBuffered() throws IOException {
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      AssertBufferedWrites dst = new AssertBufferedWrites(baos);
+      PgBufferedOutputStream out = new PgBufferedOutputStream(dst, 128);
+      ByteBuffer first = direct(100, 1);
+      ByteBuffer second = direct(100, 2);
+      dst.allowWrites(128);
+      out.write(first, second);
+      assertEquals(128, dst.position, "one full buffer should be written");
+      assertEquals(100, first.remaining(), "the position of the buffers should not change");
+      dst.allowWrites(72);
+      out.flush();
+      assertArrayEquals(bytes(first, second), baos.toByteArray());
+    }
+
+    @Test
+    void largeDirectBuffersAreGathered() throws IOException {
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      RecordingChannel channel = new RecordingChannel(Integer.MAX_VALUE);
+      PgBufferedOutputStream out = new PgBufferedOutputStream(baos, channel, 128);
+      out.writeInt4(42);
+      ByteBuffer first = direct(1000, 1);
+      ByteBuffer second = direct(1000, 2);
+      out.write(first, second);
+      assertEquals(1, channel.writes, "the prefix and the buffers should be sent in one write");
+      assertEquals(0, baos.size(), "the stream should not be used");
+      byte[] expected = new byte[2004];
+      expected[3] = 42;
+      System.arraycopy(bytes(first, second), 0, expected, 4, 2000);
+      assertArrayEquals(expected, channel.written.toByteArray());
+    }
+
+    @Test
+    void partialGatheringWrites() throws IOException {
+      RecordingChannel channel = new RecordingChannel(100);
+      PgBufferedOutputStream out =
+          new PgBufferedOutputStream(new ByteArrayOutputStream(), channel, 128);
+      ByteBuffer heap = ByteBuffer.wrap(new byte[]{1, 2, 3});
+      ByteBuffer direct = direct(1000, 3);
+      out.write(heap, direct);
+      out.flush();
+      assertEquals(11, channel.writes);
+      assertArrayEquals(bytes(heap, direct), channel.written.toByteArray());
+    }
+  }
+
   @Test
   void writeAndCompare() throws IOException {
     byte[] data = new byte[1024 * 1024];